@@ -24,6 +24,14 @@ public interface BatchConfiguration {
      */
     boolean isRestartOnResume();
 
+    /**
+     * Returns the maximum number of the most recent job executions listed as children of a job resource. Any job
+     * execution can still be addressed directly, or found via the {@code list-executions} operation.
+     *
+     * @return the maximum number of job executions listed, or {@code 0} to list all job executions
+     */
+    int getListedExecutionsLimit();
+
     /**
      * Returns the default job repository to use.
      *
@@ -29,6 +29,7 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
     private final Supplier<JobExecutor> jobExecutorSupplier;
     private final Supplier<SecurityDomain> securityDomainSupplier;
     private volatile boolean restartOnResume;
+    private volatile int listedExecutionsLimit;
 
     BatchConfigurationService(final Consumer<BatchConfiguration> batchConfigurationConsumer,
                               final Supplier<JobRepository> jobRepositorySupplier,
@@ -49,6 +50,15 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
         this.restartOnResume = restartOnResume;
     }
 
+    @Override
+    public int getListedExecutionsLimit() {
+        return listedExecutionsLimit;
+    }
+
+    protected void setListedExecutionsLimit(final int listedExecutionsLimit) {
+        this.listedExecutionsLimit = listedExecutionsLimit;
+    }
+
     @Override
     public JobRepository getDefaultJobRepository() {
         return jobRepositorySupplier.get();
@@ -25,6 +25,7 @@ import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.operations.common.GenericSubsystemDescribeHandler;
 import org.jboss.as.controller.registry.AttributeAccess;
@@ -86,6 +87,14 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             .setAttributeMarshaller(AttributeMarshallers.VALUE)
             .build();
 
+    static final SimpleAttributeDefinition LISTED_EXECUTIONS_LIMIT = SimpleAttributeDefinitionBuilder.create("listed-executions-limit", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setAttributeParser(AttributeParsers.VALUE)
+            .setAttributeMarshaller(AttributeMarshallers.VALUE)
+            .build();
+
     static final SimpleAttributeDefinition SECURITY_DOMAIN = SimpleAttributeDefinitionBuilder.create("security-domain", ModelType.STRING, true)
             .setAttributeMarshaller(AttributeMarshallers.NAMED)
             .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
@@ -129,24 +138,30 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerReadWriteAttribute(DEFAULT_JOB_REPOSITORY, null, writeHandler);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_THREAD_POOL, null, writeHandler);
         resourceRegistration.registerReadWriteAttribute(SECURITY_DOMAIN, null, writeHandler);
-        resourceRegistration.registerReadWriteAttribute(RESTART_JOBS_ON_RESUME, null, new AbstractWriteAttributeHandler<Boolean>(RESTART_JOBS_ON_RESUME) {
+        final OperationStepHandler runtimeWriteHandler = new AbstractWriteAttributeHandler<Void>(RESTART_JOBS_ON_RESUME, LISTED_EXECUTIONS_LIMIT) {
             @Override
-            protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
-                setValue(context, resolvedValue);
+            protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final HandbackHolder<Void> handbackHolder) throws OperationFailedException {
+                setValue(context, attributeName, resolvedValue);
                 return false;
             }
 
             @Override
-            protected void revertUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode valueToRestore, final ModelNode valueToRevert, final Boolean handback) throws OperationFailedException {
-                setValue(context, valueToRestore);
+            protected void revertUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode valueToRestore, final ModelNode valueToRevert, final Void handback) throws OperationFailedException {
+                setValue(context, attributeName, getAttributeDefinition(attributeName).resolveValue(context, valueToRestore));
             }
 
-            private void setValue(final OperationContext context, final ModelNode value) {
+            private void setValue(final OperationContext context, final String attributeName, final ModelNode value) {
                 final BatchConfigurationService service = (BatchConfigurationService) context.getServiceRegistry(true)
                         .getService(context.getCapabilityServiceName(Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), BatchConfiguration.class)).getService();
-                service.setRestartOnResume(value.asBoolean());
+                if (LISTED_EXECUTIONS_LIMIT.getName().equals(attributeName)) {
+                    service.setListedExecutionsLimit(value.asInt());
+                } else {
+                    service.setRestartOnResume(value.asBoolean());
+                }
             }
-        });
+        };
+        resourceRegistration.registerReadWriteAttribute(RESTART_JOBS_ON_RESUME, null, runtimeWriteHandler);
+        resourceRegistration.registerReadWriteAttribute(LISTED_EXECUTIONS_LIMIT, null, runtimeWriteHandler);
     }
 
     /**
@@ -157,7 +172,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         private final ContextClassLoaderJobOperatorContextSelector selector;
 
         private BatchSubsystemAdd() {
-            super(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, RESTART_JOBS_ON_RESUME, SECURITY_DOMAIN);
+            super(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, RESTART_JOBS_ON_RESUME, LISTED_EXECUTIONS_LIMIT, SECURITY_DOMAIN);
             selector = new ContextClassLoaderJobOperatorContextSelector(() -> JobOperatorContext.create(DefaultBatchEnvironment.INSTANCE));
             JobOperatorContext.setJobOperatorContextSelector(selector);
         }
@@ -194,6 +209,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             final ModelNode defaultThreadPool = DEFAULT_THREAD_POOL.resolveModelAttribute(context, model);
             final ModelNode securityDomain = SECURITY_DOMAIN.resolveModelAttribute(context, model);
             final boolean restartOnResume = RESTART_JOBS_ON_RESUME.resolveModelAttribute(context, model).asBoolean();
+            final int listedExecutionsLimit = LISTED_EXECUTIONS_LIMIT.resolveModelAttribute(context, model).asInt();
 
             final ServiceTarget target = context.getServiceTarget();
             final ServiceName sn = context.getCapabilityServiceName(Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), BatchConfiguration.class);
@@ -212,6 +228,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             serviceBuilder.setInitialMode(ServiceController.Mode.ON_DEMAND);
             final BatchConfigurationService service = new BatchConfigurationService(batchConfigurationConsumer, jobRepositorySupplier, jobExecutorSupplier, securityDomainSupplier);
             service.setRestartOnResume(restartOnResume);
+            service.setListedExecutionsLimit(listedExecutionsLimit);
             serviceBuilder.setInstance(service);
             serviceBuilder.install();
         }
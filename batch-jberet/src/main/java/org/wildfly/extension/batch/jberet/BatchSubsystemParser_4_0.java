@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet;
+
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+
+/**
+ * Parses the {@code urn:jboss:domain:batch-jberet:4.0} namespace, which adds the {@code listed-executions-limit}
+ * element.
+ */
+class BatchSubsystemParser_4_0 extends BatchSubsystemParser_3_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
+
+    public BatchSubsystemParser_4_0() {
+        super(Map.of(Element.LISTED_EXECUTIONS_LIMIT, BatchSubsystemDefinition.LISTED_EXECUTIONS_LIMIT));
+    }
+}
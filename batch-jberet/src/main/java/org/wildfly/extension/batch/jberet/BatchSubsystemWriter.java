@@ -32,6 +32,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
         BatchSubsystemDefinition.DEFAULT_JOB_REPOSITORY.marshallAsElement(model, writer);
         BatchSubsystemDefinition.DEFAULT_THREAD_POOL.marshallAsElement(model, writer);
         BatchSubsystemDefinition.RESTART_JOBS_ON_RESUME.marshallAsElement(model, writer);
+        BatchSubsystemDefinition.LISTED_EXECUTIONS_LIMIT.marshallAsElement(model, writer);
         BatchSubsystemDefinition.SECURITY_DOMAIN.marshallAsElement(model, writer);
 
         // Write the in-memory job repositories
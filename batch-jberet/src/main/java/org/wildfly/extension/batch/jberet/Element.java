@@ -17,6 +17,7 @@ public enum Element {
     DEFAULT_JOB_REPOSITORY("default-job-repository"),
     DEFAULT_THREAD_POOL("default-thread-pool"),
     JOB_REPOSITORY("job-repository"),
+    LISTED_EXECUTIONS_LIMIT("listed-executions-limit"),
     JDBC("jdbc"),
     IN_MEMORY("in-memory"),
     NAMED("named"),
@@ -9,7 +9,6 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -21,6 +20,12 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * Represents a dynamic resource for batch {@link jakarta.batch.runtime.JobExecution job executions}.
+ * <p>
+ * Children are resolved on demand via the {@linkplain JobExecutionIndex job execution index}. Only the most recent
+ * job executions, up to the {@code listed-executions-limit} of the subsystem, are listed as children, however any job
+ * execution can still be addressed directly, and older job executions can be found via the {@code list-executions}
+ * operation of the job.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -29,21 +34,6 @@ public class BatchJobExecutionResource implements Resource {
     private final Resource delegate;
     private final WildFlyJobOperator jobOperator;
     private final String jobName;
-    // Should be guarded by it's instance
-    private final Set<String> children = new LinkedHashSet<>();
-
-    /**
-     * Last time when job names were refreshed
-     */
-    private volatile long lastRefreshedTime;
-
-    /**
-     * The minimum interval in milliseconds in which the job names are to be refreshed.
-     * If the interval period has elapsed from the last refresh time,
-     * any incoming refresh request will be performed; otherwise, it is ignored
-     * and the current result is returned.
-     */
-    private static final int refreshMinInterval = 3000;
 
     BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName) {
         this(Factory.create(true), jobOperator, jobName);
@@ -103,7 +93,7 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public boolean hasChildren(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            return !getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).isEmpty();
+            return !jobOperator.getJobExecutionIndex(jobName).isEmpty();
         }
         return delegate.hasChildren(childType);
     }
@@ -129,10 +119,13 @@ public class BatchJobExecutionResource implements Resource {
     @Override
     public Set<String> getChildrenNames(final String childType) {
         if (BatchJobExecutionResourceDefinition.EXECUTION.equals(childType)) {
-            synchronized (children) {
-                refreshChildren();
-                return new LinkedHashSet<>(children);
+            final int limit = jobOperator.getListedExecutionsLimit();
+            final List<Long> executionIds = jobOperator.getJobExecutionIndex(jobName).getExecutionIds(0, limit > 0 ? limit : Integer.MAX_VALUE);
+            final Set<String> result = new LinkedHashSet<>(executionIds.size());
+            for (Long executionId : executionIds) {
+                result.add(executionId.toString());
             }
+            return result;
         }
         return delegate.getChildrenNames(childType);
     }
@@ -194,29 +187,12 @@ public class BatchJobExecutionResource implements Resource {
     }
 
     private boolean hasJobExecution(final String executionName) {
-        synchronized (children) {
-            if (children.contains(executionName)) {
-                return true;
-            }
-            // Load a cache of the names
-            refreshChildren();
-            return children.contains(executionName);
-        }
-    }
-
-    /**
-     * Note the access to the {@link #children} is <strong>not</strong> guarded here and needs to be externally
-     * guarded.
-     */
-    private void refreshChildren() {
-        if (System.currentTimeMillis() - lastRefreshedTime < refreshMinInterval) {
-            return;
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException e) {
+            return false;
         }
-
-        final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName);
-        final Set<String> asNames = executionIds.stream().map(Object::toString).collect(Collectors.toSet());
-        children.clear();
-        children.addAll(asNames);
-        lastRefreshedTime = System.currentTimeMillis();
+        return jobOperator.getJobExecutionIndex(jobName).contains(executionId);
     }
 }
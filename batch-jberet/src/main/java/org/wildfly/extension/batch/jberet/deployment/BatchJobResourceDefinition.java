@@ -5,13 +5,26 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -25,6 +38,36 @@ import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
 public class BatchJobResourceDefinition extends SimpleResourceDefinition {
     static final String JOB = "job";
 
+    private static final ResourceDescriptionResolver DEFAULT_RESOLVER = BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job");
+
+    private static final SimpleAttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", ModelType.INT, true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    private static final SimpleAttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    private static final SimpleAttributeDefinition BATCH_STATUS = SimpleAttributeDefinitionBuilder.create("batch-status", ModelType.STRING, true)
+            .setValidator(EnumValidator.create(BatchStatus.class))
+            .build();
+
+    private static final SimpleAttributeDefinition SINCE = SimpleAttributeDefinitionBuilder.create("since", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition UNTIL = SimpleAttributeDefinitionBuilder.create("until", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleOperationDefinition LIST_EXECUTIONS = new SimpleOperationDefinitionBuilder("list-executions", DEFAULT_RESOLVER)
+            .setParameters(OFFSET, COUNT, BATCH_STATUS, SINCE, UNTIL)
+            .setReplyType(ModelType.LIST)
+            .setReplyValueType(ModelType.LONG)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
     private static final SimpleAttributeDefinition RUNNING_EXECUTIONS = SimpleAttributeDefinitionBuilder.create("running-executions", ModelType.INT)
             .setStorageRuntime()
             .build();
@@ -42,7 +85,7 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .build();
 
     public BatchJobResourceDefinition() {
-        super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
+        super(new Parameters(PathElement.pathElement(JOB), DEFAULT_RESOLVER).setRuntime());
     }
 
     @Override
@@ -70,4 +113,40 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(LIST_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final int offset = resolveValue(context, operation, OFFSET).asInt();
+                final int count = resolveValue(context, operation, COUNT).asInt();
+                final ModelNode status = resolveValue(context, operation, BATCH_STATUS);
+                final Date since = resolveDate(context, operation, SINCE);
+                final Date until = resolveDate(context, operation, UNTIL);
+                final List<Long> executionIds = jobOperator.getJobExecutionIndex(context.getCurrentAddressValue())
+                        .getExecutionIds(offset, count, status.isDefined() ? BatchStatus.valueOf(status.asString()) : null, since, until);
+                final ModelNode result = context.getResult().setEmptyList();
+                for (Long executionId : executionIds) {
+                    result.add(executionId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Resolves a date parameter, in the same ISO 8601 format as the times of a job execution.
+     */
+    private static Date resolveDate(final OperationContext context, final ModelNode operation, final SimpleAttributeDefinition attribute) throws OperationFailedException {
+        final ModelNode value = JobOperationStepHandler.resolveValue(context, operation, attribute);
+        if (!value.isDefined()) {
+            return null;
+        }
+        try {
+            return Date.from(LocalDateTime.parse(value.asString(), DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw JobOperationStepHandler.createOperationFailure(e);
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * An index of the {@linkplain JobExecution job execution} ids of a job.
+ * <p>
+ * Execution ids are returned most recent first, and can be paged and filtered by batch status and creation time, so that
+ * jobs with a large number of executions do not require every execution to be loaded. An unfiltered page only lists the
+ * most recent execution ids up to the end of the page from the job repository. Otherwise, execution ids are held as a
+ * sorted array of primitives, which is refreshed from the job repository at most once per refresh interval.
+ * </p>
+ * <p>
+ * As execution ids increase with create time, the bounds of a create time range are found by a binary search, which
+ * looks up a logarithmic number of executions. Filtering by batch status looks up each execution within the create
+ * time range, thus at most {@value #maxFilteredExecutions} executions are examined per invocation.
+ * </p>
+ */
+class JobExecutionIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * The minimum interval in milliseconds in which the execution ids are to be refreshed.
+     */
+    private static final int refreshMinInterval = 3000;
+
+    /**
+     * The maximum number of executions looked up per invocation when filtering by batch status.
+     */
+    static final int maxFilteredExecutions = 1000;
+
+    private final WildFlyJobOperator jobOperator;
+    private final String jobName;
+
+    // Sorted in ascending order, replaced on each refresh
+    private volatile long[] executionIds = EMPTY;
+
+    /**
+     * Last time when execution ids were refreshed, guarded by this index
+     */
+    private long lastRefreshedTime;
+
+    JobExecutionIndex(final WildFlyJobOperator jobOperator, final String jobName) {
+        this.jobOperator = jobOperator;
+        this.jobName = jobName;
+    }
+
+    /**
+     * Indicates whether the job has no executions. Unless already indexed, this counts the job instances, rather than
+     * listing the executions of the job.
+     *
+     * @return {@code true} if the job has no executions, otherwise {@code false}
+     */
+    boolean isEmpty() {
+        if (executionIds.length > 0) {
+            return false;
+        }
+        return jobOperator.allowMissingJob(() -> jobOperator.getJobInstanceCount(jobName), 0) == 0;
+    }
+
+    /**
+     * Indicates whether the specified execution id belongs to the job. Execution ids not yet indexed are looked up
+     * directly, rather than refreshing the index.
+     *
+     * @param executionId the execution id
+     *
+     * @return {@code true} if the execution exists for the job, otherwise {@code false}
+     */
+    boolean contains(final long executionId) {
+        if (Arrays.binarySearch(executionIds, executionId) >= 0) {
+            return true;
+        }
+        final JobExecution execution = findJobExecution(executionId);
+        return execution != null && jobName.equals(execution.getJobName());
+    }
+
+    /**
+     * Returns a page of execution ids, most recent first.
+     *
+     * @param offset the number of execution ids to skip
+     * @param count  the maximum number of execution ids to return
+     *
+     * @return the execution ids
+     */
+    List<Long> getExecutionIds(final int offset, final int count) {
+        return getExecutionIds(offset, count, null, null, null);
+    }
+
+    /**
+     * Returns a page of the execution ids that match the specified criteria, most recent first. If a batch status is
+     * specified, at most {@value #maxFilteredExecutions} executions, most recent first, within the create time range
+     * are examined.
+     *
+     * @param offset the number of matching execution ids to skip
+     * @param count  the maximum number of execution ids to return
+     * @param status the required batch status, or {@code null} to match any status
+     * @param since  the inclusive lower bound of the create time, or {@code null} if unbounded
+     * @param until  the exclusive upper bound of the create time, or {@code null} if unbounded
+     *
+     * @return the execution ids
+     */
+    List<Long> getExecutionIds(final int offset, final int count, final BatchStatus status, final Date since, final Date until) {
+        if (status == null && since == null && until == null && (long) offset + count < Integer.MAX_VALUE) {
+            final List<Long> ids = jobOperator.allowMissingJob(() -> jobOperator.getJobExecutionsByJob(jobName, offset + count), List.of());
+            return (ids.size() > offset) ? new ArrayList<>(ids.subList(offset, Math.min(ids.size(), offset + count))) : new ArrayList<>();
+        }
+        final long[] ids = refresh();
+        final int end = (until != null) ? indexOf(ids, 0, ids.length, until) : ids.length;
+        final int start = (since != null) ? indexOf(ids, 0, end, since) : 0;
+        final List<Long> result = new ArrayList<>(Math.max(0, Math.min(count, end - start)));
+        int skipped = 0;
+        int examined = 0;
+        for (int i = end - 1; i >= start && result.size() < count; --i) {
+            if (status != null) {
+                if (examined++ == maxFilteredExecutions) {
+                    break;
+                }
+                final JobExecution execution = findJobExecution(ids[i]);
+                if (execution == null || status != execution.getBatchStatus()) {
+                    continue;
+                }
+            }
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(ids[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the index of the first execution created at or after the specified time, via a binary search of the
+     * specified range. Executions that no longer exist, or have no create time, are considered to be created before.
+     *
+     * @param ids   the sorted execution ids
+     * @param from  the inclusive start of the range
+     * @param to    the exclusive end of the range
+     * @param time  the create time
+     *
+     * @return the index of the first execution created at or after the specified time, or {@code to} if there is none
+     */
+    private int indexOf(final long[] ids, final int from, final int to, final Date time) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final JobExecution execution = findJobExecution(ids[middle]);
+            final Date createTime = (execution != null) ? execution.getCreateTime() : null;
+            if (createTime == null || createTime.before(time)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private JobExecution findJobExecution(final long executionId) {
+        try {
+            return jobOperator.getJobExecution(executionId);
+        } catch (BatchRuntimeException ignore) {
+            // The execution does not exist, or does not belong to this deployment
+            return null;
+        }
+    }
+
+    private synchronized long[] refresh() {
+        if (System.currentTimeMillis() - lastRefreshedTime < refreshMinInterval) {
+            return executionIds;
+        }
+        final List<Long> ids = jobOperator.allowMissingJob(() -> jobOperator.getJobExecutionsByJob(jobName), List.of());
+        final long[] result = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            result[i++] = id;
+        }
+        Arrays.sort(result);
+        executionIds = result;
+        lastRefreshedTime = System.currentTimeMillis();
+        return result;
+    }
+}
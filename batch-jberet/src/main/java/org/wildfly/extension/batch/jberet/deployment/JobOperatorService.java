@@ -13,9 +13,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -86,6 +88,8 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
     private final BatchJobServerActivity serverActivity;
     private final String deploymentName;
 
+    private final Map<String, JobExecutionIndex> jobExecutionIndexes = new ConcurrentHashMap<>();
+
     private final ThreadLocal<Boolean> permissionsCheckEnabled = ThreadLocal.withInitial(() -> Boolean.TRUE);
 
     public JobOperatorService(final Consumer<JobOperator> jobOperatorConsumer,
@@ -211,6 +215,28 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int limit) {
+        checkState(jobName);
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            return getJobRepository().getJobExecutionsByJob(jobName, limit);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
+    @Override
+    public JobExecutionIndex getJobExecutionIndex(final String jobName) {
+        return jobExecutionIndexes.computeIfAbsent(jobName, name -> new JobExecutionIndex(this, name));
+    }
+
+    @Override
+    public int getListedExecutionsLimit() {
+        return batchConfigurationSupplier.get().getListedExecutionsLimit();
+    }
+
     @Override
     public Properties getParameters(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         checkState();
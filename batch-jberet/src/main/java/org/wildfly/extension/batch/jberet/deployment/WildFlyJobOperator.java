@@ -51,6 +51,27 @@ interface WildFlyJobOperator extends JobOperator {
      */
     List<Long> getJobExecutionsByJob(final String jobName);
 
+    /**
+     * Gets the most recent job execution ids belonging to the job identified by the {@code jobName}, most recent first.
+     * @param jobName the job name identifying the job
+     * @param limit the maximum number of job execution ids to return
+     * @return at most {@code limit} job execution ids belonging to the job
+     */
+    List<Long> getJobExecutionsByJob(final String jobName, final int limit);
+
+    /**
+     * Gets the index of the job execution ids belonging to the job identified by the {@code jobName}.
+     * @param jobName the job name identifying the job
+     * @return the job execution index for the job
+     */
+    JobExecutionIndex getJobExecutionIndex(final String jobName);
+
+    /**
+     * Returns the maximum number of the most recent job executions listed as children of a job resource.
+     * @return the maximum number of job executions listed, or {@code 0} to list all job executions
+     */
+    int getListedExecutionsLimit();
+
     /**
      * Allows safe execution of a method catching any {@link NoSuchJobException} thrown. If the exception is thrown the
      * default value is returned, otherwise the value from the supplier is returned.
@@ -54,7 +54,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -91,6 +91,11 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
         assertEquals("Expecting restart-jobs-on-resume " + expectedRestartOnResume + ", but got " + restartOnResume,
                 expectedRestartOnResume, restartOnResume);
 
+        final int expectedListedExecutionsLimit = 50;
+        final int listedExecutionsLimit = batchModel.get("listed-executions-limit").resolve().asInt();
+        assertEquals("Expecting listed-executions-limit " + expectedListedExecutionsLimit + ", but got " + listedExecutionsLimit,
+                expectedListedExecutionsLimit, listedExecutionsLimit);
+
         final ModelNode threadPool = batchModel.get("thread-pool").asProperty().getValue();
         final int expectedMaxThreads = 10;
         final int maxThreads = threadPool.get("max-threads").resolve().asInt();
@@ -151,6 +156,9 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
     public void testRejectingTransformersEAP74() throws Exception {
         FailedOperationTransformationConfig transformationConfig = new FailedOperationTransformationConfig();
 
+        transformationConfig.addFailedAttribute(PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH),
+                new FailedOperationTransformationConfig.NewAttributesConfig(BatchSubsystemDefinition.LISTED_EXECUTIONS_LIMIT));
+
         PathAddress repositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, InMemoryJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(repositoryAddress,
                 new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
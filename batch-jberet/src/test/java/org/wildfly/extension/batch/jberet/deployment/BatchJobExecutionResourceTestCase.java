@@ -0,0 +1,330 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jboss.as.controller.PathElement;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BatchJobExecutionResource} and {@link JobExecutionIndex}.
+ */
+public class BatchJobExecutionResourceTestCase {
+
+    private static final String JOB_NAME = "job";
+
+    @Test
+    public void listedExecutionsLimit() {
+        final StubJobOperator jobOperator = new StubJobOperator(250);
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator, JOB_NAME);
+
+        jobOperator.listedExecutionsLimit = 100;
+        final Set<String> names = resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION);
+        assertEquals(100, names.size());
+        // Most recent first
+        final Iterator<String> iterator = names.iterator();
+        assertEquals("250", iterator.next());
+        assertEquals("249", iterator.next());
+        assertEquals(100, resource.getChildren(BatchJobExecutionResourceDefinition.EXECUTION).size());
+        // Only the listed executions are loaded
+        assertEquals(0, jobOperator.listings);
+        assertEquals(2, jobOperator.limitedListings);
+
+        // Executions beyond the limit can still be addressed directly
+        assertTrue(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "1")));
+        assertNotNull(resource.getChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "1")));
+
+        jobOperator.listedExecutionsLimit = 0;
+        assertEquals(250, resource.getChildrenNames(BatchJobExecutionResourceDefinition.EXECUTION).size());
+        assertEquals(1, jobOperator.listings);
+    }
+
+    @Test
+    public void page() {
+        final StubJobOperator jobOperator = new StubJobOperator(250);
+        final JobExecutionIndex index = new JobExecutionIndex(jobOperator, JOB_NAME);
+
+        assertEquals(List.of(250L, 249L, 248L), index.getExecutionIds(0, 3));
+        assertEquals(List.of(150L, 149L), index.getExecutionIds(100, 2));
+        assertEquals(List.of(1L), index.getExecutionIds(249, 10));
+        assertEquals(List.of(), index.getExecutionIds(250, 10));
+        // Unfiltered pages do not load the index
+        assertEquals(0, jobOperator.listings);
+        assertEquals(0, jobOperator.lookups);
+
+        assertEquals(List.of(), new JobExecutionIndex(new StubJobOperator(0), JOB_NAME).getExecutionIds(0, 10));
+    }
+
+    @Test
+    public void hasChildren() {
+        final StubJobOperator jobOperator = new StubJobOperator(10);
+        assertTrue(new BatchJobExecutionResource(jobOperator, JOB_NAME).hasChildren(BatchJobExecutionResourceDefinition.EXECUTION));
+        // Counted via the job instances, rather than listing the executions
+        assertEquals(0, jobOperator.listings);
+
+        assertFalse(new BatchJobExecutionResource(new StubJobOperator(0), JOB_NAME).hasChildren(BatchJobExecutionResourceDefinition.EXECUTION));
+    }
+
+    @Test
+    public void hasChild() {
+        final StubJobOperator jobOperator = new StubJobOperator(10);
+        jobOperator.executions.put(11L, new StubJobExecution(11L, "other", BatchStatus.COMPLETED, new Date(11L)));
+        final BatchJobExecutionResource resource = new BatchJobExecutionResource(jobOperator, JOB_NAME);
+
+        // Executions not yet indexed are looked up directly
+        assertTrue(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "5")));
+        assertFalse(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "11")));
+        assertFalse(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "12")));
+        assertFalse(resource.hasChild(PathElement.pathElement(BatchJobExecutionResourceDefinition.EXECUTION, "foo")));
+        assertEquals(0, jobOperator.listings);
+    }
+
+    @Test
+    public void filterByCreateTime() {
+        final StubJobOperator jobOperator = new StubJobOperator(1000);
+        final JobExecutionIndex index = new JobExecutionIndex(jobOperator, JOB_NAME);
+
+        assertEquals(List.of(599L, 598L, 597L), index.getExecutionIds(0, 3, null, new Date(500L), new Date(600L)));
+        assertEquals(List.of(501L, 500L), index.getExecutionIds(98, 10, null, new Date(500L), new Date(600L)));
+        // Bounds are found via a binary search, rather than looking up each execution
+        assertTrue(String.valueOf(jobOperator.lookups), jobOperator.lookups <= 40);
+        assertEquals(List.of(), index.getExecutionIds(0, 10, null, new Date(2000L), null));
+        assertEquals(1, jobOperator.listings);
+    }
+
+    @Test
+    public void filterByBatchStatus() {
+        final StubJobOperator jobOperator = new StubJobOperator(3000);
+        jobOperator.executions.values().removeIf(execution -> execution.getExecutionId() % 2 == 0);
+        jobOperator.executions.put(10L, new StubJobExecution(10L, JOB_NAME, BatchStatus.FAILED, new Date(10L)));
+        jobOperator.executions.put(2990L, new StubJobExecution(2990L, JOB_NAME, BatchStatus.FAILED, new Date(2990L)));
+        final JobExecutionIndex index = new JobExecutionIndex(jobOperator, JOB_NAME);
+        jobOperator.ids.clear();
+        jobOperator.ids.addAll(jobOperator.executions.keySet());
+
+        // At most a bounded number of executions are examined
+        assertEquals(List.of(2990L), index.getExecutionIds(0, 10, BatchStatus.FAILED, null, null));
+        assertEquals(JobExecutionIndex.maxFilteredExecutions, jobOperator.lookups);
+
+        // Older executions are found by narrowing the create time range
+        assertEquals(List.of(10L), index.getExecutionIds(0, 10, BatchStatus.FAILED, null, new Date(100L)));
+        assertEquals(List.of(2999L, 2997L), index.getExecutionIds(0, 2, BatchStatus.COMPLETED, null, null));
+    }
+
+    private static class StubJobOperator implements WildFlyJobOperator {
+        final Map<Long, JobExecution> executions = new TreeMap<>();
+        final List<Long> ids = new ArrayList<>();
+        int listedExecutionsLimit;
+        int listings;
+        int limitedListings;
+        int lookups;
+
+        StubJobOperator(final int executionCount) {
+            for (long id = 1; id <= executionCount; ++id) {
+                executions.put(id, new StubJobExecution(id, JOB_NAME, BatchStatus.COMPLETED, new Date(id)));
+                ids.add(id);
+            }
+        }
+
+        @Override
+        public Collection<String> getJobXmlNames() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<String> getJobXmlNames(final String jobName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<String> getAllJobNames() {
+            return Set.of(JOB_NAME);
+        }
+
+        @Override
+        public List<Long> getJobExecutionsByJob(final String jobName) {
+            listings++;
+            if (ids.isEmpty()) {
+                throw new NoSuchJobException(jobName);
+            }
+            return new ArrayList<>(ids);
+        }
+
+        @Override
+        public List<Long> getJobExecutionsByJob(final String jobName, final int limit) {
+            limitedListings++;
+            if (ids.isEmpty()) {
+                throw new NoSuchJobException(jobName);
+            }
+            final List<Long> result = new ArrayList<>(ids);
+            result.sort(Comparator.reverseOrder());
+            return result.subList(0, Math.min(limit, result.size()));
+        }
+
+        @Override
+        public JobExecutionIndex getJobExecutionIndex(final String jobName) {
+            return new JobExecutionIndex(this, jobName);
+        }
+
+        @Override
+        public int getListedExecutionsLimit() {
+            return listedExecutionsLimit;
+        }
+
+        @Override
+        public Set<String> getJobNames() {
+            return Set.of(JOB_NAME);
+        }
+
+        @Override
+        public int getJobInstanceCount(final String jobName) {
+            if (ids.isEmpty()) {
+                throw new NoSuchJobException(jobName);
+            }
+            return ids.size();
+        }
+
+        @Override
+        public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> getRunningExecutions(final String jobName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Properties getParameters(final long executionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long start(final String jobXMLName, final Properties jobParameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long restart(final long executionId, final Properties restartParameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stop(final long executionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abandon(final long executionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JobInstance getJobInstance(final long executionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<JobExecution> getJobExecutions(final JobInstance instance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JobExecution getJobExecution(final long executionId) {
+            lookups++;
+            final JobExecution execution = executions.get(executionId);
+            if (execution == null) {
+                throw new NoSuchJobExecutionException(String.valueOf(executionId));
+            }
+            return execution;
+        }
+
+        @Override
+        public List<StepExecution> getStepExecutions(final long jobExecutionId) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class StubJobExecution implements JobExecution {
+        private final long executionId;
+        private final String jobName;
+        private final BatchStatus batchStatus;
+        private final Date createTime;
+
+        StubJobExecution(final long executionId, final String jobName, final BatchStatus batchStatus, final Date createTime) {
+            this.executionId = executionId;
+            this.jobName = jobName;
+            this.batchStatus = batchStatus;
+            this.createTime = createTime;
+        }
+
+        @Override
+        public long getExecutionId() {
+            return executionId;
+        }
+
+        @Override
+        public String getJobName() {
+            return jobName;
+        }
+
+        @Override
+        public BatchStatus getBatchStatus() {
+            return batchStatus;
+        }
+
+        @Override
+        public Date getStartTime() {
+            return createTime;
+        }
+
+        @Override
+        public Date getEndTime() {
+            return null;
+        }
+
+        @Override
+        public String getExitStatus() {
+            return batchStatus.name();
+        }
+
+        @Override
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        @Override
+        public Date getLastUpdatedTime() {
+            return createTime;
+        }
+
+        @Override
+        public Properties getJobParameters() {
+            return new Properties();
+        }
+    }
+}
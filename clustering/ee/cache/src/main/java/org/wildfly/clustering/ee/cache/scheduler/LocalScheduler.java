@@ -137,31 +137,37 @@ public class LocalScheduler<T> implements Scheduler<T, Instant>, Runnable {
     }
 
     private void rescheduleIfEarlier(Instant instant) {
-        if (this.futureEntry != null) {
+        // Avoid synchronization unless the current task needs to be rescheduled
+        if (isBefore(instant, this.futureEntry)) {
             synchronized (this) {
-                if (this.futureEntry != null) {
-                    if (instant.isBefore(this.futureEntry.getKey().getValue())) {
-                        this.futureEntry.getValue().cancel(true);
-                        this.futureEntry = this.scheduleFirst();
-                    }
+                if (isBefore(instant, this.futureEntry)) {
+                    this.futureEntry.getValue().cancel(true);
+                    this.futureEntry = this.scheduleFirst();
                 }
             }
         }
     }
 
     private void cancelIfPresent(T id) {
-        if (this.futureEntry != null) {
+        // Avoid synchronization unless the current task needs to be cancelled
+        if (isScheduled(id, this.futureEntry)) {
             synchronized (this) {
-                if (this.futureEntry != null) {
-                    if (this.futureEntry.getKey().getKey().equals(id)) {
-                        this.futureEntry.getValue().cancel(true);
-                        this.futureEntry = null;
-                    }
+                if (isScheduled(id, this.futureEntry)) {
+                    this.futureEntry.getValue().cancel(true);
+                    this.futureEntry = null;
                 }
             }
         }
     }
 
+    private static <T> boolean isBefore(Instant instant, Map.Entry<Map.Entry<T, Instant>, Future<?>> futureEntry) {
+        return (futureEntry != null) && instant.isBefore(futureEntry.getKey().getValue());
+    }
+
+    private static <T> boolean isScheduled(T id, Map.Entry<Map.Entry<T, Instant>, Future<?>> futureEntry) {
+        return (futureEntry != null) && futureEntry.getKey().getKey().equals(id);
+    }
+
     @Override
     public String toString() {
         return this.entries.toString();
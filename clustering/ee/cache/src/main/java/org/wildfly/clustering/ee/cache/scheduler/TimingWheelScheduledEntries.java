@@ -0,0 +1,217 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScheduledEntries} implemented as a coarse-grained timing wheel, where entries are grouped into buckets of a fixed duration.
+ * Buckets are iterated in chronological order, while the entries within a given bucket are iterated in insertion order.
+ * Consequently, iteration order is sorted only to the precision of the bucket duration.
+ * Both {@link #add(Object, Instant)} and {@link #remove(Object)} run in O(1) time, without locking, except when the first entry of a bucket is added.
+ */
+public class TimingWheelScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+    private static final Duration DEFAULT_PRECISION = Duration.ofSeconds(1);
+
+    private final long precision;
+    private final Map<K, Node<K>> nodes = new ConcurrentHashMap<>();
+    private final Map<Long, Bucket<K>> buckets = new ConcurrentHashMap<>();
+    // Ticks of non-empty buckets, in chronological order
+    private final NavigableSet<Long> ticks = new ConcurrentSkipListSet<>();
+
+    /**
+     * Creates a new entries object using buckets of one second.
+     */
+    public TimingWheelScheduledEntries() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a new entries object using buckets of the specified duration.
+     * @param precision the duration of each bucket
+     */
+    public TimingWheelScheduledEntries(Duration precision) {
+        this.precision = Math.max(1L, precision.toMillis());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Entries are sorted only to the precision of the bucket duration, i.e. an entry may be iterated before an entry of the same bucket with an earlier instant.
+     * Consequently, consumers that stop iterating at the first entry with a future instant may observe entries of the same bucket up to one bucket duration late.
+     */
+    @Override
+    public boolean isSorted() {
+        return true;
+    }
+
+    @Override
+    public void add(K key, Instant value) {
+        Node<K> node = new Node<>(new SimpleImmutableEntry<>(key, value), Math.floorDiv(value.toEpochMilli(), this.precision));
+        Node<K> previous = this.nodes.put(key, node);
+        if (previous != null) {
+            this.unlink(previous);
+        }
+        this.link(node);
+        // Handle concurrent removal
+        if (this.nodes.get(key) != node) {
+            this.unlink(node);
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        Node<K> node = this.nodes.remove(key);
+        if (node != null) {
+            this.unlink(node);
+        }
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return this.nodes.containsKey(key);
+    }
+
+    @Override
+    public Map.Entry<K, Instant> peek() {
+        for (Long tick : this.ticks) {
+            Bucket<K> bucket = this.buckets.get(tick);
+            if (bucket != null) {
+                Map.Entry<K, Instant> entry = bucket.entries.peekFirst();
+                if (entry != null) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Stream<Map.Entry<K, Instant>> stream() {
+        return this.ticks.stream().map(this.buckets::get).filter(Objects::nonNull).flatMap(bucket -> bucket.entries.stream());
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, Instant>> iterator() {
+        Iterator<Long> ticks = this.ticks.iterator();
+        return new Iterator<>() {
+            private Iterator<Map.Entry<K, Instant>> entries = Collections.emptyIterator();
+            private Map.Entry<K, Instant> current = null;
+
+            @Override
+            public boolean hasNext() {
+                while (!this.entries.hasNext()) {
+                    if (!ticks.hasNext()) return false;
+                    Long tick = ticks.next();
+                    Bucket<K> bucket = TimingWheelScheduledEntries.this.buckets.get(tick);
+                    if (bucket != null) {
+                        if (bucket.entries.isEmpty()) {
+                            TimingWheelScheduledEntries.this.removeIfEmpty(tick);
+                        } else {
+                            this.entries = bucket.entries.iterator();
+                        }
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Map.Entry<K, Instant> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.current = this.entries.next();
+                return this.current;
+            }
+
+            @Override
+            public void remove() {
+                this.entries.remove();
+                K key = this.current.getKey();
+                Node<K> node = TimingWheelScheduledEntries.this.nodes.get(key);
+                // Entry may have since been rescheduled
+                if ((node != null) && (node.entry == this.current)) {
+                    TimingWheelScheduledEntries.this.nodes.remove(key, node);
+                }
+            }
+        };
+    }
+
+    private void link(Node<K> node) {
+        while (true) {
+            Bucket<K> bucket = this.buckets.computeIfAbsent(node.tick, tick -> {
+                this.ticks.add(tick);
+                return new Bucket<>();
+            });
+            Object token = bucket.entries.offerLastAndReturnToken(node.entry);
+            // Token is published before its bucket, see unlink(...)
+            node.token = token;
+            node.bucket = bucket;
+            // The bucket is retired before it is checked for emptiness, see removeIfEmpty(...)
+            // Thus either our entry prevents its removal, or we observe its retirement and retry
+            if (!bucket.retired) return;
+            bucket.entries.removeToken(token);
+            Thread.onSpinWait();
+        }
+    }
+
+    private void unlink(Node<K> node) {
+        Bucket<K> bucket = node.bucket;
+        Object token = node.token;
+        if (bucket != null) {
+            bucket.entries.removeToken(token);
+            if (bucket.entries.isEmpty()) {
+                this.removeIfEmpty(node.tick);
+            }
+        }
+    }
+
+    private void removeIfEmpty(Long tick) {
+        this.buckets.computeIfPresent(tick, (key, bucket) -> {
+            bucket.retired = true;
+            if (bucket.entries.isEmpty()) {
+                this.ticks.remove(key);
+                return null;
+            }
+            // Bucket was concurrently linked, reinstate it
+            bucket.retired = false;
+            return bucket;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return this.stream().collect(Collectors.toList()).toString();
+    }
+
+    private static class Bucket<K> {
+        final ConcurrentDirectDeque<Map.Entry<K, Instant>> entries = ConcurrentDirectDeque.newInstance();
+        // Indicates that this bucket is being removed, during which entries must not be linked to it
+        volatile boolean retired = false;
+    }
+
+    private static class Node<K> {
+        final Map.Entry<K, Instant> entry;
+        final long tick;
+        volatile Bucket<K> bucket;
+        volatile Object token;
+
+        Node(Map.Entry<K, Instant> entry, long tick) {
+            this.entry = entry;
+            this.tick = tick;
+        }
+    }
+}
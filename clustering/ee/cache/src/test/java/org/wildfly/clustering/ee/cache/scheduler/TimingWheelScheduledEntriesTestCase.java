@@ -0,0 +1,148 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheelScheduledEntries}
+ */
+public class TimingWheelScheduledEntriesTestCase extends AbstractScheduledEntriesTestCase {
+
+    public TimingWheelScheduledEntriesTestCase() {
+        super(new TimingWheelScheduledEntries<>(Duration.ofSeconds(1)), list -> {
+            List<Map.Entry<UUID, Instant>> result = new LinkedList<>(list);
+            // Sorted by bucket, then by insertion order
+            Collections.sort(result, Comparator.comparingLong(entry -> Math.floorDiv(entry.getValue().toEpochMilli(), 1000L)));
+            return result;
+        });
+    }
+
+    @Test
+    public void reschedule() {
+        ScheduledEntries<UUID, Instant> entries = new TimingWheelScheduledEntries<>();
+        UUID id = UUID.randomUUID();
+        Instant now = Instant.now();
+        Instant later = now.plus(Duration.ofMinutes(1));
+        entries.add(id, now);
+        entries.add(id, later);
+
+        Assert.assertTrue(entries.contains(id));
+        Assert.assertEquals(1L, entries.stream().count());
+        Assert.assertSame(later, entries.peek().getValue());
+
+        entries.remove(id);
+        Assert.assertFalse(entries.contains(id));
+        Assert.assertNull(entries.peek());
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        ScheduledEntries<UUID, Instant> entries = new TimingWheelScheduledEntries<>(Duration.ofMillis(1));
+        Instant now = Instant.now();
+        int threads = 8;
+        int count = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> retained = new ArrayList<>(count / 2);
+                    for (int j = 0; j < count; ++j) {
+                        UUID id = UUID.randomUUID();
+                        // Concentrate entries into few buckets to maximize contention
+                        entries.add(id, now.plusMillis(j % 4));
+                        if (j % 2 == 0) {
+                            entries.remove(id);
+                        } else {
+                            retained.add(id);
+                        }
+                    }
+                    return retained;
+                }));
+            }
+            List<UUID> retained = new ArrayList<>(threads * count / 2);
+            for (Future<List<UUID>> future : futures) {
+                retained.addAll(future.get());
+            }
+            Assert.assertEquals(retained.size(), entries.stream().count());
+            for (UUID id : retained) {
+                Assert.assertTrue(entries.contains(id));
+            }
+
+            // Verify chronological iteration order, and that iterator removal drains all entries
+            Instant previous = Instant.MIN;
+            Iterator<Map.Entry<UUID, Instant>> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<UUID, Instant> entry = iterator.next();
+                Assert.assertFalse(entry.getValue().isBefore(previous));
+                previous = entry.getValue();
+                iterator.remove();
+            }
+            Assert.assertNull(entries.peek());
+            for (UUID id : retained) {
+                Assert.assertFalse(entries.contains(id));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void concurrentAddRemove() throws Exception {
+        ScheduledEntries<UUID, Instant> entries = new TimingWheelScheduledEntries<>();
+        // All entries share a single bucket, which repeatedly empties while other threads add to it
+        Instant instant = Instant.now();
+        int threads = 8;
+        int count = 100000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> retained = new ArrayList<>();
+                    for (int j = 0; j < count; ++j) {
+                        UUID id = UUID.randomUUID();
+                        entries.add(id, instant);
+                        if (j % 1000 == 0) {
+                            retained.add(id);
+                        } else {
+                            entries.remove(id);
+                        }
+                    }
+                    return retained;
+                }));
+            }
+            Set<UUID> retained = new TreeSet<>();
+            for (Future<List<UUID>> future : futures) {
+                retained.addAll(future.get());
+            }
+            // Every retained entry must remain reachable via iteration
+            Assert.assertEquals(retained, entries.stream().map(Map.Entry::getKey).collect(Collectors.toCollection(TreeSet::new)));
+            Assert.assertNotNull(entries.peek());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -52,7 +52,8 @@ public class PrimaryOwnerScheduler<I, K, M> implements Scheduler<I, M>, Function
     @Override
     public void schedule(I id, M metaData) {
         try {
-            this.executeOnPrimaryOwner(id, this.scheduleCommandFactory.apply(id, metaData));
+            // Schedule commands are not awaited, and so may be batched
+            this.executeOnPrimaryOwner(id, this.scheduleCommandFactory.apply(id, metaData), true);
         } catch (CommandDispatcherException e) {
             Logger.ROOT_LOGGER.failedToSchedule(e, id);
         }
@@ -61,7 +62,7 @@ public class PrimaryOwnerScheduler<I, K, M> implements Scheduler<I, M>, Function
     @Override
     public void cancel(I id) {
         try {
-            this.executeOnPrimaryOwner(id, new CancelCommand<>(id)).toCompletableFuture().join();
+            this.executeOnPrimaryOwner(id, new CancelCommand<>(id), false).toCompletableFuture().join();
         } catch (CommandDispatcherException | CompletionException e) {
             Logger.ROOT_LOGGER.failedToCancel(e, id);
         } catch (CancellationException e) {
@@ -72,7 +73,7 @@ public class PrimaryOwnerScheduler<I, K, M> implements Scheduler<I, M>, Function
     @Override
     public boolean contains(I id) {
         try {
-            return this.executeOnPrimaryOwner(id, new ContainsCommand<>(id)).toCompletableFuture().join();
+            return this.executeOnPrimaryOwner(id, new ContainsCommand<>(id), false).toCompletableFuture().join();
         } catch (CommandDispatcherException | CompletionException e) {
             Logger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
             return false;
@@ -81,7 +82,7 @@ public class PrimaryOwnerScheduler<I, K, M> implements Scheduler<I, M>, Function
         }
     }
 
-    private <R> CompletionStage<R> executeOnPrimaryOwner(I id, Command<R, CacheEntryScheduler<I, M>> command) throws CommandDispatcherException {
+    private <R> CompletionStage<R> executeOnPrimaryOwner(I id, Command<R, CacheEntryScheduler<I, M>> command, boolean batch) throws CommandDispatcherException {
         K key = this.keyFactory.apply(id);
         Function<K, Node> primaryOwnerLocator = this.primaryOwnerLocator;
         CommandDispatcher<CacheEntryScheduler<I, M>> dispatcher = this.dispatcher;
@@ -91,7 +92,7 @@ public class PrimaryOwnerScheduler<I, K, M> implements Scheduler<I, M>, Function
                 Node node = primaryOwnerLocator.apply(key);
                 Logger.ROOT_LOGGER.tracef("Executing command %s on %s", command, node);
                 // This should only go remote following a failover
-                return dispatcher.executeOnMember(command, node);
+                return batch ? dispatcher.submitOnMember(command, node) : dispatcher.executeOnMember(command, node);
             }
         };
         return INVOKER.invoke(action);
@@ -5,6 +5,7 @@
 
 package org.jboss.as.clustering.infinispan.logging;
 
+import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
@@ -129,4 +130,12 @@ public interface InfinispanLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 33, value = "Attribute '%s' is configured to use a deprecated value: %s; use one of the following values instead: %s")
     void marshallerEnumValueDeprecated(String attributeName, Object attributeValue, Set<?> supportedValues);
+
+    @LogMessage(level = WARN)
+    @Message(id = 34, value = "Failed to write %d pending modifications to JDBC store of cache '%s'; these will be retried")
+    void failedToWritePendingModifications(int count, String cacheName, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 35, value = "Failed to write %d pending modifications to JDBC store of cache '%s'; these modifications are lost")
+    void pendingModificationsLost(int count, String cacheName);
 }
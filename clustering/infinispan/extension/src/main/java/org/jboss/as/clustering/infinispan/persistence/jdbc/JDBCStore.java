@@ -5,30 +5,219 @@
 
 package org.jboss.as.clustering.infinispan.persistence.jdbc;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Predicate;
 
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+
 import org.infinispan.commons.configuration.ConfiguredBy;
 import org.infinispan.commons.util.IntSet;
 import org.infinispan.persistence.jdbc.stringbased.JdbcStringBasedStore;
+import org.infinispan.persistence.spi.InitializationContext;
 import org.infinispan.persistence.spi.MarshallableEntry;
+import org.infinispan.persistence.support.SingleSegmentPublisher;
+import org.jboss.as.clustering.infinispan.persistence.jdbc.WriteBehindQueue.Modification;
 import org.reactivestreams.Publisher;
 
 /**
  * Custom JDBC cache store implementation that executes all publisher actions on the caller thread.
+ * <p>
+ * If configured for write-behind, this store coalesces its modifications via a {@link WriteBehindQueue}, in lieu of Infinispan's async store.
+ * Writes and deletes complete once queued, such that repeated modifications of the same key replace each other,
+ * and queued modifications are written via a single batch.
+ * Reads consult queued modifications before the database, while bulk operations first write any queued modifications.
  * @author Paul Ferraro
  */
 @ConfiguredBy(JDBCStoreConfiguration.class)
 public class JDBCStore<K, V> extends JdbcStringBasedStore<K, V> {
 
+    private volatile WriteBehindQueue<MarshallableEntry<K, V>> queue;
+
+    @Override
+    public CompletionStage<Void> start(InitializationContext context) {
+        JDBCStoreConfiguration configuration = context.getConfiguration();
+        int queueSize = configuration.writeBehindQueueSize();
+        String cacheName = context.getCache().getName();
+        return super.start(context).thenRun(() -> {
+            if (queueSize > 0) {
+                this.queue = new WriteBehindQueue<>(queueSize, cacheName, this::writeBatch);
+            }
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> stop() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        if (queue == null) {
+            return super.stop();
+        }
+        return queue.close().thenCompose(ignore -> {
+            this.queue = null;
+            return super.stop();
+        });
+    }
+
+    @Override
+    public CompletionStage<MarshallableEntry<K, V>> load(int segment, Object key) {
+        Modification<MarshallableEntry<K, V>> modification = this.findModification(key);
+        return (modification != null) ? CompletableFuture.completedStage(modification.getEntry()) : super.load(segment, key);
+    }
+
+    @Override
+    public CompletionStage<Boolean> containsKey(int segment, Object key) {
+        Modification<MarshallableEntry<K, V>> modification = this.findModification(key);
+        return (modification != null) ? CompletableFuture.completedStage(modification.getEntry() != null) : super.containsKey(segment, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public CompletionStage<Void> write(int segment, MarshallableEntry<? extends K, ? extends V> entry) {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        if (queue == null) {
+            return super.write(segment, entry);
+        }
+        return queue.add(entry.getKey(), segment, (MarshallableEntry<K, V>) entry);
+    }
+
+    @Override
+    public CompletionStage<Boolean> delete(int segment, Object key) {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        if (queue == null) {
+            return super.delete(segment, key);
+        }
+        // Whether the key exists in the database is unknown
+        return queue.add(key, segment, null).thenApply(ignore -> null);
+    }
+
+    @Override
+    public CompletionStage<Void> batch(int publisherCount, Publisher<SegmentedPublisher<Object>> removePublisher, Publisher<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher) {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        if (queue == null) {
+            return super.batch(publisherCount, removePublisher, writePublisher);
+        }
+        // Ensure batch is ordered after any queued modifications
+        return queue.flushThen(() -> super.batch(publisherCount, removePublisher, writePublisher));
+    }
+
+    @Override
+    public CompletionStage<Void> clear() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        if (queue == null) {
+            return super.clear();
+        }
+        return queue.clearThen(super::clear);
+    }
+
+    @Override
+    public CompletionStage<Long> size(IntSet segments) {
+        return this.flush().thenCompose(ignore -> super.size(segments));
+    }
+
+    @Override
+    public CompletionStage<Long> approximateSize(IntSet segments) {
+        return this.flush().thenCompose(ignore -> super.approximateSize(segments));
+    }
+
     @Override
     public Publisher<MarshallableEntry<K, V>> publishEntries(IntSet segments, Predicate<? super K> filter, boolean includeValues) {
         // Execute subscribe, observer, and finally actions on same thread
-        return this.tableOperations.publishEntries(this.connectionFactory::getConnection, this.connectionFactory::releaseConnection, segments, filter, includeValues);
+        Publisher<MarshallableEntry<K, V>> entries = this.tableOperations.publishEntries(this.connectionFactory::getConnection, this.connectionFactory::releaseConnection, segments, filter, includeValues);
+        return (this.queue != null) ? Completable.defer(() -> Completable.fromCompletionStage(this.flush())).andThen(Flowable.fromPublisher(entries)) : entries;
     }
 
     @Override
     public Publisher<K> publishKeys(IntSet segments, Predicate<? super K> filter) {
         // Execute subscribe, observer, and finally actions on same thread
-        return this.tableOperations.publishKeys(this.connectionFactory::getConnection, this.connectionFactory::releaseConnection, segments, filter);
+        Publisher<K> keys = this.tableOperations.publishKeys(this.connectionFactory::getConnection, this.connectionFactory::releaseConnection, segments, filter);
+        return (this.queue != null) ? Completable.defer(() -> Completable.fromCompletionStage(this.flush())).andThen(Flowable.fromPublisher(keys)) : keys;
+    }
+
+    /**
+     * Returns the number of modifications queued, but not yet written to the database.
+     * @return a number of modifications
+     */
+    public int getPendingModifications() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.getPendingModifications() : 0;
+    }
+
+    /**
+     * Returns the number of queued modifications replaced by a subsequent modification of the same key.
+     * @return a number of modifications
+     */
+    public long getCoalescedModifications() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.getCoalescedModifications() : 0;
+    }
+
+    /**
+     * Returns the number of batches of queued modifications written to the database.
+     * @return a number of batches
+     */
+    public long getFlushes() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.getFlushes() : 0;
+    }
+
+    /**
+     * Returns the average duration of a batch of queued modifications.
+     * @return a duration in milliseconds
+     */
+    public long getAverageFlushTime() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.getAverageFlushTime() : 0;
+    }
+
+    /**
+     * Returns the maximum duration of a batch of queued modifications.
+     * @return a duration in milliseconds
+     */
+    public long getMaxFlushTime() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.getMaxFlushTime() : 0;
+    }
+
+    private Modification<MarshallableEntry<K, V>> findModification(Object key) {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.find(key) : null;
+    }
+
+    /**
+     * Writes all queued modifications to the database.
+     * @return a stage that completes when all modifications queued prior to this invocation were written, or re-queued on failure
+     */
+    private CompletionStage<Void> flush() {
+        WriteBehindQueue<MarshallableEntry<K, V>> queue = this.queue;
+        return (queue != null) ? queue.flush() : CompletableFuture.completedStage(null);
+    }
+
+    /**
+     * Writes the specified modifications to the database via a single batch.
+     * @param modifications a map of modifications, by key
+     * @return a stage that completes when the batch completes
+     */
+    private CompletionStage<Void> writeBatch(Map<Object, Modification<MarshallableEntry<K, V>>> modifications) {
+        // Group modifications by segment
+        Map<Integer, List<Object>> removes = new HashMap<>();
+        Map<Integer, List<MarshallableEntry<K, V>>> writes = new HashMap<>();
+        for (Map.Entry<Object, Modification<MarshallableEntry<K, V>>> entry : modifications.entrySet()) {
+            Modification<MarshallableEntry<K, V>> modification = entry.getValue();
+            MarshallableEntry<K, V> value = modification.getEntry();
+            if (value != null) {
+                writes.computeIfAbsent(modification.getSegment(), k -> new ArrayList<>()).add(value);
+            } else {
+                removes.computeIfAbsent(modification.getSegment(), k -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        int publisherCount = Math.max(removes.size(), writes.size());
+        Flowable<SegmentedPublisher<Object>> removePublisher = Flowable.fromIterable(removes.entrySet()).map(entry -> SingleSegmentPublisher.<Object>singleSegment(entry.getKey(), Flowable.fromIterable(entry.getValue())));
+        Flowable<SegmentedPublisher<MarshallableEntry<K, V>>> writePublisher = Flowable.fromIterable(writes.entrySet()).map(entry -> SingleSegmentPublisher.<MarshallableEntry<K, V>>singleSegment(entry.getKey(), Flowable.fromIterable(entry.getValue())));
+        return super.batch(publisherCount, removePublisher, writePublisher);
     }
 }
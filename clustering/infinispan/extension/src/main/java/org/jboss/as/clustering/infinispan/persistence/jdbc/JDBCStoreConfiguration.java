@@ -26,12 +26,22 @@ import org.infinispan.persistence.jdbc.configuration.TableManipulationConfigurat
 public class JDBCStoreConfiguration extends JdbcStringBasedStoreConfiguration {
     // JdbcStringBasedStoreConfiguration.KEY2STRING_MAPPER is not accessible
     public static final AttributeDefinition<String> KEY2STRING_MAPPER = JdbcStringBasedStoreConfiguration.attributeDefinitionSet().<String>attribute(KEY_TO_STRING_MAPPER).getAttributeDefinition();
+    // Size of the modification queue of a write-behind store, or 0, if modifications are written synchronously
+    public static final AttributeDefinition<Integer> WRITE_BEHIND_QUEUE_SIZE = AttributeDefinition.builder("writeBehindQueueSize", 0).immutable().autoPersist(false).build();
 
     public static AttributeSet attributeDefinitionSet() {
-       return new AttributeSet(JDBCStoreConfiguration.class, AbstractJdbcStoreConfiguration.attributeDefinitionSet(), KEY2STRING_MAPPER);
+       return new AttributeSet(JDBCStoreConfiguration.class, AbstractJdbcStoreConfiguration.attributeDefinitionSet(), KEY2STRING_MAPPER, WRITE_BEHIND_QUEUE_SIZE);
     }
 
     public JDBCStoreConfiguration(AttributeSet attributes, AsyncStoreConfiguration async, ConnectionFactoryConfiguration connectionFactory, TableManipulationConfiguration table) {
         super(attributes, async, connectionFactory, table);
     }
+
+    /**
+     * Returns the size of the modification queue, if this store coalesces its modifications via write-behind.
+     * @return a number of modifications, or 0, if modifications are written synchronously
+     */
+    public int writeBehindQueueSize() {
+        return this.attributes.attribute(WRITE_BEHIND_QUEUE_SIZE).get();
+    }
 }
@@ -22,6 +22,7 @@ import org.infinispan.commons.configuration.Combine;
 import org.infinispan.commons.configuration.Self;
 import org.infinispan.commons.configuration.attributes.AttributeDefinition;
 import org.infinispan.commons.configuration.attributes.AttributeSet;
+import org.infinispan.configuration.cache.AsyncStoreConfiguration;
 import org.infinispan.configuration.cache.PersistenceConfigurationBuilder;
 import org.infinispan.configuration.global.GlobalConfiguration;
 import org.infinispan.persistence.jdbc.common.configuration.AbstractJdbcStoreConfigurationBuilder;
@@ -67,7 +68,13 @@ public class JDBCStoreConfigurationBuilder extends AbstractJdbcStoreConfiguratio
 
     @Override
     public JDBCStoreConfiguration create() {
-        return new JDBCStoreConfiguration(this.attributes.protect(), this.async.create(), this.connectionFactory.create(), this.table.create());
+        AsyncStoreConfiguration async = this.async.create();
+        if (async.enabled()) {
+            // JDBCStore implements write-behind itself, coalescing its modifications, so disable Infinispan's async store
+            this.attributes.attribute(JDBCStoreConfiguration.WRITE_BEHIND_QUEUE_SIZE).set(async.modificationQueueSize());
+            async = new AsyncStoreConfiguration(AsyncStoreConfiguration.attributeDefinitionSet().protect());
+        }
+        return new JDBCStoreConfiguration(this.attributes.protect(), async, this.connectionFactory.create(), this.table.create());
     }
 
     @Override
@@ -0,0 +1,262 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.persistence.jdbc;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.as.clustering.infinispan.logging.InfinispanLogger;
+
+/**
+ * Queues the modifications of a write-behind store, such that repeated modifications of the same key replace each other.
+ * Queued modifications are written as a single batch as soon as any previous batch completes,
+ * thus modifications queued while a batch is written are coalesced into the next batch.
+ * Once the number of queued modifications reaches the queue size, modifications wait for the next batch to complete.
+ * The modifications of a failed batch are re-queued, unless superseded, and are retried with the next batch.
+ * @param <E> the written entry type
+ */
+class WriteBehindQueue<E> {
+
+    // Number of attempts to write queued modifications on close
+    static final int CLOSE_ATTEMPTS = 3;
+
+    private final Map<Object, Modification<E>> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushTime = new LongAdder();
+    private final LongAccumulator maxFlushTime = new LongAccumulator(Math::max, 0);
+    private final int queueSize;
+    private final String cacheName;
+    private final Function<Map<Object, Modification<E>>, CompletionStage<Void>> writer;
+
+    // Modifications currently being written, by key
+    private volatile Map<Object, Modification<E>> flushing = Map.of();
+    // Completes when the last scheduled task completes, guarded by this
+    private CompletionStage<Void> tail = CompletableFuture.completedStage(null);
+
+    /**
+     * Creates a write-behind queue.
+     * @param queueSize the number of queued modifications at which subsequent modifications wait for the next batch
+     * @param cacheName the name of the cache of the store
+     * @param writer writes a batch of modifications, by key
+     */
+    WriteBehindQueue(int queueSize, String cacheName, Function<Map<Object, Modification<E>>, CompletionStage<Void>> writer) {
+        this.queueSize = queueSize;
+        this.cacheName = cacheName;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the queued, or currently written, modification of the specified key.
+     * @param key a key
+     * @return a modification, or null, if no modification of the key is queued
+     */
+    Modification<E> find(Object key) {
+        Modification<E> modification = this.pending.get(key);
+        return (modification != null) ? modification : this.flushing.get(key);
+    }
+
+    /**
+     * Queues a modification of the specified key.
+     * @param key a key
+     * @param segment the segment of the key
+     * @param entry the written entry, or null, if the key is removed
+     * @return a stage that completes when the modification was queued
+     */
+    CompletionStage<Void> add(Object key, int segment, E entry) {
+        if (this.pending.put(key, new Modification<>(segment, entry)) != null) {
+            this.coalesced.increment();
+        }
+        if (this.pending.size() >= this.queueSize) {
+            return this.flush();
+        }
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            this.schedule(() -> {
+                this.flushScheduled.set(false);
+                return this.flushPending();
+            });
+        }
+        return CompletableFuture.completedStage(null);
+    }
+
+    /**
+     * Writes all queued modifications.
+     * @return a stage that completes when all modifications queued prior to this invocation were written, or re-queued on failure
+     */
+    CompletionStage<Void> flush() {
+        return this.schedule(this::flushPending);
+    }
+
+    /**
+     * Runs the specified task once all queued modifications were written.
+     * @param task a task
+     * @return a stage that completes with the specified task
+     */
+    CompletionStage<Void> flushThen(Supplier<CompletionStage<Void>> task) {
+        return this.schedule(() -> this.flushPending().thenCompose(ignore -> task.get()));
+    }
+
+    /**
+     * Discards all queued modifications, then runs the specified task once any current batch completes.
+     * @param task a task
+     * @return a stage that completes with the specified task
+     */
+    CompletionStage<Void> clearThen(Supplier<CompletionStage<Void>> task) {
+        this.pending.clear();
+        return this.schedule(task);
+    }
+
+    /**
+     * Writes all queued modifications, retrying failed batches up to {@value #CLOSE_ATTEMPTS} times.
+     * Modifications that could still not be written are logged as lost and discarded.
+     * @return a stage that completes when all queued modifications were either written or discarded
+     */
+    CompletionStage<Void> close() {
+        return this.close(CLOSE_ATTEMPTS);
+    }
+
+    private CompletionStage<Void> close(int attempts) {
+        return this.flush().thenCompose(ignore -> {
+            if (this.pending.isEmpty()) return CompletableFuture.completedStage(null);
+            if (attempts > 1) return this.close(attempts - 1);
+            InfinispanLogger.ROOT_LOGGER.pendingModificationsLost(this.pending.size(), this.cacheName);
+            this.pending.clear();
+            return CompletableFuture.completedStage(null);
+        });
+    }
+
+    /**
+     * Returns the number of modifications queued, but not yet written.
+     * @return a number of modifications
+     */
+    int getPendingModifications() {
+        return this.pending.size() + this.flushing.size();
+    }
+
+    /**
+     * Returns the number of queued modifications replaced by a subsequent modification of the same key.
+     * @return a number of modifications
+     */
+    long getCoalescedModifications() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Returns the number of batches of queued modifications written.
+     * @return a number of batches
+     */
+    long getFlushes() {
+        return this.flushes.sum();
+    }
+
+    /**
+     * Returns the average duration of a batch of queued modifications.
+     * @return a duration in milliseconds
+     */
+    long getAverageFlushTime() {
+        long flushes = this.flushes.sum();
+        return (flushes > 0) ? TimeUnit.NANOSECONDS.toMillis(this.flushTime.sum() / flushes) : 0;
+    }
+
+    /**
+     * Returns the maximum duration of a batch of queued modifications.
+     * @return a duration in milliseconds
+     */
+    long getMaxFlushTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxFlushTime.get());
+    }
+
+    /**
+     * Schedules the specified task to run after completion of any previously scheduled task.
+     * @param task a task
+     * @return a stage that completes with the specified task
+     */
+    private synchronized CompletionStage<Void> schedule(Supplier<CompletionStage<Void>> task) {
+        CompletionStage<Void> result = this.tail.thenCompose(ignore -> task.get());
+        this.tail = result.exceptionally(e -> null);
+        return result;
+    }
+
+    private CompletionStage<Void> flushPending() {
+        if (this.pending.isEmpty()) return CompletableFuture.completedStage(null);
+
+        Map<Object, Modification<E>> modifications = new ConcurrentHashMap<>();
+        // Publish before dequeuing, so that reads never miss a modification
+        this.flushing = modifications;
+        for (Map.Entry<Object, Modification<E>> entry : this.pending.entrySet()) {
+            Object key = entry.getKey();
+            Modification<E> modification = entry.getValue();
+            modifications.put(key, modification);
+            if (!this.pending.remove(key, modification)) {
+                // Superseded by a subsequent modification, which will be written by the next batch
+                modifications.remove(key, modification);
+            }
+        }
+        if (modifications.isEmpty()) {
+            this.flushing = Map.of();
+            return CompletableFuture.completedStage(null);
+        }
+
+        long start = System.nanoTime();
+        CompletionStage<Void> batch;
+        try {
+            batch = this.writer.apply(modifications);
+        } catch (RuntimeException e) {
+            batch = CompletableFuture.failedStage(e);
+        }
+        return batch.handle((result, e) -> {
+            if (e == null) {
+                long duration = System.nanoTime() - start;
+                this.flushes.increment();
+                this.flushTime.add(duration);
+                this.maxFlushTime.accumulate(duration);
+            } else {
+                InfinispanLogger.ROOT_LOGGER.failedToWritePendingModifications(modifications.size(), this.cacheName, e);
+                // Re-queue modifications not superseded in the meantime
+                for (Map.Entry<Object, Modification<E>> entry : modifications.entrySet()) {
+                    this.pending.putIfAbsent(entry.getKey(), entry.getValue());
+                }
+            }
+            this.flushing = Map.of();
+            return null;
+        });
+    }
+
+    /**
+     * A queued modification, either a write of an entry, or the removal of a key.
+     * @param <E> the written entry type
+     */
+    static class Modification<E> {
+        private final int segment;
+        private final E entry;
+
+        Modification(int segment, E entry) {
+            this.segment = segment;
+            this.entry = entry;
+        }
+
+        int getSegment() {
+            return this.segment;
+        }
+
+        /**
+         * Returns the written entry.
+         * @return an entry, or null, if this modification removes its key
+         */
+        E getEntry() {
+            return this.entry;
+        }
+    }
+}
@@ -120,11 +120,13 @@ public class CacheResourceDefinition<P extends CacheServiceConfiguratorProvider>
 
     private final UnaryOperator<ResourceDescriptor> configurator;
     private final ResourceServiceHandler handler;
+    private final FunctionExecutorRegistry<Cache<?, ?>> executors;
 
     public CacheResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, CacheServiceHandler<P> handler, FunctionExecutorRegistry<Cache<?, ?>> executors) {
         super(path, InfinispanExtension.SUBSYSTEM_RESOLVER.createChildResolver(path, PathElement.pathElement("cache")));
         this.configurator = configurator;
         this.handler = handler;
+        this.executors = executors;
     }
 
     @SuppressWarnings("deprecation")
@@ -153,7 +155,7 @@ public class CacheResourceDefinition<P extends CacheServiceConfiguratorProvider>
         new NoStoreResourceDefinition().register(registration);
         new CustomStoreResourceDefinition().register(registration);
         new FileStoreResourceDefinition().register(registration);
-        new JDBCStoreResourceDefinition().register(registration);
+        new JDBCStoreResourceDefinition(this.executors).register(registration);
         new RemoteStoreResourceDefinition().register(registration);
         new HotRodStoreResourceDefinition().register(registration);
 
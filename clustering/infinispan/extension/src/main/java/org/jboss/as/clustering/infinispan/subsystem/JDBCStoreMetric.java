@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.infinispan.persistence.jdbc.JDBCStore;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Enumeration of management metrics for the coalescing of modifications by a JDBC cache store.
+ */
+@SuppressWarnings("rawtypes")
+public enum JDBCStoreMetric implements Metric<JDBCStore> {
+
+    PENDING_MODIFICATIONS("pending-modifications", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC) {
+        @Override
+        public ModelNode execute(JDBCStore store) {
+            return new ModelNode(store.getPendingModifications());
+        }
+    },
+    COALESCED_MODIFICATIONS("coalesced-modifications", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC) {
+        @Override
+        public ModelNode execute(JDBCStore store) {
+            return new ModelNode(store.getCoalescedModifications());
+        }
+    },
+    FLUSHES("flushes", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC) {
+        @Override
+        public ModelNode execute(JDBCStore store) {
+            return new ModelNode(store.getFlushes());
+        }
+    },
+    AVERAGE_FLUSH_TIME("average-flush-time", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(JDBCStore store) {
+            return new ModelNode(store.getAverageFlushTime());
+        }
+    },
+    MAX_FLUSH_TIME("max-flush-time", ModelType.LONG, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(JDBCStore store) {
+            return new ModelNode(store.getMaxFlushTime());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    JDBCStoreMetric(String name, ModelType type, AttributeAccess.Flag metricType) {
+        this(name, type, metricType, null);
+    }
+
+    JDBCStoreMetric(String name, ModelType type, MeasurementUnit unit) {
+        this(name, type, AttributeAccess.Flag.GAUGE_METRIC, unit);
+    }
+
+    JDBCStoreMetric(String name, ModelType type, AttributeAccess.Flag metricType, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                .setFlags(metricType)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.Set;
+
+import org.infinispan.Cache;
+import org.infinispan.persistence.manager.PersistenceManager;
+import org.jboss.as.clustering.controller.BinaryCapabilityNameResolver;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.infinispan.persistence.jdbc.JDBCStore;
+
+/**
+ * Executor for metrics based on the JDBC store of a cache.
+ */
+@SuppressWarnings("rawtypes")
+public class JDBCStoreMetricExecutor extends CacheMetricExecutor<JDBCStore> {
+
+    public JDBCStoreMetricExecutor(FunctionExecutorRegistry<Cache<?, ?>> executors) {
+        super(executors, BinaryCapabilityNameResolver.GRANDPARENT_PARENT);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public JDBCStore apply(Cache<?, ?> cache) {
+        PersistenceManager manager = cache.getAdvancedCache().getComponentRegistry().getLocalComponent(PersistenceManager.class);
+        Set<JDBCStore> stores = (manager != null) ? manager.getStores(JDBCStore.class) : Set.of();
+        return !stores.isEmpty() ? stores.iterator().next() : null;
+    }
+}
@@ -8,10 +8,13 @@ package org.jboss.as.clustering.infinispan.subsystem;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 
+import org.infinispan.Cache;
 import org.infinispan.persistence.jdbc.common.DatabaseType;
 import org.jboss.as.clustering.controller.CapabilityReference;
 import org.jboss.as.clustering.controller.CommonUnaryRequirement;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
 import org.jboss.as.clustering.controller.ManagementResourceRegistration;
+import org.jboss.as.clustering.controller.MetricHandler;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
@@ -74,14 +77,21 @@ public class JDBCStoreResourceDefinition extends StoreResourceDefinition {
         }
     }
 
-    JDBCStoreResourceDefinition() {
+    private final FunctionExecutorRegistry<Cache<?, ?>> executors;
+
+    JDBCStoreResourceDefinition(FunctionExecutorRegistry<Cache<?, ?>> executors) {
         super(PATH, InfinispanExtension.SUBSYSTEM_RESOLVER.createChildResolver(PATH, WILDCARD_PATH), new ResourceDescriptorConfigurator(), JDBCStoreServiceConfigurator::new);
+        this.executors = executors;
     }
 
     @Override
     public ManagementResourceRegistration register(ManagementResourceRegistration parent) {
         ManagementResourceRegistration registration = super.register(parent);
 
+        if (registration.isRuntimeOnlyRegistrationValid()) {
+            new MetricHandler<>(new JDBCStoreMetricExecutor(this.executors), JDBCStoreMetric.class).register(registration);
+        }
+
         new StringTableResourceDefinition().register(registration);
 
         return registration;
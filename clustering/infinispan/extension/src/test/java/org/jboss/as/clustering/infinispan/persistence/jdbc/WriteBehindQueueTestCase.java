@@ -0,0 +1,185 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.infinispan.persistence.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.as.clustering.infinispan.persistence.jdbc.WriteBehindQueue.Modification;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WriteBehindQueue}.
+ */
+public class WriteBehindQueueTestCase {
+
+    private final List<Map<Object, String>> batches = new ArrayList<>();
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+    private CompletionStage<Void> write(Map<Object, Modification<String>> modifications) {
+        Map<Object, String> batch = new HashMap<>();
+        for (Map.Entry<Object, Modification<String>> entry : modifications.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue().getEntry());
+        }
+        this.batches.add(batch);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        this.futures.add(future);
+        return future;
+    }
+
+    private void complete(int batch) {
+        this.futures.get(batch).complete(null);
+    }
+
+    private void fail(int batch) {
+        this.futures.get(batch).completeExceptionally(new IllegalStateException());
+    }
+
+    @Test
+    public void coalesce() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(16, "cache", this::write);
+
+        assertTrue(queue.add("a", 0, "1").toCompletableFuture().isDone());
+        // First modification is written immediately
+        assertEquals(List.of(Map.of("a", "1")), this.batches);
+
+        // Modifications queued while a batch is written are coalesced into the next batch
+        queue.add("b", 0, "1");
+        queue.add("b", 1, "2");
+        queue.add("c", 0, null);
+        assertEquals(1, this.batches.size());
+        assertEquals(3, queue.getPendingModifications());
+        assertEquals(1L, queue.getCoalescedModifications());
+        assertEquals("1", queue.find("a").getEntry());
+        assertEquals("2", queue.find("b").getEntry());
+        assertNull(queue.find("c").getEntry());
+        assertNull(queue.find("d"));
+
+        this.complete(0);
+        assertEquals(2, this.batches.size());
+        assertEquals(Set.of("b", "c"), this.batches.get(1).keySet());
+        assertEquals("2", this.batches.get(1).get("b"));
+        assertNull(this.batches.get(1).get("c"));
+        assertNull(queue.find("a"));
+
+        this.complete(1);
+        assertEquals(0, queue.getPendingModifications());
+        assertEquals(2L, queue.getFlushes());
+        assertNull(queue.find("b"));
+    }
+
+    @Test
+    public void retry() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(16, "cache", this::write);
+
+        queue.add("a", 0, "1");
+        queue.add("b", 0, "1");
+        assertEquals(1, this.batches.size());
+
+        // Supersede modification of the current batch
+        queue.add("a", 0, "2");
+        // Flush remaining modifications in the second batch
+        this.complete(0);
+        assertEquals(2, this.batches.size());
+        assertEquals(Map.of("b", "1", "a", "2"), this.batches.get(1));
+
+        queue.add("b", 0, "2");
+        // Failed modifications are re-queued, unless superseded, and remain visible to reads
+        this.fail(1);
+        assertEquals("2", queue.find("a").getEntry());
+        assertEquals("2", queue.find("b").getEntry());
+        assertEquals(1L, queue.getFlushes());
+
+        // Failed modifications are retried with the next batch
+        assertEquals(3, this.batches.size());
+        assertEquals(Map.of("a", "2", "b", "2"), this.batches.get(2));
+        this.complete(2);
+        assertEquals(0, queue.getPendingModifications());
+        assertEquals(2L, queue.getFlushes());
+    }
+
+    @Test
+    public void backpressure() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(2, "cache", this::write);
+
+        queue.add("a", 0, "1");
+        assertTrue(queue.add("b", 0, "1").toCompletableFuture().isDone());
+        // Queue is full, so modification waits for the next batch
+        CompletionStage<Void> stage = queue.add("c", 0, "1");
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        this.complete(0);
+        assertEquals(Map.of("b", "1", "c", "1"), this.batches.get(1));
+        assertFalse(stage.toCompletableFuture().isDone());
+        this.complete(1);
+        assertTrue(stage.toCompletableFuture().isDone());
+    }
+
+    @Test
+    public void clear() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(16, "cache", this::write);
+
+        queue.add("a", 0, "1");
+        queue.add("b", 0, "1");
+        List<String> cleared = new ArrayList<>();
+        CompletionStage<Void> stage = queue.clearThen(() -> {
+            cleared.add("cleared");
+            return CompletableFuture.completedStage(null);
+        });
+        assertNull(queue.find("b"));
+        // Clear waits for the current batch
+        assertTrue(cleared.isEmpty());
+
+        this.complete(0);
+        assertTrue(stage.toCompletableFuture().isDone());
+        assertEquals(List.of("cleared"), cleared);
+        assertEquals(1, this.batches.size());
+    }
+
+    @Test
+    public void close() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(16, "cache", this::write);
+
+        queue.add("a", 0, "1");
+        queue.add("b", 0, "1");
+        CompletionStage<Void> stage = queue.close();
+        assertFalse(stage.toCompletableFuture().isDone());
+
+        // Close retries failed batches
+        this.fail(0);
+        this.fail(1);
+        assertEquals(Map.of("a", "1", "b", "1"), this.batches.get(2));
+        this.complete(2);
+        assertTrue(stage.toCompletableFuture().isDone());
+        assertEquals(0, queue.getPendingModifications());
+    }
+
+    @Test
+    public void closeFailure() {
+        WriteBehindQueue<String> queue = new WriteBehindQueue<>(16, "cache", this::write);
+
+        queue.add("a", 0, "1");
+        CompletionStage<Void> stage = queue.close();
+        for (int i = 0; i <= WriteBehindQueue.CLOSE_ATTEMPTS; ++i) {
+            this.fail(i);
+        }
+        // Modifications are discarded once all attempts failed
+        assertEquals(WriteBehindQueue.CLOSE_ATTEMPTS + 1, this.batches.size());
+        assertTrue(stage.toCompletableFuture().isDone());
+        assertEquals(0, queue.getPendingModifications());
+        assertNull(queue.find("a"));
+    }
+}
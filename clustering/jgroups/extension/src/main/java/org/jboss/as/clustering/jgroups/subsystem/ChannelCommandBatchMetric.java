@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.server.dispatcher.CommandBatchStatistics;
+
+/**
+ * Enumerates management metrics for the command batches sent via a channel.
+ */
+public enum ChannelCommandBatchMetric implements Metric<CommandBatchStatistics> {
+
+    BATCHES("command-batches", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getBatchCount());
+        }
+    },
+    BATCHED_COMMANDS("batched-commands", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getBatchedCommandCount());
+        }
+    },
+    AVERAGE_BATCH_SIZE("average-command-batch-size", ModelType.DOUBLE, AttributeAccess.Flag.GAUGE_METRIC) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getAverageBatchSize());
+        }
+    },
+    MAX_BATCH_SIZE("max-command-batch-size", ModelType.INT, AttributeAccess.Flag.GAUGE_METRIC) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getMaxBatchSize());
+        }
+    },
+    AVERAGE_BATCH_LATENCY("average-command-batch-latency", ModelType.LONG, AttributeAccess.Flag.GAUGE_METRIC, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getAverageBatchLatency().toMillis());
+        }
+    },
+    MAX_BATCH_LATENCY("max-command-batch-latency", ModelType.LONG, AttributeAccess.Flag.GAUGE_METRIC, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(CommandBatchStatistics statistics) {
+            return new ModelNode(statistics.getMaxBatchLatency().toMillis());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    ChannelCommandBatchMetric(String name, ModelType type, AttributeAccess.Flag metricType) {
+        this(name, type, metricType, null);
+    }
+
+    ChannelCommandBatchMetric(String name, ModelType type, AttributeAccess.Flag metricType, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type, true)
+                .setFlags(metricType)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
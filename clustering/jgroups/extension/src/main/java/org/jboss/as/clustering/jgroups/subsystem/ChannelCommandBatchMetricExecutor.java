@@ -0,0 +1,47 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.FunctionExecutor;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricFunction;
+import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.server.dispatcher.CommandBatchStatistics;
+import org.wildfly.clustering.server.service.ClusteringRequirement;
+
+/**
+ * Handler for reading the command batch metrics of the command dispatcher factory of a channel.
+ */
+public class ChannelCommandBatchMetricExecutor implements MetricExecutor<CommandBatchStatistics>, Function<CommandDispatcherFactory, CommandBatchStatistics> {
+
+    private final FunctionExecutorRegistry<CommandDispatcherFactory> executors;
+
+    public ChannelCommandBatchMetricExecutor(FunctionExecutorRegistry<CommandDispatcherFactory> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<CommandBatchStatistics> metric) throws OperationFailedException {
+        ServiceName name = ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context, UnaryCapabilityNameResolver.DEFAULT);
+        FunctionExecutor<CommandDispatcherFactory> executor = this.executors.get(name);
+        return (executor != null) ? executor.execute(new MetricFunction<>(this, metric)) : null;
+    }
+
+    @Override
+    public CommandBatchStatistics apply(CommandDispatcherFactory factory) {
+        // Statistics are null if batching is disabled
+        return (factory instanceof org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory) ? ((org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory) factory).getBatchStatistics() : null;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE;
+import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import org.jboss.as.clustering.controller.CapabilityServiceNameProvider;
+import org.jboss.as.clustering.controller.ResourceServiceConfigurator;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.jgroups.spi.CommandBatchConfiguration;
+import org.wildfly.clustering.service.ServiceConfigurator;
+
+/**
+ * Builds a service providing the command batch configuration of a channel.
+ */
+public class ChannelCommandBatchServiceConfigurator extends CapabilityServiceNameProvider implements ResourceServiceConfigurator, CommandBatchConfiguration {
+
+    private volatile Duration window;
+    private volatile int maxSize;
+
+    public ChannelCommandBatchServiceConfigurator(PathAddress address) {
+        super(ChannelResourceDefinition.Capability.JCHANNEL_COMMAND_BATCH, address);
+    }
+
+    @Override
+    public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
+        this.window = Duration.ofMillis(COMMAND_BATCH_WINDOW.resolveModelAttribute(context, model).asLong());
+        this.maxSize = COMMAND_BATCH_SIZE.resolveModelAttribute(context, model).asInt();
+        return this;
+    }
+
+    @Override
+    public ServiceBuilder<?> build(ServiceTarget target) {
+        ServiceBuilder<?> builder = target.addService(this.getServiceName());
+        Consumer<CommandBatchConfiguration> configuration = builder.provides(this.getServiceName());
+        Service service = Service.newInstance(configuration, this);
+        return builder.setInstance(service);
+    }
+
+    @Override
+    public Duration getWindow() {
+        return this.window;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+}
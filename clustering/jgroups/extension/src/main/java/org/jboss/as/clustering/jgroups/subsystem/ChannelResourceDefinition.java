@@ -18,6 +18,8 @@ import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
+import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.clustering.controller.validation.ModuleIdentifierValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
@@ -26,12 +28,14 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jgroups.JChannel;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
 import org.wildfly.clustering.server.service.ClusteringRequirement;
 import org.wildfly.clustering.service.UnaryRequirement;
@@ -55,6 +59,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
         JCHANNEL_FACTORY(JGroupsRequirement.CHANNEL_SOURCE),
         JCHANNEL_MODULE(JGroupsRequirement.CHANNEL_MODULE),
         JCHANNEL_CLUSTER(JGroupsRequirement.CHANNEL_CLUSTER),
+        JCHANNEL_COMMAND_BATCH(JGroupsRequirement.CHANNEL_COMMAND_BATCH),
         ;
         private org.jboss.as.clustering.controller.Capability capability;
 
@@ -87,6 +92,23 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
             }
         },
         CLUSTER("cluster", ModelType.STRING),
+        COMMAND_BATCH_WINDOW("command-batch-window", ModelType.LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(new ModelNode(0L))
+                        .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                        .setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
+        COMMAND_BATCH_SIZE("command-batch-size", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(new ModelNode(64))
+                        .setValidator(new IntRangeValidatorBuilder().min(1).configure(builder).build())
+                        ;
+            }
+        },
         STATISTICS_ENABLED(ModelDescriptionConstants.STATISTICS_ENABLED, ModelType.BOOLEAN) {
             @Override
             public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
@@ -124,6 +146,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
         ManagementResourceRegistration registration = parent.registerSubModel(this);
 
         ServiceValueExecutorRegistry<JChannel> executors = new ServiceValueExecutorRegistry<>();
+        ServiceValueExecutorRegistry<CommandDispatcherFactory> dispatcherFactoryExecutors = new ServiceValueExecutorRegistry<>();
         ResourceDescriptor descriptor = new ResourceDescriptor(this.getResourceDescriptionResolver())
                 .addAttributes(Attribute.class)
                 .addCapabilities(Capability.class)
@@ -131,11 +154,12 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
                 .addRuntimeResourceRegistration(new ChannelRuntimeResourceRegistration(executors))
                 .setAddOperationTransformation(DefaultStackOperationStepHandler::new)
                 ;
-        ResourceServiceHandler handler = new ChannelServiceHandler(executors);
+        ResourceServiceHandler handler = new ChannelServiceHandler(executors, dispatcherFactoryExecutors);
         new SimpleResourceRegistrar(descriptor, handler).register(registration);
 
         if (registration.isRuntimeOnlyRegistrationValid()) {
             new MetricHandler<>(new ChannelMetricExecutor(executors), ChannelMetric.class).register(registration);
+            new MetricHandler<>(new ChannelCommandBatchMetricExecutor(dispatcherFactoryExecutors), ChannelCommandBatchMetric.class).register(registration);
         }
 
         new ForkResourceDefinition(executors).register(registration);
@@ -8,6 +8,8 @@ package org.jboss.as.clustering.jgroups.subsystem;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -24,6 +26,13 @@ public class ChannelResourceTransformer implements Consumer<ModelVersion> {
 
     @Override
     public void accept(ModelVersion version) {
+        if (JGroupsSubsystemModel.VERSION_10_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE.getDefinition())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE.getDefinition())
+                    .end();
+        }
+
         new ForkResourceTransformer(this.builder).accept(version);
     }
 }
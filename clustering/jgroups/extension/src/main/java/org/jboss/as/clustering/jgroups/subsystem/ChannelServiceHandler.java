@@ -28,7 +28,9 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
 import org.jgroups.JChannel;
+import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
+import org.wildfly.clustering.server.service.ClusteringRequirement;
 import org.wildfly.clustering.server.service.DistributedGroupServiceConfiguratorProvider;
 import org.wildfly.clustering.server.service.ProvidedGroupServiceConfigurator;
 import org.wildfly.clustering.service.IdentityServiceConfigurator;
@@ -39,9 +41,11 @@ import org.wildfly.clustering.service.IdentityServiceConfigurator;
 public class ChannelServiceHandler implements ResourceServiceHandler {
 
     private final ServiceValueRegistry<JChannel> registry;
+    private final ServiceValueRegistry<CommandDispatcherFactory> dispatcherFactoryRegistry;
 
-    public ChannelServiceHandler(ServiceValueRegistry<JChannel> registry) {
+    public ChannelServiceHandler(ServiceValueRegistry<JChannel> registry, ServiceValueRegistry<CommandDispatcherFactory> dispatcherFactoryRegistry) {
         this.registry = registry;
+        this.dispatcherFactoryRegistry = dispatcherFactoryRegistry;
     }
 
     @Override
@@ -53,6 +57,7 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         ServiceTarget target = context.getServiceTarget();
 
         new ChannelClusterServiceConfigurator(address).configure(context, model).build(target).install();
+        new ChannelCommandBatchServiceConfigurator(address).configure(context, model).build(target).install();
         ChannelServiceConfigurator channelBuilder = new ChannelServiceConfigurator(JCHANNEL, address).statisticsEnabled(STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
         channelBuilder.configure(context, model).build(target).install();
         new IdentityServiceConfigurator<>(JCHANNEL_FACTORY.getServiceName(address), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, stack)).build(target).install();
@@ -60,6 +65,7 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         new ModuleServiceConfigurator(JCHANNEL_MODULE.getServiceName(address), MODULE).configure(context, model).build(target).setInitialMode(ServiceController.Mode.PASSIVE).install();
 
         new ServiceValueCaptorServiceConfigurator<>(this.registry.add(channelBuilder.getServiceName())).build(target).install();
+        new ServiceValueCaptorServiceConfigurator<>(this.dispatcherFactoryRegistry.add(ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context, name))).build(target).install();
 
         new BinderServiceConfigurator(JGroupsBindingFactory.createChannelBinding(name), JGroupsRequirement.CHANNEL.getServiceName(context, name)).build(target).install();
         new BinderServiceConfigurator(JGroupsBindingFactory.createChannelFactoryBinding(name), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, name)).build(target).install();
@@ -84,5 +90,6 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         new ProvidedGroupServiceConfigurator<>(DistributedGroupServiceConfiguratorProvider.class, name).remove(context);
 
         context.removeService(new ServiceValueCaptorServiceConfigurator<>(this.registry.remove(JCHANNEL.getServiceName(address))).getServiceName());
+        context.removeService(new ServiceValueCaptorServiceConfigurator<>(this.dispatcherFactoryRegistry.remove(ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context, name))).getServiceName());
     }
 }
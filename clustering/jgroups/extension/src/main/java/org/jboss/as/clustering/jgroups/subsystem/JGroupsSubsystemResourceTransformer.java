@@ -22,10 +22,8 @@ public class JGroupsSubsystemResourceTransformer implements Function<ModelVersio
 
     @Override
     public TransformationDescription apply(ModelVersion version) {
-        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
-
         new ChannelResourceTransformer(this.builder).accept(version);
 
-        return builder.build();
+        return this.builder.build();
     }
 }
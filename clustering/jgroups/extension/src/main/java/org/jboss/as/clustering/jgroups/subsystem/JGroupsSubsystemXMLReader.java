@@ -169,6 +169,18 @@ public class JGroupsSubsystemXMLReader implements XMLElementReader<List<ModelNod
                         break;
                     }
                 }
+                case COMMAND_BATCH_WINDOW: {
+                    if (this.schema.since(JGroupsSubsystemSchema.VERSION_10_0)) {
+                        readAttribute(reader, i, operation, ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW);
+                        break;
+                    }
+                }
+                case COMMAND_BATCH_SIZE: {
+                    if (this.schema.since(JGroupsSubsystemSchema.VERSION_10_0)) {
+                        readAttribute(reader, i, operation, ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE);
+                        break;
+                    }
+                }
                 default: {
                     throw ParseUtils.unexpectedAttribute(reader, i);
                 }
@@ -18,6 +18,8 @@ public enum XMLAttribute {
     CHANNEL(RemoteSiteResourceDefinition.Attribute.CHANNEL),
     CLIENT_SOCKET_BINDING(SocketProtocolResourceDefinition.Attribute.CLIENT_SOCKET_BINDING),
     CLUSTER(ChannelResourceDefinition.Attribute.CLUSTER),
+    COMMAND_BATCH_SIZE(ChannelResourceDefinition.Attribute.COMMAND_BATCH_SIZE),
+    COMMAND_BATCH_WINDOW(ChannelResourceDefinition.Attribute.COMMAND_BATCH_WINDOW),
     DATA_SOURCE(JDBCProtocolResourceDefinition.Attribute.DATA_SOURCE),
     @Deprecated DEFAULT_EXECUTOR("default-executor"),
     @Deprecated DEFAULT_STACK("default-stack"),
@@ -0,0 +1,26 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.jgroups.spi;
+
+import java.time.Duration;
+
+/**
+ * Configures the batching of the commands sent by the command dispatchers of a channel.
+ */
+public interface CommandBatchConfiguration {
+
+    /**
+     * Returns the duration for which commands submitted for the same member are accumulated into a single batch.
+     * @return a duration, where zero disables batching
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of commands per batch.
+     * @return a number of commands
+     */
+    int getMaxSize();
+}
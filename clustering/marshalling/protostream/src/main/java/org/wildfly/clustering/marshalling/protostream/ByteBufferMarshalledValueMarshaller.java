@@ -38,10 +38,11 @@ public class ByteBufferMarshalledValueMarshaller implements ProtoStreamMarshalle
 
     @Override
     public void writeTo(ProtoStreamWriter writer, ByteBufferMarshalledValue<Object> key) throws IOException {
-        ByteBuffer buffer = key.getBuffer();
-        if (buffer != null) {
-            writer.writeBytes(BUFFER_INDEX, buffer);
-        }
+        key.writeTo(buffer -> {
+            if (buffer != null) {
+                writer.writeBytes(BUFFER_INDEX, buffer);
+            }
+        });
     }
 
     @Override
@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Consumes a marshalled {@link ByteBuffer} whose backing storage is only valid for the duration of {@link #accept(ByteBuffer)}.
+ * Implementations must not retain a reference to the buffer, nor to its backing array, once this method returns.
+ */
+@FunctionalInterface
+public interface ByteBufferConsumer {
+
+    /**
+     * Consumes the specified buffer.
+     * @param buffer a byte buffer, or null, if there is nothing to consume
+     * @throws IOException if the buffer could not be consumed
+     */
+    void accept(ByteBuffer buffer) throws IOException;
+}
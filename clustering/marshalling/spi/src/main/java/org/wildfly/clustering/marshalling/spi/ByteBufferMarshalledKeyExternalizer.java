@@ -19,7 +19,7 @@ public class ByteBufferMarshalledKeyExternalizer implements Externalizer<ByteBuf
 
     @Override
     public void writeObject(ObjectOutput output, ByteBufferMarshalledKey<Object> value) throws IOException {
-        ByteBufferMarshalledValueExternalizer.writeBuffer(output, value.getBuffer());
+        value.writeTo(buffer -> ByteBufferMarshalledValueExternalizer.writeBuffer(output, buffer));
         output.writeInt(value.hashCode());
     }
 
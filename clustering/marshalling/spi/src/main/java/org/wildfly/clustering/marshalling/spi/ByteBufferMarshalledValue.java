@@ -71,6 +71,21 @@ public class ByteBufferMarshalledValue<T> implements MarshalledValue<T, ByteBuff
         return buffer;
     }
 
+    /**
+     * Passes the marshalled form of this value to the specified consumer.
+     * If this value is not already marshalled, the wrapped object is marshalled to a pooled buffer, which is only valid for the duration of the consumer.
+     * @param consumer a consumer of the buffer of this value, which is passed null if this value is empty
+     * @throws IOException if this value could not be marshalled, or if the buffer could not be consumed
+     */
+    public synchronized void writeTo(ByteBufferConsumer consumer) throws IOException {
+        ByteBuffer buffer = this.buffer;
+        if ((buffer == null) && (this.object != null)) {
+            this.marshaller.write(this.object, consumer);
+        } else {
+            consumer.accept(buffer);
+        }
+    }
+
     public synchronized OptionalInt size() {
         // N.B. Buffer position is guarded by synchronization on this object
         // We invalidate buffer upon reading it, ensuring that ByteBuffer.remaining() returns the effective buffer size
@@ -124,7 +139,7 @@ public class ByteBufferMarshalledValue<T> implements MarshalledValue<T, ByteBuff
 
     private void writeObject(ObjectOutputStream out) throws IOException {
         out.defaultWriteObject();
-        ByteBufferMarshalledValueExternalizer.writeBuffer(out, this.getBuffer());
+        this.writeTo(buffer -> ByteBufferMarshalledValueExternalizer.writeBuffer(out, buffer));
     }
 
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
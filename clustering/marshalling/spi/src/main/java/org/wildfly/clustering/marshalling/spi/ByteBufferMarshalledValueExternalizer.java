@@ -43,7 +43,7 @@ public class ByteBufferMarshalledValueExternalizer implements Externalizer<ByteB
 
     @Override
     public void writeObject(ObjectOutput output, ByteBufferMarshalledValue<Object> object) throws IOException {
-        writeBuffer(output, object.getBuffer());
+        object.writeTo(buffer -> writeBuffer(output, buffer));
     }
 
     @SuppressWarnings("unchecked")
@@ -49,19 +49,31 @@ public interface ByteBufferMarshaller extends Marshaller<Object, ByteBuffer> {
         try (ByteBufferOutputStream output = new ByteBufferOutputStream(size)) {
             this.writeTo(output, object);
             ByteBuffer buffer = output.getBuffer();
-            if (size.isPresent()) {
-                int predictedSize = size.getAsInt();
-                int actualSize = buffer.limit() - buffer.arrayOffset();
-                if (predictedSize < actualSize) {
-                    LOGGER.debugf("Buffer size prediction too small for %s (%s), predicted = %d, actual = %d", object, (object != null) ? object.getClass().getCanonicalName() : null, predictedSize, actualSize);
-                }
-            } else {
-                LOGGER.tracef("Buffer size prediction missing for %s (%s)", object, (object != null) ? object.getClass().getCanonicalName() : null);
-            }
+            verifySize(object, size, buffer);
             return buffer;
         }
     }
 
+    /**
+     * Writes the specified object to a pooled buffer, which is passed to the specified consumer.
+     * Unlike {@link #write(Object)}, this avoids allocating a new buffer per object, but the buffer is only valid for the duration of {@link ByteBufferConsumer#accept(ByteBuffer)}.
+     * @param object an object to marshal
+     * @param consumer a consumer of the marshalled buffer
+     * @throws IOException if the object could not be written, or if the buffer could not be consumed
+     */
+    default void write(Object object, ByteBufferConsumer consumer) throws IOException {
+        OptionalInt size = this.size(object);
+        ByteBufferOutputStream output = ByteBufferOutputStreamPool.INSTANCE.acquire(size);
+        try {
+            this.writeTo(output, object);
+            ByteBuffer buffer = output.getBuffer();
+            verifySize(object, size, buffer);
+            consumer.accept(buffer);
+        } finally {
+            ByteBufferOutputStreamPool.INSTANCE.release(output);
+        }
+    }
+
     /**
      * Returns the marshalled size of the specified object.
      * @param buffer a byte buffer
@@ -70,4 +82,16 @@ public interface ByteBufferMarshaller extends Marshaller<Object, ByteBuffer> {
     default OptionalInt size(Object object) {
         return OptionalInt.empty();
     }
+
+    private static void verifySize(Object object, OptionalInt size, ByteBuffer buffer) {
+        if (size.isPresent()) {
+            int predictedSize = size.getAsInt();
+            int actualSize = buffer.limit() - buffer.arrayOffset();
+            if (predictedSize < actualSize) {
+                LOGGER.debugf("Buffer size prediction too small for %s (%s), predicted = %d, actual = %d", object, (object != null) ? object.getClass().getCanonicalName() : null, predictedSize, actualSize);
+            }
+        } else {
+            LOGGER.tracef("Buffer size prediction missing for %s (%s)", object, (object != null) ? object.getClass().getCanonicalName() : null);
+        }
+    }
 }
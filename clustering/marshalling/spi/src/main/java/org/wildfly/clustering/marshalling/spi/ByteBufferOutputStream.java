@@ -34,4 +34,12 @@ public final class ByteBufferOutputStream extends ByteArrayOutputStream {
     public ByteBuffer getBuffer() {
         return ByteBuffer.wrap(this.buf, 0, this.count);
     }
+
+    /**
+     * Returns the length of the internal buffer of this output stream.
+     * @return the capacity of this output stream
+     */
+    int capacity() {
+        return this.buf.length;
+    }
 }
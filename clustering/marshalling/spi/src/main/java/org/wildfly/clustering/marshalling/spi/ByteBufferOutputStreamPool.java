@@ -0,0 +1,110 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded pool of reusable {@link ByteBufferOutputStream} instances, grouped into power-of-two size classes.
+ * Streams whose capacity exceeds the largest size class are never pooled.
+ */
+public class ByteBufferOutputStreamPool {
+    /**
+     * The default maximum number of pooled streams per size class, i.e. twice the number of available processors.
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    static final ByteBufferOutputStreamPool INSTANCE = new ByteBufferOutputStreamPool(DEFAULT_CAPACITY);
+
+    // 512 bytes, i.e. the default ByteBufferOutputStream size
+    static final int MIN_SIZE_SHIFT = 9;
+    // 64 KiB
+    static final int MAX_SIZE_SHIFT = 16;
+
+    private volatile int capacity;
+    private final Queue<ByteBufferOutputStream>[] pools;
+    private final AtomicInteger[] sizes;
+
+    /**
+     * Creates a pool retaining, at most, the specified number of streams per size class.
+     * @param capacity the maximum number of pooled streams per size class
+     */
+    @SuppressWarnings("unchecked")
+    ByteBufferOutputStreamPool(int capacity) {
+        this.capacity = capacity;
+        int classes = MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1;
+        this.pools = new Queue[classes];
+        this.sizes = new AtomicInteger[classes];
+        for (int i = 0; i < classes; ++i) {
+            this.pools[i] = new ConcurrentLinkedQueue<>();
+            this.sizes[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * Configures the maximum number of pooled streams per size class of the pool shared by all {@link ByteBufferMarshaller} instances.
+     * @param capacity the maximum number of pooled streams per size class, or 0, to disable pooling
+     */
+    public static void setCapacity(int capacity) {
+        INSTANCE.resize(capacity);
+    }
+
+    /**
+     * Changes the maximum number of pooled streams per size class, discarding any excess pooled streams.
+     * @param capacity the maximum number of pooled streams per size class
+     */
+    void resize(int capacity) {
+        this.capacity = capacity;
+        for (int i = 0; i < this.pools.length; ++i) {
+            while ((this.sizes[i].get() > Math.max(capacity, 0)) && (this.pools[i].poll() != null)) {
+                this.sizes[i].decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Acquires an empty stream capable of holding the specified number of bytes without reallocation.
+     * @param size the predicted size
+     * @return an empty output stream
+     */
+    ByteBufferOutputStream acquire(OptionalInt size) {
+        int requested = size.orElse(1 << MIN_SIZE_SHIFT);
+        // Smallest size class that can hold the requested size
+        int shift = Math.max(MIN_SIZE_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(requested, 1) - 1));
+        if ((this.capacity <= 0) || (shift > MAX_SIZE_SHIFT)) {
+            return new ByteBufferOutputStream(requested);
+        }
+        int index = shift - MIN_SIZE_SHIFT;
+        ByteBufferOutputStream stream = this.pools[index].poll();
+        if (stream != null) {
+            this.sizes[index].decrementAndGet();
+            return stream;
+        }
+        return new ByteBufferOutputStream(1 << shift);
+    }
+
+    /**
+     * Releases the specified stream to this pool.
+     * The caller must not reference the stream, nor any buffer obtained from it, following this method.
+     * @param stream a stream previously obtained via {@link #acquire(OptionalInt)}
+     */
+    void release(ByteBufferOutputStream stream) {
+        if (this.capacity <= 0) return;
+        // Largest size class that the capacity of this stream satisfies, as the stream may have grown while writing
+        int shift = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(stream.capacity());
+        if ((shift < MIN_SIZE_SHIFT) || (shift > MAX_SIZE_SHIFT)) return;
+        int index = shift - MIN_SIZE_SHIFT;
+        if (this.sizes[index].incrementAndGet() <= this.capacity) {
+            stream.reset();
+            this.pools[index].offer(stream);
+        } else {
+            this.sizes[index].decrementAndGet();
+        }
+    }
+}
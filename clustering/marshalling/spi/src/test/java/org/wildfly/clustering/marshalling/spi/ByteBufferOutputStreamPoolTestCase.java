@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.marshalling.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ByteBufferOutputStreamPool}.
+ */
+public class ByteBufferOutputStreamPoolTestCase {
+
+    @Test
+    public void acquire() {
+        ByteBufferOutputStreamPool pool = new ByteBufferOutputStreamPool(1);
+
+        assertEquals(512, pool.acquire(OptionalInt.empty()).capacity());
+        assertEquals(512, pool.acquire(OptionalInt.of(1)).capacity());
+        assertEquals(1024, pool.acquire(OptionalInt.of(513)).capacity());
+        assertEquals(65536, pool.acquire(OptionalInt.of(65536)).capacity());
+        // Larger than largest size class
+        assertEquals(65537, pool.acquire(OptionalInt.of(65537)).capacity());
+    }
+
+    @Test
+    public void release() {
+        ByteBufferOutputStreamPool pool = new ByteBufferOutputStreamPool(1);
+
+        ByteBufferOutputStream stream = pool.acquire(OptionalInt.of(1000));
+        stream.write(new byte[1000], 0, 1000);
+        pool.release(stream);
+
+        // Released stream is reset and reused
+        ByteBufferOutputStream reused = pool.acquire(OptionalInt.of(1000));
+        assertSame(stream, reused);
+        assertEquals(0, reused.size());
+
+        // Pool is bounded per size class
+        ByteBufferOutputStream other = pool.acquire(OptionalInt.of(1000));
+        assertNotSame(stream, other);
+        pool.release(reused);
+        pool.release(other);
+        assertSame(reused, pool.acquire(OptionalInt.of(1000)));
+        assertNotSame(other, pool.acquire(OptionalInt.of(1000)));
+
+        // A grown stream is pooled according to its new capacity
+        ByteBufferOutputStream grown = pool.acquire(OptionalInt.of(512));
+        grown.write(new byte[2048], 0, 2048);
+        assertTrue(grown.capacity() >= 2048);
+        pool.release(grown);
+        assertNotSame(grown, pool.acquire(OptionalInt.of(512)));
+        assertSame(grown, pool.acquire(OptionalInt.of(2048)));
+
+        // Streams larger than largest size class are not pooled
+        ByteBufferOutputStream large = pool.acquire(OptionalInt.of(65537));
+        pool.release(large);
+        assertNotSame(large, pool.acquire(OptionalInt.of(65537)));
+    }
+
+    @Test
+    public void resize() {
+        ByteBufferOutputStreamPool pool = new ByteBufferOutputStreamPool(2);
+
+        ByteBufferOutputStream stream1 = pool.acquire(OptionalInt.of(100));
+        ByteBufferOutputStream stream2 = pool.acquire(OptionalInt.of(100));
+        pool.release(stream1);
+        pool.release(stream2);
+
+        // Excess pooled streams are discarded
+        pool.resize(1);
+        assertSame(stream2, pool.acquire(OptionalInt.of(100)));
+        assertNotSame(stream1, pool.acquire(OptionalInt.of(100)));
+
+        // Pooling is disabled, and pooled streams are discarded
+        pool.release(stream2);
+        pool.resize(0);
+        assertNotSame(stream2, pool.acquire(OptionalInt.of(100)));
+        pool.release(stream2);
+        assertNotSame(stream2, pool.acquire(OptionalInt.of(100)));
+
+        // Pooling is re-enabled
+        pool.resize(1);
+        pool.release(stream1);
+        assertSame(stream1, pool.acquire(OptionalInt.of(100)));
+    }
+
+    @Test
+    public void disabled() {
+        ByteBufferOutputStreamPool pool = new ByteBufferOutputStreamPool(0);
+
+        ByteBufferOutputStream stream = pool.acquire(OptionalInt.of(100));
+        assertEquals(100, stream.capacity());
+        pool.release(stream);
+        assertNotSame(stream, pool.acquire(OptionalInt.of(100)));
+    }
+}
@@ -35,6 +35,22 @@ public interface CommandDispatcher<C> extends AutoCloseable {
      */
     <R> CompletionStage<R> executeOnMember(Command<R, ? super C> command, Node member) throws CommandDispatcherException;
 
+    /**
+     * Submits the specified command for execution on the specified group member.
+     * Unlike {@link #executeOnMember(Command, Node)}, the command may be deferred briefly, so that it can be sent to the member together with other commands submitted for the same member.
+     * If the member has no corresponding dispatcher, the returned completion stage throws a {@link java.util.concurrent.CancellationException}.
+     * By default, the command is executed immediately.
+     *
+     * @param <R> the command execution return type
+     * @param command the command to execute
+     * @param member the group member on which to execute the command
+     * @return the future result of the command execution
+     * @throws CommandDispatcherException if the command could not be sent
+     */
+    default <R> CompletionStage<R> submitOnMember(Command<R, ? super C> command, Node member) throws CommandDispatcherException {
+        return this.executeOnMember(command, member);
+    }
+
     /**
      * Executes the specified command on all members of the group, optionally excluding some members.
      * If a given member has no corresponding dispatcher, its completion stage throws a {@link java.util.concurrent.CancellationException}.
@@ -0,0 +1,48 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Command that executes a batch of commands, in order, returning the result of each command.
+ * The exception thrown by any given command is returned in place of its result, so that it does not prevent execution of subsequent commands.
+ * @param <C> the command context type
+ */
+public class BatchCommand<C> implements Command<List<Object>, C> {
+    private static final long serialVersionUID = -3290853716373264406L;
+
+    private final List<Command<?, ? super C>> commands;
+
+    public BatchCommand(List<Command<?, ? super C>> commands) {
+        this.commands = commands;
+    }
+
+    List<Command<?, ? super C>> getCommands() {
+        return this.commands;
+    }
+
+    @Override
+    public List<Object> execute(C context) {
+        List<Object> results = new ArrayList<>(this.commands.size());
+        for (Command<?, ? super C> command : this.commands) {
+            try {
+                results.add(command.execute(context));
+            } catch (Exception e) {
+                results.add(e);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%s", this.getClass().getSimpleName(), this.commands);
+    }
+}
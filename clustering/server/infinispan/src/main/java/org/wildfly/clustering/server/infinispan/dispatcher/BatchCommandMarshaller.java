@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
+
+/**
+ * ProtoStream marshaller for a {@link BatchCommand}.
+ */
+public class BatchCommandMarshaller implements ProtoStreamMarshaller<BatchCommand<Object>> {
+
+    private static final int COMMAND_INDEX = 1;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Class<? extends BatchCommand<Object>> getJavaClass() {
+        return (Class<BatchCommand<Object>>) (Class<?>) BatchCommand.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public BatchCommand<Object> readFrom(ProtoStreamReader reader) throws IOException {
+        List<Command<?, ? super Object>> commands = new ArrayList<>();
+        while (!reader.isAtEnd()) {
+            int tag = reader.readTag();
+            switch (WireType.getTagFieldNumber(tag)) {
+                case COMMAND_INDEX:
+                    commands.add((Command<?, ? super Object>) reader.readAny());
+                    break;
+                default:
+                    reader.skipField(tag);
+            }
+        }
+        return new BatchCommand<>(commands);
+    }
+
+    @Override
+    public void writeTo(ProtoStreamWriter writer, BatchCommand<Object> command) throws IOException {
+        for (Command<?, ? super Object> subcommand : command.getCommands()) {
+            writer.writeAny(COMMAND_INDEX, subcommand);
+        }
+    }
+}
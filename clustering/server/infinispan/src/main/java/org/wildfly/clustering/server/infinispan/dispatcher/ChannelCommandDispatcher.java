@@ -16,6 +16,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.jgroups.Address;
 import org.jgroups.BytesMessage;
@@ -33,6 +34,8 @@ import org.wildfly.clustering.server.infinispan.group.JGroupsAddressResolver;
 
 /**
  * MessageDispatcher-based command dispatcher.
+ * If constructed with a batcher factory, commands submitted via {@link #submitOnMember(Command, Node)} are sent to each member in batches.
+ * Commands executed via {@link #executeOnMember(Command, Node)} are then sent together with any pending batch of their member, so that they are never sent before a previously submitted command.
  * @author Paul Ferraro
  *
  * @param <CC> command execution context
@@ -60,8 +63,13 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
     private final Runnable closeTask;
     private final Address localAddress;
     private final RequestOptions options;
+    private final CommandBatcher<CC, Address> batcher;
 
     public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, CommandDispatcher<CC> localDispatcher, Runnable closeTask) {
+        this(dispatcher, marshaller, context, group, timeout, localDispatcher, closeTask, null);
+    }
+
+    public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, CommandDispatcher<CC> localDispatcher, Runnable closeTask, Function<CommandBatcher.Sender<CC, Address>, CommandBatcher<CC, Address>> batcherFactory) {
         this.dispatcher = dispatcher;
         this.marshaller = marshaller;
         this.context = context;
@@ -71,6 +79,7 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         this.closeTask = closeTask;
         this.localAddress = dispatcher.getChannel().getAddress();
         this.options = new RequestOptions(ResponseMode.GET_ALL, this.timeout.toMillis(), false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+        this.batcher = (batcherFactory != null) ? batcherFactory.apply(this::send) : null;
     }
 
     @Override
@@ -80,6 +89,9 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
 
     @Override
     public void close() {
+        if (this.batcher != null) {
+            this.batcher.close();
+        }
         this.closeTask.run();
     }
 
@@ -90,6 +102,25 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         if (this.localAddress.equals(address)) {
             return this.localDispatcher.executeOnMember(command, member);
         }
+        if (this.batcher != null) {
+            // Ensure command is not sent before any pending command for the same member
+            CompletionStage<R> result = this.batcher.flushWith(command, address);
+            if (result != null) return result;
+        }
+        return this.send(command, address);
+    }
+
+    @Override
+    public <R> CompletionStage<R> submitOnMember(Command<R, ? super CC> command, Node member) throws CommandDispatcherException {
+        Address address = JGroupsAddressResolver.INSTANCE.apply(member);
+        // Local commands gain nothing from batching
+        if ((this.batcher == null) || this.localAddress.equals(address)) {
+            return this.executeOnMember(command, member);
+        }
+        return this.batcher.submit(command, address);
+    }
+
+    private <R> CompletionStage<R> send(Command<R, ? super CC> command, Address address) throws CommandDispatcherException {
         ByteBuffer buffer = this.createBuffer(command);
         Message message = this.createMessage(buffer, address);
         ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, this.options, this.context);
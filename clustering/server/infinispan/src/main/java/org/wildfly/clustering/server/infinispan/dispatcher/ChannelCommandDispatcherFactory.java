@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -52,6 +53,7 @@ import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
 import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
+import org.wildfly.clustering.server.dispatcher.CommandBatchStatistics;
 import org.wildfly.clustering.server.infinispan.ClusteringServerLogger;
 import org.wildfly.clustering.server.infinispan.group.AddressableNode;
 import org.wildfly.clustering.server.infinispan.group.GroupListenerNotificationTask;
@@ -74,6 +76,7 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     private final ConcurrentMap<Address, Node> members = new ConcurrentHashMap<>();
     private final Map<Object, CommandDispatcherContext<?, ?>> contexts = new ConcurrentHashMap<>();
     private final ExecutorService executorService = Executors.newCachedThreadPool(THREAD_FACTORY);
+    private final CommandBatchRecorder batchRecorder = new CommandBatchRecorder();
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final Map<GroupListener, ExecutorService> listeners = new ConcurrentHashMap<>();
     private final AtomicReference<View> view = new AtomicReference<>();
@@ -81,12 +84,19 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     private final MessageDispatcher dispatcher;
     private final Duration timeout;
     private final Function<ClassLoader, ByteBufferMarshaller> marshallerFactory;
+    private final Duration batchWindow;
+    private final int batchSize;
+    // Sends pending command batches, if batching is enabled
+    private final ScheduledExecutorService batchExecutor;
 
     @SuppressWarnings("resource")
     public ChannelCommandDispatcherFactory(ChannelCommandDispatcherFactoryConfiguration config) {
         this.marshaller = config.getMarshaller();
         this.timeout = config.getTimeout();
         this.marshallerFactory = config.getMarshallerFactory();
+        this.batchWindow = config.getCommandBatchWindow();
+        this.batchSize = config.getCommandBatchSize();
+        this.batchExecutor = !this.batchWindow.isZero() ? Executors.newSingleThreadScheduledExecutor(THREAD_FACTORY) : null;
         JChannel channel = config.getChannel();
         RequestCorrelator correlator = new CommandDispatcherRequestCorrelator(channel, this, config);
         this.dispatcher = new MessageDispatcher()
@@ -103,6 +113,9 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     @Override
     public void run() {
         this.shutdown(this.executorService);
+        if (this.batchExecutor != null) {
+            this.shutdown(this.batchExecutor);
+        }
         this.dispatcher.stop();
         this.dispatcher.getChannel().setUpHandler(null);
         // Cleanup any stray listeners
@@ -211,7 +224,12 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
         return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, localDispatcher, () -> {
             localDispatcher.close();
             this.contexts.remove(id);
-        });
+        }, (this.batchExecutor != null) ? sender -> new CommandBatcher<>(sender, this.batchExecutor, this.batchWindow, this.batchSize, this.batchRecorder) : null);
+    }
+
+    @Override
+    public CommandBatchStatistics getBatchStatistics() {
+        return this.batchRecorder;
     }
 
     @Override
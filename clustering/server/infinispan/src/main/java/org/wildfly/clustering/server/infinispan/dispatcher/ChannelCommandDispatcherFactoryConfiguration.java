@@ -22,4 +22,16 @@ public interface ChannelCommandDispatcherFactoryConfiguration {
     ByteBufferMarshaller getMarshaller();
     Duration getTimeout();
     Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the duration for which commands submitted for the same member are accumulated into a single batch.
+     * @return a duration, where zero disables batching
+     */
+    Duration getCommandBatchWindow();
+
+    /**
+     * Returns the maximum number of commands per batch.
+     * @return a number of commands
+     */
+    int getCommandBatchSize();
 }
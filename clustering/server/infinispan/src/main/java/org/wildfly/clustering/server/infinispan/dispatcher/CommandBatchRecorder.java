@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.clustering.server.dispatcher.CommandBatchStatistics;
+
+/**
+ * Records the command batches sent by any number of {@link CommandBatcher} instances.
+ */
+class CommandBatchRecorder implements CommandBatchStatistics {
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder commandCount = new LongAdder();
+    private final AtomicInteger maxBatchSize = new AtomicInteger();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    /**
+     * Records a sent batch.
+     * @param size the number of commands of the batch
+     * @param latency the duration, in nanoseconds, between the submission of the first command of the batch and the receipt of the batch response
+     */
+    void record(int size, long latency) {
+        this.batchCount.increment();
+        this.commandCount.add(size);
+        this.maxBatchSize.accumulateAndGet(size, Math::max);
+        this.totalLatency.add(latency);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    @Override
+    public long getBatchCount() {
+        return this.batchCount.sum();
+    }
+
+    @Override
+    public long getBatchedCommandCount() {
+        return this.commandCount.sum();
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return this.maxBatchSize.get();
+    }
+
+    @Override
+    public Duration getAverageBatchLatency() {
+        long batches = this.batchCount.sum();
+        return Duration.ofNanos((batches > 0) ? this.totalLatency.sum() / batches : 0);
+    }
+
+    @Override
+    public Duration getMaxBatchLatency() {
+        return Duration.ofNanos(this.maxLatency.get());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+
+/**
+ * Accumulates the commands submitted for a given destination, and sends them as a single {@link BatchCommand}
+ * once the batch window of the first command elapses, or once the batch reaches its maximum size, whichever occurs first.
+ * Commands that cannot be deferred may be appended to the pending batch of their destination, so that they execute after any previously submitted command.
+ * @param <C> the command context type
+ * @param <D> the destination type
+ */
+public class CommandBatcher<C, D> implements AutoCloseable {
+
+    /**
+     * Sends a batch of commands to a destination.
+     * @param <C> the command context type
+     * @param <D> the destination type
+     */
+    public interface Sender<C, D> {
+        CompletionStage<List<Object>> send(BatchCommand<C> command, D destination) throws CommandDispatcherException;
+    }
+
+    private final Map<D, Batch<C>> batches = new ConcurrentHashMap<>();
+    private final Sender<C, D> sender;
+    private final ScheduledExecutorService executor;
+    private final Duration window;
+    private final int maxSize;
+    private final CommandBatchRecorder recorder;
+
+    /**
+     * Creates a command batcher.
+     * @param sender the sender of each batch
+     * @param executor the executor used to send each batch once its batch window elapses
+     * @param window the duration for which commands are accumulated
+     * @param maxSize the maximum number of commands per batch
+     * @param recorder records each sent batch
+     */
+    CommandBatcher(Sender<C, D> sender, ScheduledExecutorService executor, Duration window, int maxSize, CommandBatchRecorder recorder) {
+        this.sender = sender;
+        this.executor = executor;
+        this.window = window;
+        this.maxSize = Math.max(maxSize, 1);
+        this.recorder = recorder;
+    }
+
+    /**
+     * Submits the specified command for execution on the specified destination.
+     * @param <R> the command execution return type
+     * @param command a command
+     * @param destination the destination of the command
+     * @return the future result of the command execution
+     */
+    public <R> CompletionStage<R> submit(Command<R, ? super C> command, D destination) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        while (true) {
+            Batch<C> batch = this.batches.computeIfAbsent(destination, key -> new Batch<>());
+            int size = batch.add(command, future);
+            if (size > 0) {
+                if (size == 1) {
+                    batch.schedule(this.executor, () -> this.flush(destination, batch), this.window);
+                }
+                if (size >= this.maxSize) {
+                    this.flush(destination, batch);
+                }
+                return future;
+            }
+            // Batch was flushed concurrently
+            this.batches.remove(destination, batch);
+        }
+    }
+
+    /**
+     * Appends the specified command to the pending batch of the specified destination, if any, and sends that batch immediately.
+     * Thus the specified command executes on its destination after any command previously submitted for the same destination.
+     * @param <R> the command execution return type
+     * @param command a command
+     * @param destination the destination of the command
+     * @return the future result of the command execution, or null, if no batch is pending for the specified destination
+     */
+    public <R> CompletionStage<R> flushWith(Command<R, ? super C> command, D destination) {
+        Batch<C> batch = this.batches.get(destination);
+        if (batch == null) return null;
+        CompletableFuture<R> future = new CompletableFuture<>();
+        // Batch may have been sent concurrently
+        if (batch.add(command, future) == 0) return null;
+        this.flush(destination, batch);
+        return future;
+    }
+
+    /**
+     * Sends all pending batches.
+     */
+    @Override
+    public void close() {
+        for (Map.Entry<D, Batch<C>> entry : this.batches.entrySet()) {
+            this.flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void flush(D destination, Batch<C> batch) {
+        this.batches.remove(destination, batch);
+        List<Map.Entry<Command<?, ? super C>, CompletableFuture<Object>>> entries = batch.close();
+        if (entries == null) return;
+        List<Command<?, ? super C>> commands = new ArrayList<>(entries.size());
+        for (Map.Entry<Command<?, ? super C>, CompletableFuture<Object>> entry : entries) {
+            commands.add(entry.getKey());
+        }
+        try {
+            this.sender.send(new BatchCommand<>(commands), destination).whenComplete((results, exception) -> {
+                this.recorder.record(entries.size(), System.nanoTime() - batch.getStartTime());
+                for (int i = 0; i < entries.size(); ++i) {
+                    CompletableFuture<Object> future = entries.get(i).getValue();
+                    Object result = (results != null) && (i < results.size()) ? results.get(i) : null;
+                    if (exception != null) {
+                        future.completeExceptionally(exception);
+                    } else if (result instanceof Throwable) {
+                        future.completeExceptionally((Throwable) result);
+                    } else {
+                        future.complete(result);
+                    }
+                }
+            });
+        } catch (CommandDispatcherException | RuntimeException e) {
+            for (Map.Entry<Command<?, ? super C>, CompletableFuture<Object>> entry : entries) {
+                entry.getValue().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The pending commands for a given destination.
+     * All fields, other than the start time, are guarded by the batch itself.
+     */
+    private static class Batch<C> {
+        private final long startTime = System.nanoTime();
+        private List<Map.Entry<Command<?, ? super C>, CompletableFuture<Object>>> entries = new ArrayList<>();
+        private Future<?> task;
+
+        long getStartTime() {
+            return this.startTime;
+        }
+
+        /**
+         * Adds the specified command to this batch.
+         * @return the size of this batch, or 0, if this batch was already closed
+         */
+        @SuppressWarnings("unchecked")
+        synchronized <R> int add(Command<R, ? super C> command, CompletableFuture<R> future) {
+            if (this.entries == null) return 0;
+            this.entries.add(Map.entry(command, (CompletableFuture<Object>) (CompletableFuture<?>) future));
+            return this.entries.size();
+        }
+
+        synchronized void schedule(ScheduledExecutorService executor, Runnable task, Duration delay) {
+            if (this.entries != null) {
+                this.task = executor.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * Closes this batch, such that no further commands can be added.
+         * @return the commands of this batch, or null, if this batch was already closed
+         */
+        synchronized List<Map.Entry<Command<?, ? super C>, CompletableFuture<Object>>> close() {
+            List<Map.Entry<Command<?, ? super C>, CompletableFuture<Object>>> entries = this.entries;
+            this.entries = null;
+            if (this.task != null) {
+                this.task.cancel(false);
+                this.task = null;
+            }
+            return entries;
+        }
+    }
+}
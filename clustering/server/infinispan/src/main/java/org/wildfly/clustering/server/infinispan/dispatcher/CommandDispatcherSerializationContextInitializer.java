@@ -18,5 +18,6 @@ public class CommandDispatcherSerializationContextInitializer extends AbstractSe
     @Override
     public void registerMarshallers(SerializationContext context) {
         context.registerMarshaller(new EnumMarshaller<>(NoSuchService.class));
+        context.registerMarshaller(new BatchCommandMarshaller());
     }
 }
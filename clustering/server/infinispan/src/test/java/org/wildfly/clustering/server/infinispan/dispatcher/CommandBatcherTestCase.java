@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.Command;
+
+/**
+ * Unit test for {@link CommandBatcher}.
+ */
+public class CommandBatcherTestCase {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final CommandBatchRecorder recorder = new CommandBatchRecorder();
+
+    @After
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    private CompletionStage<List<Object>> send(BatchCommand<String> command, String destination) {
+        this.batchSizes.add(command.getCommands().size());
+        // Simulate remote execution
+        return CompletableFuture.completedFuture(command.execute(destination));
+    }
+
+    @Test
+    public void maxSize() throws InterruptedException, ExecutionException {
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(this::send, this.executor, Duration.ofMinutes(1), 3, this.recorder);
+
+        CompletionStage<String> result1 = batcher.submit(context -> context + "1", "foo");
+        CompletionStage<String> result2 = batcher.submit(context -> context + "2", "foo");
+        CompletionStage<String> result3 = batcher.submit(context -> context + "3", "bar");
+        assertTrue(this.batchSizes.isEmpty());
+
+        // Reaching the maximum batch size sends the batch immediately
+        CompletionStage<String> result4 = batcher.submit(context -> context + "4", "foo");
+        assertEquals(List.of(3), this.batchSizes);
+        assertEquals("foo1", result1.toCompletableFuture().get());
+        assertEquals("foo2", result2.toCompletableFuture().get());
+        assertEquals("foo4", result4.toCompletableFuture().get());
+        assertFalse(result3.toCompletableFuture().isDone());
+
+        // Closing sends remaining batches
+        batcher.close();
+        assertEquals(List.of(3, 1), this.batchSizes);
+        assertEquals("bar3", result3.toCompletableFuture().get());
+
+        assertEquals(2, this.recorder.getBatchCount());
+        assertEquals(4, this.recorder.getBatchedCommandCount());
+        assertEquals(3, this.recorder.getMaxBatchSize());
+        assertEquals(2d, this.recorder.getAverageBatchSize(), 0d);
+    }
+
+    @Test
+    public void window() throws InterruptedException, ExecutionException, TimeoutException {
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(this::send, this.executor, Duration.ofMillis(10), 100, this.recorder);
+
+        CompletionStage<String> result1 = batcher.submit(context -> context + "1", "foo");
+        CompletionStage<String> result2 = batcher.submit(context -> context + "2", "foo");
+
+        assertEquals("foo1", result1.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertEquals("foo2", result2.toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(2), this.batchSizes);
+        assertFalse(this.recorder.getMaxBatchLatency().isNegative());
+    }
+
+    @Test
+    public void flushWith() throws InterruptedException, ExecutionException {
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(this::send, this.executor, Duration.ofMinutes(1), 100, this.recorder);
+        List<String> executed = new CopyOnWriteArrayList<>();
+
+        // No batch is pending, so command must be sent directly
+        assertNull(batcher.flushWith(context -> context, "foo"));
+
+        CompletionStage<String> result1 = batcher.submit(context -> {
+            executed.add("schedule");
+            return context + "1";
+        }, "foo");
+        CompletionStage<String> result2 = batcher.submit(context -> context + "2", "bar");
+
+        // Command is appended to the pending batch of its destination, which is sent immediately
+        CompletionStage<String> result3 = batcher.flushWith(context -> {
+            executed.add("cancel");
+            return context + "3";
+        }, "foo");
+        assertEquals(List.of(2), this.batchSizes);
+        assertEquals(List.of("schedule", "cancel"), executed);
+        assertEquals("foo1", result1.toCompletableFuture().get());
+        assertEquals("foo3", result3.toCompletableFuture().get());
+        // Pending batches of other destinations are unaffected
+        assertFalse(result2.toCompletableFuture().isDone());
+
+        batcher.close();
+        assertEquals("bar2", result2.toCompletableFuture().get());
+    }
+
+    @Test
+    public void failure() throws InterruptedException {
+        CommandBatcher<String, String> batcher = new CommandBatcher<>(this::send, this.executor, Duration.ofMinutes(1), 2, this.recorder);
+        Command<String, String> failingCommand = context -> {
+            throw new IllegalStateException(context);
+        };
+
+        CompletionStage<String> result1 = batcher.submit(failingCommand, "foo");
+        CompletionStage<String> result2 = batcher.submit(context -> context, "foo");
+
+        // A failing command does not fail the other commands of its batch
+        try {
+            result1.toCompletableFuture().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals("foo", result2.toCompletableFuture().join());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.dispatcher;
+
+import java.time.Duration;
+
+/**
+ * Statistics of the command batches sent by the command dispatchers of a command dispatcher factory.
+ */
+public interface CommandBatchStatistics {
+
+    /**
+     * Returns the number of batches sent.
+     * @return a number of batches
+     */
+    long getBatchCount();
+
+    /**
+     * Returns the number of commands sent within a batch.
+     * @return a number of commands
+     */
+    long getBatchedCommandCount();
+
+    /**
+     * Returns the average number of commands per batch.
+     * @return an average number of commands
+     */
+    default double getAverageBatchSize() {
+        long batches = this.getBatchCount();
+        return (batches > 0) ? (double) this.getBatchedCommandCount() / batches : 0;
+    }
+
+    /**
+     * Returns the largest number of commands sent within a single batch.
+     * @return a number of commands
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the average duration between the submission of the first command of a batch and the receipt of the batch response.
+     * @return an average batch latency
+     */
+    Duration getAverageBatchLatency();
+
+    /**
+     * Returns the maximum duration between the submission of the first command of a batch and the receipt of the batch response.
+     * @return a maximum batch latency
+     */
+    Duration getMaxBatchLatency();
+}
@@ -19,4 +19,12 @@ public interface CommandDispatcherFactory extends org.wildfly.clustering.dispatc
     }
 
     <C> CommandDispatcher<C> createCommandDispatcher(Object id, C context, ClassLoader loader);
+
+    /**
+     * Returns the statistics of the command batches sent by the command dispatchers created by this factory.
+     * @return batch statistics, or null, if this factory does not batch commands
+     */
+    default CommandBatchStatistics getBatchStatistics() {
+        return null;
+    }
 }
@@ -17,9 +17,12 @@ import org.wildfly.clustering.ee.Manager;
 import org.wildfly.clustering.ee.ManagerFactory;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.session.SessionAttributes;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionMetaData;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 import org.wildfly.common.function.Functions;
 
 /**
@@ -120,6 +123,21 @@ public class ConcurrentSessionManager<L, B extends Batch> implements SessionMana
         return this.manager.getStopTimeout();
     }
 
+    @Override
+    public SessionAttributeReplicationStatistics getAttributeReplicationStatistics() {
+        return this.manager.getAttributeReplicationStatistics();
+    }
+
+    @Override
+    public SessionLoadStatistics getLoadStatistics() {
+        return this.manager.getLoadStatistics();
+    }
+
+    @Override
+    public SessionNearCacheStatistics getNearCacheStatistics() {
+        return this.manager.getNearCacheStatistics();
+    }
+
     private static class ConcurrentSession<L> implements Session<L> {
         private final Session<L> session;
         private final Runnable closeTask;
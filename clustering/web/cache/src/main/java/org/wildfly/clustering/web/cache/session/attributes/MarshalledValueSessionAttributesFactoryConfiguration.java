@@ -6,11 +6,13 @@
 package org.wildfly.clustering.web.cache.session.attributes;
 
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
 import org.wildfly.clustering.marshalling.spi.MarshalledValueMarshaller;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeChangeDetector;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 
@@ -27,11 +29,13 @@ public abstract class MarshalledValueSessionAttributesFactoryConfiguration<S, SC
     private final Immutability immutability;
     private final Marshaller<V, MarshalledValue<V, ByteBufferMarshaller>> marshaller;
     private final HttpSessionActivationListenerProvider<S, SC, AL> provider;
+    private final SessionAttributeChangeDetector<MarshalledValue<V, ByteBufferMarshaller>> detector;
 
     protected MarshalledValueSessionAttributesFactoryConfiguration(SessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.immutability = configuration.getImmutability();
         this.marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller()));
         this.provider = configuration.getSpecificationProvider();
+        this.detector = configuration.isMutableAttributeChangeDetectionEnabled() ? new SessionAttributeChangeDetector<>(configuration.getMarshaller(), ByteBufferMarshalledValue::new) : null;
     }
 
     @Override
@@ -48,4 +52,9 @@ public abstract class MarshalledValueSessionAttributesFactoryConfiguration<S, SC
     public HttpSessionActivationListenerProvider<S, SC, AL> getHttpSessionActivationListenerProvider() {
         return this.provider;
     }
-}
\ No newline at end of file
+
+    @Override
+    public SessionAttributeChangeDetector<MarshalledValue<V, ByteBufferMarshaller>> getChangeDetector() {
+        return this.detector;
+    }
+}
@@ -8,6 +8,7 @@ package org.wildfly.clustering.web.cache.session.attributes;
 import org.wildfly.clustering.ee.Creator;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 
 /**
  * Factory for creating a {@link SessionAttributes} object.
@@ -18,6 +19,14 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 public interface SessionAttributesFactory<C, V> extends ImmutableSessionAttributesFactory<V>, Creator<String, V, Void>, Remover<String>, AutoCloseable {
     SessionAttributes createSessionAttributes(String id, V value, ImmutableSessionMetaData metaData, C context);
 
+    /**
+     * Returns statistics concerning the replication of session attributes created by this factory.
+     * @return replication statistics, or null, if not available
+     */
+    default SessionAttributeReplicationStatistics getReplicationStatistics() {
+        return null;
+    }
+
     @Override
     default void close() {
         // Nothing to close
@@ -7,6 +7,7 @@ package org.wildfly.clustering.web.cache.session.attributes;
 
 import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeChangeDetector;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 
 /**
@@ -22,4 +23,12 @@ public interface SessionAttributesFactoryConfiguration<S, C, L, V, SV> {
     Marshaller<V, SV> getMarshaller();
     Immutability getImmutability();
     HttpSessionActivationListenerProvider<S, C, L> getHttpSessionActivationListenerProvider();
+
+    /**
+     * Returns the detector used to suppress replication of unmodified mutable session attributes.
+     * @return a change detector, or null, if change detection is disabled.
+     */
+    default SessionAttributeChangeDetector<SV> getChangeDetector() {
+        return null;
+    }
 }
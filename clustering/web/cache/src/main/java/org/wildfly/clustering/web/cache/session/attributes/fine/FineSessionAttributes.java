@@ -7,6 +7,7 @@ package org.wildfly.clustering.web.cache.session.attributes.fine;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -14,6 +15,7 @@ import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.logging.Logger;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessionAttributes;
 
@@ -30,9 +32,12 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
     private final Immutability immutability;
     private final CacheProperties properties;
     private final SessionAttributeActivationNotifier notifier;
+    private final SessionAttributeChangeDetector<V> detector;
     private final Map<String, Object> updates = new TreeMap<>();
+    // Serialized form of mutable attributes that were read, but not yet set, during this request
+    private final Map<String, ByteBuffer> snapshots = new TreeMap<>();
 
-    public FineSessionAttributes(K key, Map<String, Object> attributes, MutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, Immutability immutability, CacheProperties properties, SessionAttributeActivationNotifier notifier) {
+    public FineSessionAttributes(K key, Map<String, Object> attributes, MutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, Immutability immutability, CacheProperties properties, SessionAttributeActivationNotifier notifier, SessionAttributeChangeDetector<V> detector) {
         super(attributes);
         this.key = key;
         this.attributes = attributes;
@@ -41,6 +46,8 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
         this.immutability = immutability;
         this.properties = properties;
         this.notifier = notifier;
+        // Change detection only pays off if updates are marshalled, i.e. replicated or persisted
+        this.detector = properties.isMarshalling() ? detector : null;
 
         if (this.notifier != null) {
             for (Object value : this.attributes.values()) {
@@ -57,6 +64,10 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
             // If the object is mutable, we need to mutate this value on close
             if (!this.immutability.test(value)) {
                 synchronized (this.updates) {
+                    // If this is the first access of this attribute, capture its serialized form before it can be mutated
+                    if ((this.detector != null) && !this.updates.containsKey(name)) {
+                        this.snapshot(name, value);
+                    }
                     this.updates.put(name, value);
                 }
             }
@@ -72,6 +83,7 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
         if (result != null) {
             synchronized (this.updates) {
                 this.updates.put(name, null);
+                this.snapshots.remove(name);
             }
         }
 
@@ -93,6 +105,7 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
         if (value != result) {
             synchronized (this.updates) {
                 this.updates.put(name, value);
+                this.snapshots.remove(name);
             }
         }
 
@@ -112,17 +125,32 @@ public class FineSessionAttributes<K, V> extends SimpleImmutableSessionAttribute
                 for (Map.Entry<String, Object> entry : this.updates.entrySet()) {
                     String name = entry.getKey();
                     Object value = entry.getValue();
-                    updates.put(name, (value != null) ? this.write(value) : null);
+                    V marshalledValue = (value != null) ? this.write(name, value) : null;
+                    // Skip mutable attributes whose serialized form was not modified
+                    if ((value != null) && (marshalledValue == null)) continue;
+                    updates.put(name, marshalledValue);
                 }
 
-                this.mutatorFactory.createMutator(this.key, updates).mutate();
+                if (!updates.isEmpty()) {
+                    this.mutatorFactory.createMutator(this.key, updates).mutate();
+                }
             }
         }
     }
 
-    private V write(Object value) {
+    private void snapshot(String name, Object value) {
+        try {
+            this.snapshots.put(name, this.detector.snapshot(value));
+        } catch (IOException e) {
+            // Without a snapshot, this attribute will always be replicated
+            Logger.ROOT_LOGGER.debugf(e, "Failed to capture serialized form of session attribute %s, which will be replicated unconditionally", name);
+        }
+    }
+
+    private V write(String name, Object value) {
+        ByteBuffer snapshot = this.snapshots.get(name);
         try {
-            return this.marshaller.write(value);
+            return (snapshot != null) ? this.detector.getModifiedValue(snapshot, value) : this.marshaller.write(value);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+
+/**
+ * Detects whether a mutable session attribute was modified by comparing its serialized form, captured when the attribute was first read, against its serialized form when the session is closed.
+ * @param <V> the marshalled value type
+ */
+public class SessionAttributeChangeDetector<V> implements SessionAttributeReplicationStatistics {
+
+    private final ByteBufferMarshaller marshaller;
+    private final Function<ByteBuffer, V> factory;
+    private final LongAdder replicatedWrites = new LongAdder();
+    private final LongAdder suppressedWrites = new LongAdder();
+
+    /**
+     * Creates a change detector.
+     * @param marshaller the marshaller used to serialize session attribute values
+     * @param factory creates a marshalled value from the serialized form of a session attribute value
+     */
+    public SessionAttributeChangeDetector(ByteBufferMarshaller marshaller, Function<ByteBuffer, V> factory) {
+        this.marshaller = marshaller;
+        this.factory = factory;
+    }
+
+    /**
+     * Captures the serialized form of the specified session attribute value.
+     * @param value a session attribute value
+     * @return the serialized form of the specified value
+     * @throws IOException if the value could not be marshalled
+     */
+    public ByteBuffer snapshot(Object value) throws IOException {
+        return this.marshaller.write(value);
+    }
+
+    /**
+     * Returns the marshalled form of the specified session attribute value, if its serialized form differs from the specified snapshot.
+     * The returned value reuses the serialized form computed for the comparison, so that the value need not be marshalled again.
+     * @param snapshot the serialized form of the session attribute value when first read
+     * @param value the current session attribute value
+     * @return the marshalled value to replicate, or null, if the specified value was not modified
+     * @throws IOException if the value could not be marshalled
+     */
+    public V getModifiedValue(ByteBuffer snapshot, Object value) throws IOException {
+        ByteBuffer buffer = this.marshaller.write(value);
+        if (snapshot.equals(buffer)) {
+            this.suppressedWrites.increment();
+            return null;
+        }
+        this.replicatedWrites.increment();
+        return this.factory.apply(buffer);
+    }
+
+    @Override
+    public long getReplicatedWriteCount() {
+        return this.replicatedWrites.sum();
+    }
+
+    @Override
+    public long getSuppressedWriteCount() {
+        return this.suppressedWrites.sum();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.metadata.coarse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.wildfly.clustering.ee.Mutator;
+
+/**
+ * {@link Mutator} decorator that coalesces last access updates of a session.
+ * The decorated mutator is skipped if the timeout of the session is unchanged, and its last access end time advanced by less than a given fraction of its timeout since it was last written.
+ * Consequently, the persisted last access time of a session lags its actual last access time by less than this fraction of its timeout.
+ * The last access times of a skipped update are recorded, so that they can be applied to session meta data subsequently created by this member.
+ */
+public class CoalescingSessionMetaDataMutator implements Mutator {
+
+    private final Mutator mutator;
+    private final String id;
+    private final UnflushedLastAccessTimes unflushed;
+    private final ImmutableSessionMetaDataEntry entry;
+    private final MutableSessionMetaDataOffsetValues delta;
+    private final double threshold;
+
+    /**
+     * Creates a coalescing mutator.
+     * @param mutator the decorated mutator
+     * @param id the session identifier
+     * @param unflushed records the last access times of sessions whose updates were skipped
+     * @param entry the session meta data entry, as last written to the cache
+     * @param delta the pending changes to the session meta data entry
+     * @param threshold the fraction of the session timeout that the last access end time must advance before the session meta data is written
+     */
+    public CoalescingSessionMetaDataMutator(Mutator mutator, String id, UnflushedLastAccessTimes unflushed, ImmutableSessionMetaDataEntry entry, MutableSessionMetaDataOffsetValues delta, double threshold) {
+        this.mutator = mutator;
+        this.id = id;
+        this.unflushed = unflushed;
+        this.entry = entry;
+        this.delta = delta;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void mutate() {
+        if (this.isRequired()) {
+            this.mutator.mutate();
+            this.unflushed.flushed(this.id);
+        } else {
+            this.unflushed.coalesced(this.id, this.delta);
+        }
+    }
+
+    private boolean isRequired() {
+        // The first access of a new session must always be recorded
+        if (this.entry.isNew() || !this.delta.getTimeout().getOffset().isZero()) return true;
+        Duration timeout = this.entry.getTimeout();
+        // Last access of sessions that never expire is not coalesced
+        if (timeout.isZero() || timeout.isNegative()) return !this.delta.getLastAccessEndTime().getOffset().isZero();
+        Instant lastAccessEndTime = this.entry.getLastAccessEndTime().get();
+        Duration elapsed = Duration.between(lastAccessEndTime, this.delta.getLastAccessEndTime().get());
+        return elapsed.toMillis() >= (long) (timeout.toMillis() * this.threshold);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.metadata.coarse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the last access times of sessions whose last access updates were coalesced by a {@link CoalescingSessionMetaDataMutator}, i.e. not yet written to the cache.
+ * Session meta data created by this member consults these times, so that a session is never considered expired based on its lagging persisted last access time.
+ * Only accesses handled by this member are recorded.
+ */
+public class UnflushedLastAccessTimes {
+    // Number of recorded accesses between purges of expired entries
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<String, LastAccess> lastAccesses = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Records the last access of a session whose last access update was not written to the cache.
+     * @param id a session identifier
+     * @param values the unwritten session meta data values
+     */
+    public void coalesced(String id, MutableSessionMetaDataValues values) {
+        this.lastAccesses.put(id, new LastAccess(values.getLastAccessStartTime().get(), values.getLastAccessEndTime().get(), values.getTimeout().get()));
+        if (this.count.incrementAndGet() % PURGE_INTERVAL == 0) {
+            Instant now = Instant.now();
+            this.lastAccesses.values().removeIf(lastAccess -> lastAccess.isExpired(now));
+        }
+    }
+
+    /**
+     * Discards any unwritten last access of the specified session, e.g. once it was written to the cache, or if the session was removed.
+     * @param id a session identifier
+     */
+    public void flushed(String id) {
+        this.lastAccesses.remove(id);
+    }
+
+    /**
+     * Applies any unwritten last access of the specified session to the specified session meta data values.
+     * @param id a session identifier
+     * @param values the session meta data values
+     * @return true, if an unwritten last access was applied, false otherwise
+     */
+    public boolean apply(String id, MutableSessionMetaDataValues values) {
+        LastAccess lastAccess = this.lastAccesses.get(id);
+        if (lastAccess == null) return false;
+        // Only a more recent access than the one persisted is relevant
+        if (!lastAccess.getEndTime().isAfter(values.getLastAccessEndTime().get())) {
+            this.lastAccesses.remove(id, lastAccess);
+            return false;
+        }
+        values.getLastAccessStartTime().set(lastAccess.getStartTime());
+        values.getLastAccessEndTime().set(lastAccess.getEndTime());
+        return true;
+    }
+
+    /**
+     * Returns the number of sessions with an unwritten last access.
+     * @return a number of sessions
+     */
+    int size() {
+        return this.lastAccesses.size();
+    }
+
+    private static class LastAccess {
+        private final Instant startTime;
+        private final Instant endTime;
+        private final Duration timeout;
+
+        LastAccess(Instant startTime, Instant endTime, Duration timeout) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.timeout = timeout;
+        }
+
+        Instant getStartTime() {
+            return this.startTime;
+        }
+
+        Instant getEndTime() {
+            return this.endTime;
+        }
+
+        boolean isExpired(Instant now) {
+            return !this.timeout.isZero() && !this.timeout.isNegative() && this.endTime.plus(this.timeout).isBefore(now);
+        }
+    }
+}
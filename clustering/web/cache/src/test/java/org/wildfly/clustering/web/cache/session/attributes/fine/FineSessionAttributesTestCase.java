@@ -0,0 +1,144 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.attributes.fine;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+
+/**
+ * Unit test for {@link FineSessionAttributes}.
+ */
+public class FineSessionAttributesTestCase {
+
+    @Mock
+    private MutatorFactory<String, Map<String, Object>> mutatorFactory;
+    @Mock
+    private Marshaller<Object, Object> marshaller;
+    @Mock
+    private ByteBufferMarshaller byteBufferMarshaller;
+    @Mock
+    private Immutability immutability;
+    @Mock
+    private CacheProperties properties;
+    @Mock
+    private Mutator mutator;
+    @Captor
+    private ArgumentCaptor<Map<String, Object>> capturedUpdates;
+
+    private AutoCloseable mocks;
+    private SessionAttributeChangeDetector<Object> detector;
+
+    @Before
+    public void init() throws IOException {
+        this.mocks = MockitoAnnotations.openMocks(this);
+        // Marshalled values created by the detector are the decoded form of the serialized attribute
+        this.detector = new SessionAttributeChangeDetector<>(this.byteBufferMarshaller, buffer -> StandardCharsets.UTF_8.decode(buffer).toString());
+
+        when(this.immutability.test(any())).thenReturn(false);
+        when(this.properties.isMarshalling()).thenReturn(true);
+        when(this.marshaller.isMarshallable(any())).thenReturn(true);
+        when(this.byteBufferMarshaller.write(any())).thenAnswer(invocation -> ByteBuffer.wrap(invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8)));
+        when(this.marshaller.write(any())).thenAnswer(invocation -> invocation.getArgument(0).toString());
+        when(this.mutatorFactory.createMutator(eq("id"), this.capturedUpdates.capture())).thenReturn(this.mutator);
+    }
+
+    @After
+    public void destroy() throws Exception {
+        this.mocks.close();
+    }
+
+    @Test
+    public void unmodifiedMutableAttribute() throws IOException {
+        AtomicInteger value = new AtomicInteger();
+        Map<String, Object> attributes = new ConcurrentHashMap<>(Map.of("mutable", value));
+
+        try (FineSessionAttributes<String, Object> sessionAttributes = this.createSessionAttributes(attributes)) {
+            Assert.assertSame(value, sessionAttributes.getAttribute("mutable"));
+        }
+
+        verify(this.mutatorFactory, never()).createMutator(any(), any());
+        Assert.assertEquals(0L, this.detector.getReplicatedWriteCount());
+        Assert.assertEquals(1L, this.detector.getSuppressedWriteCount());
+    }
+
+    @Test
+    public void modifiedMutableAttribute() throws IOException {
+        AtomicInteger value = new AtomicInteger();
+        Map<String, Object> attributes = new ConcurrentHashMap<>(Map.of("mutable", value));
+
+        try (FineSessionAttributes<String, Object> sessionAttributes = this.createSessionAttributes(attributes)) {
+            ((AtomicInteger) sessionAttributes.getAttribute("mutable")).incrementAndGet();
+        }
+
+        verify(this.mutator).mutate();
+        Assert.assertEquals(Map.of("mutable", "1"), this.capturedUpdates.getValue());
+        // The serialized form computed for change detection must be reused
+        verify(this.marshaller, never()).write(any());
+        verify(this.byteBufferMarshaller, times(2)).write(value);
+        Assert.assertEquals(1L, this.detector.getReplicatedWriteCount());
+        Assert.assertEquals(0L, this.detector.getSuppressedWriteCount());
+    }
+
+    @Test
+    public void replacedMutableAttribute() throws IOException {
+        AtomicInteger value = new AtomicInteger();
+        Map<String, Object> attributes = new ConcurrentHashMap<>(Map.of("mutable", value));
+
+        try (FineSessionAttributes<String, Object> sessionAttributes = this.createSessionAttributes(attributes)) {
+            sessionAttributes.getAttribute("mutable");
+            // Replacement with an equivalent value must still be replicated
+            sessionAttributes.setAttribute("mutable", new AtomicInteger());
+        }
+
+        verify(this.mutator).mutate();
+        Assert.assertEquals(Map.of("mutable", "0"), this.capturedUpdates.getValue());
+        Assert.assertEquals(0L, this.detector.getSuppressedWriteCount());
+    }
+
+    @Test
+    public void unmarshallableSnapshot() throws IOException {
+        AtomicInteger value = new AtomicInteger();
+        Map<String, Object> attributes = new ConcurrentHashMap<>(Map.of("mutable", value));
+
+        // Without a snapshot, the attribute must be replicated
+        doThrow(IOException.class).when(this.byteBufferMarshaller).write(value);
+
+        try (FineSessionAttributes<String, Object> sessionAttributes = this.createSessionAttributes(attributes)) {
+            sessionAttributes.getAttribute("mutable");
+        }
+
+        verify(this.mutator).mutate();
+        Assert.assertEquals(Map.of("mutable", "0"), this.capturedUpdates.getValue());
+        Assert.assertEquals(0L, this.detector.getReplicatedWriteCount());
+        Assert.assertEquals(0L, this.detector.getSuppressedWriteCount());
+    }
+
+    private FineSessionAttributes<String, Object> createSessionAttributes(Map<String, Object> attributes) {
+        return new FineSessionAttributes<>("id", attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, null, this.detector);
+    }
+}
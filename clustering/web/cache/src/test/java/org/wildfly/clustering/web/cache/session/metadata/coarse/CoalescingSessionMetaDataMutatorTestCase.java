@@ -0,0 +1,102 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.metadata.coarse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wildfly.clustering.ee.Mutator;
+
+/**
+ * Unit test for {@link CoalescingSessionMetaDataMutator}.
+ */
+public class CoalescingSessionMetaDataMutatorTestCase {
+
+    @Test
+    public void test() {
+        Instant created = Instant.now().minus(Duration.ofMinutes(10));
+
+        // New session
+        DefaultSessionMetaDataEntry<Object> entry = new DefaultSessionMetaDataEntry<>(created);
+        entry.setTimeout(Duration.ofMinutes(30));
+        this.verify(entry, false, created.plusSeconds(1), true);
+
+        // Accessed session, last access advanced by less than threshold
+        entry.getLastAccessStartTime().set(created.plusSeconds(60));
+        entry.getLastAccessEndTime().set(created.plusSeconds(61));
+        this.verify(entry, false, created.plusSeconds(120), false);
+
+        // Last access advanced by more than threshold
+        this.verify(entry, false, created.plus(Duration.ofMinutes(5)), true);
+
+        // Timeout changed
+        this.verify(entry, true, created.plusSeconds(120), true);
+
+        // Session that never expires
+        entry.setTimeout(Duration.ZERO);
+        this.verify(entry, false, created.plusSeconds(120), true);
+    }
+
+    private void verify(ContextualSessionMetaDataEntry<Object> entry, boolean changeTimeout, Instant lastAccessEndTime, boolean expected) {
+        Mutator mutator = Mockito.mock(Mutator.class);
+        MutableSessionMetaDataOffsetValues delta = MutableSessionMetaDataOffsetValues.from(entry);
+        if (changeTimeout) {
+            delta.getTimeout().set(entry.getTimeout().plusMinutes(1));
+        }
+        delta.getLastAccessStartTime().set(lastAccessEndTime.minusSeconds(1));
+        delta.getLastAccessEndTime().set(lastAccessEndTime);
+
+        UnflushedLastAccessTimes unflushed = new UnflushedLastAccessTimes();
+
+        new CoalescingSessionMetaDataMutator(mutator, "id", unflushed, entry, delta, 0.1).mutate();
+
+        Mockito.verify(mutator, Mockito.times(expected ? 1 : 0)).mutate();
+        // Skipped last access updates must be recorded
+        Assert.assertEquals(expected ? 0 : 1, unflushed.size());
+    }
+
+    @Test
+    public void expiration() {
+        Duration timeout = Duration.ofMinutes(30);
+        Instant now = Instant.now();
+        // Persisted last access is slightly older than the session timeout
+        Instant lastAccessEndTime = now.minus(timeout).minusSeconds(60);
+        DefaultSessionMetaDataEntry<Object> entry = new DefaultSessionMetaDataEntry<>(lastAccessEndTime.minus(Duration.ofMinutes(10)));
+        entry.setTimeout(timeout);
+        entry.getLastAccessStartTime().set(lastAccessEndTime.minusSeconds(1));
+        entry.getLastAccessEndTime().set(lastAccessEndTime);
+
+        Assert.assertTrue(new DefaultImmutableSessionMetaData(entry).isExpired());
+
+        // Coalesce a subsequent access, within the threshold
+        UnflushedLastAccessTimes unflushed = new UnflushedLastAccessTimes();
+        Mutator mutator = Mockito.mock(Mutator.class);
+        MutableSessionMetaDataOffsetValues delta = MutableSessionMetaDataOffsetValues.from(entry);
+        delta.getLastAccessStartTime().set(lastAccessEndTime.plusSeconds(119));
+        delta.getLastAccessEndTime().set(lastAccessEndTime.plusSeconds(120));
+
+        new CoalescingSessionMetaDataMutator(mutator, "id", unflushed, entry, delta, 0.1).mutate();
+
+        Mockito.verify(mutator, Mockito.never()).mutate();
+
+        // Session must not expire based on its persisted last access time
+        MutableSessionMetaDataOffsetValues values = MutableSessionMetaDataOffsetValues.from(entry);
+        Assert.assertTrue(unflushed.apply("id", values));
+        ImmutableSessionMetaDataEntry view = new MutableSessionMetaDataEntry(entry, values);
+        Assert.assertFalse(new DefaultImmutableSessionMetaData(view).isExpired());
+        Assert.assertEquals(lastAccessEndTime.plusSeconds(120), view.getLastAccessEndTime().get());
+
+        // Unflushed last access is irrelevant to other sessions
+        Assert.assertFalse(unflushed.apply("other", MutableSessionMetaDataOffsetValues.from(entry)));
+
+        // Once written, or removed, the persisted last access time applies
+        unflushed.flushed("id");
+        Assert.assertFalse(unflushed.apply("id", MutableSessionMetaDataOffsetValues.from(entry)));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.web.container;
+
+/**
+ * Exposes statistics specific to a distributable session manager to the container, in addition to its generic session manager statistics.
+ */
+public interface DistributableSessionStatistics {
+
+    /**
+     * Returns the number of mutable session attributes that were read, but not set, and were replicated since their serialized form was modified.
+     * @return a number of session attribute writes
+     */
+    long getReplicatedAttributeWriteCount();
+
+    /**
+     * Returns the number of mutable session attributes that were read, but not set, and were not replicated since their serialized form was not modified.
+     * @return a number of suppressed session attribute writes
+     */
+    long getSuppressedAttributeWriteCount();
+
+    /**
+     * Returns the number of remote reads of the meta data and attributes of a session.
+     * @return a number of remote reads
+     */
+    long getSessionReadCount();
+
+    /**
+     * Returns the mean duration of a remote read of the meta data and attributes of a session.
+     * @return a duration in microseconds
+     */
+    long getAverageSessionReadTime();
+
+    /**
+     * Returns the mean duration of reading the session attributes from the values returned by a remote read.
+     * @return a duration in microseconds
+     */
+    long getAverageSessionAttributesReadTime();
+
+    /**
+     * Returns the number of lookups that found an entry in the near cache.
+     * @return a number of lookups
+     */
+    long getNearCacheHits();
+
+    /**
+     * Returns the number of lookups that did not find an entry in the near cache, requiring a remote read.
+     * @return a number of lookups
+     */
+    long getNearCacheMisses();
+
+    /**
+     * Returns the ratio of near cache hits to near cache lookups.
+     * @return a ratio between 0 and 1
+     */
+    double getNearCacheHitRatio();
+
+    /**
+     * Returns the number of entries evicted from the near cache due to its size bound.
+     * @return a number of entries
+     */
+    long getNearCacheEvictions();
+
+    /**
+     * Returns the number of entries removed from the near cache due to a local or remote modification.
+     * @return a number of entries
+     */
+    long getNearCacheInvalidations();
+}
@@ -14,6 +14,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.spi.ByteBufferOutputStreamPool;
 import org.wildfly.clustering.web.service.WebProviderRequirement;
 import org.wildfly.extension.clustering.web.DistributableWebResourceDefinition.Attribute;
 import org.wildfly.extension.clustering.web.DistributableWebResourceDefinition.Capability;
@@ -40,6 +41,9 @@ public class DistributableWebResourceServiceHandler implements ResourceServiceHa
                 .configure(context)
                 .build(target)
                 .install();
+
+        ModelNode capacity = Attribute.MARSHALLING_BUFFER_POOL_CAPACITY.resolveModelAttribute(context, model);
+        ByteBufferOutputStreamPool.setCapacity(capacity.isDefined() ? capacity.asInt() : ByteBufferOutputStreamPool.DEFAULT_CAPACITY);
     }
 
     @Override
@@ -48,5 +52,6 @@ public class DistributableWebResourceServiceHandler implements ResourceServiceHa
         for (Capability capability : EnumSet.allOf(Capability.class)) {
             context.removeService(capability.getServiceName(address));
         }
+        ByteBufferOutputStreamPool.setCapacity(ByteBufferOutputStreamPool.DEFAULT_CAPACITY);
     }
 }
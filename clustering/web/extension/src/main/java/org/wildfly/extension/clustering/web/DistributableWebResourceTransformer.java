@@ -8,6 +8,8 @@ package org.wildfly.extension.clustering.web;
 import java.util.function.Function;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
 
@@ -20,6 +22,13 @@ public class DistributableWebResourceTransformer implements Function<ModelVersio
     public ResourceTransformationDescriptionBuilder apply(ModelVersion version) {
         ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
 
+        if (DistributableWebSubsystemModel.VERSION_4_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, DistributableWebResourceDefinition.Attribute.MARSHALLING_BUFFER_POOL_CAPACITY.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, DistributableWebResourceDefinition.Attribute.MARSHALLING_BUFFER_POOL_CAPACITY.getName())
+                    .end();
+        }
+
         new InfinispanSessionManagementResourceTransformer(builder).accept(version);
         new HotRodSessionManagementResourceTransformer(builder).accept(version);
 
@@ -9,9 +9,11 @@ import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.CapabilityReference;
 import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -44,6 +46,15 @@ public class HotRodSessionManagementResourceDefinition extends SessionManagement
                 return builder.setDefaultValue(new ModelNode(16));
             }
         },
+        NEAR_CACHE_MAX_MEMORY("near-cache-max-memory", ModelType.LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(ModelNode.ZERO_LONG)
+                        .setMeasurementUnit(MeasurementUnit.BYTES)
+                        .setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
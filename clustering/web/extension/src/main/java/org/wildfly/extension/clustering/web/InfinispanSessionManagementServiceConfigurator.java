@@ -7,6 +7,10 @@ package org.wildfly.extension.clustering.web;
 
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_PRECISION;
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_FLUSH_THRESHOLD;
+
+import java.time.Duration;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -26,6 +30,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile Duration expirationPrecision;
+    private volatile double lastAccessFlushThreshold;
 
     public InfinispanSessionManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -35,6 +41,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.expirationPrecision = Duration.ofMillis(EXPIRATION_PRECISION.resolveModelAttribute(context, model).asLong());
+        this.lastAccessFlushThreshold = LAST_ACCESS_FLUSH_THRESHOLD.resolveModelAttribute(context, model).asDouble();
         return super.configure(context, model);
     }
 
@@ -52,4 +60,14 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public Duration getExpirationPrecision() {
+        return this.expirationPrecision;
+    }
+
+    @Override
+    public double getLastAccessFlushThreshold() {
+        return this.lastAccessFlushThreshold;
+    }
 }
@@ -19,6 +19,7 @@ public class MutableHotRodSessionManagementConfiguration extends MutableSessionM
     private volatile String containerName;
     private volatile String configurationName;
     private volatile int expirationThreadPoolSize = HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE.getDefinition().getDefaultValue().asInt();
+    private volatile long nearCacheMaxMemory = HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_MAX_MEMORY.getDefinition().getDefaultValue().asLong();
 
     /**
      * Constructs a new HotRod session management configuration.
@@ -54,4 +55,13 @@ public class MutableHotRodSessionManagementConfiguration extends MutableSessionM
     public void setExpirationThreadPoolSize(int expirationThreadPoolSize) {
         this.expirationThreadPoolSize = expirationThreadPoolSize;
     }
+
+    @Override
+    public long getNearCacheMaxMemory() {
+        return this.nearCacheMaxMemory;
+    }
+
+    public void setNearCacheMaxMemory(long nearCacheMaxMemory) {
+        this.nearCacheMaxMemory = nearCacheMaxMemory;
+    }
 }
@@ -5,6 +5,7 @@
 
 package org.wildfly.extension.clustering.web.deployment;
 
+import java.time.Duration;
 import java.util.function.UnaryOperator;
 
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -17,6 +18,8 @@ public class MutableInfinispanSessionManagementConfiguration extends MutableSess
 
     private String containerName;
     private String cacheName;
+    private Duration expirationPrecision = Duration.ZERO;
+    private double lastAccessFlushThreshold = 0;
 
     public MutableInfinispanSessionManagementConfiguration(UnaryOperator<String> replacer) {
         super(replacer);
@@ -32,6 +35,16 @@ public class MutableInfinispanSessionManagementConfiguration extends MutableSess
         return this.cacheName;
     }
 
+    @Override
+    public Duration getExpirationPrecision() {
+        return this.expirationPrecision;
+    }
+
+    @Override
+    public double getLastAccessFlushThreshold() {
+        return this.lastAccessFlushThreshold;
+    }
+
     public void setContainerName(String containerName) {
         this.containerName = this.apply(containerName);
     }
@@ -39,4 +52,12 @@ public class MutableInfinispanSessionManagementConfiguration extends MutableSess
     public void setCacheName(String cacheName) {
         this.cacheName = this.apply(cacheName);
     }
+
+    public void setExpirationPrecision(Duration expirationPrecision) {
+        this.expirationPrecision = expirationPrecision;
+    }
+
+    public void setLastAccessFlushThreshold(double lastAccessFlushThreshold) {
+        this.lastAccessFlushThreshold = lastAccessFlushThreshold;
+    }
 }
@@ -18,4 +18,10 @@ public interface HotRodSessionManagementConfiguration<M> extends DistributableSe
      * @return
      */
     int getExpirationThreadPoolSize();
+
+    /**
+     * Returns the maximum estimated size in bytes of the near cache of a deployment.
+     * @return a number of bytes, or 0, if the near cache is bounded by max-active-sessions
+     */
+    long getNearCacheMaxMemory();
 }
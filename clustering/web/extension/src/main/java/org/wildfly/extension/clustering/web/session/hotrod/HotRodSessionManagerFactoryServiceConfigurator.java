@@ -35,6 +35,7 @@ import org.wildfly.clustering.service.SupplierDependency;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionManagerFactory;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.hotrod.session.SessionManagerNearCacheFactory;
+import org.wildfly.clustering.web.hotrod.session.SessionManagerNearCacheStatistics;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
@@ -56,6 +57,7 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
     private volatile ServiceConfigurator cacheConfigurator;
     @SuppressWarnings("rawtypes")
     private volatile SupplierDependency<RemoteCache> cache;
+    private volatile SessionManagerNearCacheStatistics nearCacheStatistics;
 
     public HotRodSessionManagerFactoryServiceConfigurator(HotRodSessionManagementConfiguration<DeploymentUnit> configuration, SessionManagerFactoryConfiguration<S, SC, AL, LC> factoryConfiguration) {
         super(ServiceName.JBOSS.append("clustering", "web", factoryConfiguration.getDeploymentName()));
@@ -65,8 +67,9 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
 
     @Override
     public ServiceConfigurator configure(CapabilityServiceSupport support) {
-        Integer maxActiveSessions = this.getMaxActiveSessions();
-        NearCacheMode mode = (maxActiveSessions != null) && (maxActiveSessions > 0) ? NearCacheMode.INVALIDATED : NearCacheMode.DISABLED;
+        SessionManagerNearCacheFactory nearCacheFactory = new SessionManagerNearCacheFactory(this.getMaxActiveSessions(), this.configuration.getNearCacheMaxMemory());
+        NearCacheMode mode = nearCacheFactory.isEnabled() ? NearCacheMode.INVALIDATED : NearCacheMode.DISABLED;
+        this.nearCacheStatistics = mode.invalidated() ? nearCacheFactory.getStatistics() : null;
         String configurationName = this.configuration.getConfigurationName();
         String templateName = (configurationName != null) ? configurationName : DefaultTemplate.DIST_SYNC.getTemplateName();
         this.cacheConfigurator = new RemoteCacheServiceConfigurator<>(this.getServiceName().append("cache"), this.configuration.getContainerName(), this.getDeploymentName(), new Consumer<RemoteCacheConfigurationBuilder>() {
@@ -74,7 +77,7 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
             public void accept(RemoteCacheConfigurationBuilder builder) {
                 builder.forceReturnValues(false).nearCacheMode(mode).templateName(templateName).transactionMode(TransactionMode.NONE);
                 if (mode.invalidated()) {
-                    builder.nearCacheFactory(new SessionManagerNearCacheFactory(maxActiveSessions));
+                    builder.nearCacheFactory(nearCacheFactory);
                 }
             }
         }).configure(support);
@@ -107,6 +110,11 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
         return this.factoryConfiguration.getMarshaller();
     }
 
+    @Override
+    public SessionManagerNearCacheStatistics getNearCacheStatistics() {
+        return this.nearCacheStatistics;
+    }
+
     @Override
     public Integer getMaxActiveSessions() {
         return this.factoryConfiguration.getMaxActiveSessions();
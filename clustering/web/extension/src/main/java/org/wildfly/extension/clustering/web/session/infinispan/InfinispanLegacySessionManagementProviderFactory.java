@@ -7,6 +7,7 @@ package org.wildfly.extension.clustering.web.session.infinispan;
 
 import java.io.Externalizable;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.function.Function;
 
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
@@ -90,6 +91,16 @@ public class InfinispanLegacySessionManagementProviderFactory implements LegacyS
                 return cacheName;
             }
 
+            @Override
+            public Duration getExpirationPrecision() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public double getLastAccessFlushThreshold() {
+                return 0;
+            }
+
             @Override
             public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
                 ReplicationGranularity granularity = (config != null) ? config.getReplicationGranularity() : null;
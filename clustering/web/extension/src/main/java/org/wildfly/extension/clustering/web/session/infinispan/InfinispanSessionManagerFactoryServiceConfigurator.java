@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.clustering.web.session.infinispan;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -169,6 +170,16 @@ public class InfinispanSessionManagerFactoryServiceConfigurator<S, SC, AL, LC> e
         return this.factoryConfiguration.getMarshaller();
     }
 
+    @Override
+    public Duration getExpirationPrecision() {
+        return this.configuration.getExpirationPrecision();
+    }
+
+    @Override
+    public double getLastAccessFlushThreshold() {
+        return this.configuration.getLastAccessFlushThreshold();
+    }
+
     @Override
     public Integer getMaxActiveSessions() {
         return this.factoryConfiguration.getMaxActiveSessions();
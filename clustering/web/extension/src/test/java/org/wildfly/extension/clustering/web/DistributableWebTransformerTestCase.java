@@ -160,6 +160,11 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
             config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
             config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
         }
+        if (DistributableWebSubsystemModel.VERSION_4_0_0.requiresTransformation(this.version)) {
+            config.addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(DistributableWebResourceDefinition.Attribute.MARSHALLING_BUFFER_POOL_CAPACITY.getName()));
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("session")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_PRECISION.getName(), InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_FLUSH_THRESHOLD.getName()));
+            config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-jboss")), new FailedOperationTransformationConfig.NewAttributesConfig(HotRodSessionManagementResourceDefinition.Attribute.NEAR_CACHE_MAX_MEMORY.getName()));
+        }
 
         return config;
     }
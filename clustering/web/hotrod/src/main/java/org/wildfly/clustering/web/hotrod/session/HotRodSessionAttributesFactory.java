@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
+import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
+
+/**
+ * A {@link SessionAttributesFactory} whose values can be read from a session attributes cache entry retrieved on its behalf,
+ * e.g. via the same bulk read as the session meta data.
+ * @param <C> the ServletContext specification type
+ * @param <V> the session attributes value type
+ */
+public interface HotRodSessionAttributesFactory<C, V> extends SessionAttributesFactory<C, V> {
+
+    /**
+     * Reads the attributes of a session from the value of its {@link SessionAttributesKey} cache entry, purging the session attributes if they cannot be read.
+     * @param id a session identifier
+     * @param value the value of the session attributes cache entry, or null, if no such entry exists
+     * @return the session attributes value, or null, if the session attributes do not exist or could not be read
+     */
+    V findValue(String id, Object value);
+
+    /**
+     * Reads the attributes of a session from the value of its {@link SessionAttributesKey} cache entry.
+     * @param id a session identifier
+     * @param value the value of the session attributes cache entry, or null, if no such entry exists
+     * @return the session attributes value, or null, if the session attributes do not exist or could not be read
+     */
+    default V tryValue(String id, Object value) {
+        return this.findValue(id, value);
+    }
+}
@@ -8,6 +8,9 @@ package org.wildfly.clustering.web.hotrod.session;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -25,43 +28,51 @@ import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.web.cache.session.CompositeSessionFactory;
 import org.wildfly.clustering.web.cache.session.attributes.ImmutableSessionAttributesFactory;
-import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.metadata.ImmutableSessionMetaDataFactory;
-import org.wildfly.clustering.web.cache.session.metadata.SessionMetaDataFactory;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionAccessMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionCreationMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionAccessMetaDataEntry;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.HotRodSessionMetaDataFactory;
 import org.wildfly.clustering.web.hotrod.session.metadata.SessionAccessMetaDataKey;
 import org.wildfly.clustering.web.hotrod.session.metadata.SessionCreationMetaDataKey;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Factory for creating a {@link org.wildfly.clustering.web.session.Session} backed by a set of {@link RemoteCache} entries.
+ * The meta data and attributes of a session are retrieved via a single bulk read, unless a near cache is enabled,
+ * in which case each entry is read individually, since bulk reads bypass the near cache.
  * @author Paul Ferraro
  * @param <MC> the marshalling context type
  * @param <AV> the session attribute entry type
  * @param <LC> the local context type
  */
 @ClientListener
-public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC, SessionMetaDataEntry<LC>, AV, LC> implements Registrar<Consumer<ImmutableSession>> {
+public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC, SessionMetaDataEntry<LC>, AV, LC> implements Registrar<Consumer<ImmutableSession>>, SessionLoadStatistics {
     private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(HotRodSessionFactory.class);
 
+    private final RemoteCache<Key<String>, Object> cache;
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<LC>> creationMetaDataCache;
     private final Flag[] forceReturnFlags;
-    private final ImmutableSessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory;
-    private final ImmutableSessionAttributesFactory<AV> attributesFactory;
+    private final boolean nearCacheEnabled;
+    private final HotRodSessionMetaDataFactory<LC> metaDataFactory;
+    private final HotRodSessionAttributesFactory<MC, AV> attributesFactory;
     private final Remover<String> attributesRemover;
     private final Collection<Consumer<ImmutableSession>> listeners = new CopyOnWriteArraySet<>();
     private final ExecutorService executor;
+    private final LatencyHistogram readLatency = new LatencyHistogram();
+    private final LatencyHistogram attributesReadLatency = new LatencyHistogram();
 
     /**
      * Constructs a new session factory
@@ -70,17 +81,95 @@ public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC
      * @param attributesFactory
      * @param localContextFactory
      */
-    public HotRodSessionFactory(HotRodSessionFactoryConfiguration config, SessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory, SessionAttributesFactory<MC, AV> attributesFactory, Supplier<LC> localContextFactory) {
+    public HotRodSessionFactory(HotRodSessionFactoryConfiguration config, HotRodSessionMetaDataFactory<LC> metaDataFactory, HotRodSessionAttributesFactory<MC, AV> attributesFactory, Supplier<LC> localContextFactory) {
         super(metaDataFactory, attributesFactory, localContextFactory);
         this.metaDataFactory = metaDataFactory;
         this.attributesFactory = attributesFactory;
         this.attributesRemover = attributesFactory;
+        this.cache = config.getCache();
         this.creationMetaDataCache = config.getCache();
         this.forceReturnFlags = config.getForceReturnFlags();
+        this.nearCacheEnabled = config.getNearCacheMode().enabled();
         this.executor = Executors.newFixedThreadPool(config.getExpirationThreadPoolSize(), THREAD_FACTORY);
         this.creationMetaDataCache.addClientListener(this);
     }
 
+    @Override
+    public Map.Entry<SessionMetaDataEntry<LC>, AV> findValue(String id) {
+        return this.getValue(id, true);
+    }
+
+    @Override
+    public Map.Entry<SessionMetaDataEntry<LC>, AV> tryValue(String id) {
+        return this.getValue(id, false);
+    }
+
+    private Map.Entry<SessionMetaDataEntry<LC>, AV> getValue(String id, boolean purgeIfInvalid) {
+        SessionAttributesKey attributesKey = new SessionAttributesKey(id);
+        Set<Key<String>> keys = Set.of(new SessionCreationMetaDataKey(id), new SessionAccessMetaDataKey(id), attributesKey);
+        long start = System.nanoTime();
+        // Read meta data and attributes using a single round trip, unless entries may be found in the near cache
+        Map<Key<String>, Object> entries = this.nearCacheEnabled ? this.getEach(keys) : this.cache.getAll(keys);
+        long read = System.nanoTime();
+        this.readLatency.record(read - start);
+        SessionMetaDataEntry<LC> metaDataValue = this.metaDataFactory.findValue(id, entries);
+        if (metaDataValue != null) {
+            Object value = entries.get(attributesKey);
+            AV attributesValue = purgeIfInvalid ? this.attributesFactory.findValue(id, value) : this.attributesFactory.tryValue(id, value);
+            this.attributesReadLatency.record(System.nanoTime() - read);
+            if (attributesValue != null) {
+                return Map.entry(metaDataValue, attributesValue);
+            }
+            if (purgeIfInvalid) {
+                // Purge obsolete meta data
+                this.metaDataFactory.purge(id);
+            }
+        }
+        return null;
+    }
+
+    private Map<Key<String>, Object> getEach(Set<Key<String>> keys) {
+        Map<Key<String>, Object> entries = new HashMap<>();
+        for (Key<String> key : keys) {
+            Object value = this.cache.get(key);
+            if (value != null) {
+                entries.put(key, value);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the latencies of reading the meta data and attributes of a session.
+     * @return a latency histogram
+     */
+    public LatencyHistogram getReadLatency() {
+        return this.readLatency;
+    }
+
+    /**
+     * Returns the latencies of reading the session attributes from the values returned by the remote read, i.e. unmarshalling.
+     * @return a latency histogram
+     */
+    public LatencyHistogram getAttributesReadLatency() {
+        return this.attributesReadLatency;
+    }
+
+    @Override
+    public long getReadCount() {
+        return this.readLatency.getCount();
+    }
+
+    @Override
+    public Duration getMeanReadTime() {
+        return this.readLatency.getMean();
+    }
+
+    @Override
+    public Duration getMeanAttributesReadTime() {
+        return this.attributesReadLatency.getMean();
+    }
+
     @Override
     public void close() {
         this.creationMetaDataCache.removeClientListener(this);
@@ -22,6 +22,8 @@ import org.wildfly.clustering.web.cache.session.ValidSession;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.common.function.Functions;
 
@@ -43,6 +45,8 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     private final Duration stopTimeout;
     private final Consumer<ImmutableSession> closeTask = Functions.discardingConsumer();
     private final Expiration expiration;
+    private final SessionLoadStatistics loadStatistics;
+    private final SessionManagerNearCacheStatistics nearCacheStatistics;
 
     private volatile Registration expirationListenerRegistration;
 
@@ -55,6 +59,8 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
         this.batcher = configuration.getBatcher();
         this.stopTimeout = configuration.getStopTimeout();
         this.expiration = configuration;
+        this.loadStatistics = configuration.getLoadStatistics();
+        this.nearCacheStatistics = configuration.getNearCacheStatistics();
     }
 
     @Override
@@ -69,6 +75,16 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
         }
     }
 
+    @Override
+    public SessionLoadStatistics getLoadStatistics() {
+        return this.loadStatistics;
+    }
+
+    @Override
+    public SessionManagerNearCacheStatistics getNearCacheStatistics() {
+        return this.nearCacheStatistics;
+    }
+
     @Override
     public Duration getStopTimeout() {
         return this.stopTimeout;
@@ -129,4 +145,9 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public SessionAttributeReplicationStatistics getAttributeReplicationStatistics() {
+        return this.factory.getAttributesFactory().getReplicationStatistics();
+    }
 }
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
 import org.wildfly.clustering.web.session.ImmutableSession;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 
 /**
@@ -20,4 +21,6 @@ import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 public interface HotRodSessionManagerConfiguration<C> extends SessionManagerConfiguration<C>, HotRodConfiguration {
     Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar();
     Duration getStopTimeout();
+    SessionLoadStatistics getLoadStatistics();
+    SessionManagerNearCacheStatistics getNearCacheStatistics();
 }
@@ -18,13 +18,12 @@ import org.wildfly.clustering.web.cache.session.ConcurrentSessionManager;
 import org.wildfly.clustering.web.cache.session.DelegatingSessionManagerConfiguration;
 import org.wildfly.clustering.web.cache.session.SessionFactory;
 import org.wildfly.clustering.web.cache.session.attributes.MarshalledValueSessionAttributesFactoryConfiguration;
-import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
-import org.wildfly.clustering.web.cache.session.metadata.SessionMetaDataFactory;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionMetaDataEntry;
 import org.wildfly.clustering.web.hotrod.session.attributes.CoarseSessionAttributesFactory;
 import org.wildfly.clustering.web.hotrod.session.attributes.FineSessionAttributesFactory;
 import org.wildfly.clustering.web.hotrod.session.metadata.HotRodSessionMetaDataFactory;
 import org.wildfly.clustering.web.session.ImmutableSession;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
@@ -42,19 +41,25 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
     private final HotRodConfiguration configuration;
     private final Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar;
     private final SessionFactory<SC, SessionMetaDataEntry<LC>, ?, LC> factory;
+    private final SessionLoadStatistics loadStatistics;
+    private final SessionManagerNearCacheStatistics nearCacheStatistics;
 
     public HotRodSessionManagerFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.configuration = configuration;
-        SessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory = new HotRodSessionMetaDataFactory<>(configuration);
+        HotRodSessionMetaDataFactory<LC> metaDataFactory = new HotRodSessionMetaDataFactory<>(configuration);
         HotRodSessionFactory<SC, ?, LC> sessionFactory = new HotRodSessionFactory<>(configuration, metaDataFactory, this.createSessionAttributesFactory(configuration), configuration.getLocalContextFactory());
         this.factory = sessionFactory;
         this.expirationListenerRegistrar = sessionFactory;
+        this.loadStatistics = sessionFactory;
+        this.nearCacheStatistics = configuration.getNearCacheStatistics();
     }
 
     @Override
     public SessionManager<LC, TransactionBatch> createSessionManager(SessionManagerConfiguration<SC> configuration) {
         Duration transactionTimeout = Duration.ofMillis(this.configuration.getCache().getRemoteCacheContainer().getConfiguration().transactionTimeout());
         Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar = this.expirationListenerRegistrar;
+        SessionLoadStatistics loadStatistics = this.loadStatistics;
+        SessionManagerNearCacheStatistics nearCacheStatistics = this.nearCacheStatistics;
         HotRodSessionManagerConfiguration<SC> config = new AbstractHotRodSessionManagerConfiguration<>(configuration, this.configuration) {
             @Override
             public Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar() {
@@ -65,6 +70,16 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
             public Duration getStopTimeout() {
                 return transactionTimeout;
             }
+
+            @Override
+            public SessionLoadStatistics getLoadStatistics() {
+                return loadStatistics;
+            }
+
+            @Override
+            public SessionManagerNearCacheStatistics getNearCacheStatistics() {
+                return nearCacheStatistics;
+            }
         };
         return new ConcurrentSessionManager<>(new HotRodSessionManager<>(this.factory, config), ConcurrentManager::new);
     }
@@ -74,7 +89,7 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
         this.factory.close();
     }
 
-    private SessionAttributesFactory<SC, ?> createSessionAttributesFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
+    private HotRodSessionAttributesFactory<SC, ?> createSessionAttributesFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         switch (configuration.getAttributePersistenceStrategy()) {
             case FINE: {
                 return new FineSessionAttributesFactory<>(new HotRodMarshalledValueSessionAttributesFactoryConfiguration<>(configuration));
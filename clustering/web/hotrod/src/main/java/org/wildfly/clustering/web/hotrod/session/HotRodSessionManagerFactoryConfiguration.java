@@ -14,4 +14,10 @@ import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
  * @author Paul Ferraro
  */
 public interface HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> extends SessionManagerFactoryConfiguration<S, SC, AL, LC>, HotRodSessionFactoryConfiguration {
+
+    /**
+     * Returns the statistics of the near cache of the session manager.
+     * @return near cache statistics, or null, if the session manager does not use a near cache
+     */
+    SessionManagerNearCacheStatistics getNearCacheStatistics();
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, using buckets whose upper bounds are successive powers of 2 microseconds.
+ * The final bucket records all latencies exceeding the upper bound of the preceding bucket.
+ */
+public class LatencyHistogram {
+
+    // Upper bound of the last bounded bucket is 2^20 microseconds, i.e. ~1 second
+    static final int BUCKETS = 22;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the specified latency.
+     * @param nanos a latency in nanoseconds
+     */
+    public void record(long nanos) {
+        this.counts[bucket(TimeUnit.NANOSECONDS.toMicros(nanos))].increment();
+        this.total.add(nanos);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     * @return a number of latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder adder : this.counts) {
+            count += adder.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded latencies.
+     * @return a duration
+     */
+    public Duration getMean() {
+        long count = this.getCount();
+        return (count > 0) ? Duration.ofNanos(this.total.sum() / count) : Duration.ZERO;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the specified percentile of recorded latencies.
+     * @param percentile a percentile between 0 and 100
+     * @return a duration, or null, if the percentile falls within the unbounded bucket
+     */
+    public Duration getPercentile(double percentile) {
+        long[] counts = this.getBucketCounts();
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) return Duration.ZERO;
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS - 1; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1L << i));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of recorded latencies per bucket, where the upper bound of bucket {@code i} is 2<sup>i</sup> microseconds,
+     * except for the final bucket, which is unbounded.
+     * @return an array of counts
+     */
+    public long[] getBucketCounts() {
+        long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            result[i] = this.counts[i].sum();
+        }
+        return result;
+    }
+
+    static int bucket(long micros) {
+        if (micros <= 1) return 0;
+        // Index of the smallest power of 2 not less than micros
+        int bucket = Long.SIZE - Long.numberOfLeadingZeros(micros - 1);
+        return Math.min(bucket, BUCKETS - 1);
+    }
+}
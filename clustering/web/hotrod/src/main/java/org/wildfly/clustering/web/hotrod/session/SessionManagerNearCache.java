@@ -0,0 +1,46 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.wildfly.clustering.infinispan.client.near.CaffeineNearCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * A Caffeine-based near cache that records its hits, misses, and invalidations.
+ * @param <K> the cache key type
+ * @param <V> the cache value type
+ */
+public class SessionManagerNearCache<K, V> extends CaffeineNearCache<K, V> {
+
+    private final SessionManagerNearCacheStatistics statistics;
+
+    public SessionManagerNearCache(Cache<K, MetadataValue<V>> cache, SessionManagerNearCacheStatistics statistics) {
+        super(cache);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public MetadataValue<V> get(K key) {
+        MetadataValue<V> value = super.get(key);
+        if (value != null) {
+            this.statistics.recordHit();
+        } else {
+            this.statistics.recordMiss();
+        }
+        return value;
+    }
+
+    @Override
+    public boolean remove(K key) {
+        boolean removed = super.remove(key);
+        if (removed) {
+            this.statistics.recordInvalidation();
+        }
+        return removed;
+    }
+}
@@ -14,7 +14,7 @@ import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
 import org.infinispan.client.hotrod.near.NearCache;
 import org.infinispan.client.hotrod.near.NearCacheFactory;
-import org.wildfly.clustering.infinispan.client.near.CaffeineNearCache;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.infinispan.client.near.EvictionListener;
 import org.wildfly.clustering.infinispan.client.near.SimpleKeyWeigher;
 import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
@@ -25,44 +25,81 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
- * A near-cache factory based on max-active-sessions.
+ * A near-cache factory based on max-active-sessions, or, if defined, on a memory budget.
+ * When bounded by a memory budget, entries are weighed by their estimated size in bytes, and the eviction of any entry of a session invalidates the remaining entries of that session.
  * @author Paul Ferraro
  */
 public class SessionManagerNearCacheFactory implements NearCacheFactory {
 
     private final Integer maxActiveSessions;
+    private final long maxMemory;
+    private final SessionManagerNearCacheStatistics statistics = new SessionManagerNearCacheStatistics();
 
-    public SessionManagerNearCacheFactory(Integer maxActiveSessions) {
+    /**
+     * Creates a near-cache factory.
+     * @param maxActiveSessions the maximum number of sessions in the near cache, or null, if unbounded by session count
+     * @param maxMemory the maximum estimated size of the near cache in bytes, or 0, if unbounded by memory
+     */
+    public SessionManagerNearCacheFactory(Integer maxActiveSessions, long maxMemory) {
         this.maxActiveSessions = maxActiveSessions;
+        this.maxMemory = maxMemory;
+    }
+
+    /**
+     * Indicates whether a near cache should be used, i.e. whether it is bounded by either session count or memory.
+     * @return true, if a near cache should be used, false otherwise
+     */
+    public boolean isEnabled() {
+        return (this.maxMemory > 0) || ((this.maxActiveSessions != null) && (this.maxActiveSessions > 0));
+    }
+
+    /**
+     * Returns the statistics of the near caches created by this factory.
+     * @return near cache statistics
+     */
+    public SessionManagerNearCacheStatistics getStatistics() {
+        return this.statistics;
     }
 
     @Override
     public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer) {
-        EvictionListener<K, V> listener = (this.maxActiveSessions != null) ? new EvictionListener<>(removedConsumer, new InvalidationListener()) : null;
+        EvictionListener<K, V> listener = (this.maxMemory > 0) || (this.maxActiveSessions != null) ? new EvictionListener<>(removedConsumer, new InvalidationListener(this.statistics)) : null;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (listener != null) {
-            builder.executor(Runnable::run)
-                    .maximumWeight(this.maxActiveSessions.longValue())
-                    .weigher(new SimpleKeyWeigher(SessionCreationMetaDataKey.class::isInstance))
-                    .removalListener(listener);
+            builder.executor(Runnable::run).removalListener(listener);
+            if (this.maxMemory > 0) {
+                builder.maximumWeight(this.maxMemory).weigher(new SessionMemoryWeigher());
+            } else {
+                builder.maximumWeight(this.maxActiveSessions.longValue()).weigher(new SimpleKeyWeigher(SessionCreationMetaDataKey.class::isInstance));
+            }
         }
         Cache<K, MetadataValue<V>> cache = builder.build();
         if (listener != null) {
             listener.accept(cache);
         }
-        return new CaffeineNearCache<>(cache);
+        return new SessionManagerNearCache<>(cache, this.statistics);
     }
 
     private static class InvalidationListener implements BiConsumer<Cache<Object, MetadataValue<Object>>, Map.Entry<Object, Object>> {
+        private final SessionManagerNearCacheStatistics statistics;
+
+        InvalidationListener(SessionManagerNearCacheStatistics statistics) {
+            this.statistics = statistics;
+        }
 
         @Override
         public void accept(Cache<Object, MetadataValue<Object>> cache, Map.Entry<Object, Object> entry) {
+            this.statistics.recordEviction();
             Object key = entry.getKey();
-            if (key instanceof SessionCreationMetaDataKey) {
-                String id = ((SessionCreationMetaDataKey) key).getId();
+            if ((key instanceof SessionCreationMetaDataKey) || (key instanceof SessionAccessMetaDataKey) || (key instanceof SessionAttributesKey)) {
+                // Invalidate remaining entries of the evicted session
+                @SuppressWarnings("unchecked")
+                String id = ((Key<String>) key).getId();
                 List<Object> keys = new LinkedList<>();
+                keys.add(new SessionCreationMetaDataKey(id));
                 keys.add(new SessionAccessMetaDataKey(id));
                 keys.add(new SessionAttributesKey(id));
+                keys.remove(key);
                 cache.invalidateAll(keys);
             }
         }
@@ -0,0 +1,65 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
+
+/**
+ * Statistics of the near cache of a HotRod session manager.
+ * The time to load an entry not found in the near cache is recorded by the {@link HotRodSessionFactory#getReadLatency() read latency} of the session manager.
+ */
+public class SessionManagerNearCacheStatistics implements SessionNearCacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    @Override
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hits = this.hits.sum();
+        long lookups = hits + this.misses.sum();
+        return (lookups > 0) ? (double) hits / lookups : 0;
+    }
+
+    @Override
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return this.invalidations.sum();
+    }
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+
+    void recordEviction() {
+        this.evictions.increment();
+    }
+
+    void recordInvalidation() {
+        this.invalidations.increment();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.Map;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs near cache entries of a session manager by their estimated memory footprint, in bytes.
+ * Session attributes are weighed by their marshalled size, while session meta data entries are assigned a fixed weight.
+ */
+public class SessionMemoryWeigher implements Weigher<Object, Object> {
+
+    // Estimated overhead of a near cache entry, including its key and metadata value wrapper
+    static final int ENTRY_OVERHEAD = 128;
+    // Estimated size of a session meta data entry, or of a marshalled value of unknown size
+    static final int DEFAULT_VALUE_SIZE = 64;
+    // Estimated overhead of a single fine granularity session attribute
+    static final int ATTRIBUTE_OVERHEAD = 48;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        Object entryValue = (value instanceof MetadataValue) ? ((MetadataValue<?>) value).getValue() : value;
+        long weight = ENTRY_OVERHEAD + weighValue(entryValue);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long weighValue(Object value) {
+        if (value instanceof ByteBufferMarshalledValue) {
+            return ((ByteBufferMarshalledValue<?>) value).size().orElse(DEFAULT_VALUE_SIZE);
+        }
+        if (value instanceof Map) {
+            // Fine granularity session attributes
+            long weight = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object name = entry.getKey();
+                weight += ATTRIBUTE_OVERHEAD + ((name instanceof String) ? 2L * ((String) name).length() : 0) + weighValue(entry.getValue());
+            }
+            return weight;
+        }
+        return DEFAULT_VALUE_SIZE;
+    }
+}
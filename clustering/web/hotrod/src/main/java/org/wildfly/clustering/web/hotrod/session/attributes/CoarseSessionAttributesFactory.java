@@ -19,12 +19,12 @@ import org.wildfly.clustering.ee.hotrod.RemoteCacheMutatorFactory;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.cache.session.CompositeImmutableSession;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
-import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.CoarseSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.ImmutableSessionActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.SessionActivationNotifier;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactory;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -33,7 +33,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<S, C, L, V> implements HotRodSessionAttributesFactory<C, Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, V> cache;
     private final Flag[] ignoreReturnFlags;
@@ -67,10 +67,16 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
 
     @Override
     public Map<String, Object> findValue(String id) {
-        V value = this.cache.get(new SessionAttributesKey(id));
+        return this.findValue(id, this.cache.get(new SessionAttributesKey(id)));
+    }
+
+    @Override
+    public Map<String, Object> findValue(String id, Object value) {
         if (value != null) {
             try {
-                return this.marshaller.read(value);
+                @SuppressWarnings("unchecked")
+                V marshalledValue = (V) value;
+                return this.marshaller.read(marshalledValue);
             } catch (IOException e) {
                 Logger.ROOT_LOGGER.failedToActivateSession(e, id.toString());
                 this.remove(id);
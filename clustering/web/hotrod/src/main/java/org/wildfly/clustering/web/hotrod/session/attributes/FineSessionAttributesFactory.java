@@ -18,17 +18,19 @@ import org.wildfly.clustering.ee.hotrod.RemoteCacheComputeMutatorFactory;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.cache.session.CompositeImmutableSession;
 import org.wildfly.clustering.web.cache.session.attributes.SessionAttributes;
-import org.wildfly.clustering.web.cache.session.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.fine.ImmutableSessionAttributeActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeChangeDetector;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapComputeFunction;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactory;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 
 /**
  * {@link SessionAttributesFactory} for fine granularity sessions.
@@ -36,7 +38,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * A separate cache entry stores the activate attribute names for the session.
  * @author Paul Ferraro
  */
-public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class FineSessionAttributesFactory<S, C, L, V> implements HotRodSessionAttributesFactory<C, Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, Map<String, V>> cache;
     private final Flag[] ignoreReturnFlags;
@@ -45,6 +47,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     private final CacheProperties properties;
     private final MutatorFactory<SessionAttributesKey, Map<String, V>> mutatorFactory;
     private final HttpSessionActivationListenerProvider<S, C, L> provider;
+    private final SessionAttributeChangeDetector<V> detector;
 
     public FineSessionAttributesFactory(HotRodSessionAttributesFactoryConfiguration<S, C, L, Object, V> configuration) {
         this.cache = configuration.getCache();
@@ -54,6 +57,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         this.properties = configuration.getCacheProperties();
         this.mutatorFactory = new RemoteCacheComputeMutatorFactory<>(this.cache, this.ignoreReturnFlags, SessionAttributeMapComputeFunction::new);
         this.provider = configuration.getHttpSessionActivationListenerProvider();
+        this.detector = configuration.getChangeDetector();
     }
 
     @Override
@@ -63,17 +67,28 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
 
     @Override
     public Map<String, Object> findValue(String id) {
-        return this.getValue(id, true);
+        return this.findValue(id, this.cache.get(new SessionAttributesKey(id)));
     }
 
     @Override
     public Map<String, Object> tryValue(String id) {
-        return this.getValue(id, false);
+        return this.tryValue(id, this.cache.get(new SessionAttributesKey(id)));
     }
 
-    private Map<String, Object> getValue(String id, boolean purgeIfInvalid) {
+    @Override
+    public Map<String, Object> findValue(String id, Object value) {
+        return this.getValue(id, value, true);
+    }
+
+    @Override
+    public Map<String, Object> tryValue(String id, Object value) {
+        return this.getValue(id, value, false);
+    }
+
+    private Map<String, Object> getValue(String id, Object cacheValue, boolean purgeIfInvalid) {
         Map<String, Object> attributes = this.createValue(id, null);
-        Map<String, V> value = this.cache.get(new SessionAttributesKey(id));
+        @SuppressWarnings("unchecked")
+        Map<String, V> value = (Map<String, V>) cacheValue;
         if (value != null) {
             for (Map.Entry<String, V> entry : value.entrySet()) {
                 String attributeName = entry.getKey();
@@ -100,7 +115,12 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     @Override
     public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, attributes)), context) : null;
-        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, notifier);
+        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, notifier, this.detector);
+    }
+
+    @Override
+    public SessionAttributeReplicationStatistics getReplicationStatistics() {
+        return this.detector;
     }
 
     @Override
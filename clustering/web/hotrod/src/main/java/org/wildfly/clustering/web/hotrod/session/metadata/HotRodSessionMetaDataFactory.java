@@ -68,10 +68,19 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
     @Override
     public SessionMetaDataEntry<C> findValue(String id) {
+        // Use bulk read
+        return this.findValue(id, this.cache.getAll(Set.of(new SessionCreationMetaDataKey(id), new SessionAccessMetaDataKey(id))));
+    }
+
+    /**
+     * Reads the meta data of a session from the specified result of a bulk read, which must include the meta data keys of the session.
+     * @param id a session identifier
+     * @param entries the entries returned by a bulk read
+     * @return the session meta data, or null, if the session does not exist
+     */
+    public SessionMetaDataEntry<C> findValue(String id, Map<Key<String>, Object> entries) {
         SessionCreationMetaDataKey creationMetaDataKey = new SessionCreationMetaDataKey(id);
         SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
-        // Use bulk read
-        Map<Key<String>, Object> entries = this.cache.getAll(Set.of(creationMetaDataKey, accessMetaDataKey));
         @SuppressWarnings("unchecked")
         SessionCreationMetaDataEntry<C> creationMetaData = (SessionCreationMetaDataEntry<C>) entries.get(creationMetaDataKey);
         SessionAccessMetaDataEntry accessMetaData = (SessionAccessMetaDataEntry) entries.get(accessMetaDataKey);
@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void bucket() {
+        assertEquals(0, LatencyHistogram.bucket(0));
+        assertEquals(0, LatencyHistogram.bucket(1));
+        assertEquals(1, LatencyHistogram.bucket(2));
+        assertEquals(2, LatencyHistogram.bucket(3));
+        assertEquals(2, LatencyHistogram.bucket(4));
+        assertEquals(10, LatencyHistogram.bucket(1024));
+        assertEquals(11, LatencyHistogram.bucket(1025));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void record() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(Duration.ZERO, histogram.getMean());
+        assertEquals(Duration.ZERO, histogram.getPercentile(99));
+
+        for (int i = 0; i < 90; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        for (int i = 0; i < 10; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(1000));
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(190)), histogram.getMean());
+        assertEquals(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(128)), histogram.getPercentile(50));
+        assertEquals(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(128)), histogram.getPercentile(90));
+        assertEquals(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(1024)), histogram.getPercentile(99));
+
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(90, counts[7]);
+        assertEquals(10, counts[10]);
+
+        histogram.record(TimeUnit.SECONDS.toNanos(10));
+        assertNull(histogram.getPercentile(100));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.impl.MetadataValueImpl;
+import org.infinispan.client.hotrod.near.NearCache;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionAccessMetaDataKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionCreationMetaDataKey;
+
+/**
+ * Unit test for {@link SessionManagerNearCacheFactory}.
+ */
+public class SessionManagerNearCacheFactoryTestCase {
+
+    @Test
+    public void disabled() {
+        assertFalse(new SessionManagerNearCacheFactory(null, 0).isEnabled());
+        assertFalse(new SessionManagerNearCacheFactory(0, 0).isEnabled());
+        assertTrue(new SessionManagerNearCacheFactory(10, 0).isEnabled());
+        assertTrue(new SessionManagerNearCacheFactory(null, 1024).isEnabled());
+    }
+
+    @Test
+    public void statistics() {
+        SessionManagerNearCacheFactory factory = new SessionManagerNearCacheFactory(10, 0);
+        List<Object> removed = new ArrayList<>();
+        NearCache<Object, Object> cache = factory.createNearCache(null, (key, value) -> removed.add(key));
+        SessionManagerNearCacheStatistics statistics = factory.getStatistics();
+
+        Object key = new SessionCreationMetaDataKey("foo");
+        assertNull(cache.get(key));
+        assertTrue(cache.putIfAbsent(key, value("bar")));
+        assertNotNull(cache.get(key));
+        assertNotNull(cache.get(key));
+        assertTrue(cache.remove(key));
+        assertFalse(cache.remove(key));
+
+        assertEquals(2, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(2d / 3, statistics.getHitRatio(), 0.001);
+        assertEquals(1, statistics.getInvalidations());
+        assertEquals(0, statistics.getEvictions());
+    }
+
+    @Test
+    public void memoryBudget() {
+        int attributesSize = 1000;
+        // Room for the entries of a single session
+        long maxMemory = 3 * SessionMemoryWeigher.ENTRY_OVERHEAD + 2 * SessionMemoryWeigher.DEFAULT_VALUE_SIZE + attributesSize;
+        SessionManagerNearCacheFactory factory = new SessionManagerNearCacheFactory(null, maxMemory);
+        List<Object> removed = new ArrayList<>();
+        NearCache<Object, Object> cache = factory.createNearCache(null, (key, value) -> removed.add(key));
+
+        for (String id : List.of("foo", "bar")) {
+            cache.putIfAbsent(new SessionCreationMetaDataKey(id), value(id));
+            cache.putIfAbsent(new SessionAccessMetaDataKey(id), value(id));
+            cache.putIfAbsent(new SessionAttributesKey(id), value(new ByteBufferMarshalledValue<>(ByteBuffer.allocate(attributesSize))));
+        }
+
+        // Eviction of any entry of a session must invalidate the remaining entries of that session
+        assertTrue(cache.size() <= 3);
+        assertTrue(factory.getStatistics().getEvictions() > 0);
+        for (String id : List.of("foo", "bar")) {
+            boolean creation = cache.get(new SessionCreationMetaDataKey(id)) != null;
+            boolean access = cache.get(new SessionAccessMetaDataKey(id)) != null;
+            boolean attributes = cache.get(new SessionAttributesKey(id)) != null;
+            assertTrue(creation == access && access == attributes);
+        }
+    }
+
+    private static MetadataValue<Object> value(Object value) {
+        return new MetadataValueImpl<>(-1, -1, -1, -1, 0, value);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.context.Flag;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntriesEvicted;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryActivated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryExpired;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryInvalidated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryPassivated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
+import org.infinispan.notifications.cachelistener.event.CacheEntriesEvictedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.infinispan.distribution.CacheLocality;
+import org.wildfly.clustering.infinispan.distribution.Locality;
+import org.wildfly.clustering.infinispan.listener.KeyFilter;
+import org.wildfly.clustering.infinispan.listener.ListenerRegistrar;
+import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
+import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
+import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKeyFilter;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Index of the identifiers of active sessions, i.e. sessions whose meta data is primarily owned by, and held in the memory of, this member.
+ * The index is maintained incrementally via cache entry events, and is resynchronized with the cache contents following a topology change.
+ * This avoids iterating over the entire cache in order to count or list active sessions.
+ */
+@Listener(observation = Listener.Observation.POST)
+public class ActiveSessionIndex implements ListenerRegistrar {
+    private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(ActiveSessionIndex.class);
+
+    private final Cache<Key<String>, ?> cache;
+    private final Function<Cache<?, ?>, Locality> localityFactory;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+    private final AtomicReference<Future<?>> synchronizeTaskFuture = new AtomicReference<>();
+    private volatile Locality locality;
+
+    public ActiveSessionIndex(Cache<Key<String>, ?> cache) {
+        this(cache, CacheLocality::new);
+    }
+
+    ActiveSessionIndex(Cache<Key<String>, ?> cache, Function<Cache<?, ?>, Locality> localityFactory) {
+        this.cache = cache;
+        this.localityFactory = localityFactory;
+        // Resynchronization is only needed following a topology change, so do not retain an idle thread
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), THREAD_FACTORY);
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    @Override
+    public ListenerRegistration register() {
+        this.locality = this.localityFactory.apply(this.cache);
+        this.cache.addListener(this, new KeyFilter<Key<String>>(SessionMetaDataKeyFilter.INSTANCE), null);
+        // Populate index with existing sessions
+        this.synchronize();
+        return () -> {
+            this.cache.removeListener(this);
+            WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_NOW_ACTION);
+            try {
+                this.executor.awaitTermination(this.cache.getCacheConfiguration().transaction().cacheStopTimeout(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.sessions.clear();
+        };
+    }
+
+    /**
+     * Returns the identifiers of the active sessions of this member.
+     * @return an unmodifiable view of session identifiers
+     */
+    public Set<String> getSessions() {
+        return Collections.unmodifiableSet(this.sessions);
+    }
+
+    /**
+     * Returns the number of active sessions of this member.
+     * @return a number of sessions
+     */
+    public long getSessionCount() {
+        return this.sessions.size();
+    }
+
+    @CacheEntryCreated
+    @CacheEntryActivated
+    public void added(CacheEntryEvent<Key<String>, ?> event) {
+        Key<String> key = event.getKey();
+        if (this.locality.isLocal(key)) {
+            this.sessions.add(key.getId());
+        }
+    }
+
+    @CacheEntryRemoved
+    @CacheEntryExpired
+    @CacheEntryInvalidated
+    @CacheEntryPassivated
+    public void removed(CacheEntryEvent<Key<String>, ?> event) {
+        this.sessions.remove(event.getKey().getId());
+    }
+
+    @CacheEntriesEvicted
+    public void evicted(CacheEntriesEvictedEvent<Key<String>, ?> event) {
+        for (Key<String> key : event.getEntries().keySet()) {
+            this.sessions.remove(key.getId());
+        }
+    }
+
+    @TopologyChanged
+    public void topologyChanged(TopologyChangedEvent<Key<String>, ?> event) {
+        Locality locality = this.localityFactory.apply(event.getCache());
+        this.locality = locality;
+        // Drop sessions that are no longer primarily owned by this member immediately, and discover newly owned sessions asynchronously
+        this.sessions.removeIf(id -> !locality.isLocal(new SessionMetaDataKey(id)));
+        try {
+            Future<?> future = this.synchronizeTaskFuture.getAndSet(this.executor.submit(this::synchronize));
+            if (future != null) {
+                future.cancel(true);
+            }
+        } catch (RejectedExecutionException e) {
+            // Executor was shutdown
+        }
+    }
+
+    /**
+     * Resynchronizes this index with the sessions held in memory, based on the current locality.
+     */
+    private void synchronize() {
+        Locality locality = this.locality;
+        // Remove sessions that are no longer primarily owned by this member
+        this.sessions.removeIf(id -> !locality.isLocal(new SessionMetaDataKey(id)));
+        AdvancedCache<Key<String>, ?> cache = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD, Flag.SKIP_LOCKING);
+        try (Stream<Key<String>> keys = cache.keySet().stream()) {
+            keys.filter(SessionMetaDataKeyFilter.INSTANCE.and(locality::isLocal)).forEach(key -> {
+                if (Thread.currentThread().isInterrupted()) return;
+                // Verify that a newly indexed session was not concurrently removed, since its event may have preceded its indexing
+                if (this.sessions.add(key.getId()) && !cache.containsKey(key)) {
+                    this.sessions.remove(key.getId());
+                }
+            });
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
+
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
 
@@ -13,4 +15,17 @@ import org.wildfly.clustering.web.session.DistributableSessionManagementConfigur
  * @author Paul Ferraro
  */
 public interface InfinispanSessionManagementConfiguration<M> extends DistributableSessionManagementConfiguration<M>, InfinispanCacheConfiguration {
+
+    /**
+     * Returns the precision of the timing wheel used to schedule session expiration.
+     * @return the duration of each bucket of the timing wheel, or {@link Duration#ZERO} if session expiration is scheduled in sorted order
+     */
+    Duration getExpirationPrecision();
+
+    /**
+     * Returns the fraction of the session timeout that the last access time of a session must advance before it is written to the cache.
+     * Applies only to caches whose sessions are scheduled for expiration by the member that serves them, i.e. local and invalidation caches.
+     * @return a fraction of the session timeout, or 0, if every last access is written to the cache
+     */
+    double getLastAccessFlushThreshold();
 }
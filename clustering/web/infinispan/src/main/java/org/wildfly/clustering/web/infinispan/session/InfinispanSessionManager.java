@@ -28,6 +28,7 @@ import org.wildfly.clustering.ee.expiration.Expiration;
 import org.wildfly.clustering.ee.expiration.ExpirationMetaData;
 import org.wildfly.clustering.infinispan.distribution.CacheLocality;
 import org.wildfly.clustering.infinispan.distribution.Locality;
+import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
 import org.wildfly.clustering.web.cache.session.SessionFactory;
 import org.wildfly.clustering.web.cache.session.SimpleImmutableSession;
 import org.wildfly.clustering.web.cache.session.ValidSession;
@@ -35,6 +36,7 @@ import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKeyFilter;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.session.SessionManager;
 
 /**
@@ -59,8 +61,10 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     private final Consumer<ImmutableSession> closeTask;
     private final Registrar<SessionManager<LC, TransactionBatch>> registrar;
     private final Expiration expiration;
+    private final ActiveSessionIndex activeSessions;
 
     private volatile Registration registration;
+    private volatile ListenerRegistration activeSessionsRegistration;
 
     public InfinispanSessionManager(SessionFactory<SC, MV, AV, LC> factory, InfinispanSessionManagerConfiguration<SC, LC> configuration) {
         this.factory = factory;
@@ -74,6 +78,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
         this.registrar = configuration.getRegistrar();
         this.startTask = configuration.getStartTask();
         this.expiration = configuration;
+        this.activeSessions = new ActiveSessionIndex(this.cache);
         this.closeTask = new Consumer<>() {
             @Override
             public void accept(ImmutableSession session) {
@@ -87,6 +92,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     @Override
     public void start() {
         this.registration = this.registrar.register(this);
+        this.activeSessionsRegistration = this.activeSessions.register();
         this.identifierFactory.start();
         this.startTask.run();
     }
@@ -103,6 +109,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
             }
         }
         this.identifierFactory.stop();
+        this.activeSessionsRegistration.close();
         this.registration.close();
     }
 
@@ -157,7 +164,7 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     @Override
     public Set<String> getActiveSessions() {
         // Omit remote sessions (i.e. when using DIST mode) as well as passivated sessions
-        return this.getSessions(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD);
+        return Set.copyOf(this.activeSessions.getSessions());
     }
 
     @Override
@@ -175,6 +182,11 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
 
     @Override
     public long getActiveSessionCount() {
-        return this.getActiveSessions().size();
+        return this.activeSessions.getSessionCount();
+    }
+
+    @Override
+    public SessionAttributeReplicationStatistics getAttributeReplicationStatistics() {
+        return this.factory.getAttributesFactory().getReplicationStatistics();
     }
 }
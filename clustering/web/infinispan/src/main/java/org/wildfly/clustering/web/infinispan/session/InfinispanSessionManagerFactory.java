@@ -10,6 +10,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
 import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.ee.Key;
@@ -66,7 +67,6 @@ import org.wildfly.clustering.web.session.SpecificationProvider;
  * @author Paul Ferraro
  */
 public class InfinispanSessionManagerFactory<S, SC, AL, LC> implements SessionManagerFactory<SC, LC, TransactionBatch>, Runnable {
-
     private final org.wildfly.clustering.ee.Scheduler<String, ExpirationMetaData> scheduler;
     private final SpecificationProvider<S, SC, AL> provider;
     private final KeyAffinityServiceFactory affinityFactory;
@@ -83,14 +83,19 @@ public class InfinispanSessionManagerFactory<S, SC, AL, LC> implements SessionMa
         this.provider = config.getSpecificationProvider();
         this.notifierFactory = new SessionAttributeActivationNotifierFactory<>(this.provider);
         CacheProperties properties = config.getCacheProperties();
-        SessionMetaDataFactory<ContextualSessionMetaDataEntry<LC>> metaDataFactory = new InfinispanSessionMetaDataFactory<>(config);
+        Cache<Key<String>, ?> cache = config.getCache();
+        CacheMode mode = cache.getCacheConfiguration().clustering().cacheMode();
+        // Coalesced last access times are known only to the member that served a given request
+        // Thus coalescing requires that the same member also schedules, and checks, the expiration of that session
+        double lastAccessFlushThreshold = !mode.isReplicated() && !mode.isDistributed() ? config.getLastAccessFlushThreshold() : 0;
+        SessionMetaDataFactory<ContextualSessionMetaDataEntry<LC>> metaDataFactory = new InfinispanSessionMetaDataFactory<>(config, lastAccessFlushThreshold);
         this.factory = new CompositeSessionFactory<>(metaDataFactory, this.createSessionAttributesFactory(config), config.getLocalContextFactory());
         this.remover = new ExpiredSessionRemover<>(this.factory);
-        Cache<Key<String>, ?> cache = config.getCache();
-        CacheEntryScheduler<String, ExpirationMetaData> localScheduler = new SessionExpirationScheduler<>(config.getBatcher(), this.factory.getMetaDataFactory(), this.remover, Duration.ofMillis(cache.getCacheConfiguration().transaction().cacheStopTimeout()));
+        CacheEntryScheduler<String, ExpirationMetaData> localScheduler = new SessionExpirationScheduler<>(config.getBatcher(), this.factory.getMetaDataFactory(), this.remover, Duration.ofMillis(cache.getCacheConfiguration().transaction().cacheStopTimeout()), config.getExpirationPrecision());
         CommandDispatcherFactory dispatcherFactory = config.getCommandDispatcherFactory();
         Group group = dispatcherFactory.getGroup();
-        this.scheduler = group.isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(dispatcherFactory, cache.getName(), localScheduler, new PrimaryOwnerLocator<>(cache, config.getMemberFactory()), SessionMetaDataKey::new, properties.isTransactional() ? new ScheduleWithExpirationMetaDataCommandFactory<>() : ScheduleWithTransientMetaDataCommand::new);
+        // If last access updates are coalesced, the primary owner must schedule expiration using the actual, rather than the persisted, last access time
+        this.scheduler = group.isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(dispatcherFactory, cache.getName(), localScheduler, new PrimaryOwnerLocator<>(cache, config.getMemberFactory()), SessionMetaDataKey::new, properties.isTransactional() || (lastAccessFlushThreshold > 0) ? new ScheduleWithExpirationMetaDataCommandFactory<>() : ScheduleWithTransientMetaDataCommand::new);
 
         this.scheduleTask = new ScheduleLocalKeysTask<>(cache, SessionMetaDataKeyFilter.INSTANCE, localScheduler);
         this.schedulerListenerRegistration = new SchedulerTopologyChangeListener<>(cache, localScheduler, this.scheduleTask).register();
@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
+
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
@@ -25,4 +27,17 @@ public interface InfinispanSessionManagerFactoryConfiguration<S, SC, AL, LC> ext
     CommandDispatcherFactory getCommandDispatcherFactory();
 
     NodeFactory<Address> getMemberFactory();
+
+    /**
+     * Returns the precision of the timing wheel used to schedule session expiration.
+     * @return the duration of each bucket of the timing wheel, or {@link Duration#ZERO} if session expiration is scheduled in sorted order
+     */
+    Duration getExpirationPrecision();
+
+    /**
+     * Returns the fraction of the session timeout that the last access time of a session must advance before it is written to the cache.
+     * Applies only to caches whose sessions are scheduled for expiration by the member that serves them, i.e. local and invalidation caches.
+     * @return a fraction of the session timeout, or 0, if every last access is written to the cache
+     */
+    double getLastAccessFlushThreshold();
 }
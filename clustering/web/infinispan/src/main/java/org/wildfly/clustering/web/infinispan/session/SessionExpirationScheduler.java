@@ -5,13 +5,16 @@
 package org.wildfly.clustering.web.infinispan.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.function.Predicate;
 
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ee.cache.scheduler.ScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.TimingWheelScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.infinispan.expiration.AbstractExpirationScheduler;
 import org.wildfly.clustering.web.cache.session.metadata.ImmutableSessionMetaDataFactory;
@@ -29,10 +32,26 @@ public class SessionExpirationScheduler<MV> extends AbstractExpirationScheduler<
     private final ImmutableSessionMetaDataFactory<MV> metaDataFactory;
 
     public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout) {
-        super(new LocalScheduler<>(new SortedScheduledEntries<>(), new SessionRemoveTask(batcher, remover), closeTimeout));
+        this(batcher, metaDataFactory, remover, closeTimeout, Duration.ZERO);
+    }
+
+    /**
+     * Creates a session expiration scheduler.
+     * @param batcher a batcher
+     * @param metaDataFactory a session meta data factory
+     * @param remover a session remover
+     * @param closeTimeout the duration to wait for pending expiration tasks on close
+     * @param precision if positive, the precision of a timing wheel used to schedule session expiration, in lieu of sorted entries
+     */
+    public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout, Duration precision) {
+        super(new LocalScheduler<>(createScheduledEntries(precision), new SessionRemoveTask(batcher, remover), closeTimeout));
         this.metaDataFactory = metaDataFactory;
     }
 
+    private static ScheduledEntries<String, Instant> createScheduledEntries(Duration precision) {
+        return (!precision.isNegative() && !precision.isZero()) ? new TimingWheelScheduledEntries<>(precision) : new SortedScheduledEntries<>();
+    }
+
     @Override
     public void schedule(String sessionId) {
         MV value = this.metaDataFactory.findValue(sessionId);
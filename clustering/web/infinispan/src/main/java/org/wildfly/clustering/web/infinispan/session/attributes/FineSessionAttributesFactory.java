@@ -28,12 +28,14 @@ import org.wildfly.clustering.web.cache.session.attributes.SimpleImmutableSessio
 import org.wildfly.clustering.web.cache.session.attributes.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.cache.session.attributes.fine.ImmutableSessionAttributeActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeChangeDetector;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapComputeFunction;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 
 /**
  * {@link SessionAttributesFactory} for fine granularity sessions.
@@ -51,6 +53,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     private final CacheProperties properties;
     private final MutatorFactory<SessionAttributesKey, Map<String, V>> mutatorFactory;
     private final HttpSessionActivationListenerProvider<S, C, L> provider;
+    private final SessionAttributeChangeDetector<V> detector;
     private final Function<String, SessionAttributeActivationNotifier> notifierFactory;
     private final ListenerRegistration evictListenerRegistration;
     private final ListenerRegistration prePassivateListenerRegistration;
@@ -65,6 +68,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         this.properties = configuration.getCacheProperties();
         this.mutatorFactory = new CacheComputeMutatorFactory<>(this.cache, SessionAttributeMapComputeFunction::new);
         this.provider = configuration.getHttpSessionActivationListenerProvider();
+        this.detector = configuration.getChangeDetector();
         this.notifierFactory = configuration.getActivationNotifierFactory();
         this.prePassivateListenerRegistration = !this.properties.isPersistent() ? new PrePassivateBlockingListener<>(this.cache, this::prePassivate).register(SessionAttributesKey.class) : null;
         this.postActivateListenerRegistration = !this.properties.isPersistent() ? new PostActivateBlockingListener<>(this.cache, this::postActivate).register(SessionAttributesKey.class) : null;
@@ -135,7 +139,12 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     @Override
     public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, attributes)), context) : null;
-        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, notifier);
+        return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, this.properties, notifier, this.detector);
+    }
+
+    @Override
+    public SessionAttributeReplicationStatistics getReplicationStatistics() {
+        return this.detector;
     }
 
     @Override
@@ -17,6 +17,7 @@ import org.wildfly.clustering.ee.infinispan.CacheEntryComputeMutator;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.web.cache.session.metadata.InvalidatableSessionMetaData;
 import org.wildfly.clustering.web.cache.session.metadata.SessionMetaDataFactory;
+import org.wildfly.clustering.web.cache.session.metadata.coarse.CoalescingSessionMetaDataMutator;
 import org.wildfly.clustering.web.cache.session.metadata.coarse.ContextualSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.coarse.DefaultImmutableSessionMetaData;
 import org.wildfly.clustering.web.cache.session.metadata.coarse.DefaultSessionMetaData;
@@ -24,6 +25,7 @@ import org.wildfly.clustering.web.cache.session.metadata.coarse.DefaultSessionMe
 import org.wildfly.clustering.web.cache.session.metadata.coarse.MutableSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.coarse.MutableSessionMetaDataOffsetValues;
 import org.wildfly.clustering.web.cache.session.metadata.coarse.SessionMetaDataEntryFunction;
+import org.wildfly.clustering.web.cache.session.metadata.coarse.UnflushedLastAccessTimes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 
 /**
@@ -38,8 +40,21 @@ public class InfinispanSessionMetaDataFactory<L> implements SessionMetaDataFacto
     private final Cache<SessionMetaDataKey, ContextualSessionMetaDataEntry<L>> writeOnlyCache;
     private final Cache<SessionMetaDataKey, ContextualSessionMetaDataEntry<L>> silentWriteCache;
     private final CacheProperties properties;
+    private final double lastAccessFlushThreshold;
+    private final UnflushedLastAccessTimes unflushedLastAccessTimes;
 
     public InfinispanSessionMetaDataFactory(InfinispanConfiguration configuration) {
+        this(configuration, 0d);
+    }
+
+    /**
+     * Creates a session meta data factory that coalesces last access updates.
+     * @param configuration the cache configuration
+     * @param lastAccessFlushThreshold the fraction of the session timeout that the last access time of a session must advance before it is written to the cache, or 0, if every last access should be written.
+     */
+    public InfinispanSessionMetaDataFactory(InfinispanConfiguration configuration, double lastAccessFlushThreshold) {
+        this.lastAccessFlushThreshold = lastAccessFlushThreshold;
+        this.unflushedLastAccessTimes = (lastAccessFlushThreshold > 0) ? new UnflushedLastAccessTimes() : null;
         this.cache = configuration.getCache();
         this.readForUpdateCache = configuration.getReadForUpdateCache();
         this.writeOnlyCache = configuration.getWriteOnlyCache();
@@ -72,24 +87,44 @@ public class InfinispanSessionMetaDataFactory<L> implements SessionMetaDataFacto
     @Override
     public boolean remove(String id) {
         this.writeOnlyCache.remove(new SessionMetaDataKey(id));
+        this.forgetLastAccess(id);
         return true;
     }
 
     @Override
     public boolean purge(String id) {
         this.silentWriteCache.remove(new SessionMetaDataKey(id));
+        this.forgetLastAccess(id);
         return true;
     }
 
+    private void forgetLastAccess(String id) {
+        if (this.unflushedLastAccessTimes != null) {
+            this.unflushedLastAccessTimes.flushed(id);
+        }
+    }
+
     @Override
     public InvalidatableSessionMetaData createSessionMetaData(String id, ContextualSessionMetaDataEntry<L> entry) {
         MutableSessionMetaDataOffsetValues delta = this.properties.isTransactional() && entry.isNew() ? null : MutableSessionMetaDataOffsetValues.from(entry);
         Mutator mutator = (delta != null) ? new CacheEntryComputeMutator<>(this.cache, new SessionMetaDataKey(id), new SessionMetaDataEntryFunction<>(delta)) : Mutator.PASSIVE;
+        if ((delta != null) && (this.unflushedLastAccessTimes != null)) {
+            // Account for any last access of this session that was not yet written to the cache
+            this.unflushedLastAccessTimes.apply(id, delta);
+            mutator = new CoalescingSessionMetaDataMutator(mutator, id, this.unflushedLastAccessTimes, entry, delta, this.lastAccessFlushThreshold);
+        }
         return new DefaultSessionMetaData((delta != null) ? new MutableSessionMetaDataEntry(entry, delta) : entry, mutator);
     }
 
     @Override
     public ImmutableSessionMetaData createImmutableSessionMetaData(String id, ContextualSessionMetaDataEntry<L> entry) {
+        if (this.unflushedLastAccessTimes != null) {
+            // Determine expiration using any last access of this session that was not yet written to the cache
+            MutableSessionMetaDataOffsetValues values = MutableSessionMetaDataOffsetValues.from(entry);
+            if (this.unflushedLastAccessTimes.apply(id, values)) {
+                return new DefaultImmutableSessionMetaData(new MutableSessionMetaDataEntry(entry, values));
+            }
+        }
         return new DefaultImmutableSessionMetaData(entry);
     }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.web.infinispan.session;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.context.Flag;
+import org.infinispan.notifications.cachelistener.event.CacheEntriesEvictedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryEvent;
+import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
+import org.wildfly.clustering.web.infinispan.session.attributes.SessionAttributesKey;
+import org.wildfly.clustering.web.infinispan.session.metadata.SessionMetaDataKey;
+
+/**
+ * Unit test for {@link ActiveSessionIndex}.
+ */
+public class ActiveSessionIndexTestCase {
+
+    @Mock
+    private Cache<Key<String>, Object> cache;
+    @Mock
+    private AdvancedCache<Key<String>, Object> advancedCache;
+    @Mock
+    private CacheSet<Key<String>> keySet;
+
+    // Cache contents, keyed by session identifier
+    private final Map<Key<String>, Object> entries = new ConcurrentHashMap<>();
+    // Identifiers of sessions primarily owned by this member
+    private final Set<String> owned = ConcurrentHashMap.newKeySet();
+
+    private AutoCloseable mocks;
+    private ActiveSessionIndex index;
+
+    @Before
+    public void init() {
+        this.mocks = MockitoAnnotations.openMocks(this);
+        when(this.cache.getAdvancedCache()).thenReturn(this.advancedCache);
+        when(this.cache.getCacheConfiguration()).thenReturn(new ConfigurationBuilder().build());
+        when(this.advancedCache.withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD, Flag.SKIP_LOCKING)).thenReturn(this.advancedCache);
+        when(this.advancedCache.keySet()).thenReturn(this.keySet);
+        when(this.advancedCache.containsKey(any())).thenAnswer(invocation -> this.entries.containsKey(invocation.getArgument(0)));
+        when(this.keySet.stream()).thenAnswer(invocation -> this.stream(List.copyOf(this.entries.keySet())));
+
+        this.index = new ActiveSessionIndex(this.cache, cache -> {
+            Set<String> owned = Set.copyOf(this.owned);
+            return key -> owned.contains(((Key<?>) key).getId());
+        });
+    }
+
+    @After
+    public void destroy() throws Exception {
+        this.mocks.close();
+    }
+
+    @Test
+    public void register() {
+        this.create("local");
+        this.create("remote");
+        this.entries.put(new SessionAttributesKey("local"), new Object());
+        this.owned.add("local");
+
+        try (ListenerRegistration registration = this.index.register()) {
+            verify(this.cache).addListener(same(this.index), any(), isNull());
+            Assert.assertEquals(Set.of("local"), this.index.getSessions());
+            Assert.assertEquals(1L, this.index.getSessionCount());
+        }
+
+        verify(this.cache).removeListener(this.index);
+        Assert.assertTrue(this.index.getSessions().isEmpty());
+    }
+
+    @Test
+    public void events() {
+        this.owned.add("created");
+        this.owned.add("activated");
+        this.owned.add("evicted");
+
+        try (ListenerRegistration registration = this.index.register()) {
+            Assert.assertTrue(this.index.getSessions().isEmpty());
+
+            this.index.added(this.event("created"));
+            this.index.added(this.event("activated"));
+            this.index.added(this.event("evicted"));
+            // Session of another member
+            this.index.added(this.event("remote"));
+
+            Assert.assertEquals(Set.of("created", "activated", "evicted"), this.index.getSessions());
+
+            this.index.removed(this.event("created"));
+
+            Assert.assertEquals(Set.of("activated", "evicted"), this.index.getSessions());
+
+            CacheEntriesEvictedEvent<Key<String>, Object> event = mock(CacheEntriesEvictedEvent.class);
+            when(event.getEntries()).thenReturn(Map.of(new SessionMetaDataKey("evicted"), new Object()));
+
+            this.index.evicted(event);
+
+            Assert.assertEquals(Set.of("activated"), this.index.getSessions());
+        }
+    }
+
+    @Test
+    public void topologyChanged() throws InterruptedException {
+        this.create("retained");
+        this.create("lost");
+        this.create("gained");
+        this.owned.add("retained");
+        this.owned.add("lost");
+
+        try (ListenerRegistration registration = this.index.register()) {
+            Assert.assertEquals(Set.of("retained", "lost"), this.index.getSessions());
+
+            this.owned.remove("lost");
+            this.owned.add("gained");
+
+            this.index.topologyChanged(this.topologyChangedEvent());
+
+            // Sessions no longer owned are removed immediately
+            Assert.assertFalse(this.index.getSessions().contains("lost"));
+            awaitTrue(() -> this.index.getSessions().equals(Set.of("retained", "gained")));
+        }
+    }
+
+    /**
+     * Verifies that a session removed while a resynchronization is in progress is not re-indexed, regardless of whether its removal event precedes or follows its discovery.
+     */
+    @Test
+    public void removedDuringSynchronize() throws InterruptedException {
+        this.create("before");
+        this.create("after");
+        this.create("valid");
+
+        try (ListenerRegistration registration = this.index.register()) {
+            Assert.assertTrue(this.index.getSessions().isEmpty());
+
+            this.owned.addAll(Set.of("before", "after", "valid"));
+
+            // Remove sessions while their keys are streamed, i.e. after the key set snapshot was taken
+            when(this.keySet.stream()).thenAnswer(invocation -> this.stream(List.copyOf(this.entries.keySet()), key -> {
+                if (key.getId().equals("before")) {
+                    // Removal event precedes indexing of this session
+                    this.remove("before");
+                }
+            }));
+            doAnswer(invocation -> {
+                Key<String> key = invocation.getArgument(0);
+                boolean result = this.entries.containsKey(key);
+                if (key.getId().equals("after")) {
+                    // Removal event follows indexing of this session
+                    this.remove("after");
+                }
+                return result;
+            }).when(this.advancedCache).containsKey(any());
+
+            this.index.topologyChanged(this.topologyChangedEvent());
+
+            awaitTrue(() -> this.index.getSessions().contains("valid"));
+            Assert.assertEquals(Set.of("valid"), this.index.getSessions());
+        }
+    }
+
+    private void create(String id) {
+        this.entries.put(new SessionMetaDataKey(id), new Object());
+    }
+
+    private void remove(String id) {
+        SessionMetaDataKey key = new SessionMetaDataKey(id);
+        this.entries.remove(key);
+        this.index.removed(this.event(id));
+    }
+
+    private CacheEntryEvent<Key<String>, Object> event(String id) {
+        CacheEntryEvent<Key<String>, Object> event = mock(CacheEntryEvent.class);
+        when(event.getKey()).thenReturn(new SessionMetaDataKey(id));
+        return event;
+    }
+
+    private TopologyChangedEvent<Key<String>, Object> topologyChangedEvent() {
+        TopologyChangedEvent<Key<String>, Object> event = mock(TopologyChangedEvent.class);
+        when(event.getCache()).thenReturn(this.cache);
+        return event;
+    }
+
+    private CacheStream<Key<String>> stream(List<Key<String>> keys) {
+        return this.stream(keys, key -> { });
+    }
+
+    /**
+     * Creates a stream of the specified keys that invokes the specified action on each key, just before it is consumed.
+     */
+    private CacheStream<Key<String>> stream(List<Key<String>> keys, Consumer<Key<String>> action) {
+        CacheStream<Key<String>> stream = mock(CacheStream.class);
+        when(stream.filter(any(Predicate.class))).thenAnswer(invocation -> {
+            Predicate<Key<String>> predicate = invocation.getArgument(0);
+            return this.stream(keys.stream().filter(predicate).collect(Collectors.toList()), action);
+        });
+        doAnswer(invocation -> {
+            Consumer<Key<String>> consumer = invocation.getArgument(0);
+            for (Key<String> key : keys) {
+                action.accept(key);
+                consumer.accept(key);
+            }
+            return null;
+        }).when(stream).forEach(any(Consumer.class));
+        return stream;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
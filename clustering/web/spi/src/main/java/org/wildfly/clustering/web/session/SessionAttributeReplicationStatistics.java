@@ -0,0 +1,24 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Exposes statistics concerning the replication of mutable session attributes that were read, but not explicitly set.
+ */
+public interface SessionAttributeReplicationStatistics {
+
+    /**
+     * Returns the number of mutable session attributes that were replicated, since their serialized form was modified.
+     * @return a number of session attribute writes
+     */
+    long getReplicatedWriteCount();
+
+    /**
+     * Returns the number of mutable session attributes that were not replicated, since their serialized form was not modified.
+     * @return a number of suppressed session attribute writes
+     */
+    long getSuppressedWriteCount();
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+import java.time.Duration;
+
+/**
+ * Exposes statistics concerning the loading of sessions from a remote cluster.
+ */
+public interface SessionLoadStatistics {
+
+    /**
+     * Returns the number of remote reads of the meta data and attributes of a session.
+     * @return a number of remote reads
+     */
+    long getReadCount();
+
+    /**
+     * Returns the mean duration of a remote read of the meta data and attributes of a session.
+     * @return a duration
+     */
+    Duration getMeanReadTime();
+
+    /**
+     * Returns the mean duration of reading the session attributes from the values returned by a remote read, i.e. unmarshalling.
+     * @return a duration
+     */
+    Duration getMeanAttributesReadTime();
+}
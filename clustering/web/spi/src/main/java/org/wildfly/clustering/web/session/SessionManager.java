@@ -75,4 +75,28 @@ public interface SessionManager<L, B extends Batch> extends Restartable, ActiveS
      * @return an identifier factory
      */
     Supplier<String> getIdentifierFactory();
+
+    /**
+     * Returns statistics concerning the replication of the session attributes of this session manager.
+     * @return replication statistics, or null, if not available
+     */
+    default SessionAttributeReplicationStatistics getAttributeReplicationStatistics() {
+        return null;
+    }
+
+    /**
+     * Returns statistics concerning the loading of sessions by this session manager.
+     * @return load statistics, or null, if not available
+     */
+    default SessionLoadStatistics getLoadStatistics() {
+        return null;
+    }
+
+    /**
+     * Returns statistics concerning the near cache of this session manager.
+     * @return near cache statistics, or null, if this session manager does not use a near cache
+     */
+    default SessionNearCacheStatistics getNearCacheStatistics() {
+        return null;
+    }
 }
@@ -32,4 +32,13 @@ public interface SessionManagerFactoryConfiguration<S, SC, AL, LC> extends WebDe
     SpecificationProvider<S, SC, AL> getSpecificationProvider();
 
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
+
+    /**
+     * Indicates whether mutable session attributes that were read, but whose serialized form was not modified, should be excluded from replication.
+     * Only applies to {@link SessionAttributePersistenceStrategy#FINE} attribute persistence.
+     * @return true, if unmodified mutable session attributes should not be replicated, false otherwise.
+     */
+    default boolean isMutableAttributeChangeDetectionEnabled() {
+        return false;
+    }
 }
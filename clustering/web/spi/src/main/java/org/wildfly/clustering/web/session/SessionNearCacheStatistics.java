@@ -0,0 +1,42 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Exposes statistics concerning the near cache of a session manager.
+ */
+public interface SessionNearCacheStatistics {
+
+    /**
+     * Returns the number of lookups that found an entry in the near cache.
+     * @return a number of lookups
+     */
+    long getHits();
+
+    /**
+     * Returns the number of lookups that did not find an entry in the near cache, requiring a remote read.
+     * @return a number of lookups
+     */
+    long getMisses();
+
+    /**
+     * Returns the ratio of hits to lookups.
+     * @return a ratio between 0 and 1
+     */
+    double getHitRatio();
+
+    /**
+     * Returns the number of entries evicted from the near cache due to its size bound.
+     * @return a number of entries
+     */
+    long getEvictions();
+
+    /**
+     * Returns the number of entries removed from the near cache due to a local or remote modification.
+     * @return a number of entries
+     */
+    long getInvalidations();
+}
@@ -87,7 +87,7 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
             }
         });
         SessionListeners listeners = this.listeners;
-        RecordableSessionManagerStatistics statistics = (inactiveSessionStatistics != null) ? new DistributableSessionManagerStatistics(manager, inactiveSessionStatistics, this.config.getMaxActiveSessions()) : null;
+        RecordableSessionManagerStatistics statistics = (inactiveSessionStatistics != null) ? new DistributableSessionManagerStatistics(manager, inactiveSessionStatistics, this.config.getMaxActiveSessions(), manager.getAttributeReplicationStatistics(), manager.getLoadStatistics(), manager.getNearCacheStatistics()) : null;
         io.undertow.server.session.SessionManager result = new DistributableSessionManager(new DistributableSessionManagerConfiguration() {
             @Override
             public String getDeploymentName() {
@@ -5,25 +5,36 @@
 
 package org.wildfly.clustering.web.undertow.session;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.wildfly.clustering.ee.Recordable;
+import org.wildfly.clustering.web.container.DistributableSessionStatistics;
 import org.wildfly.clustering.web.session.ActiveSessionStatistics;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+import org.wildfly.clustering.web.session.SessionLoadStatistics;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * @author Paul Ferraro
  */
-public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics {
+public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics, DistributableSessionStatistics {
 
     private final RecordableInactiveSessionStatistics inactiveSessionStatistics;
     private final ActiveSessionStatistics activeSessionStatistics;
+    private final SessionAttributeReplicationStatistics replicationStatistics;
+    private final SessionLoadStatistics loadStatistics;
+    private final SessionNearCacheStatistics nearCacheStatistics;
     private final Integer maxActiveSessions;
     private volatile long startTime = System.currentTimeMillis();
     private final AtomicLong createdSessionCount = new AtomicLong();
 
-    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
+    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions, SessionAttributeReplicationStatistics replicationStatistics, SessionLoadStatistics loadStatistics, SessionNearCacheStatistics nearCacheStatistics) {
         this.activeSessionStatistics = activeSessionStatistics;
+        this.replicationStatistics = replicationStatistics;
+        this.loadStatistics = loadStatistics;
+        this.nearCacheStatistics = nearCacheStatistics;
         this.inactiveSessionStatistics = inactiveSessionStatistics;
         this.maxActiveSessions = maxActiveSessions;
         this.reset();
@@ -86,4 +97,54 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
     public long getStartTime() {
         return this.startTime;
     }
+
+    @Override
+    public long getReplicatedAttributeWriteCount() {
+        return (this.replicationStatistics != null) ? this.replicationStatistics.getReplicatedWriteCount() : 0L;
+    }
+
+    @Override
+    public long getSuppressedAttributeWriteCount() {
+        return (this.replicationStatistics != null) ? this.replicationStatistics.getSuppressedWriteCount() : 0L;
+    }
+
+    @Override
+    public long getSessionReadCount() {
+        return (this.loadStatistics != null) ? this.loadStatistics.getReadCount() : 0L;
+    }
+
+    @Override
+    public long getAverageSessionReadTime() {
+        return (this.loadStatistics != null) ? TimeUnit.NANOSECONDS.toMicros(this.loadStatistics.getMeanReadTime().toNanos()) : 0L;
+    }
+
+    @Override
+    public long getAverageSessionAttributesReadTime() {
+        return (this.loadStatistics != null) ? TimeUnit.NANOSECONDS.toMicros(this.loadStatistics.getMeanAttributesReadTime().toNanos()) : 0L;
+    }
+
+    @Override
+    public long getNearCacheHits() {
+        return (this.nearCacheStatistics != null) ? this.nearCacheStatistics.getHits() : 0L;
+    }
+
+    @Override
+    public long getNearCacheMisses() {
+        return (this.nearCacheStatistics != null) ? this.nearCacheStatistics.getMisses() : 0L;
+    }
+
+    @Override
+    public double getNearCacheHitRatio() {
+        return (this.nearCacheStatistics != null) ? this.nearCacheStatistics.getHitRatio() : 0d;
+    }
+
+    @Override
+    public long getNearCacheEvictions() {
+        return (this.nearCacheStatistics != null) ? this.nearCacheStatistics.getEvictions() : 0L;
+    }
+
+    @Override
+    public long getNearCacheInvalidations() {
+        return (this.nearCacheStatistics != null) ? this.nearCacheStatistics.getInvalidations() : 0L;
+    }
 }
@@ -28,16 +28,19 @@ import org.wildfly.clustering.web.session.SessionAttributeImmutability;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
 import org.wildfly.clustering.web.session.SpecificationProvider;
 import org.wildfly.common.iteration.CompositeIterable;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author Paul Ferraro
  */
 public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSessionManagementConfiguration<DeploymentUnit>> extends WebDeploymentConfigurationAdapter implements org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration<HttpSession, ServletContext, HttpSessionActivationListener, Map<String, Object>> {
+    private static final String MUTABLE_ATTRIBUTE_CHANGE_DETECTION = "org.wildfly.clustering.web.session.mutable-attribute-change-detection";
 
     private final Integer maxActiveSessions;
     private final ByteBufferMarshaller marshaller;
     private final Immutability immutability;
     private final SessionAttributePersistenceStrategy attributePersistenceStrategy;
+    private final boolean mutableAttributeChangeDetection;
 
     public SessionManagerFactoryConfigurationAdapter(SessionManagerFactoryConfiguration configuration, C managementConfiguration, Immutability immutability) {
         super(configuration);
@@ -51,6 +54,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
         }
         this.immutability = new CompositeImmutability(new CompositeIterable<>(EnumSet.allOf(DefaultImmutability.class), EnumSet.allOf(SessionAttributeImmutability.class), EnumSet.allOf(UndertowSessionAttributeImmutability.class), loadedImmutabilities, List.of(immutability)));
         this.attributePersistenceStrategy = managementConfiguration.getAttributePersistenceStrategy();
+        this.mutableAttributeChangeDetection = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(MUTABLE_ATTRIBUTE_CHANGE_DETECTION, Boolean.FALSE.toString()));
     }
 
     @Override
@@ -82,4 +86,9 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.attributePersistenceStrategy;
     }
+
+    @Override
+    public boolean isMutableAttributeChangeDetectionEnabled() {
+        return this.mutableAttributeChangeDetection;
+    }
 }
@@ -20,7 +20,7 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
 
     ManagedExecutorRuntimeStatsImpl(ManagedExecutorServiceImpl executorService) {
         this.abstractManagedExecutorService = executorService;
-        this.threadPoolExecutor = executorService.getThreadPoolExecutor();
+        this.threadPoolExecutor = (ThreadPoolExecutor) executorService.getThreadPoolExecutor();
     }
 
     ManagedExecutorRuntimeStatsImpl(ManagedScheduledExecutorServiceImpl executorService) {
@@ -11,32 +11,38 @@ import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 import static org.jboss.as.ee.concurrent.SecurityIdentityUtils.doIdentityWrap;
 
 /**
+ * If its thread factory creates virtual threads, the executor runs each task in a new virtual thread, instead of via a pool of threads.
+ * In this case, the maximum pool size only limits the number of concurrently running tasks, if less than {@link Integer#MAX_VALUE}, while the other pool settings are ignored.
+ *
  * @author Stuart Douglas
  * @author emmartins
  */
 public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurrent.ManagedExecutorServiceImpl implements ManagedExecutorWithHungThreads {
 
     private final ControlPoint controlPoint;
+    private final VirtualThreadPerTaskExecutor virtualExecutor;
     private final ManagedExecutorRuntimeStats runtimeStats;
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, ContextServiceImpl contextService, RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, queue);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        this.virtualExecutor = VirtualThreadPerTaskExecutor.create(managedThreadFactory, maxPoolSize);
+        this.runtimeStats = (this.virtualExecutor != null) ? this.virtualExecutor : new ManagedExecutorRuntimeStatsImpl(this);
     }
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        this.virtualExecutor = VirtualThreadPerTaskExecutor.create(managedThreadFactory, maxPoolSize);
+        this.runtimeStats = (this.virtualExecutor != null) ? this.virtualExecutor : new ManagedExecutorRuntimeStatsImpl(this);
     }
 
     @Override
@@ -76,7 +82,11 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public void execute(Runnable command) {
         final Runnable runnable = doWrap(command, controlPoint);
         try {
-            super.execute(doIdentityWrap(runnable));
+            if (virtualExecutor != null) {
+                executeManagedFutureTask(getNewTaskFor(doIdentityWrap(runnable), null));
+            } else {
+                super.execute(doIdentityWrap(runnable));
+            }
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
@@ -84,8 +94,18 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     }
 
     @Override
-    protected ThreadPoolExecutor getThreadPoolExecutor() {
-        return (ThreadPoolExecutor) super.getThreadPoolExecutor();
+    protected ExecutorService getThreadPoolExecutor() {
+        return (virtualExecutor != null) ? virtualExecutor : super.getThreadPoolExecutor();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return runtimeStats.getTaskCount();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return runtimeStats.getCompletedTaskCount();
     }
 
     /**
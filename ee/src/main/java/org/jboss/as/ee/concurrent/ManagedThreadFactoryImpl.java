@@ -9,6 +9,7 @@ import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.glassfish.enterprise.concurrent.spi.ContextHandle;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -16,6 +17,9 @@ import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
@@ -34,10 +38,47 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
      */
     private final AccessControlContext accessControlContext;
 
+    /**
+     * the context service of the factory
+     */
+    private final ContextServiceImpl contextService;
+
+    /**
+     * the factory of virtual threads, or null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the running virtual threads, interrupted when the factory is stopped
+     */
+    private final Set<Thread> virtualThreads = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean stopped = false;
+
     public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    /**
+     *
+     * @param name the factory's name
+     * @param contextService the factory's context service, may be null
+     * @param priority the priority set on new platform threads
+     * @param virtual if true, the factory creates virtual threads, if supported by the Java runtime
+     */
+    public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority, boolean virtual) {
         super(name, contextService, priority);
         this.priority = priority;
         this.accessControlContext = AccessController.getContext();
+        this.contextService = contextService;
+        ThreadFactory virtualThreadFactory = null;
+        if (virtual) {
+            virtualThreadFactory = VirtualThreads.newThreadFactory(name + "-virtual-");
+            if (virtualThreadFactory == null) {
+                EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+            }
+        }
+        this.virtualThreadFactory = virtualThreadFactory;
     }
 
     /**
@@ -48,6 +89,64 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         return priority;
     }
 
+    /**
+     *
+     * @return true if the factory creates virtual threads, false otherwise
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        if (stopped) {
+            throw new IllegalStateException(MANAGED_THREAD_FACTORY_STOPPED);
+        }
+        final ContextHandle contextHandleForSetup;
+        if (savedContextHandleForSetup != null) {
+            contextHandleForSetup = savedContextHandleForSetup;
+        } else {
+            contextHandleForSetup = getContextSetupProvider() != null ? getContextSetupProvider().saveContext(contextService) : null;
+        }
+        final Runnable task = (contextHandleForSetup != null) ? SecurityIdentityUtils.doIdentityWrap(r) : r;
+        final Runnable target = () -> {
+            final Thread thread = Thread.currentThread();
+            virtualThreads.add(thread);
+            try {
+                // same context handling as the platform ManagedThread
+                final ContextHandle contextHandleForReset = (contextHandleForSetup != null) ? getContextSetupProvider().setup(contextHandleForSetup) : null;
+                try {
+                    if (stopped) {
+                        thread.interrupt();
+                    }
+                    task.run();
+                } finally {
+                    if (contextHandleForReset != null) {
+                        getContextSetupProvider().reset(contextHandleForReset);
+                    }
+                }
+            } finally {
+                virtualThreads.remove(thread);
+            }
+        };
+        // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
+        final Thread t = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> virtualThreadFactory.newThread(target), accessControlContext);
+        resetContextClassLoader(t);
+        return t;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+        for (Thread thread : virtualThreads) {
+            thread.interrupt();
+        }
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -55,6 +154,11 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         }
         // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
         final AbstractManagedThread t = AccessController.doPrivileged(new CreateThreadAction(r, contextHandleForSetup), accessControlContext);
+        resetContextClassLoader(t);
+        return t;
+    }
+
+    private static void resetContextClassLoader(final Thread t) {
         // reset thread classloader to prevent leaks
         if (!WildFlySecurityManager.isChecking()) {
             t.setContextClassLoader(null);
@@ -64,7 +168,6 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
                 return null;
             });
         }
-        return t;
     }
 
     @Override
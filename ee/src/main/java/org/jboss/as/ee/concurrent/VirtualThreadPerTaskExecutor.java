@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor that runs each task in a new virtual thread, i.e. virtual threads are never pooled.
+ * The number of concurrently running tasks may be limited, in which case tasks wait for a permit within their virtual thread.
+ * Also reports the runtime statistics of the executor, analogous to those of a thread pool.
+ */
+class VirtualThreadPerTaskExecutor extends AbstractExecutorService implements ManagedExecutorRuntimeStats {
+
+    /**
+     * Creates a thread per task executor, if the specified thread factory creates virtual threads.
+     * @param threadFactory a thread factory
+     * @param maxConcurrentTasks the maximum number of concurrently running tasks, or {@link Integer#MAX_VALUE}, if unlimited
+     * @return a thread per task executor, or null, if the specified thread factory does not create virtual threads
+     */
+    static VirtualThreadPerTaskExecutor create(ThreadFactory threadFactory, int maxConcurrentTasks) {
+        if (!(threadFactory instanceof ManagedThreadFactoryImpl) || !((ManagedThreadFactoryImpl) threadFactory).isVirtual()) {
+            return null;
+        }
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(threadFactory);
+        return (executor != null) ? new VirtualThreadPerTaskExecutor(executor, maxConcurrentTasks) : null;
+    }
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    // Number of tasks whose thread was started but that have not yet completed
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicInteger largestThreadCount = new AtomicInteger();
+
+    VirtualThreadPerTaskExecutor(ExecutorService executor, int maxConcurrentTasks) {
+        this.executor = executor;
+        this.permits = (maxConcurrentTasks < Integer.MAX_VALUE) ? new Semaphore(maxConcurrentTasks) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.taskCount.increment();
+        try {
+            this.executor.execute(() -> this.run(task));
+        } catch (RuntimeException e) {
+            this.taskCount.decrement();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        int threads = this.threadCount.incrementAndGet();
+        this.largestThreadCount.accumulateAndGet(threads, Math::max);
+        try {
+            if (this.permits != null) {
+                try {
+                    this.permits.acquire();
+                } catch (InterruptedException e) {
+                    // Executor was shutdown before task could run
+                    if (task instanceof Future) {
+                        ((Future<?>) task).cancel(false);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            this.activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                this.activeCount.decrementAndGet();
+                if (this.permits != null) {
+                    this.permits.release();
+                }
+                this.completedTaskCount.increment();
+            }
+        } finally {
+            this.threadCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public int getThreadsCount() {
+        return this.threadCount.get();
+    }
+
+    @Override
+    public int getActiveThreadsCount() {
+        return this.activeCount.get();
+    }
+
+    @Override
+    public int getMaxThreadsCount() {
+        return this.largestThreadCount.get();
+    }
+
+    @Override
+    public int getHungThreadsCount() {
+        // Hung task detection only applies to platform threads
+        return 0;
+    }
+
+    @Override
+    public long getTaskCount() {
+        return this.taskCount.sum();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return this.completedTaskCount.sum();
+    }
+
+    @Override
+    public int getQueueSize() {
+        // Tasks waiting for a permit
+        return this.threadCount.get() - this.activeCount.get();
+    }
+}
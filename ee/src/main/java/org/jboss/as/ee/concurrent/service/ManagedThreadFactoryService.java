@@ -25,25 +25,28 @@ public class ManagedThreadFactoryService extends EEConcurrentAbstractService<Man
     private final String name;
     private final DelegatingSupplier<ContextServiceImpl> contextServiceSupplier = new DelegatingSupplier<>();
     private final int priority;
+    private final boolean virtual;
 
     /**
      * @param name
      * @param jndiName
      * @param priority
-     * @see org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl#ManagedThreadFactoryImpl(String, org.glassfish.enterprise.concurrent.ContextServiceImpl, int)
+     * @param virtual
+     * @see org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl#ManagedThreadFactoryImpl(String, org.glassfish.enterprise.concurrent.ContextServiceImpl, int, boolean)
      */
-    public ManagedThreadFactoryService(final Consumer<ManagedThreadFactoryImpl> consumer, final Supplier<ContextServiceImpl> ctxServiceSupplier, String name, String jndiName, int priority) {
+    public ManagedThreadFactoryService(final Consumer<ManagedThreadFactoryImpl> consumer, final Supplier<ContextServiceImpl> ctxServiceSupplier, String name, String jndiName, int priority, boolean virtual) {
         super(jndiName);
         this.consumer = consumer;
         this.name = name;
         this.contextServiceSupplier.set(ctxServiceSupplier);
         this.priority = priority;
+        this.virtual = virtual;
     }
 
     @Override
     void startValue(StartContext context) throws StartException {
         final String threadFactoryName = "EE-ManagedThreadFactory-"+name;
-        consumer.accept(managedThreadFactory = new ManagedThreadFactoryImpl(threadFactoryName, contextServiceSupplier.get(), priority));
+        consumer.accept(managedThreadFactory = new ManagedThreadFactoryImpl(threadFactoryName, contextServiceSupplier.get(), priority, virtual));
     }
 
     @Override
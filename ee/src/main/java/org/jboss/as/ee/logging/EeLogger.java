@@ -1213,4 +1213,8 @@ public interface EeLogger extends BasicLogger {
     @Message(id = 136, value = "Failed to run scheduled task: %s")
     RuntimeException failureWhileRunningTask(Object delegate,@Cause Exception e);
 
+    @LogMessage(level = WARN)
+    @Message(id = 137, value = "Virtual threads are not supported by the current Java runtime; %s will use platform threads")
+    void virtualThreadsNotSupported(String name);
+
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreadPerTaskExecutor}, using platform threads in lieu of virtual threads.
+ */
+public class VirtualThreadPerTaskExecutorTestCase {
+
+    @Test
+    public void testPlatformThreadFactory() {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY);
+        try {
+            assertNull(VirtualThreadPerTaskExecutor.create(factory, Integer.MAX_VALUE));
+        } finally {
+            factory.stop();
+        }
+    }
+
+    @Test
+    public void testUnlimited() throws Exception {
+        VirtualThreadPerTaskExecutor executor = new VirtualThreadPerTaskExecutor(Executors.newCachedThreadPool(), Integer.MAX_VALUE);
+        try {
+            int tasks = 10;
+            CountDownLatch started = new CountDownLatch(tasks);
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < tasks; ++i) {
+                executor.execute(() -> {
+                    started.countDown();
+                    await(release);
+                });
+            }
+            // All tasks run concurrently
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(tasks, executor.getActiveThreadsCount());
+            assertEquals(tasks, executor.getThreadsCount());
+            assertEquals(0, executor.getQueueSize());
+            assertEquals(tasks, executor.getTaskCount());
+
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(tasks, executor.getCompletedTaskCount());
+            assertEquals(tasks, executor.getMaxThreadsCount());
+            assertEquals(0, executor.getThreadsCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLimited() throws Exception {
+        int limit = 2;
+        VirtualThreadPerTaskExecutor executor = new VirtualThreadPerTaskExecutor(Executors.newCachedThreadPool(), limit);
+        try {
+            int tasks = 5;
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < tasks; ++i) {
+                executor.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    await(release);
+                    running.decrementAndGet();
+                });
+            }
+            awaitCondition(() -> (executor.getThreadsCount() == tasks) && (executor.getActiveThreadsCount() == limit));
+            // Tasks exceeding the limit wait for a permit
+            assertEquals(tasks - limit, executor.getQueueSize());
+
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(limit, maxRunning.get());
+            assertEquals(tasks, executor.getCompletedTaskCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        VirtualThreadPerTaskExecutor executor = new VirtualThreadPerTaskExecutor(Executors.newCachedThreadPool(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Holds its permit until released, even if interrupted
+        executor.execute(() -> {
+            started.countDown();
+            while (release.getCount() > 0) {
+                await(release);
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        FutureTask<Void> waiting = new FutureTask<>(() -> { }, null);
+        executor.execute(waiting);
+        awaitCondition(() -> executor.getQueueSize() == 1);
+
+        executor.shutdownNow();
+        awaitCondition(() -> executor.getQueueSize() == 0);
+        release.countDown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        // Task waiting for a permit never ran
+        assertTrue(waiting.isCancelled());
+        assertEquals(1, executor.getCompletedTaskCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 200 && !condition.getAsBoolean(); ++i) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
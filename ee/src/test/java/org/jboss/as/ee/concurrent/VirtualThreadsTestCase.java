@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreads} and virtual thread support of {@link ManagedThreadFactoryImpl}.
+ */
+public class VirtualThreadsTestCase {
+
+    @Test
+    public void testThreadFactory() throws InterruptedException {
+        boolean supported = VirtualThreads.newThreadFactory("test-") != null;
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, true);
+        try {
+            // Falls back to platform threads if virtual threads are not supported
+            assertEquals(supported, factory.isVirtual());
+            AtomicBoolean ran = new AtomicBoolean();
+            Thread thread = factory.newThread(() -> ran.set(true));
+            assertEquals(!supported, thread instanceof ManagedThreadFactoryImpl.ManagedThread);
+            thread.start();
+            thread.join();
+            assertTrue(ran.get());
+        } finally {
+            factory.stop();
+        }
+    }
+
+    @Test
+    public void testPlatformThreadFactory() {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY);
+        try {
+            assertFalse(factory.isVirtual());
+            ThreadFactory threadFactory = factory;
+            assertTrue(threadFactory.newThread(() -> { }) instanceof ManagedThreadFactoryImpl.ManagedThread);
+        } finally {
+            factory.stop();
+        }
+    }
+}
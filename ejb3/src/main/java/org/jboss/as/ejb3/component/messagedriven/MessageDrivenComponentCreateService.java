@@ -51,6 +51,7 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
     private final InjectedValue<PoolConfig> poolConfig = new InjectedValue<PoolConfig>();
     private final InjectedValue<SuspendController> suspendControllerInjectedValue = new InjectedValue<>();
     private final ClassLoader moduleClassLoader;
+    private final Boolean poolStriped;
 
     /**
      * Construct a new instance.
@@ -69,6 +70,7 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
 
         this.activationProps = componentDescription.getActivationProps();
         this.moduleClassLoader = componentConfiguration.getModuleClassLoader();
+        this.poolStriped = componentDescription.getPoolStriped();
     }
 
     @Override
@@ -227,6 +229,10 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         return this.poolConfig.getOptionalValue();
     }
 
+    Boolean getPoolStriped() {
+        return this.poolStriped;
+    }
+
     public InjectedValue<PoolConfig> getPoolConfigInjector() {
         return this.poolConfig;
     }
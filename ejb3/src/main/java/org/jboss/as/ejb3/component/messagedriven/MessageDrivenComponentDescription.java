@@ -68,6 +68,7 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
     private String[] deliveryGroups;
     private boolean clusteredSingleton;
     private String mdbPoolConfigName;
+    private Boolean mdbPoolStriped;
     private final String messageListenerInterfaceName;
     private final boolean defaultMdbPoolAvailable;
 
@@ -349,6 +350,14 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
         return this.mdbPoolConfigName;
     }
 
+    public void setPoolStriped(final Boolean mdbPoolStriped) {
+        this.mdbPoolStriped = mdbPoolStriped;
+    }
+
+    public Boolean getPoolStriped() {
+        return this.mdbPoolStriped;
+    }
+
     public String getMessageListenerInterfaceName() {
         return messageListenerInterfaceName;
     }
@@ -28,4 +28,14 @@ public abstract class PoolConfig {
     }
 
     public abstract <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory);
+
+    /**
+     * Creates a pool, optionally overriding whether the pool should be partitioned into thread-affine stripes.
+     * @param statelessObjectFactory the factory of pooled instances
+     * @param striped whether the pool should be striped, or null to use the configured behavior
+     * @return a pool
+     */
+    public <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory, final Boolean striped) {
+        return this.createPool(statelessObjectFactory);
+    }
 }
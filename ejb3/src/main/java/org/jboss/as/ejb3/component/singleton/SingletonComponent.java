@@ -36,6 +36,11 @@ import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
  */
 public class SingletonComponent extends SessionBeanComponent {
 
+    /**
+     * Provides whether singleton components should use a {@link StripedEJBReadWriteLock}
+     */
+    public static final ServiceName STRIPED_READ_LOCK_SERVICE_NAME = ServiceName.JBOSS.append("ejb3", "singletonStripedReadLock");
+
     private volatile SingletonComponentInstance singletonComponentInstance;
 
     private final boolean initOnStartup;
@@ -57,9 +62,9 @@ public class SingletonComponent extends SessionBeanComponent {
     private final Object creationLock = new Object();
 
     /**
-     * A spec compliant {@link EJBReadWriteLock}
+     * A spec compliant {@link EJBReadWriteLock}, or a {@link StripedEJBReadWriteLock}, which scales better for read-mostly components
      */
-    private final ReadWriteLock readWriteLock = new EJBReadWriteLock();
+    private final ReadWriteLock readWriteLock;
 
     /**
      * Construct a new instance.
@@ -77,6 +82,7 @@ public class SingletonComponent extends SessionBeanComponent {
         this.methodLockTypes = singletonComponentCreateService.getMethodApplicableLockTypes();
         this.methodAccessTimeouts = singletonComponentCreateService.getMethodApplicableAccessTimeouts();
         this.defaultAccessTimeoutProvider = singletonComponentCreateService.getDefaultAccessTimeoutService();
+        this.readWriteLock = singletonComponentCreateService.isStripedReadLock() ? new StripedEJBReadWriteLock() : new EJBReadWriteLock();
     }
 
     @Override
@@ -0,0 +1,318 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A scalable variant of {@link EJBReadWriteLock}, optimized for read-mostly singleton components.
+ * <p/>
+ * In the absence of a writer, a read lock is acquired by incrementing a reader counter selected by the current thread,
+ * where each counter occupies a separate cache line, such that concurrent readers do not contend on shared state.
+ * A writer first acquires the write lock of an internal {@link ReentrantReadWriteLock}, which excludes other writers,
+ * then announces itself, diverting subsequent readers to the read lock of the internal lock, and waits for existing readers to drain.
+ * <p/>
+ * Like {@link EJBReadWriteLock}, this implementation throws an {@link jakarta.ejb.IllegalLoopbackException}
+ * when a thread holding a read lock tries to obtain a write lock.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+    // Number of int elements per 64 byte cache line
+    private static final int STRIDE = 16;
+    private static final int SPINS = 64;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Excludes concurrent writers, and readers that arrive while a writer is present
+     */
+    private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+
+    /**
+     * Counts of the read locks acquired without the delegate, per stripe
+     */
+    private final AtomicIntegerArray readers;
+    private final int mask;
+
+    /**
+     * Read locks held by the current thread, used to detect lock upgrades
+     */
+    private final ThreadLocal<ReadHolds> readHolds;
+
+    /**
+     * Indicates that a thread holds the write lock of the delegate, and is waiting for, or has waited for, readers to drain
+     */
+    private volatile boolean writerPresent = false;
+
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    public StripedEJBReadWriteLock() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedEJBReadWriteLock(int concurrency) {
+        int stripes = (concurrency > 1) ? Integer.highestOneBit((concurrency - 1) << 1) : 1;
+        this.readers = new AtomicIntegerArray(stripes * STRIDE);
+        this.mask = stripes - 1;
+        this.readHolds = ThreadLocal.withInitial(() -> new ReadHolds((System.identityHashCode(Thread.currentThread()) & this.mask) * STRIDE));
+    }
+
+    /**
+     * A read lock which bypasses the delegate in the absence of a writer.
+     */
+    public class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!tryLockWithoutDelegate(holds)) {
+                delegate.readLock().lock();
+                holds.delegated += 1;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (!tryLockWithoutDelegate(holds)) {
+                delegate.readLock().lockInterruptibly();
+                holds.delegated += 1;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            ReadHolds holds = readHolds.get();
+            if (tryLockWithoutDelegate(holds)) {
+                return true;
+            }
+            if (delegate.readLock().tryLock()) {
+                holds.delegated += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (tryLockWithoutDelegate(holds)) {
+                return true;
+            }
+            if (delegate.readLock().tryLock(time, unit)) {
+                holds.delegated += 1;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            ReadHolds holds = readHolds.get();
+            // All read holds of a thread are equivalent, so the order in which they are released is irrelevant
+            if (holds.delegated > 0) {
+                holds.delegated -= 1;
+                delegate.readLock().unlock();
+            } else if (holds.striped > 0) {
+                holds.striped -= 1;
+                readers.decrementAndGet(holds.stripe);
+            } else {
+                throw new IllegalMonitorStateException();
+            }
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A write lock which first checks the number of read locks held by this thread.
+     * If the thread already holds a read lock, then this implementation throws an {@link jakarta.ejb.IllegalLoopbackException} when a lock is requested.
+     */
+    public class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            checkLoopback();
+            delegate.writeLock().lock();
+            awaitReaders(-1, false);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            checkLoopback();
+            delegate.writeLock().lockInterruptibly();
+            if (!awaitReaders(-1, true)) {
+                Thread.interrupted();
+                throw new InterruptedException();
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            checkLoopback();
+            return delegate.writeLock().tryLock() && awaitReaders(0, false);
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            checkLoopback();
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!delegate.writeLock().tryLock(time, unit)) {
+                return false;
+            }
+            if (awaitReaders(Math.max(0, deadline - System.nanoTime()), true)) {
+                return true;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            if (delegate.getWriteHoldCount() == 1) {
+                writerPresent = false;
+            }
+            delegate.writeLock().unlock();
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Attempts to acquire a read lock by incrementing the reader count of the stripe of the current thread.
+     * Fails if a writer is present, unless the current thread already holds a read lock or the write lock, either of which would otherwise deadlock.
+     */
+    private boolean tryLockWithoutDelegate(ReadHolds holds) {
+        this.readers.incrementAndGet(holds.stripe);
+        if (!this.writerPresent || holds.isHeld() || this.delegate.isWriteLockedByCurrentThread()) {
+            holds.striped += 1;
+            return true;
+        }
+        this.readers.decrementAndGet(holds.stripe);
+        return false;
+    }
+
+    /**
+     * Announces the writer holding the write lock of the delegate, and waits for readers to release their read locks.
+     * If readers do not drain within the specified timeout, the write lock of the delegate is released.
+     * @param timeout the maximum time to wait, in nanoseconds, or a negative value to wait indefinitely
+     * @param interruptible indicates whether the wait should abort if the current thread is interrupted, in which case its interrupt status is preserved
+     * @return true, if all readers drained, false otherwise
+     */
+    private boolean awaitReaders(long timeout, boolean interruptible) {
+        if (this.delegate.getWriteHoldCount() > 1) {
+            // Reentrant write lock
+            return true;
+        }
+        this.writerPresent = true;
+        long deadline = System.nanoTime() + timeout;
+        boolean interrupted = false;
+        try {
+            for (int spins = 0; this.hasReaders(); ++spins) {
+                if (spins < SPINS) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                long remaining = (timeout >= 0) ? deadline - System.nanoTime() : PARK_NANOS;
+                if (remaining <= 0) {
+                    this.abortWrite();
+                    return false;
+                }
+                LockSupport.parkNanos(this, Math.min(remaining, PARK_NANOS));
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                    if (interruptible) {
+                        this.abortWrite();
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private boolean hasReaders() {
+        for (int i = 0; i < this.readers.length(); i += STRIDE) {
+            if (this.readers.get(i) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void abortWrite() {
+        this.writerPresent = false;
+        this.delegate.writeLock().unlock();
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        if (this.readHolds.get().isHeld()) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+
+    /**
+     * The read locks held by a given thread.
+     * Unlike a boxed counter, this is only allocated once per thread.
+     */
+    private static class ReadHolds {
+        final int stripe;
+        // Read locks acquired via a reader counter
+        int striped;
+        // Read locks acquired via the delegate
+        int delegated;
+
+        ReadHolds(int stripe) {
+            this.stripe = stripe;
+        }
+
+        boolean isHeld() {
+            return (this.striped > 0) || (this.delegated > 0);
+        }
+    }
+}
@@ -310,6 +310,11 @@ public class StatefulSessionComponent extends SessionBeanComponent implements St
             public String getComponentName() {
                 return StatefulSessionComponent.this.getComponentName();
             }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return WildFlySecurityManager.getClassLoaderPrivileged(StatefulSessionComponent.this.getComponentClass());
+            }
         });
         this.cache.start();
     }
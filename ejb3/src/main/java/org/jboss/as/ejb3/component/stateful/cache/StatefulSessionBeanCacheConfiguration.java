@@ -20,4 +20,5 @@ public interface StatefulSessionBeanCacheConfiguration<K, V extends StatefulSess
     Supplier<K> getIdentifierFactory();
     StatefulSessionBeanInstanceFactory<V> getInstanceFactory();
     Duration getTimeout();
+    ClassLoader getClassLoader();
 }
@@ -120,6 +120,11 @@ public class DistributableStatefulSessionBeanCacheFactoryServiceConfigurator<K,
             public String getComponentName() {
                 return configuration.getComponentName();
             }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return configuration.getClassLoader();
+            }
         });
     }
 }
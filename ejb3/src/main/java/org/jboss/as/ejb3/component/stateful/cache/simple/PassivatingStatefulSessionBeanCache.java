@@ -0,0 +1,406 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.ejb.client.Affinity;
+import org.jboss.ejb.client.NodeAffinity;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.marshalling.SimpleClassResolver;
+import org.jboss.modules.Module;
+import org.wildfly.clustering.ee.Scheduler;
+import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
+import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.marshalling.jboss.DynamicClassTable;
+import org.wildfly.clustering.marshalling.jboss.DynamicExternalizerObjectTable;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.SimpleMarshallingConfigurationRepository;
+
+/**
+ * A simple stateful session bean cache implementation that bounds the number of bean instances held in memory.
+ * When the number of active bean instances exceeds the maximum size, the least recently used bean instances that are not in use
+ * are passivated to local disk, and are activated again on their next access.
+ * Bean instances are passivated using JBoss Marshalling.
+ * Like the {@link SimpleStatefulSessionBeanCache}, bean instances are removed on undeploy or shutdown, activating any passivated bean instances beforehand,
+ * and are lost on server crash, thus any passivated bean instances left behind by a previous server process are deleted when the first cache starts.
+ * Passivated bean instances are not activated on expiration, thus their {@code PreDestroy} callback is not invoked, as permitted by the Jakarta Enterprise Beans specification.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ */
+public class PassivatingStatefulSessionBeanCache<K, V extends StatefulSessionBeanInstance<K>> implements StatefulSessionBeanCache<K, V>, Predicate<K>, Consumer<StatefulSessionBean<K, V>> {
+
+    // Passivation root directories already purged by this server process
+    private static final Set<Path> PURGED_ROOTS = new HashSet<>();
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    // Identifiers of active bean instances not in use, in least recently used order, keyed by the sequence at which they became idle
+    private final NavigableMap<Long, K> idle = new ConcurrentSkipListMap<>();
+    private final AtomicLong idleSequence = new AtomicLong();
+    private final Consumer<K> remover = this::remove;
+    private final StatefulSessionBeanInstanceFactory<V> factory;
+    private final Supplier<K> identifierFactory;
+    private final Duration timeout;
+    private final Affinity strongAffinity;
+    private final String componentName;
+    private final JBossByteBufferMarshaller marshaller;
+    private final Path passivationRoot;
+    private final int maxSize;
+    private final AtomicInteger passiveCount = new AtomicInteger();
+    private final AtomicLong fileCount = new AtomicLong();
+    private final LongAdder passivations = new LongAdder();
+    private final LongAdder activations = new LongAdder();
+
+    private volatile Scheduler<K, Instant> scheduler;
+    private volatile Path directory;
+
+    public PassivatingStatefulSessionBeanCache(SimpleStatefulSessionBeanCacheConfiguration<K, V> configuration, int maxSize) {
+        this.factory = configuration.getInstanceFactory();
+        this.identifierFactory = configuration.getIdentifierFactory();
+        this.timeout = configuration.getTimeout();
+        this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
+        this.componentName = configuration.getComponentName();
+        this.marshaller = createMarshaller(configuration.getClassLoader());
+        this.passivationRoot = configuration.getEnvironment().getServerDataDir().toPath().resolve("ejb3").resolve("passivation");
+        this.maxSize = maxSize;
+    }
+
+    private static JBossByteBufferMarshaller createMarshaller(ClassLoader loader) {
+        Module module = Module.forClassLoader(loader, true);
+        MarshallingConfiguration config = new MarshallingConfiguration();
+        config.setClassResolver((module != null) ? ModularClassResolver.getInstance(module.getModuleLoader()) : new SimpleClassResolver(loader));
+        config.setClassTable(new DynamicClassTable(loader));
+        config.setObjectTable(new DynamicExternalizerObjectTable(loader));
+        return new JBossByteBufferMarshaller(new SimpleMarshallingConfigurationRepository(config), loader);
+    }
+
+    @Override
+    public void start() {
+        try {
+            synchronized (PURGED_ROOTS) {
+                // Bean instances do not survive a restart, so purge any passivated bean instances of a previous server process
+                if (PURGED_ROOTS.add(this.passivationRoot) && Files.exists(this.passivationRoot)) {
+                    EjbLogger.ROOT_LOGGER.debugf("Purging passivated beans of previous server process from %s", this.passivationRoot);
+                    deleteRecursively(this.passivationRoot);
+                }
+                // Each cache uses a distinct directory
+                this.directory = Files.createTempDirectory(Files.createDirectories(this.passivationRoot), this.componentName.replaceAll("[^\\w.-]", "_") + "-");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? new LocalScheduler<>(new LinkedScheduledEntries<>(), this, Duration.ZERO) : null;
+    }
+
+    @Override
+    public void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.close();
+        }
+        for (Map.Entry<K, Entry<V>> cacheEntry : this.entries.entrySet()) {
+            Entry<V> entry = cacheEntry.getValue();
+            V instance;
+            synchronized (entry) {
+                instance = entry.instance;
+                if ((instance == null) && (entry.file != null)) {
+                    // Activate passivated bean instance, so that it is removed like any active bean instance
+                    instance = this.activate(cacheEntry.getKey(), entry.file);
+                }
+            }
+            if (instance != null) {
+                instance.removed();
+            }
+        }
+        this.entries.clear();
+        this.idle.clear();
+        this.passiveCount.set(0);
+        try {
+            deleteRecursively(this.directory);
+        } catch (IOException e) {
+            EjbLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+        }
+    }
+
+    @Override
+    public Affinity getStrongAffinity() {
+        return this.strongAffinity;
+    }
+
+    @Override
+    public Affinity getWeakAffinity(K id) {
+        return Affinity.NONE;
+    }
+
+    @Override
+    public void accept(StatefulSessionBean<K, V> bean) {
+        K id = bean.getId();
+        Entry<V> entry = this.entries.get(id);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.users -= 1;
+                if ((entry.users == 0) && !entry.removed) {
+                    this.idle(id, entry);
+                }
+            }
+        }
+        if (this.timeout != null) {
+            if (this.scheduler != null) {
+                // Timeout > 0, schedule bean to expire
+                this.scheduler.schedule(id, Instant.now().plus(this.timeout));
+            } else {
+                // Timeout = 0, remove bean immediately
+                this.test(id);
+            }
+        }
+        this.evict();
+    }
+
+    @Override
+    public boolean test(K id) {
+        // Passivated bean instances are not activated on expiration
+        V instance = this.remove(id);
+        if (instance != null) {
+            instance.removed();
+        }
+        return true;
+    }
+
+    @Override
+    public K createStatefulSessionBean() {
+        if (CURRENT_GROUP.get() != null) {
+            // An SFSB that uses a distributable cache cannot contain an SFSB that uses a simple cache
+            throw EjbLogger.ROOT_LOGGER.incompatibleCaches();
+        }
+        V instance = this.factory.createInstance();
+        K id = instance.getId();
+        Entry<V> entry = new Entry<>(instance);
+        synchronized (entry) {
+            this.entries.put(id, entry);
+            this.idle(id, entry);
+        }
+        this.evict();
+        return id;
+    }
+
+    @Override
+    public StatefulSessionBean<K, V> findStatefulSessionBean(K id) {
+        Entry<V> entry = this.entries.get(id);
+        if (entry == null) return null;
+        V instance;
+        synchronized (entry) {
+            if (entry.removed) return null;
+            if (entry.instance == null) {
+                instance = this.activate(id, entry.file);
+                delete(entry.file);
+                entry.file = null;
+                this.passiveCount.decrementAndGet();
+                if (instance == null) {
+                    entry.removed = true;
+                    this.entries.remove(id, entry);
+                    return null;
+                }
+                entry.instance = instance;
+            }
+            entry.users += 1;
+            instance = entry.instance;
+            this.busy(entry);
+        }
+        if (this.scheduler != null) {
+            this.scheduler.cancel(id);
+        }
+        // Activation may have exceeded the maximum size
+        this.evict();
+        return new SimpleStatefulSessionBean<>(instance, this.remover, this);
+    }
+
+    @Override
+    public int getActiveCount() {
+        return this.entries.size() - this.passiveCount.get();
+    }
+
+    @Override
+    public int getPassiveCount() {
+        return this.passiveCount.get();
+    }
+
+    /**
+     * Returns the number of bean instances passivated by this cache.
+     * @return a number of passivations
+     */
+    public long getPassivationCount() {
+        return this.passivations.sum();
+    }
+
+    /**
+     * Returns the number of bean instances activated by this cache.
+     * @return a number of activations
+     */
+    public long getActivationCount() {
+        return this.activations.sum();
+    }
+
+    @Override
+    public Supplier<K> getIdentifierFactory() {
+        return this.identifierFactory;
+    }
+
+    /**
+     * Removes the bean with the specified identifier from this cache.
+     * @param id a bean identifier
+     * @return the removed bean instance, or null, if the bean did not exist or was passivated
+     */
+    private V remove(K id) {
+        Entry<V> entry = this.entries.remove(id);
+        if (entry == null) return null;
+        synchronized (entry) {
+            entry.removed = true;
+            this.busy(entry);
+            if (entry.file != null) {
+                delete(entry.file);
+                entry.file = null;
+                this.passiveCount.decrementAndGet();
+            }
+            return entry.instance;
+        }
+    }
+
+    /**
+     * Records the specified active bean instance as the most recently used idle bean instance.
+     * Must be called while holding the monitor of the entry.
+     */
+    private void idle(K id, Entry<V> entry) {
+        entry.idleSequence = this.idleSequence.incrementAndGet();
+        this.idle.put(entry.idleSequence, id);
+    }
+
+    /**
+     * Records the specified bean instance as no longer idle.
+     * Must be called while holding the monitor of the entry.
+     */
+    private void busy(Entry<V> entry) {
+        if (entry.idleSequence != 0) {
+            this.idle.remove(entry.idleSequence);
+            entry.idleSequence = 0;
+        }
+    }
+
+    /**
+     * Passivates least recently used bean instances until the number of active bean instances no longer exceeds the maximum size,
+     * or until no idle bean instances remain.
+     */
+    private void evict() {
+        while (this.getActiveCount() > this.maxSize) {
+            Map.Entry<Long, K> idle = this.idle.pollFirstEntry();
+            if (idle == null) return;
+            K id = idle.getValue();
+            Entry<V> entry = this.entries.get(id);
+            if (entry != null) {
+                this.passivate(id, entry, idle.getKey());
+            }
+        }
+    }
+
+    private void passivate(K id, Entry<V> entry, long idleSequence) {
+        synchronized (entry) {
+            V instance = entry.instance;
+            // Skip if bean instance was used since it became idle
+            if (entry.removed || (entry.users > 0) || (instance == null) || (entry.idleSequence != idleSequence)) return;
+            entry.idleSequence = 0;
+            Path file = this.directory.resolve(Long.toString(this.fileCount.incrementAndGet()));
+            instance.prePassivate();
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file))) {
+                this.marshaller.writeTo(output, instance);
+            } catch (IOException | RuntimeException e) {
+                // Retain bean instance in memory
+                EjbLogger.ROOT_LOGGER.failedToPassivateBean(id, this.componentName, e);
+                delete(file);
+                instance.postActivate();
+                return;
+            }
+            entry.instance = null;
+            entry.file = file;
+            this.passiveCount.incrementAndGet();
+            this.passivations.increment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V activate(K id, Path file) {
+        try {
+            V instance;
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+                instance = (V) this.marshaller.readFrom(input);
+            }
+            instance.postActivate();
+            this.activations.increment();
+            return instance;
+        } catch (IOException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToActivateBean(id, this.componentName, e);
+            return null;
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(PassivatingStatefulSessionBeanCache::delete);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            EjbLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * The cache entry of a bean, which references either an active bean instance or the file of a passivated bean instance.
+     * All fields are guarded by the entry itself.
+     */
+    private static class Entry<V> {
+        V instance;
+        Path file;
+        // The number of references to this bean instance that are not yet closed
+        int users = 0;
+        // The key of this bean instance within the idle bean instances, or 0, if not idle
+        long idleSequence = 0;
+        boolean removed = false;
+
+        Entry(V instance) {
+            this.instance = instance;
+        }
+    }
+}
@@ -36,9 +36,18 @@ import org.wildfly.clustering.service.SupplierDependency;
 public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V extends StatefulSessionBeanInstance<K>> extends SimpleServiceNameProvider implements CapabilityServiceConfigurator, StatefulSessionBeanCacheFactory<K, V> {
 
     private final SupplierDependency<ServerEnvironment> environment = new ServiceSupplierDependency<>(ServerEnvironmentService.SERVICE_NAME);
+    private final boolean passivationApplicable;
+    private final int maxSize;
 
-    public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description) {
+    /**
+     * Creates a configurator of a simple stateful session bean cache factory.
+     * @param description the description of a stateful component
+     * @param maxSize the maximum number of bean instances held in memory per component, passivating the remainder to disk, where 0 means no limit
+     */
+    public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description, int maxSize) {
         super(description.getCacheFactoryServiceName());
+        this.passivationApplicable = description.isPassivationApplicable();
+        this.maxSize = maxSize;
     }
 
     @Override
@@ -53,7 +62,7 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
     @Override
     public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
         ServerEnvironment environment = this.environment.get();
-        return new SimpleStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
+        SimpleStatefulSessionBeanCacheConfiguration<K, V> simpleConfiguration = new SimpleStatefulSessionBeanCacheConfiguration<>() {
             @Override
             public StatefulSessionBeanInstanceFactory<V> getInstanceFactory() {
                 return configuration.getInstanceFactory();
@@ -78,6 +87,12 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
             public String getComponentName() {
                 return configuration.getComponentName();
             }
-        });
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return configuration.getClassLoader();
+            }
+        };
+        return (this.passivationApplicable && (this.maxSize > 0)) ? new PassivatingStatefulSessionBeanCache<>(simpleConfiguration, this.maxSize) : new SimpleStatefulSessionBeanCache<>(simpleConfiguration);
     }
 }
@@ -10,6 +10,8 @@ import java.util.function.Consumer;
 
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.as.clustering.controller.ResourceServiceConfigurator;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.EEModuleConfiguration;
@@ -17,11 +19,14 @@ import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProviderServiceNameProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.subsystem.SimpleStatefulSessionBeanCacheProviderResourceDefinition;
 import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.service.ServiceConfigurator;
 
 /**
  * Configures a service that provides a simple stateful session bean cache provider.
@@ -31,10 +36,19 @@ import org.jboss.msc.service.ServiceTarget;
  */
 public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheProviderServiceNameProvider implements ResourceServiceConfigurator, StatefulSessionBeanCacheProvider<K, V> {
 
+    // The maximum number of bean instances held in memory per component, passivating the remainder to disk, where 0 means no limit
+    private volatile int maxSize = 0;
+
     public SimpleStatefulSessionBeanCacheProviderServiceConfigurator(PathAddress address) {
         super(address.getLastElement().getValue());
     }
 
+    @Override
+    public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
+        this.maxSize = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.resolveModelAttribute(context, model).asInt(0);
+        return this;
+    }
+
     @Override
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
@@ -51,7 +65,7 @@ public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V exte
 
     @Override
     public CapabilityServiceConfigurator getStatefulBeanCacheFactoryServiceConfigurator(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
-        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description);
+        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description, this.maxSize);
     }
 
     @Override
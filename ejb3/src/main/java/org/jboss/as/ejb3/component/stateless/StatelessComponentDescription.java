@@ -58,6 +58,7 @@ public class StatelessComponentDescription extends SessionBeanComponentDescripti
     private static final String DEFAULT_SLSB_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config.slsb-default";
 
     private String poolConfigName;
+    private Boolean poolStriped;
     private final boolean defaultSlsbPoolAvailable;
 
     /**
@@ -221,4 +222,12 @@ public class StatelessComponentDescription extends SessionBeanComponentDescripti
         return this.poolConfigName;
     }
 
+    public void setPoolStriped(final Boolean poolStriped) {
+        this.poolStriped = poolStriped;
+    }
+
+    public Boolean getPoolStriped() {
+        return this.poolStriped;
+    }
+
 }
@@ -20,6 +20,7 @@ import org.jboss.msc.value.InjectedValue;
 public class StatelessSessionComponentCreateService extends SessionBeanComponentCreateService {
 
     private final InjectedValue<PoolConfig> poolConfig = new InjectedValue<>();
+    private final Boolean poolStriped;
 
     /**
      * Construct a new instance.
@@ -28,6 +29,7 @@ public class StatelessSessionComponentCreateService extends SessionBeanComponent
      */
     public StatelessSessionComponentCreateService(final ComponentConfiguration componentConfiguration, final ApplicationExceptions ejbJarConfiguration) {
         super(componentConfiguration, ejbJarConfiguration);
+        this.poolStriped = ((StatelessComponentDescription) componentConfiguration.getComponentDescription()).getPoolStriped();
     }
 
     @Override
@@ -39,6 +41,10 @@ public class StatelessSessionComponentCreateService extends SessionBeanComponent
         return this.poolConfig.getOptionalValue();
     }
 
+    public Boolean getPoolStriped() {
+        return this.poolStriped;
+    }
+
     public Injector<PoolConfig> getPoolConfigInjector() {
         return this.poolConfig;
     }
@@ -320,6 +320,7 @@ public class EjbJarParsingDeploymentUnitProcessor implements DeploymentUnitProce
 
         parsers.put(EJBBoundPoolParser.NAMESPACE_URI_1_0, new EJBBoundPoolParser());
         parsers.put(EJBBoundPoolParser.NAMESPACE_URI_2_0, new EJBBoundPoolParser());
+        parsers.put(EJBBoundPoolParser.NAMESPACE_URI_3_0, new EJBBoundPoolParser());
 
         parsers.put(EJBBoundCacheParser.NAMESPACE_URI_1_0, new EJBBoundCacheParser());
         parsers.put(EJBBoundCacheParser.NAMESPACE_URI_2_0, new EJBBoundCacheParser());
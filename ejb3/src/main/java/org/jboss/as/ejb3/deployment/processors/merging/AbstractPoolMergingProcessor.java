@@ -68,20 +68,30 @@ public abstract class AbstractPoolMergingProcessor<T extends EJBComponentDescrip
         final List<EJBBoundPoolMetaData> pools = assemblyDescriptor.getAny(EJBBoundPoolMetaData.class);
 
         String poolName = null;
+        Boolean striped = null;
         if (pools != null) {
             for (final EJBBoundPoolMetaData poolMetaData : pools) {
                 // if this applies for all Jakarta Enterprise Beans and if there isn't a pool name already explicitly specified
                 // for the specific bean (i.e. via an ejb-name match)
                 if ("*".equals(poolMetaData.getEjbName()) && poolName == null) {
                     poolName = poolMetaData.getPoolName();
+                    if (striped == null) {
+                        striped = poolMetaData.getStriped();
+                    }
                 } else if (ejbName.equals(poolMetaData.getEjbName())) {
                     poolName = poolMetaData.getPoolName();
+                    if (poolMetaData.getStriped() != null) {
+                        striped = poolMetaData.getStriped();
+                    }
                 }
             }
         }
         if (poolName != null) {
             this.setPoolName(description, poolName);
         }
+        if (striped != null) {
+            this.setPoolStriped(description, striped);
+        }
     }
 
     /**
@@ -92,4 +102,12 @@ public abstract class AbstractPoolMergingProcessor<T extends EJBComponentDescrip
      */
     protected abstract void setPoolName(final T componentDescription, final String poolName);
 
+    /**
+     * Set whether the strict max pool of the component should be partitioned into thread-affine stripes
+     *
+     * @param componentDescription The component description
+     * @param striped              Whether the pool is striped
+     */
+    protected abstract void setPoolStriped(final T componentDescription, final Boolean striped);
+
 }
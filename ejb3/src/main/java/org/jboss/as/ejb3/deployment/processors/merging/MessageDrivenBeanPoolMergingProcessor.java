@@ -23,4 +23,9 @@ public class MessageDrivenBeanPoolMergingProcessor extends AbstractPoolMergingPr
     protected void setPoolName(final MessageDrivenComponentDescription componentDescription, final String poolName) {
         componentDescription.setPoolConfigName(poolName);
     }
+
+    @Override
+    protected void setPoolStriped(final MessageDrivenComponentDescription componentDescription, final Boolean striped) {
+        componentDescription.setPoolStriped(striped);
+    }
 }
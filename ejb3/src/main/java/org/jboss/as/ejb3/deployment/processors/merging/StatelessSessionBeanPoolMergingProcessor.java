@@ -24,4 +24,9 @@ public class StatelessSessionBeanPoolMergingProcessor extends AbstractPoolMergin
     protected void setPoolName(final StatelessComponentDescription componentDescription, final String poolName) {
         componentDescription.setPoolConfigName(poolName);
     }
+
+    @Override
+    protected void setPoolStriped(final StatelessComponentDescription componentDescription, final Boolean striped) {
+        componentDescription.setPoolStriped(striped);
+    }
 }
@@ -3242,4 +3242,32 @@ public interface EjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 532, value = "Database detected from configuration is: '%s'. If this is incorrect, please specify the correct database.")
     void unknownDatabaseName(String name);
+
+    @LogMessage(level = WARN)
+    @Message(id = 533, value = "Virtual threads are not supported by the current Java runtime; remote invocations will be dispatched to the configured thread pool")
+    void virtualThreadsNotSupported();
+
+    @LogMessage(level = WARN)
+    @Message(id = 534, value = "Failed to passivate stateful session bean %s of component %s")
+    void failedToPassivateBean(Object id, String componentName, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 535, value = "Failed to activate stateful session bean %s of component %s")
+    void failedToActivateBean(Object id, String componentName, @Cause Throwable cause);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 536, value = "Failed to execute expired timeout task")
+    void failedToExecuteTimeoutTask(@Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to dispatch %d expired timeout tasks")
+    void failedToDispatchTimeoutTasks(int count, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Timer file %s was not migrated to the timer journal and was retained")
+    void timerFileNotMigrated(File file);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 539, value = "Failed to dispatch remote invocation")
+    void failedToDispatchRemoteInvocation(@Cause Throwable cause);
 }
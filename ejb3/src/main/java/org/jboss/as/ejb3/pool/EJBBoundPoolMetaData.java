@@ -15,6 +15,7 @@ import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
 public class EJBBoundPoolMetaData extends AbstractEJBBoundMetaData {
 
     private String poolName;
+    private Boolean striped;
 
     public String getPoolName() {
         return poolName;
@@ -23,4 +24,16 @@ public class EJBBoundPoolMetaData extends AbstractEJBBoundMetaData {
     public void setPoolName(final String poolName) {
         this.poolName = poolName;
     }
+
+    /**
+     * Indicates whether the strict max pool of this bean should be partitioned into thread-affine stripes.
+     * @return true, if the pool should be striped, false if not, or null if the configuration of the referenced pool applies
+     */
+    public Boolean getStriped() {
+        return striped;
+    }
+
+    public void setStriped(final Boolean striped) {
+        this.striped = striped;
+    }
 }
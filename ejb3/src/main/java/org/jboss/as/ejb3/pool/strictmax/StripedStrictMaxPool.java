@@ -0,0 +1,360 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size, whose permits and free instances are partitioned into thread-affine stripes.
+ * A thread first acquires a permit and an instance from its own stripe, and steals from other stripes only when its own stripe is exhausted.
+ * Threads only contend on a shared lock if all permits are in use.
+ * The strict maximum size guarantee of {@link StrictMaxPool} is preserved, since the sum of permits across all stripes never exceeds the maximum pool size.
+ */
+public class StripedStrictMaxPool<T> extends AbstractPool<T> {
+
+    private final Stripe<T>[] stripes;
+    private final int mask;
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    // Slow path, used only when all permits are in use
+    private final Lock lock = new ReentrantLock();
+    private final Condition available = this.lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger(0);
+
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int concurrency) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        // Number of stripes is the smallest power of 2 not less than the requested concurrency, but not more than the maximum pool size
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(concurrency, maxSize)));
+        if (stripeCount < Math.min(concurrency, maxSize)) {
+            stripeCount <<= 1;
+            if (stripeCount > maxSize) {
+                stripeCount >>= 1;
+            }
+        }
+        this.mask = stripeCount - 1;
+        this.stripes = new Stripe[stripeCount];
+        // Distribute permits as evenly as possible across stripes
+        for (int i = 0; i < stripeCount; ++i) {
+            this.stripes[i] = new Stripe<>(i, (maxSize / stripeCount) + ((i < (maxSize % stripeCount)) ? 1 : 0));
+        }
+    }
+
+    @Override
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.localStripe());
+
+        super.doRemove(ctx);
+    }
+
+    @Override
+    public int getCurrentSize() {
+        return this.getCreateCount() - this.getRemoveCount();
+    }
+
+    @Override
+    public int getAvailableCount() {
+        int count = 0;
+        for (Stripe<T> stripe : this.stripes) {
+            count += stripe.permits.get();
+        }
+        return count;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    @Override
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * Returns the number of stripes of this pool.
+     * @return the number of stripes
+     */
+    public int getStripeCount() {
+        return this.stripes.length;
+    }
+
+    /**
+     * Returns the statistics of the specified stripe.
+     * @param index a stripe index
+     * @return the statistics of the specified stripe
+     */
+    public StripeStatistics getStripeStatistics(int index) {
+        return this.stripes[index];
+    }
+
+    @Override
+    public T get() {
+        Stripe<T> local = this.localStripe();
+        this.acquirePermit(local);
+
+        T bean = local.instances.poll();
+        if (bean != null) {
+            local.hits.increment();
+            return bean;
+        }
+        // Steal an idle instance from another stripe
+        for (int i = 1; i < this.stripes.length; ++i) {
+            bean = this.stripes[(local.index + i) & this.mask].instances.poll();
+            if (bean != null) {
+                local.steals.increment();
+                return bean;
+            }
+        }
+        local.misses.increment();
+        try {
+            // Pool is empty, create an instance
+            bean = this.create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit(local);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public void release(T obj) {
+        Stripe<T> local = this.localStripe();
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", local.instances.size(), this.maxSize, this);
+        }
+
+        local.instances.add(obj);
+
+        this.releasePermit(local);
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.localStripe());
+
+        super.doRemove(ctx);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+        for (Stripe<T> stripe : this.stripes) {
+            for (T obj = stripe.instances.poll(); obj != null; obj = stripe.instances.poll()) {
+                this.destroy(obj);
+            }
+        }
+    }
+
+    private Stripe<T> localStripe() {
+        long id = Thread.currentThread().getId();
+        // Spread thread identifiers across stripes
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+    }
+
+    private boolean tryAcquirePermit(Stripe<T> local) {
+        if (local.permits.tryAcquire()) {
+            return true;
+        }
+        for (int i = 1; i < this.stripes.length; ++i) {
+            if (this.stripes[(local.index + i) & this.mask].permits.tryAcquire()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void acquirePermit(Stripe<T> local) {
+        if (this.tryAcquirePermit(local)) return;
+
+        long start = System.nanoTime();
+        long remaining = this.timeUnit.toNanos(this.timeout);
+        this.lock.lock();
+        try {
+            this.waiters.incrementAndGet();
+            try {
+                while (!this.tryAcquirePermit(local)) {
+                    if (remaining <= 0L) {
+                        throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                    }
+                    remaining = this.available.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+            } finally {
+                this.waiters.decrementAndGet();
+            }
+        } finally {
+            this.lock.unlock();
+            local.waitTime.add(System.nanoTime() - start);
+            local.waits.increment();
+        }
+    }
+
+    private void releasePermit(Stripe<T> local) {
+        local.permits.release();
+        // Only signal if a thread is blocked waiting for a permit
+        if (this.waiters.get() > 0) {
+            this.lock.lock();
+            try {
+                this.available.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Exposes the statistics of a single stripe of this pool.
+     */
+    public interface StripeStatistics {
+        /**
+         * Returns the number of instances acquired from the idle instances of this stripe.
+         * @return a number of instance acquisitions
+         */
+        long getHitCount();
+
+        /**
+         * Returns the number of instances acquired from the idle instances of another stripe.
+         * @return a number of instance acquisitions
+         */
+        long getStealCount();
+
+        /**
+         * Returns the number of acquisitions that required creation of a new instance.
+         * @return a number of instance acquisitions
+         */
+        long getMissCount();
+
+        /**
+         * Returns the number of acquisitions that needed to wait for a permit.
+         * @return a number of instance acquisitions
+         */
+        long getWaitCount();
+
+        /**
+         * Returns the cumulative time spent waiting for a permit.
+         * @param unit the time unit of the return value
+         * @return a duration
+         */
+        long getWaitTime(TimeUnit unit);
+
+        /**
+         * Returns the ratio of acquisitions that were satisfied using an idle instance of this stripe.
+         * @return a value between 0 and 1.
+         */
+        default double getHitRate() {
+            long hits = this.getHitCount();
+            long total = hits + this.getStealCount() + this.getMissCount();
+            return (total > 0) ? (double) hits / total : 0d;
+        }
+    }
+
+    private static class Stripe<T> implements StripeStatistics {
+        final int index;
+        final Permits permits;
+        final Queue<T> instances = new ConcurrentLinkedQueue<>();
+        final LongAdder hits = new LongAdder();
+        final LongAdder steals = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder waits = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+
+        Stripe(int index, int permits) {
+            this.index = index;
+            this.permits = new Permits(permits);
+        }
+
+        @Override
+        public long getHitCount() {
+            return this.hits.sum();
+        }
+
+        @Override
+        public long getStealCount() {
+            return this.steals.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return this.misses.sum();
+        }
+
+        @Override
+        public long getWaitCount() {
+            return this.waits.sum();
+        }
+
+        @Override
+        public long getWaitTime(TimeUnit unit) {
+            return unit.convert(this.waitTime.sum(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Lock-free permit counter for a single stripe.
+     */
+    @SuppressWarnings("serial")
+    private static class Permits extends AtomicInteger {
+        // Padding to prevent false sharing between the counters of adjacent stripes
+        @SuppressWarnings("unused")
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        Permits(int permits) {
+            super(permits);
+        }
+
+        boolean tryAcquire() {
+            int current = this.get();
+            while (current > 0) {
+                if (this.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = this.get();
+            }
+            return false;
+        }
+
+        void release() {
+            this.incrementAndGet();
+        }
+    }
+}
@@ -296,7 +296,11 @@ final class AssociationImpl implements Association, AutoCloseable {
         if (request.getProtocol().equals("local") && ! isAsync) {
             task.run();
         } else {
-            if(executor != null) {
+            final Executor executor = this.executor;
+            if (executor instanceof RemoteInvocationDispatcher) {
+                // Fail the invocation back to the client if it could not be dispatched
+                ((RemoteInvocationDispatcher) executor).execute(task, request::writeException);
+            } else if(executor != null) {
                 executor.execute(task);
             } else if(isAsync || alwaysDispatch){
                 request.getRequestExecutor().execute(task);
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.ejb.protocol.remote.RemoteEJBService;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceName;
@@ -41,11 +42,17 @@ public class EJBRemoteConnectorService implements Service {
     private volatile Registration registration;
     private final OptionMap channelCreationOptions;
     private final Function<String, Boolean> classResolverFilter;
+    // Indicates whether remote invocations should execute on virtual threads, rather than on the configured thread pool or remoting worker
+    private final boolean virtualThreads;
+    // Limits the number of concurrently executing remote invocations, where a non-positive value means no limit
+    private final int maxConcurrentInvocations;
+    private volatile ExecutorService virtualThreadExecutor;
+    private volatile RemoteInvocationDispatcher dispatcher;
 
     public EJBRemoteConnectorService(
             final Consumer<EJBRemoteConnectorService> serviceConsumer, final Supplier<Endpoint> endpointSupplier, final Supplier<ExecutorService> executorServiceSupplier,
             final Supplier<AssociationService> associationServiceSupplier, final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier,
-            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter) {
+            final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter, final boolean virtualThreads, final int maxConcurrentInvocations) {
         this.serviceConsumer = serviceConsumer;
         this.endpointSupplier = endpointSupplier;
         this.executorServiceSupplier = executorServiceSupplier;
@@ -53,6 +60,8 @@ public class EJBRemoteConnectorService implements Service {
         this.remotingTransactionServiceSupplier = remotingTransactionServiceSupplier;
         this.channelCreationOptions = channelCreationOptions;
         this.classResolverFilter = classResolverFilter;
+        this.virtualThreads = virtualThreads;
+        this.maxConcurrentInvocations = maxConcurrentInvocations;
     }
 
     @Override
@@ -60,8 +69,17 @@ public class EJBRemoteConnectorService implements Service {
         final AssociationService associationService = associationServiceSupplier.get();
         final Endpoint endpoint = endpointSupplier.get();
         Executor executor = executorServiceSupplier != null ? executorServiceSupplier.get() : null;
+        if (virtualThreads) {
+            virtualThreadExecutor = RemoteInvocationDispatcher.newVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor != null) {
+                executor = virtualThreadExecutor;
+            } else {
+                EjbLogger.REMOTE_LOGGER.virtualThreadsNotSupported();
+            }
+        }
         if (executor != null) {
-            associationService.setExecutor(executor);
+            dispatcher = new RemoteInvocationDispatcher(executor, maxConcurrentInvocations);
+            associationService.setExecutor(dispatcher);
         }
         RemoteEJBService remoteEJBService = RemoteEJBService.create(
             associationService.getAssociation(),
@@ -87,6 +105,20 @@ public class EJBRemoteConnectorService implements Service {
         associationService.sendTopologyUpdateIfLastNodeToLeave();
         associationService.setExecutor(null);
         registration.close();
+        dispatcher = null;
+        if (virtualThreadExecutor != null) {
+            // Running invocations complete on their own threads
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
+    }
+
+    /**
+     * Returns the dispatcher of remote invocations received by this connector.
+     * @return the invocation dispatcher, or null, if invocations are executed by the remoting worker
+     */
+    public RemoteInvocationDispatcher getInvocationDispatcher() {
+        return dispatcher;
     }
 
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Dispatches remote invocation tasks to an {@link Executor}, optionally limiting the number of tasks that execute concurrently.
+ * Tasks submitted while the limit is reached are queued, and dispatched as running tasks complete.
+ * This allows remote invocations to run on virtual threads, while protecting pool-backed resources (e.g. JDBC connections) from unbounded concurrency.
+ * Tasks rejected by the executor, whether upon submission or when dispatched from the queue, are passed to the rejection handler supplied with the task.
+ * <p/>
+ * Also tracks the number of in-flight and queued invocations.
+ */
+public final class RemoteInvocationDispatcher implements Executor {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Queue<PendingTask> pending = new ConcurrentLinkedQueue<>();
+    // Tasks dispatched to the executor, limited by maxConcurrency
+    private final AtomicInteger dispatched = new AtomicInteger();
+    // Tasks waiting to run, whether queued by this dispatcher, or by the executor
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Creates a dispatcher for the specified executor.
+     * @param executor the executor of remote invocation tasks
+     * @param maxConcurrency the maximum number of concurrently dispatched tasks, or a non-positive value for no limit
+     */
+    public RemoteInvocationDispatcher(Executor executor, int maxConcurrency) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Returns the number of invocations currently executing.
+     * @return a number of invocations
+     */
+    public int getInFlightCount() {
+        return this.running.get();
+    }
+
+    /**
+     * Returns the number of invocations waiting to execute.
+     * @return a number of invocations
+     */
+    public int getQueuedCount() {
+        return this.queued.get();
+    }
+
+    /**
+     * Executes the specified task, logging its rejection by the executor.
+     * @param task a remote invocation task
+     */
+    @Override
+    public void execute(Runnable task) {
+        this.execute(task, EjbLogger.REMOTE_LOGGER::failedToDispatchRemoteInvocation);
+    }
+
+    /**
+     * Executes the specified task, notifying the specified handler if the task was rejected by the executor.
+     * The rejection handler may be invoked by a thread other than the caller, if the task was queued.
+     * @param task a remote invocation task
+     * @param rejectionHandler handles rejection of the task, typically by failing the invocation back to the client
+     */
+    public void execute(Runnable task, Consumer<RejectedExecutionException> rejectionHandler) {
+        this.queued.incrementAndGet();
+        if (this.maxConcurrency <= 0) {
+            this.dispatch(new PendingTask(task, rejectionHandler));
+            return;
+        }
+        this.pending.add(new PendingTask(task, rejectionHandler));
+        this.dispatchPending();
+    }
+
+    /**
+     * Dispatches pending tasks to the executor, while the concurrency limit permits.
+     */
+    private void dispatchPending() {
+        while (!this.pending.isEmpty()) {
+            int current = this.dispatched.get();
+            if (current >= this.maxConcurrency) return;
+            if (this.dispatched.compareAndSet(current, current + 1)) {
+                PendingTask task = this.pending.poll();
+                if (task != null) {
+                    if (!this.dispatch(task)) {
+                        // Release the permit of the rejected task and continue with the next pending task
+                        this.dispatched.decrementAndGet();
+                    }
+                } else {
+                    // Task was dispatched by a concurrent thread
+                    this.dispatched.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatches the specified task to the executor.
+     * @return true, if the task was dispatched, false if it was rejected
+     */
+    private boolean dispatch(PendingTask task) {
+        try {
+            this.executor.execute(() -> {
+                this.queued.decrementAndGet();
+                this.running.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    this.running.decrementAndGet();
+                    this.complete();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            this.queued.decrementAndGet();
+            task.reject(e);
+            return false;
+        }
+    }
+
+    private void complete() {
+        if (this.maxConcurrency > 0) {
+            this.dispatched.decrementAndGet();
+            // Tasks may have been queued while the limit was reached
+            this.dispatchPending();
+        }
+    }
+
+    private static class PendingTask implements Runnable {
+        private final Runnable task;
+        private final Consumer<RejectedExecutionException> rejectionHandler;
+
+        PendingTask(Runnable task, Consumer<RejectedExecutionException> rejectionHandler) {
+            this.task = task;
+            this.rejectionHandler = rejectionHandler;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+
+        void reject(RejectedExecutionException exception) {
+            try {
+                this.rejectionHandler.accept(exception);
+            } catch (RuntimeException e) {
+                EjbLogger.REMOTE_LOGGER.failedToDispatchRemoteInvocation(e);
+            }
+        }
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread, if supported by the current Java runtime.
+     * @return a virtual thread executor, or null, if virtual threads are not supported
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // Executors.newVirtualThreadPerTaskExecutor() requires Java 21+
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -20,13 +21,18 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.ejb3.remote.EJBRemoteConnectorService;
+import org.jboss.as.ejb3.remote.RemoteInvocationDispatcher;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * A {@link org.jboss.as.controller.ResourceDefinition} for the EJB remote service
@@ -95,7 +101,34 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER };
+    static final SimpleAttributeDefinition VIRTUAL_THREADS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final SimpleAttributeDefinition MAX_CONCURRENT_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS, ModelType.INT, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.ZERO)
+                    .setValidator(new IntRangeValidator(0, Integer.MAX_VALUE, true, true))
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER, VIRTUAL_THREADS, MAX_CONCURRENT_INVOCATIONS };
+
+    static final SimpleAttributeDefinition IN_FLIGHT_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.IN_FLIGHT_INVOCATIONS, ModelType.INT)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+                    .build();
+
+    static final SimpleAttributeDefinition QUEUED_INVOCATIONS =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.QUEUED_INVOCATIONS, ModelType.INT)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+                    .build();
 
     static final EJB3RemoteServiceAdd ADD_HANDLER = new EJB3RemoteServiceAdd(ATTRIBUTES);
 
@@ -116,6 +149,9 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
 
         // register custom handlers for deprecated attribute connector-ref
         resourceRegistration.registerReadWriteAttribute(CONNECTOR_REF, new RemoteConnectorRefReadAttributeHandler(), new RemoteConnectorRefWriteAttributeHandler());
+
+        resourceRegistration.registerMetric(IN_FLIGHT_INVOCATIONS, new InvocationDispatcherMetricHandler(RemoteInvocationDispatcher::getInFlightCount));
+        resourceRegistration.registerMetric(QUEUED_INVOCATIONS, new InvocationDispatcherMetricHandler(RemoteInvocationDispatcher::getQueuedCount));
     }
 
     @Override
@@ -155,4 +191,23 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
             writeAttributeHandler.execute(context, targetOperation);
         }
     }
+
+    /**
+     * Metric handler for the dispatcher of remote invocations, whose metrics are zero if invocations are executed by the remoting worker.
+     */
+    static class InvocationDispatcherMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final ToIntFunction<RemoteInvocationDispatcher> metric;
+
+        InvocationDispatcherMetricHandler(ToIntFunction<RemoteInvocationDispatcher> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(EJB_REMOTE_CAPABILITY.getCapabilityServiceName());
+            EJBRemoteConnectorService service = ((controller != null) && (controller.getState() == ServiceController.State.UP)) ? (EJBRemoteConnectorService) controller.getValue() : null;
+            RemoteInvocationDispatcher dispatcher = (service != null) ? service.getInvocationDispatcher() : null;
+            context.getResult().set((dispatcher != null) ? this.metric.applyAsInt(dispatcher) : 0);
+        }
+    }
 }
@@ -94,6 +94,8 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final List<ModelNode> connectorNameNodes = EJB3RemoteResourceDefinition.CONNECTORS.resolveModelAttribute(context, model).asList();
         final String threadPoolName = EJB3RemoteResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model).asBoolean();
+        final boolean virtualThreads = EJB3RemoteResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+        final int maxConcurrentInvocations = EJB3RemoteResourceDefinition.MAX_CONCURRENT_INVOCATIONS.resolveModelAttribute(context, model).asInt();
 
         final ServiceTarget target = context.getServiceTarget();
         final CapabilityServiceSupport support = context.getCapabilityServiceSupport();
@@ -142,7 +144,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.REMOTE_TRANSACTION_SERVICE_CAPABILITY_NAME, RemotingTransactionService.class);
         builder.addAliases(EJBRemoteConnectorService.SERVICE_NAME).setInitialMode(ServiceController.Mode.LAZY);
         final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(serviceConsumer, endpointSupplier, executorServiceSupplier, associationServiceSupplier, remotingTransactionServiceSupplier, channelCreationOptions,
-                FilterSpecClassResolverFilter.getFilterForOperationContext(context));
+                FilterSpecClassResolverFilter.getFilterForOperationContext(context), virtualThreads, maxConcurrentInvocations);
         builder.setInstance(ejbRemoteConnectorService);
         builder.install();
     }
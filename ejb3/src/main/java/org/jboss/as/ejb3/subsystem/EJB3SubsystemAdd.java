@@ -483,6 +483,8 @@ class EJB3SubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         ExceptionLoggingWriteHandler.INSTANCE.updateOrCreateDefaultExceptionLoggingEnabledService(context, model);
 
+        SingletonBeanStripedReadLockWriteHandler.INSTANCE.updateOrCreateStripedReadLockService(context, model);
+
         final ServiceTarget serviceTarget = context.getServiceTarget();
 
         context.getServiceTarget().addService(DeploymentRepositoryService.SERVICE_NAME, new DeploymentRepositoryService()).install();
@@ -67,11 +67,15 @@ public interface EJB3SubsystemModel {
     String PATH = "path";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
+    String SINGLETON_BEAN_STRIPED_READ_LOCK = "singleton-bean-striped-read-lock";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_SESSION_TIMEOUT = "default-stateful-bean-session-timeout";
     String DEFAULT_DATA_STORE = "default-data-store";
     String DEFAULT_PERSISTENT_TIMER_MANAGEMENT = "default-persistent-timer-management";
     String DEFAULT_TRANSIENT_TIMER_MANAGEMENT = "default-transient-timer-management";
+    String HASHED_WHEEL = "hashed-wheel";
+    String HASHED_WHEEL_TICK = "hashed-wheel-tick";
+    String JOURNAL = "journal";
 
     String REMOTE = "remote";
     String SERVICE = "service";
@@ -128,6 +132,7 @@ public interface EJB3SubsystemModel {
     String ALLOW_EXECUTION = "allow-execution";
 
     String STATIC_URLS = "static-urls";
+    String STRIPED = "striped";
 
     PathElement REMOTE_SERVICE_PATH = PathElement.pathElement(SERVICE, REMOTE);
     PathElement ASYNC_SERVICE_PATH = PathElement.pathElement(SERVICE, ASYNC);
@@ -146,6 +151,10 @@ public interface EJB3SubsystemModel {
     String BASE_EJB_THREAD_POOL_NAME = "ejb3";
     ServiceName BASE_THREAD_POOL_SERVICE_NAME = ThreadsServices.EXECUTOR.append(BASE_EJB_THREAD_POOL_NAME);
     String EXECUTE_IN_WORKER = "execute-in-worker";
+    String IN_FLIGHT_INVOCATIONS = "in-flight-invocations";
+    String QUEUED_INVOCATIONS = "queued-invocations";
+    String VIRTUAL_THREADS = "virtual-threads";
+    String MAX_CONCURRENT_INVOCATIONS = "max-concurrent-invocations";
 
     // Elytron integration
     String APPLICATION_SECURITY_DOMAIN = "application-security-domain";
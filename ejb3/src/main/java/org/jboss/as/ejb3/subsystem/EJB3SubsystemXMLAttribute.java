@@ -77,6 +77,8 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRIPED("striped"),
+    STRIPED_READ_LOCK("striped-read-lock"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
@@ -89,6 +91,12 @@ public enum EJB3SubsystemXMLAttribute {
     ACTIVE("active"),
 
     EXECUTE_IN_WORKER("execute-in-worker"),
+    VIRTUAL_THREADS(EJB3SubsystemModel.VIRTUAL_THREADS),
+    MAX_CONCURRENT_INVOCATIONS(EJB3SubsystemModel.MAX_CONCURRENT_INVOCATIONS),
+
+    HASHED_WHEEL(EJB3SubsystemModel.HASHED_WHEEL),
+    HASHED_WHEEL_TICK(EJB3SubsystemModel.HASHED_WHEEL_TICK),
+    JOURNAL(EJB3SubsystemModel.JOURNAL),
 
     // Elytron integration
     OUTFLOW_SECURITY_DOMAINS("outflow-security-domains"),
@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.ejb3.component.singleton.SingletonComponent;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceRegistry;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Write handler for the singleton-bean-striped-read-lock attribute.
+ * Modifications apply to singleton components started subsequently.
+ */
+class SingletonBeanStripedReadLockWriteHandler extends AbstractWriteAttributeHandler<Void> {
+
+    static final SingletonBeanStripedReadLockWriteHandler INSTANCE = new SingletonBeanStripedReadLockWriteHandler();
+
+    private SingletonBeanStripedReadLockWriteHandler() {
+        super(EJB3SubsystemRootResourceDefinition.SINGLETON_BEAN_STRIPED_READ_LOCK);
+    }
+
+    @Override
+    protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Void> voidHandbackHolder) throws OperationFailedException {
+        final ModelNode model = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+        updateOrCreateStripedReadLockService(context, model);
+
+        return false;
+    }
+
+    @Override
+    protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName, ModelNode valueToRestore, ModelNode valueToRevert, Void handback) throws OperationFailedException {
+        final ModelNode restored = context.readResource(PathAddress.EMPTY_ADDRESS).getModel().clone();
+        restored.get(attributeName).set(valueToRestore);
+        updateOrCreateStripedReadLockService(context, restored);
+    }
+
+    void updateOrCreateStripedReadLockService(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final boolean striped = EJB3SubsystemRootResourceDefinition.SINGLETON_BEAN_STRIPED_READ_LOCK.resolveModelAttribute(context, model).asBoolean();
+        final ServiceName serviceName = SingletonComponent.STRIPED_READ_LOCK_SERVICE_NAME;
+        final ServiceRegistry registry = context.getServiceRegistry(true);
+        final ServiceController<?> sc = registry.getService(serviceName);
+        if (sc != null) {
+            final AtomicBoolean value = (AtomicBoolean) sc.getValue();
+            value.set(striped);
+        } else {
+            // create and install the service
+            context.getServiceTarget().addService(serviceName, new ValueService(new AtomicBoolean(striped))).install();
+        }
+    }
+
+    private static final class ValueService implements Service<AtomicBoolean> {
+        private final AtomicBoolean value;
+
+        ValueService(final AtomicBoolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public void start(final StartContext context) {
+            // noop
+        }
+
+        @Override
+        public void stop(final StopContext context) {
+            // noop
+        }
+
+        @Override
+        public AtomicBoolean getValue() throws IllegalStateException {
+            return this.value;
+        }
+    }
+}
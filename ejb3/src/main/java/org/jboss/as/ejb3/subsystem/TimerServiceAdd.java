@@ -5,17 +5,27 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static java.security.AccessController.doPrivileged;
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
+import java.security.PrivilegedAction;
 import java.util.Timer;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.ejb3.deployment.processors.AroundTimeoutAnnotationParsingProcessor;
 import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
+import org.jboss.as.ejb3.timerservice.HashedWheelTimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.TimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.TimerTimeoutScheduler;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
@@ -25,6 +35,8 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Adds the timer service
@@ -43,6 +55,8 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
     protected void performBoottime(final OperationContext context, ModelNode operation, final ModelNode model) throws OperationFailedException {
 
         final String threadPoolName = TimerServiceResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asStringOrNull();
+        // A non-positive tick indicates that timeouts are scheduled via a java.util.Timer
+        final long hashedWheelTick = TimerServiceResourceDefinition.HASHED_WHEEL.resolveModelAttribute(context, model).asBoolean() ? TimerServiceResourceDefinition.HASHED_WHEEL_TICK.resolveModelAttribute(context, model).asLong() : 0L;
 
         TimerServiceMetaData defaultMetaData = new TimerServiceMetaData();
         defaultMetaData.setDataStoreName(TimerServiceResourceDefinition.DEFAULT_DATA_STORE.resolveModelAttribute(context, model).asStringOrNull());
@@ -63,6 +77,59 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
 
         if (threadPoolName != null) {
             context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY).setInstance(new TimerValueService()).install();
+
+            CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER_CAPABILITY);
+            Consumer<TimeoutScheduler> scheduler = builder.provides(TimerServiceResourceDefinition.TIMEOUT_SCHEDULER_CAPABILITY);
+            Supplier<Timer> timer = builder.requiresCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME, Timer.class);
+            builder.setInstance(new TimeoutSchedulerService(scheduler, timer, hashedWheelTick, threadPoolName)).install();
+        }
+    }
+
+    private static final class TimeoutSchedulerService implements org.jboss.msc.Service {
+
+        private final Consumer<TimeoutScheduler> scheduler;
+        private final Supplier<Timer> timer;
+        private final long hashedWheelTick;
+        private final String threadPoolName;
+        private volatile HashedWheelTimeoutScheduler wheel;
+
+        TimeoutSchedulerService(Consumer<TimeoutScheduler> scheduler, Supplier<Timer> timer, long hashedWheelTick, String threadPoolName) {
+            this.scheduler = scheduler;
+            this.timer = timer;
+            this.hashedWheelTick = hashedWheelTick;
+            this.threadPoolName = threadPoolName;
+        }
+
+        @Override
+        public void start(StartContext context) {
+            if (this.hashedWheelTick > 0L) {
+                // Timer tasks only submit the timeout invocation to the timer service executor, so run them directly on the tick thread
+                // Tick thread belongs to the thread group of the timer service thread pool, see EJB3ThreadFactoryResolver
+                ThreadGroup group = new ThreadGroup("EJB " + this.threadPoolName);
+                ThreadFactory factory = doPrivileged(new PrivilegedAction<ThreadFactory>() {
+                    @Override
+                    public ThreadFactory run() {
+                        return new JBossThreadFactory(group, Boolean.TRUE, null, "%G - timer wheel %t", null, null);
+                    }
+                });
+                ClassLoader loader = WildFlySecurityManager.getClassLoaderPrivileged(HashedWheelTimeoutScheduler.class);
+                this.wheel = new HashedWheelTimeoutScheduler(this.hashedWheelTick, TimeUnit.MILLISECONDS, Runnable::run, task -> {
+                    Thread thread = factory.newThread(task);
+                    thread.setContextClassLoader(loader);
+                    return thread;
+                });
+                this.scheduler.accept(this.wheel);
+            } else {
+                this.scheduler.accept(new TimerTimeoutScheduler(this.timer.get()));
+            }
+        }
+
+        @Override
+        public void stop(StopContext context) {
+            if (this.wheel != null) {
+                this.wheel.close();
+                this.wheel = null;
+            }
         }
     }
 
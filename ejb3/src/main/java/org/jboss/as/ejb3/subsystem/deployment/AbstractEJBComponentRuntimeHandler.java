@@ -19,6 +19,9 @@ import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourc
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_MAX_SIZE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_NAME;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_REMOVE_COUNT;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_STEAL_COUNT;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_COUNT;
+import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.POOL_WAIT_TIME;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.RUN_AS_ROLE;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.SECURITY_DOMAIN;
 import static org.jboss.as.ejb3.subsystem.deployment.AbstractEJBComponentResourceDefinition.TIMEOUT_METHOD;
@@ -50,6 +53,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 
 import jakarta.ejb.EJBException;
 import jakarta.ejb.NoSuchObjectLocalException;
@@ -71,6 +76,7 @@ import org.jboss.as.ejb3.component.EJBViewDescription;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.strictmax.StripedStrictMaxPool;
 import org.jboss.as.ejb3.security.EJBSecurityMetaData;
 import org.jboss.as.ejb3.timerservice.TimerImpl;
 import org.jboss.dmr.ModelNode;
@@ -216,6 +222,21 @@ public abstract class AbstractEJBComponentRuntimeHandler<T extends EJBComponent>
             if (pool != null) {
                 result.set(pool.getMaxSize());
             }
+        } else if (hasPool && POOL_STEAL_COUNT.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool instanceof StripedStrictMaxPool ? sumStripeStatistics((StripedStrictMaxPool<?>) pool, StripedStrictMaxPool.StripeStatistics::getStealCount) : 0L);
+            }
+        } else if (hasPool && POOL_WAIT_COUNT.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool instanceof StripedStrictMaxPool ? sumStripeStatistics((StripedStrictMaxPool<?>) pool, StripedStrictMaxPool.StripeStatistics::getWaitCount) : 0L);
+            }
+        } else if (hasPool && POOL_WAIT_TIME.getName().equals(attributeName)) {
+            final Pool<?> pool = componentType.getPool(component);
+            if (pool != null) {
+                result.set(pool instanceof StripedStrictMaxPool ? sumStripeStatistics((StripedStrictMaxPool<?>) pool, statistics -> statistics.getWaitTime(TimeUnit.MILLISECONDS)) : 0L);
+            }
         } else {
             // Bug; we were registered for an attribute but there is no code for handling it
             throw EjbLogger.ROOT_LOGGER.unknownAttribute(attributeName);
@@ -460,6 +481,14 @@ public abstract class AbstractEJBComponentRuntimeHandler<T extends EJBComponent>
         }
     }
 
+    private static long sumStripeStatistics(final StripedStrictMaxPool<?> pool, final ToLongFunction<StripedStrictMaxPool.StripeStatistics> statistic) {
+        long result = 0L;
+        for (int i = 0; i < pool.getStripeCount(); ++i) {
+            result += statistic.applyAsLong(pool.getStripeStatistics(i));
+        }
+        return result;
+    }
+
     private static void logTimerFailure(final String componentName, final EJBException e) {
         ROOT_LOGGER.failToReadTimerInformation(componentName, e);
     }
@@ -0,0 +1,337 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link TimeoutScheduler} based on a hierarchical hashed timing wheel.
+ * Scheduling and cancellation are O(1) and never block, since both only enqueue a request that is applied by a dedicated tick thread.
+ * Cancelled timeouts are unlinked from their wheel bucket on the next tick, so they are not retained until their expiration.
+ * Timeouts that expire within the same tick are dispatched to the configured executor as a single batch.
+ * Timeouts never expire early, but may expire up to one tick late.
+ * While no timeouts are scheduled, the tick thread parks until the next timeout is scheduled, rather than ticking.
+ */
+public class HashedWheelTimeoutScheduler implements TimeoutScheduler, AutoCloseable {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    // 64^6 ticks covers ~2000 years using a 1ms tick
+    private static final int LEVELS = 6;
+    private static final long MAX_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickNanos;
+    private final Executor executor;
+    private final Bucket[][] wheels = new Bucket[LEVELS][SLOTS];
+    private final Queue<Entry> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancellations = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private final long start;
+    private volatile boolean closed = false;
+    private volatile boolean idle = false;
+    // Guarded by tick thread
+    private long tick = 0;
+    // Number of timeouts linked into the wheel, guarded by tick thread
+    private int size = 0;
+
+    /**
+     * Creates a timing wheel scheduler.
+     * @param tickDuration the duration of a single tick of the wheel
+     * @param unit the unit of the tick duration
+     * @param executor the executor to which batches of expired timeouts are dispatched
+     * @param threadFactory factory for the tick thread
+     */
+    public HashedWheelTimeoutScheduler(long tickDuration, TimeUnit unit, Executor executor, ThreadFactory threadFactory) {
+        this.tickNanos = Math.max(1L, unit.toNanos(tickDuration));
+        this.executor = executor;
+        for (Bucket[] wheel : this.wheels) {
+            for (int i = 0; i < SLOTS; ++i) {
+                wheel[i] = new Bucket();
+            }
+        }
+        this.start = System.nanoTime();
+        this.thread = threadFactory.newThread(this::run);
+        this.thread.start();
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delay) {
+        return this.add(new Entry(task, this.deadline(delay), 0L));
+    }
+
+    @Override
+    public ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return this.add(new Entry(task, this.deadline(delay), TimeUnit.MILLISECONDS.toNanos(period)));
+    }
+
+    @Override
+    public void purge() {
+        // Cancelled timeouts are removed eagerly by the tick thread
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.thread);
+        try {
+            this.thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Entry add(Entry entry) {
+        if (this.closed) {
+            throw new IllegalStateException();
+        }
+        this.additions.add(entry);
+        if (this.idle) {
+            LockSupport.unpark(this.thread);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the deadline, relative to the start of this scheduler, of a timeout with the specified delay.
+     */
+    private long deadline(long delay) {
+        return (System.nanoTime() - this.start) + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, delay));
+    }
+
+    /**
+     * Returns the first tick not earlier than the specified deadline.
+     */
+    private long ticks(long deadline) {
+        return (deadline + this.tickNanos - 1) / this.tickNanos;
+    }
+
+    private void run() {
+        List<Entry> expired = new ArrayList<>();
+        while (!this.closed) {
+            if ((this.size == 0) && this.additions.isEmpty()) {
+                this.idle = true;
+                // Re-check, since a timeout may have been added before the idle flag was visible to its scheduling thread
+                if (this.additions.isEmpty() && !this.closed) {
+                    LockSupport.park(this);
+                }
+                this.idle = false;
+                // The wheel is empty, so skip the ticks that elapsed while parked
+                this.tick = Math.max(this.tick, (System.nanoTime() - this.start) / this.tickNanos);
+                continue;
+            }
+            long next = (this.tick + 1) * this.tickNanos;
+            long remaining = next - (System.nanoTime() - this.start);
+            if (remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                continue;
+            }
+            this.tick += 1;
+            this.applyCancellations();
+            this.applyAdditions();
+            this.cascade();
+            this.size -= this.wheels[0][(int) (this.tick & SLOT_MASK)].drainTo(expired);
+            if (!expired.isEmpty()) {
+                this.dispatch(expired);
+                expired = new ArrayList<>();
+            }
+        }
+        for (Bucket[] wheel : this.wheels) {
+            for (Bucket bucket : wheel) {
+                bucket.clear();
+            }
+        }
+        this.additions.clear();
+        this.cancellations.clear();
+    }
+
+    private void applyAdditions() {
+        for (Entry entry = this.additions.poll(); entry != null; entry = this.additions.poll()) {
+            if (entry.state.compareAndSet(Entry.PENDING, Entry.SCHEDULED)) {
+                this.insert(entry, 0L);
+            }
+        }
+    }
+
+    private void applyCancellations() {
+        for (Entry entry = this.cancellations.poll(); entry != null; entry = this.cancellations.poll()) {
+            if (entry.bucket != null) {
+                entry.bucket.remove(entry);
+                this.size -= 1;
+            }
+        }
+    }
+
+    /**
+     * When a lower level wheel completes a revolution, redistribute the timeouts of the current bucket of the next level.
+     */
+    private void cascade() {
+        List<Entry> entries = new ArrayList<>();
+        for (int level = 1; level < LEVELS; ++level) {
+            int shift = SLOT_BITS * level;
+            if ((this.tick & ((1L << shift) - 1)) != 0) break;
+            this.size -= this.wheels[level][(int) ((this.tick >>> shift) & SLOT_MASK)].drainTo(entries);
+        }
+        for (Entry entry : entries) {
+            this.insert(entry, 0L);
+        }
+    }
+
+    /**
+     * Inserts the specified timeout into the appropriate bucket of the wheel.
+     * @param entry a timeout
+     * @param minTicks the minimum number of ticks from the current tick at which this timeout may expire
+     */
+    private void insert(Entry entry, long minTicks) {
+        long ticks = this.ticks(entry.deadline);
+        // Overdue timeouts expire as soon as possible
+        long delta = Math.min(Math.max(minTicks, ticks - this.tick), MAX_TICKS);
+        int level = 0;
+        while ((level < LEVELS - 1) && (delta >= (1L << (SLOT_BITS * (level + 1))))) {
+            level += 1;
+        }
+        long target = this.tick + delta;
+        this.wheels[level][(int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK)].add(entry);
+        this.size += 1;
+    }
+
+    private void dispatch(List<Entry> expired) {
+        for (Entry entry : expired) {
+            if (entry.period > 0L) {
+                // Fixed-rate, i.e. next deadline is relative to the previous deadline, not the actual time of expiration
+                entry.deadline += entry.period;
+                // The bucket for the current tick was already drained
+                this.insert(entry, 1L);
+            } else {
+                entry.state.compareAndSet(Entry.SCHEDULED, Entry.EXPIRED);
+            }
+        }
+        Runnable batch = () -> {
+            for (Entry entry : expired) {
+                if (entry.state.get() == Entry.CANCELLED) continue;
+                try {
+                    entry.task.run();
+                } catch (Throwable e) {
+                    EJB3_TIMER_LOGGER.failedToExecuteTimeoutTask(e);
+                }
+            }
+        };
+        try {
+            this.executor.execute(batch);
+        } catch (RuntimeException e) {
+            EJB3_TIMER_LOGGER.failedToDispatchTimeoutTasks(expired.size(), e);
+        }
+    }
+
+    private class Entry implements ScheduledTimeout {
+        static final int PENDING = 0;
+        static final int SCHEDULED = 1;
+        static final int EXPIRED = 2;
+        static final int CANCELLED = 3;
+
+        final Runnable task;
+        final long period;
+        final AtomicInteger state = new AtomicInteger(PENDING);
+        // Guarded by tick thread
+        long deadline;
+        Bucket bucket;
+        Entry previous;
+        Entry next;
+
+        Entry(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public boolean cancel() {
+            int current = this.state.get();
+            while ((current == PENDING) || (current == SCHEDULED)) {
+                if (this.state.compareAndSet(current, CANCELLED)) {
+                    // Pending timeouts were not yet added to the wheel
+                    if (current == SCHEDULED) {
+                        HashedWheelTimeoutScheduler.this.cancellations.add(this);
+                    }
+                    return true;
+                }
+                current = this.state.get();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Doubly-linked list of timeouts, supporting O(1) removal.
+     * Only accessed by the tick thread.
+     */
+    private static class Bucket {
+        private Entry head;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            entry.previous = null;
+            entry.next = this.head;
+            if (this.head != null) {
+                this.head.previous = entry;
+            }
+            this.head = entry;
+        }
+
+        void remove(Entry entry) {
+            if (entry.previous != null) {
+                entry.previous.next = entry.next;
+            } else {
+                this.head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.previous = entry.previous;
+            }
+            entry.bucket = null;
+            entry.previous = null;
+            entry.next = null;
+        }
+
+        /**
+         * Unlinks all timeouts from this bucket, adding those still scheduled to the specified list.
+         * @return the number of unlinked timeouts
+         */
+        int drainTo(List<Entry> entries) {
+            int count = 0;
+            Entry entry = this.head;
+            while (entry != null) {
+                count += 1;
+                Entry next = entry.next;
+                entry.bucket = null;
+                entry.previous = null;
+                entry.next = null;
+                if (entry.state.get() == Entry.SCHEDULED) {
+                    entries.add(entry);
+                }
+                entry = next;
+            }
+            this.head = null;
+            return count;
+        }
+
+        void clear() {
+            this.drainTo(new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+/**
+ * Schedules the timeouts of the timers of a timer service.
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules the specified task for execution after the specified delay.
+     * @param task a task
+     * @param delay a delay in milliseconds
+     * @return a handle to the scheduled task
+     */
+    ScheduledTimeout schedule(Runnable task, long delay);
+
+    /**
+     * Schedules the specified task for repeated fixed-rate execution, beginning after the specified delay.
+     * @param task a task
+     * @param delay a delay in milliseconds
+     * @param period the time in milliseconds between successive executions
+     * @return a handle to the scheduled task
+     */
+    ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period);
+
+    /**
+     * Removes any cancelled tasks still retained by this scheduler.
+     */
+    void purge();
+
+    /**
+     * A handle to a scheduled task.
+     */
+    interface ScheduledTimeout {
+        /**
+         * Cancels any future execution of the associated task.
+         * @return true, if this invocation prevented a future execution, false otherwise
+         */
+        boolean cancel();
+    }
+}
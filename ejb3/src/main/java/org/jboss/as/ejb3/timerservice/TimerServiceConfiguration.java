@@ -5,7 +5,6 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.ExecutorService;
 
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
@@ -18,7 +17,7 @@ public interface TimerServiceConfiguration extends ManagedTimerServiceConfigurat
 
     ExecutorService getExecutor();
 
-    Timer getTimer();
+    TimeoutScheduler getTimeoutScheduler();
 
     TimerPersistence getTimerPersistence();
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import java.util.Timer;
+
+/**
+ * {@link TimeoutScheduler} that schedules tasks using a {@link Timer}.
+ */
+public class TimerTimeoutScheduler implements TimeoutScheduler {
+
+    private final Timer timer;
+
+    public TimerTimeoutScheduler(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delay) {
+        TimerTaskAdapter adapter = new TimerTaskAdapter(task);
+        this.timer.schedule(adapter, delay);
+        return adapter;
+    }
+
+    @Override
+    public ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        TimerTaskAdapter adapter = new TimerTaskAdapter(task);
+        this.timer.scheduleAtFixedRate(adapter, delay, period);
+        return adapter;
+    }
+
+    @Override
+    public void purge() {
+        this.timer.purge();
+    }
+
+    private static class TimerTaskAdapter extends java.util.TimerTask implements ScheduledTimeout {
+        private final Runnable task;
+
+        TimerTaskAdapter(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            this.task.run();
+        }
+    }
+}
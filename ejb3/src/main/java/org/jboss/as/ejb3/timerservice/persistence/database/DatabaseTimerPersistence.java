@@ -137,6 +137,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String UPDATE_TIMER = "update-timer";
     private static final String LOAD_ALL_TIMERS = "load-all-timers";
     private static final String LOAD_TIMER = "load-timer";
+    private static final String LOAD_TIMER_STATES = "load-timer-states";
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
@@ -409,35 +410,45 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
      * @return the timer loaded from database; null if nothing can be loaded
      */
     public TimerImpl loadTimer(final String timedObjectId, final String timerId, final TimerServiceImpl timerService) {
-        String loadTimer = sql.getProperty(LOAD_TIMER);
         Connection connection = null;
-        PreparedStatement preparedStatement = null;
-        ResultSet resultSet = null;
         TimerImpl timer = null;
         try {
             connection = dataSource.getConnection();
-            preparedStatement = connection.prepareStatement(loadTimer);
-            preparedStatement.setString(1, timedObjectId);
-            preparedStatement.setString(2, timerId);
-            preparedStatement.setString(3, partition);
-            resultSet = preparedStatement.executeQuery();
-
-            if (resultSet.next()) {
-                Holder holder = timerFromResult(resultSet, timerService, timerId, null);
-                if (holder != null) {
-                    timer = holder.timer;
-                }
+            Holder holder = loadTimer(connection, timedObjectId, timerId, timerService, null);
+            if (holder != null) {
+                timer = holder.timer;
             }
         } catch (SQLException e) {
             EjbLogger.EJB3_TIMER_LOGGER.failToRestoreTimersForObjectId(timerId, e);
         } finally {
-            safeClose(resultSet);
-            safeClose(preparedStatement);
             safeClose(connection);
         }
         return timer;
     }
 
+    /**
+     * Loads a timer from database by its id and timed object id, using the specified connection.
+     *
+     * @param connection a database connection
+     * @param timedObjectId the timed object id for the timer
+     * @param timerId the timer id
+     * @param timerService the active timer service
+     * @param timerState the expected timer state, may be null
+     * @return the {@code Holder} for the timer loaded from database; null if nothing can be loaded
+     * @throws SQLException on errors executing the query
+     */
+    private Holder loadTimer(final Connection connection, final String timedObjectId, final String timerId,
+                             final TimerServiceImpl timerService, final TimerState timerState) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER))) {
+            statement.setString(1, timedObjectId);
+            statement.setString(2, timerId);
+            statement.setString(3, partition);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? timerFromResult(resultSet, timerService, timerId, timerState) : null;
+            }
+        }
+    }
+
     @Override
     public void addTimer(final TimerImpl timerEntity) {
         String timedObjectId = timerEntity.getTimedObjectId();
@@ -519,6 +530,72 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Persists the state of the specified timers using a single connection, batching the resulting deletes and updates.
+     *
+     * @param timers the timers to persist
+     */
+    private void persistTimers(final List<TimerImpl> timers) {
+        if (timers.isEmpty()) {
+            return;
+        }
+        Connection connection = null;
+        PreparedStatement deleteStatement = null;
+        PreparedStatement updateStatement = null;
+        try {
+            connection = dataSource.getConnection();
+            for (TimerImpl timerEntity : timers) {
+                if (timerEntity.getState() == TimerState.CANCELED ||
+                        timerEntity.getState() == TimerState.EXPIRED) {
+                    if (deleteStatement == null) {
+                        deleteStatement = connection.prepareStatement(sql.getProperty(DELETE_TIMER));
+                    }
+                    deleteStatement.setString(1, timerEntity.getTimedObjectId());
+                    deleteStatement.setString(2, timerEntity.getId());
+                    deleteStatement.setString(3, partition);
+                    deleteStatement.addBatch();
+                } else {
+                    if (updateStatement == null) {
+                        updateStatement = connection.prepareStatement(sql.getProperty(UPDATE_TIMER));
+                    }
+                    updateStatement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
+                    updateStatement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
+                    updateStatement.setString(3, timerEntity.getState().name());
+                    setNodeName(timerEntity.getState(), updateStatement, 4);
+                    // WHERE CLAUSE
+                    updateStatement.setString(5, timerEntity.getTimedObjectId());
+                    updateStatement.setString(6, timerEntity.getId());
+                    updateStatement.setString(7, partition);
+                    updateStatement.setString(8, nodeName);   // only persist if this node or empty
+                    updateStatement.addBatch();
+                }
+            }
+            if (deleteStatement != null) {
+                deleteStatement.executeBatch();
+            }
+            if (updateStatement != null) {
+                updateStatement.executeBatch();
+            }
+            synchronized (this) {
+                for (TimerImpl timerEntity : timers) {
+                    Set<String> ids = knownTimerIds.get(timerEntity.getTimedObjectId());
+                    if (timerEntity.getState() == TimerState.CANCELED ||
+                            timerEntity.getState() == TimerState.EXPIRED) {
+                        ids.remove(timerEntity.getId());
+                    } else {
+                        ids.add(timerEntity.getId());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        } finally {
+            safeClose(deleteStatement);
+            safeClose(updateStatement);
+            safeClose(connection);
+        }
+    }
+
     @Override
     public boolean shouldRun(TimerImpl timer) {
         final ContextTransactionManager tm = ContextTransactionManager.getInstance();
@@ -605,6 +682,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(2, partition);
             resultSet = statement.executeQuery();
             final List<Holder> timers = new ArrayList<>();
+            final List<String> invalidTimerIds = new ArrayList<>();
             while (resultSet.next()) {
                 String timerId = null;
                 try {
@@ -613,18 +691,24 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     if (timerImpl != null) {
                         timers.add(timerImpl);
                     } else {
-                        final String deleteTimer = sql.getProperty(DELETE_TIMER);
-                        try (PreparedStatement deleteStatement = connection.prepareStatement(deleteTimer)) {
-                            deleteStatement.setString(1, resultSet.getString(2));
-                            deleteStatement.setString(2, timerId);
-                            deleteStatement.setString(3, partition);
-                            deleteStatement.execute();
-                        }
+                        invalidTimerIds.add(timerId);
                     }
                 } catch (Exception e) {
                     EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), timerId, e);
                 }
             }
+            if (!invalidTimerIds.isEmpty()) {
+                final String deleteTimer = sql.getProperty(DELETE_TIMER);
+                try (PreparedStatement deleteStatement = connection.prepareStatement(deleteTimer)) {
+                    for (String timerId : invalidTimerIds) {
+                        deleteStatement.setString(1, timedObjectId);
+                        deleteStatement.setString(2, timerId);
+                        deleteStatement.setString(3, partition);
+                        deleteStatement.addBatch();
+                    }
+                    deleteStatement.executeBatch();
+                }
+            }
             synchronized (this) {
                 // ids should be always be not null
                 Set<String> ids = knownTimerIds.get(timedObjectId);
@@ -632,19 +716,20 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     ids.add(timer.timer.getId());
                 }
 
+                List<TimerImpl> resetTimers = new ArrayList<>();
                 for(Holder timer : timers) {
                     if(timer.requiresReset) {
                         TimerImpl ret = timer.timer;
                         EjbLogger.DEPLOYMENT_LOGGER.loadedPersistentTimerInTimeout(ret.getId(), ret.getTimedObjectId());
                         if(ret.getNextExpiration() == null) {
                             ret.setTimerState(TimerState.CANCELED, null);
-                            persistTimer(ret);
                         } else {
                             ret.setTimerState(TimerState.ACTIVE, null);
-                            persistTimer(ret);
                         }
+                        resetTimers.add(ret);
                     }
                 }
+                persistTimers(resetTimers);
             }
             List<TimerImpl> ret = new ArrayList<>();
             for(Holder timer : timers) {
@@ -1029,6 +1114,11 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Synchronizes the in-memory timers of all deployed timed objects with the database.
+     * The identifiers and states of all timers of this partition are retrieved using a single query, so that
+     * only those timers that were created by another node, or whose state is out of sync, need to be fully loaded.
+     */
     private class RefreshTask extends TimerTask {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
@@ -1037,84 +1127,120 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         public void run() {
             if (running.compareAndSet(false, true)) {
                 try {
-                    Set<String> timedObjects;
+                    // Snapshot of the known timer ids of each timed object with a registered listener
+                    final Map<String, Set<String>> existing = new HashMap<>();
                     synchronized (DatabaseTimerPersistence.this) {
-                        timedObjects = new HashSet<>(knownTimerIds.keySet());
-                    }
-                    for (String timedObjectId : timedObjects) {
-                        TimerChangeListener listener = changeListeners.get(timedObjectId);
-                        if (listener == null) {
-                            continue;
+                        for (Map.Entry<String, Set<String>> entry : knownTimerIds.entrySet()) {
+                            if (changeListeners.containsKey(entry.getKey())) {
+                                existing.put(entry.getKey(), new HashSet<>(entry.getValue()));
+                            }
                         }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+                    }
+                    if (existing.isEmpty()) {
+                        return;
+                    }
+                    // Timers that were added by another node, or whose in-memory state is out of sync with the database
+                    final List<TimerRow> changed = new ArrayList<>();
+                    String loadTimerStates = sql.getProperty(LOAD_TIMER_STATES);
+                    Connection connection = null;
+                    PreparedStatement statement = null;
+                    ResultSet resultSet = null;
+                    try {
+                        connection = dataSource.getConnection();
+                        statement = connection.prepareStatement(loadTimerStates);
+                        statement.setString(1, partition);
+                        resultSet = statement.executeQuery();
+                        while (resultSet.next()) {
+                            String id = null;
+                            String timedObjectId = null;
+                            try {
+                                id = resultSet.getString(1);
+                                timedObjectId = resultSet.getString(2);
+                                Set<String> existingIds = existing.get(timedObjectId);
+                                TimerChangeListener listener = (existingIds != null) ? changeListeners.get(timedObjectId) : null;
+                                if (listener == null) {
+                                    continue;
+                                }
+                                if (!existingIds.remove(id)) {
+                                    changed.add(new TimerRow(timedObjectId, id, null, null));
+                                } else {
+                                    TimerImpl oldTimer = listener.getTimerService().getTimer(id);
+                                    // if it is already in memory but it is not in sync we have a problem
+                                    // remove and add -> the probable cause is db glitch
+                                    boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                                    // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                                    if (invalidMemoryTimer) {
+                                        TimerState dbTimerState = TimerState.valueOf(resultSet.getString(3));
+                                        boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+                                        if (validDBTimer) {
+                                            changed.add(new TimerRow(timedObjectId, id, dbTimerState, oldTimer));
+                                        }
+                                    }
+                                }
+                            } catch (Exception e) {
+                                EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+                            }
                         }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
-                        try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
+                        safeClose(resultSet);
+                        resultSet = null;
+
+                        // Only fully load, i.e. deserialize, those timers that changed
+                        for (TimerRow row : changed) {
+                            TimerChangeListener listener = changeListeners.get(row.timedObjectId);
+                            if (listener == null) {
+                                continue;
+                            }
+                            try {
+                                final Holder holder = loadTimer(connection, row.timedObjectId, row.id, listener.getTimerService(), row.state);
+                                if (holder != null) {
+                                    synchronized (DatabaseTimerPersistence.this) {
+                                        Set<String> ids = knownTimerIds.get(row.timedObjectId);
+                                        if (ids != null) {
+                                            ids.add(row.id);
+                                            if (row.oldTimer == null) {
                                                 listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
+                                            } else {
+                                                listener.timerSync(row.oldTimer, holder.timer);
                                             }
                                         }
                                     }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
                                 }
+                            } catch (Exception e) {
+                                EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(row.timedObjectId, row.id, e);
                             }
+                        }
+                    } catch (SQLException e) {
+                        for (String timedObjectId : existing.keySet()) {
+                            EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
+                        }
+                        return;
+                    } finally {
+                        safeClose(resultSet);
+                        safeClose(statement);
+                        safeClose(connection);
+                    }
 
-                            synchronized (DatabaseTimerPersistence.this) {
-                                Set<String> timers = knownTimerIds.get(timedObjectId);
-                                for (String timer : existing) {
-                                    TimerImpl timer1 = timerService.getTimer(timer);
-                                    if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
-                                    }
+                    // Any remaining known timers no longer exist in the database
+                    for (Map.Entry<String, Set<String>> entry : existing.entrySet()) {
+                        String timedObjectId = entry.getKey();
+                        TimerChangeListener listener = changeListeners.get(timedObjectId);
+                        if (listener == null || entry.getValue().isEmpty()) {
+                            continue;
+                        }
+                        final TimerServiceImpl timerService = listener.getTimerService();
+                        synchronized (DatabaseTimerPersistence.this) {
+                            Set<String> timers = knownTimerIds.get(timedObjectId);
+                            if (timers == null) {
+                                continue;
+                            }
+                            for (String timer : entry.getValue()) {
+                                TimerImpl timer1 = timerService.getTimer(timer);
+                                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                                    timers.remove(timer);
+                                    listener.timerRemoved(timer);
                                 }
                             }
-                        } catch (SQLException e) {
-                            EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
                         }
                     }
                 } finally {
@@ -1126,6 +1252,23 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     }
 
 
+    /**
+     * Identifies a timer row that needs to be loaded during refresh.
+     */
+    private static final class TimerRow {
+        final String timedObjectId;
+        final String id;
+        final TimerState state;
+        final TimerImpl oldTimer;
+
+        TimerRow(String timedObjectId, String id, TimerState state, TimerImpl oldTimer) {
+            this.timedObjectId = timedObjectId;
+            this.id = id;
+            this.state = state;
+            this.oldTimer = oldTimer;
+        }
+    }
+
     static final class Holder {
         final TimerImpl timer;
         final boolean requiresReset;
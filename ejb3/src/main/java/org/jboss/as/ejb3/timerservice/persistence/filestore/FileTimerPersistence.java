@@ -203,16 +203,13 @@ public class FileTimerPersistence implements TimerPersistence, Service {
             if (status == Status.STATUS_NO_TRANSACTION ||
                     status == Status.STATUS_UNKNOWN || isBeforeCompletion()
                     || status == Status.STATUS_COMMITTED) {
-                Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                 if (timer.getState() == TimerState.CANCELED ||
                         timer.getState() == TimerState.EXPIRED) {
-                    map.remove(timer.getId());
-                    writeFile(timer);
-                } else if (newTimer || map.containsKey(timer.getId())) {
-                    //if it is not a new timer and is not in the map then it has
+                    writeTimer(timer);
+                } else if (newTimer || isPersisted(timer)) {
+                    //if it is not a new timer and is not in the store then it has
                     //been removed by another thread.
-                    map.put(timer.getId(), timer);
-                    writeFile(timer);
+                    writeTimer(timer);
                 }
             } else {
 
@@ -321,16 +318,23 @@ public class FileTimerPersistence implements TimerPersistence, Service {
      * @return The timers for the object
      */
     private Map<String, TimerImpl> getTimers(final String timedObjectId, final TimerServiceImpl timerService) {
-        return loadTimersFromFile(timedObjectId, timerService);
+        return loadTimers(timedObjectId, timerService);
     }
 
-    private Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
+    /**
+     * Loads the persistent timers of the specified timed object. Called under lock.
+     *
+     * @param timedObjectId The timed object id
+     * @param timerService The timer service of the timed object
+     * @return The timers for the object, keyed by timer id
+     */
+    protected Map<String, TimerImpl> loadTimers(String timedObjectId, TimerServiceImpl timerService) {
         Map<String, TimerImpl> timers = new HashMap<>();
         String directory = getDirectory(timedObjectId);
 
         timers.putAll(LegacyFileStore.loadTimersFromFile(timedObjectId, timerService, directory, factory, configuration));
         for(Map.Entry<String, TimerImpl> entry : timers.entrySet()) {
-            writeFile(entry.getValue()); //write legacy timers into the new format
+            writeFile(entry.getValue()); //write legacy timers into the xml format
             //the legacy code handling code will write a marker file, to make sure that the old timers will not be loaded on next restart.
         }
         final File file = new File(directory);
@@ -392,7 +396,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     }
 
 
-    private File fileName(String timedObjectId, String timerId) {
+    File fileName(String timedObjectId, String timerId) {
         return new File(getDirectory(timedObjectId) + File.separator + timerId.replace(File.separator, "-") + ".xml");
     }
 
@@ -402,7 +406,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
      * @param timedObjectId The timed object
      * @return The directory
      */
-    private String getDirectory(String timedObjectId) {
+    protected String getDirectory(String timedObjectId) {
         String dirName = directories.get(timedObjectId);
         if (dirName == null) {
             dirName = baseDir.getAbsolutePath() + File.separator + timedObjectId.replace(File.separator, "-");
@@ -448,17 +452,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
                     try {
                         lock.lock();
                         if (status == Status.STATUS_COMMITTED) {
-                            final Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
-                            if (timer.getState() == TimerState.CANCELED ||
-                                    timer.getState() == TimerState.EXPIRED) {
-                                map.remove(timer.getId());
-                            } else {
-                                if (newTimer || map.containsKey(timer.getId())) {
-                                    //if an existing timer is not in the map it has been cancelled by another thread
-                                    map.put(timer.getId(), timer);
-                                }
-                            }
-                            writeFile(timer);
+                            writeTimer(timer);
                         }
                     } finally {
                         lock.unlock();
@@ -471,6 +465,33 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     }
 
+    /**
+     * Indicates whether the specified timer is contained in the persistent store. Called under lock.
+     *
+     * @param timer The timer
+     * @return true, if the timer was persisted, false otherwise
+     */
+    protected boolean isPersisted(TimerImpl timer) {
+        return getTimers(timer.getTimedObjectId(), timer.getTimerService()).containsKey(timer.getId());
+    }
+
+    /**
+     * Writes the current state of the specified timer to the persistent store, removing it if cancelled or expired. Called under lock.
+     *
+     * @param timer The timer
+     */
+    protected void writeTimer(TimerImpl timer) {
+        writeFile(timer);
+    }
+
+    MarshallerFactory getMarshallerFactory() {
+        return factory;
+    }
+
+    MarshallingConfiguration getMarshallingConfiguration() {
+        return configuration;
+    }
+
     private void writeFile(TimerImpl timer) {
         final File file = fileName(timer.getTimedObjectId(), timer.getId());
 
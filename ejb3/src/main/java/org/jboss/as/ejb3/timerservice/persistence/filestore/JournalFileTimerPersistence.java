@@ -0,0 +1,313 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import jakarta.ejb.ScheduleExpression;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * File based persistent timer store that records the timers of each timed object in an append-only {@link TimerJournal},
+ * rather than in a separate XML file per timer.
+ * <p/>
+ * The journal of a timed object is replayed once, when its timers are first loaded, after which its live timers are tracked in memory.
+ * Timers previously persisted in the XML format are migrated into the journal when the journal of their timed object is first created.
+ */
+public class JournalFileTimerPersistence extends FileTimerPersistence {
+
+    static final String JOURNAL_FILE_NAME = "timers.journal";
+
+    private final ConcurrentMap<String, TimerJournal> journals = new ConcurrentHashMap<>();
+
+    public JournalFileTimerPersistence(final Consumer<FileTimerPersistence> consumer,
+                                       final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                       final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                       final Supplier<PathManager> pathManagerSupplier,
+                                       final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        super(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, createIfNotExists, path, pathRelativeTo);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        for (TimerJournal journal : journals.values()) {
+            closeJournal(journal);
+        }
+        journals.clear();
+        super.stop(context);
+    }
+
+    @Override
+    public void timerUndeployed(final String timedObjectId) {
+        TimerJournal journal = journals.remove(timedObjectId);
+        if (journal != null) {
+            closeJournal(journal);
+        }
+        super.timerUndeployed(timedObjectId);
+    }
+
+    @Override
+    protected Map<String, TimerImpl> loadTimers(final String timedObjectId, final TimerServiceImpl timerService) {
+        final TimerJournal journal = getJournal(timedObjectId, timerService);
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        for (Map.Entry<String, byte[]> entry : journal.getTimers().entrySet()) {
+            try {
+                final TimerImpl timer = deserialize(entry.getKey(), timedObjectId, entry.getValue(), timerService);
+                if (timer != null) {
+                    timers.put(timer.getId(), timer);
+                } else {
+                    // Timeout method no longer exists
+                    journal.remove(entry.getKey());
+                }
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), e);
+            }
+        }
+        return timers;
+    }
+
+    @Override
+    protected boolean isPersisted(final TimerImpl timer) {
+        return getJournal(timer.getTimedObjectId(), timer.getTimerService()).contains(timer.getId());
+    }
+
+    @Override
+    protected void writeTimer(final TimerImpl timer) {
+        final TimerJournal journal = getJournal(timer.getTimedObjectId(), timer.getTimerService());
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journal.remove(timer.getId());
+            } else {
+                journal.put(timer.getId(), serialize(timer));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets the journal for the given timed object, opening it if necessary.
+     * If the journal does not yet exist, any timers persisted using the XML format are migrated into a new journal.
+     * Should be called under lock.
+     */
+    private TimerJournal getJournal(final String timedObjectId, final TimerServiceImpl timerService) {
+        TimerJournal journal = journals.get(timedObjectId);
+        if (journal == null) {
+            final File directory = new File(getDirectory(timedObjectId));
+            final File file = new File(directory, JOURNAL_FILE_NAME);
+            final File[] xmlFiles = directory.listFiles((dir, name) -> name.endsWith(".xml"));
+            // XML timers remain if the journal does not yet exist, or if a previous migration did not complete
+            final boolean migrate = !file.exists() || (xmlFiles != null && xmlFiles.length > 0);
+            // Read existing XML timers before the journal file is created
+            final Map<String, TimerImpl> legacyTimers = migrate ? super.loadTimers(timedObjectId, timerService) : null;
+            try {
+                journal = new TimerJournal(file.toPath(), true);
+                if (migrate) {
+                    for (TimerImpl timer : legacyTimers.values()) {
+                        if (!journal.contains(timer.getId())) {
+                            journal.put(timer.getId(), serialize(timer));
+                        }
+                    }
+                    // Remove the XML file of each timer only once it was durably written to the journal
+                    for (TimerImpl timer : legacyTimers.values()) {
+                        final File xmlFile = fileName(timedObjectId, timer.getId());
+                        if (xmlFile.exists() && !xmlFile.delete()) {
+                            EJB3_TIMER_LOGGER.timerFileNotMigrated(xmlFile);
+                        }
+                    }
+                    // Any remaining XML files could not be read, and are retained so that they can be recovered manually
+                    final File[] remainingFiles = directory.listFiles((dir, name) -> name.endsWith(".xml"));
+                    if (remainingFiles != null) {
+                        for (File xmlFile : remainingFiles) {
+                            EJB3_TIMER_LOGGER.timerFileNotMigrated(xmlFile);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                if (journal != null) {
+                    closeJournal(journal);
+                }
+                throw new RuntimeException(e);
+            }
+            journals.put(timedObjectId, journal);
+        }
+        return journal;
+    }
+
+    private static void closeJournal(final TimerJournal journal) {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            EJB3_TIMER_LOGGER.failToCloseFile(e);
+        }
+    }
+
+    /**
+     * Serializes the state of the specified timer into a binary journal payload.
+     */
+    private byte[] serialize(final TimerImpl timer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        final boolean calendar = timer instanceof CalendarTimer;
+        output.writeBoolean(calendar);
+        writeDate(output, timer.getInitialExpiration());
+        output.writeLong(timer.getInterval());
+        writeDate(output, timer.getNextExpiration());
+        writeDate(output, timer.getPreviousRun());
+        output.writeUTF(timer.getState().name());
+        if (calendar) {
+            final CalendarTimer calendarTimer = (CalendarTimer) timer;
+            final ScheduleExpression expression = calendarTimer.getScheduleExpression();
+            writeString(output, expression.getSecond());
+            writeString(output, expression.getMinute());
+            writeString(output, expression.getHour());
+            writeString(output, expression.getDayOfWeek());
+            writeString(output, expression.getDayOfMonth());
+            writeString(output, expression.getMonth());
+            writeString(output, expression.getYear());
+            writeDate(output, expression.getStart());
+            writeDate(output, expression.getEnd());
+            writeString(output, expression.getTimezone());
+            output.writeBoolean(calendarTimer.isAutoTimer());
+            if (calendarTimer.isAutoTimer()) {
+                final Method method = calendarTimer.getTimeoutMethod();
+                output.writeUTF(method.getDeclaringClass().getName());
+                output.writeUTF(method.getName());
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                output.writeInt(parameterTypes.length);
+                for (Class<?> parameterType : parameterTypes) {
+                    output.writeUTF(parameterType.getName());
+                }
+            }
+        }
+        final Serializable info = timer.getTimerInfo();
+        if (info != null) {
+            final ByteArrayOutputStream infoBytes = new ByteArrayOutputStream();
+            try (Marshaller marshaller = getMarshallerFactory().createMarshaller(getMarshallingConfiguration())) {
+                marshaller.start(new OutputStreamByteOutput(infoBytes));
+                marshaller.writeObject(info);
+                marshaller.finish();
+            }
+            output.writeInt(infoBytes.size());
+            infoBytes.writeTo(output);
+        } else {
+            output.writeInt(-1);
+        }
+        output.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reconstructs a timer from a binary journal payload.
+     * @return the timer, or null if the timeout method of an automatic timer no longer exists
+     */
+    private TimerImpl deserialize(final String id, final String timedObjectId, final byte[] payload, final TimerServiceImpl timerService) throws IOException, ClassNotFoundException {
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        final boolean calendar = input.readBoolean();
+        final TimerImpl.Builder builder = calendar ? CalendarTimer.builder() : TimerImpl.builder();
+        builder.setId(id);
+        builder.setTimedObjectId(timedObjectId);
+        builder.setPersistent(true);
+        builder.setInitialDate(readDate(input));
+        builder.setRepeatInterval(input.readLong());
+        builder.setNextDate(readDate(input));
+        builder.setPreviousRun(readDate(input));
+        builder.setTimerState(TimerState.valueOf(input.readUTF()));
+        if (calendar) {
+            final CalendarTimer.Builder calendarBuilder = (CalendarTimer.Builder) builder;
+            final ScheduleExpression expression = new ScheduleExpression();
+            expression.second(readString(input));
+            expression.minute(readString(input));
+            expression.hour(readString(input));
+            expression.dayOfWeek(readString(input));
+            expression.dayOfMonth(readString(input));
+            expression.month(readString(input));
+            expression.year(readString(input));
+            expression.start(readDate(input));
+            expression.end(readDate(input));
+            expression.timezone(readString(input));
+            calendarBuilder.setScheduleExpression(expression);
+            final boolean autoTimer = input.readBoolean();
+            calendarBuilder.setAutoTimer(autoTimer);
+            if (autoTimer) {
+                final String className = input.readUTF();
+                final String methodName = input.readUTF();
+                final String[] params = new String[input.readInt()];
+                for (int i = 0; i < params.length; ++i) {
+                    params[i] = input.readUTF();
+                }
+                final Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(className, methodName, params), timerService.getInvoker().getClassLoader());
+                if (timeoutMethod == null) {
+                    EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, new NoSuchMethodException());
+                    return null;
+                }
+                calendarBuilder.setTimeoutMethod(timeoutMethod);
+            }
+        }
+        final int infoLength = input.readInt();
+        if (infoLength >= 0) {
+            final int offset = payload.length - input.available();
+            try (Unmarshaller unmarshaller = getMarshallerFactory().createUnmarshaller(getMarshallingConfiguration())) {
+                unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(payload, offset, infoLength)));
+                builder.setInfo((Serializable) unmarshaller.readObject());
+            }
+        }
+        return builder.build(timerService);
+    }
+
+    private static void writeDate(final DataOutput output, final Date date) throws IOException {
+        output.writeBoolean(date != null);
+        if (date != null) {
+            output.writeLong(date.getTime());
+        }
+    }
+
+    private static Date readDate(final DataInput input) throws IOException {
+        return input.readBoolean() ? new Date(input.readLong()) : null;
+    }
+
+    private static void writeString(final DataOutput output, final String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
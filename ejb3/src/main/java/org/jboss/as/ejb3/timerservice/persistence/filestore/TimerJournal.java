@@ -0,0 +1,244 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * Append-only journal of the persistent timers of a single timed object.
+ * <p/>
+ * The journal consists of a header, followed by a sequence of records, each of which either stores the current state of a timer, or removes a timer.
+ * Each record is prefixed by its length and checksum, so that a partially written record at the end of the journal, e.g. following a crash, is detected and discarded on replay.
+ * Once the number of obsolete records exceeds the number of live timers, the journal is compacted by rewriting the live timers to a new journal, which atomically replaces the current one.
+ */
+public class TimerJournal implements AutoCloseable {
+
+    static final int MAGIC = 0x454A544A;
+    static final int VERSION = 1;
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    // Length + checksum
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private final Path file;
+    private final boolean sync;
+    // Most recently written payload of each live timer, in insertion order
+    private final Map<String, byte[]> timers = new LinkedHashMap<>();
+    private FileChannel channel;
+    private int records;
+
+    /**
+     * Opens the specified journal, creating it if it does not exist, and replays its records.
+     * @param file the journal file
+     * @param sync indicates whether appended records should be forced to the storage device
+     * @throws IOException if the journal could not be read
+     */
+    public TimerJournal(Path file, boolean sync) throws IOException {
+        this.file = file;
+        this.sync = sync;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = this.channel.size();
+        if (size < HEADER_SIZE) {
+            this.channel.truncate(0);
+            this.writeHeader(this.channel);
+        } else {
+            long end = this.replay(size);
+            if (end < size) {
+                // Discard a partially written record
+                EjbLogger.EJB3_TIMER_LOGGER.debugf("Discarding %d trailing bytes of timer journal %s", size - end, file);
+                this.channel.truncate(end);
+            }
+            this.channel.position(end);
+            if (this.isCompactionRequired()) {
+                this.compact();
+            }
+        }
+    }
+
+    /**
+     * Returns the most recently written payload of each timer in this journal.
+     * @return an unmodifiable map of payloads, keyed by timer id
+     */
+    public synchronized Map<String, byte[]> getTimers() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.timers));
+    }
+
+    /**
+     * Indicates whether this journal contains the specified timer.
+     * @param id a timer id
+     * @return true, if this journal contains the specified timer, false otherwise
+     */
+    public synchronized boolean contains(String id) {
+        return this.timers.containsKey(id);
+    }
+
+    /**
+     * Appends a record containing the state of the specified timer.
+     * @param id a timer id
+     * @param payload the serialized state of the timer
+     * @throws IOException if the record could not be written
+     */
+    public synchronized void put(String id, byte[] payload) throws IOException {
+        this.append(PUT, id, payload);
+        this.timers.put(id, payload);
+        if (this.isCompactionRequired()) {
+            this.compact();
+        }
+    }
+
+    /**
+     * Appends a record removing the specified timer, if present.
+     * @param id a timer id
+     * @throws IOException if the record could not be written
+     */
+    public synchronized void remove(String id) throws IOException {
+        if (this.timers.remove(id) != null) {
+            this.append(REMOVE, id, null);
+            if (this.isCompactionRequired()) {
+                this.compact();
+            }
+        }
+    }
+
+    /**
+     * Rewrites this journal such that it only contains records for live timers.
+     * @throws IOException if the journal could not be rewritten
+     */
+    public synchronized void compact() throws IOException {
+        Path temp = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            this.writeHeader(channel);
+            for (Map.Entry<String, byte[]> entry : this.timers.entrySet()) {
+                writeFully(channel, record(PUT, entry.getKey(), entry.getValue()));
+            }
+            channel.force(true);
+        }
+        this.channel.close();
+        Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(this.channel.size());
+        this.records = this.timers.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.timers.clear();
+        this.channel.close();
+    }
+
+    private boolean isCompactionRequired() {
+        return (this.records >= MIN_COMPACTION_RECORDS) && (this.records - this.timers.size() > this.timers.size());
+    }
+
+    private void writeHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).flip();
+        writeFully(channel, header);
+        this.records = 0;
+    }
+
+    /**
+     * Replays the records of this journal using a memory mapped buffer.
+     * @return the position following the last complete record
+     */
+    private long replay(long size) throws IOException {
+        MappedByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException(this.file.toString());
+        }
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(start);
+                break;
+            }
+            ByteBuffer body = buffer.slice();
+            body.limit(length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                break;
+            }
+            buffer.position(buffer.position() + length);
+
+            byte type = body.get();
+            byte[] id = new byte[body.getShort() & 0xFFFF];
+            body.get(id);
+            String timerId = new String(id, StandardCharsets.UTF_8);
+            switch (type) {
+                case PUT: {
+                    byte[] payload = new byte[body.remaining()];
+                    body.get(payload);
+                    this.timers.put(timerId, payload);
+                    break;
+                }
+                case REMOVE: {
+                    this.timers.remove(timerId);
+                    break;
+                }
+                default: {
+                    throw new IOException(this.file.toString());
+                }
+            }
+            this.records += 1;
+        }
+        return buffer.position();
+    }
+
+    private void append(byte type, String id, byte[] payload) throws IOException {
+        writeFully(this.channel, record(type, id, payload));
+        if (this.sync) {
+            this.channel.force(false);
+        }
+        this.records += 1;
+    }
+
+    private static ByteBuffer record(byte type, String id, byte[] payload) {
+        byte[] timerId = id.getBytes(StandardCharsets.UTF_8);
+        int length = Byte.BYTES + Short.BYTES + timerId.length + ((payload != null) ? payload.length : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + length);
+        buffer.putInt(length);
+        // Placeholder for checksum
+        buffer.putInt(0);
+        buffer.put(type);
+        buffer.putShort((short) timerId.length);
+        buffer.put(timerId);
+        if (payload != null) {
+            buffer.put(payload);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_SIZE, length);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.server.ServerEnvironment;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link PassivatingStatefulSessionBeanCache}.
+ */
+public class PassivatingStatefulSessionBeanCacheTestCase {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test() throws IOException {
+        StatefulSessionBeanCache<UUID, TestInstance> cache = this.createCache(2);
+        cache.start();
+        try {
+            UUID first = cache.createStatefulSessionBean();
+            UUID second = cache.createStatefulSessionBean();
+            assertEquals(2, cache.getActiveCount());
+            assertEquals(0, cache.getPassiveCount());
+
+            // Update state of first bean, so that it is most recently used
+            try (StatefulSessionBean<UUID, TestInstance> bean = cache.findStatefulSessionBean(first)) {
+                bean.getInstance().value = "foo";
+            }
+
+            // Exceeding maximum size passivates least recently used bean
+            UUID third = cache.createStatefulSessionBean();
+            assertEquals(2, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+
+            // A bean in use is never passivated
+            StatefulSessionBean<UUID, TestInstance> thirdBean = cache.findStatefulSessionBean(third);
+            TestInstance thirdInstance = thirdBean.getInstance();
+            try (StatefulSessionBean<UUID, TestInstance> bean = cache.findStatefulSessionBean(second)) {
+                TestInstance instance = bean.getInstance();
+                assertEquals(1, instance.passivations);
+                assertEquals(1, instance.activations);
+            }
+            // first bean was passivated to activate second bean
+            assertEquals(1, cache.getPassiveCount());
+            try (StatefulSessionBean<UUID, TestInstance> bean = cache.findStatefulSessionBean(third)) {
+                assertSame(thirdInstance, bean.getInstance());
+            }
+            thirdBean.close();
+
+            TestInstance firstInstance;
+            try (StatefulSessionBean<UUID, TestInstance> bean = cache.findStatefulSessionBean(first)) {
+                firstInstance = bean.getInstance();
+                assertEquals("foo", firstInstance.value);
+            }
+
+            PassivatingStatefulSessionBeanCache<UUID, TestInstance> passivatingCache = (PassivatingStatefulSessionBeanCache<UUID, TestInstance>) cache;
+            assertEquals(3, passivatingCache.getPassivationCount());
+            assertEquals(2, passivatingCache.getActivationCount());
+
+            // Removal of a passivated bean
+            assertEquals(1, cache.getPassiveCount());
+            StatefulSessionBean<UUID, TestInstance> removed = cache.findStatefulSessionBean(second);
+            assertNotNull(removed);
+            removed.remove();
+            assertTrue(removed.getInstance().removed);
+            assertNull(cache.findStatefulSessionBean(second));
+
+            // Expiration of a passivated bean
+            assertEquals(1, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+            passivatingCache.test(third);
+            assertEquals(0, cache.getPassiveCount());
+            assertNull(cache.findStatefulSessionBean(third));
+        } finally {
+            cache.stop();
+        }
+        assertEquals(0, cache.getActiveCount());
+        assertEquals(0, cache.getPassiveCount());
+    }
+
+    @Test
+    public void stop() throws IOException {
+        StatefulSessionBeanCache<UUID, TestInstance> cache = this.createCache(1);
+        cache.start();
+        int removals = TestInstance.REMOVALS.get();
+        try {
+            cache.createStatefulSessionBean();
+            cache.createStatefulSessionBean();
+            assertEquals(1, cache.getActiveCount());
+            assertEquals(1, cache.getPassiveCount());
+        } finally {
+            cache.stop();
+        }
+        // Passivated beans are activated, so that they are removed like active beans
+        assertEquals(removals + 2, TestInstance.REMOVALS.get());
+    }
+
+    @Test
+    public void purge() throws IOException {
+        File dataDir = this.folder.newFolder();
+        // Passivated bean left behind by a previous server process
+        Path stale = dataDir.toPath().resolve("ejb3").resolve("passivation").resolve("test-1").resolve("1");
+        Files.createDirectories(stale.getParent());
+        Files.write(stale, new byte[] { 0 });
+
+        StatefulSessionBeanCache<UUID, TestInstance> cache = this.createCache(dataDir, 1);
+        cache.start();
+        try {
+            assertFalse(Files.exists(stale.getParent()));
+            UUID id = cache.createStatefulSessionBean();
+            cache.createStatefulSessionBean();
+            assertEquals(1, cache.getPassiveCount());
+
+            // A cache started subsequently by the same server process must not purge passivated beans of other caches
+            StatefulSessionBeanCache<UUID, TestInstance> otherCache = this.createCache(dataDir, 1);
+            otherCache.start();
+            otherCache.stop();
+
+            try (StatefulSessionBean<UUID, TestInstance> bean = cache.findStatefulSessionBean(id)) {
+                assertNotNull(bean);
+            }
+        } finally {
+            cache.stop();
+        }
+    }
+
+    private StatefulSessionBeanCache<UUID, TestInstance> createCache(int maxSize) throws IOException {
+        return this.createCache(this.folder.newFolder(), maxSize);
+    }
+
+    private StatefulSessionBeanCache<UUID, TestInstance> createCache(File dataDir, int maxSize) {
+        ServerEnvironment environment = mock(ServerEnvironment.class);
+        when(environment.getNodeName()).thenReturn("node");
+        when(environment.getServerDataDir()).thenReturn(dataDir);
+        return new PassivatingStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
+            @Override
+            public ServerEnvironment getEnvironment() {
+                return environment;
+            }
+
+            @Override
+            public String getComponentName() {
+                return "test";
+            }
+
+            @Override
+            public Supplier<UUID> getIdentifierFactory() {
+                return UUID::randomUUID;
+            }
+
+            @Override
+            public StatefulSessionBeanInstanceFactory<TestInstance> getInstanceFactory() {
+                return TestInstance::new;
+            }
+
+            @Override
+            public Duration getTimeout() {
+                return null;
+            }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return PassivatingStatefulSessionBeanCacheTestCase.class.getClassLoader();
+            }
+        }, maxSize);
+    }
+
+    static class TestInstance implements StatefulSessionBeanInstance<UUID>, Serializable {
+        private static final long serialVersionUID = -2766244102040409014L;
+        static final AtomicInteger REMOVALS = new AtomicInteger();
+
+        private final UUID id = UUID.randomUUID();
+        String value;
+        int passivations = 0;
+        int activations = 0;
+        transient boolean removed = false;
+
+        @Override
+        public UUID getId() {
+            return this.id;
+        }
+
+        @Override
+        public void prePassivate() {
+            this.passivations += 1;
+        }
+
+        @Override
+        public void postActivate() {
+            this.activations += 1;
+        }
+
+        @Override
+        public void removed() {
+            this.removed = true;
+            REMOVALS.incrementAndGet();
+        }
+    }
+}
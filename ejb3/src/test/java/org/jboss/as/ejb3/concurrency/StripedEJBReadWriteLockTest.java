@@ -0,0 +1,191 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedEJBReadWriteLock;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedEJBReadWriteLock}
+ */
+public class StripedEJBReadWriteLockTest {
+
+    private final StripedEJBReadWriteLock lock = new StripedEJBReadWriteLock();
+
+    @Test
+    public void testIllegalLoopBack() {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            this.lock.writeLock().lock();
+            this.lock.writeLock().unlock();
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException e) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // Once the read lock is released, the write lock can be obtained
+        Assert.assertTrue(this.lock.writeLock().tryLock());
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Lock readLock = this.lock.readLock();
+            Assert.assertTrue(readLock.tryLock(2, TimeUnit.SECONDS));
+            readLock.unlock();
+            // Reentrant write lock
+            Assert.assertTrue(writeLock.tryLock(2, TimeUnit.SECONDS));
+            writeLock.unlock();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            this.lock.writeLock().lock();
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+        writer.start();
+        try {
+            locked.await();
+            Assert.assertFalse("Unexpected obtained a read lock", this.lock.readLock().tryLock(100, TimeUnit.MILLISECONDS));
+        } finally {
+            done.countDown();
+            writer.join();
+        }
+        Assert.assertTrue(this.lock.readLock().tryLock(2, TimeUnit.SECONDS));
+        this.lock.readLock().unlock();
+    }
+
+    @Test
+    public void testWriteTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            this.lock.readLock().lock();
+            try {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        });
+        reader.start();
+        try {
+            locked.await();
+            Assert.assertFalse("Unexpected obtained a write lock", this.lock.writeLock().tryLock(100, TimeUnit.MILLISECONDS));
+            // A failed writer must not block subsequent readers
+            Assert.assertTrue(this.lock.readLock().tryLock());
+            this.lock.readLock().unlock();
+        } finally {
+            done.countDown();
+            reader.join();
+        }
+        Assert.assertTrue(this.lock.writeLock().tryLock(2, TimeUnit.SECONDS));
+        this.lock.writeLock().unlock();
+    }
+
+    /**
+     * Verifies that a thread holding a read lock can reacquire it while a writer waits for readers to drain.
+     */
+    @Test
+    public void testReentrantReadWithPendingWriter() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> writer = executor.submit(() -> {
+                boolean locked = this.lock.writeLock().tryLock(10, TimeUnit.SECONDS);
+                if (locked) {
+                    this.lock.writeLock().unlock();
+                }
+                return locked;
+            });
+            // Allow writer to announce itself
+            Thread.sleep(100);
+            Assert.assertTrue(readLock.tryLock(2, TimeUnit.SECONDS));
+            readLock.unlock();
+            readLock.unlock();
+            Assert.assertTrue(writer.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Verifies mutual exclusion of readers and writers under contention.
+     */
+    @Test
+    public void testContention() throws Exception {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int iterations = 10000;
+        int[] state = new int[2];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; ++j) {
+                        if (j % 100 == 0) {
+                            this.lock.writeLock().lock();
+                            try {
+                                // Both values must change atomically with respect to readers
+                                state[0] += 1;
+                                state[1] += 1;
+                            } finally {
+                                this.lock.writeLock().unlock();
+                            }
+                        } else {
+                            this.lock.readLock().lock();
+                            try {
+                                Assert.assertEquals(state[0], state[1]);
+                            } finally {
+                                this.lock.readLock().unlock();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(threads * iterations / 100, state[0]);
+        Assert.assertEquals(state[0], state[1]);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedStrictMaxPool}.
+ */
+public class StripedStrictMaxPoolUnitTestCase {
+
+    @Test
+    public void stripes() {
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        assertEquals(1, new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 1).getStripeCount());
+        assertEquals(4, new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 3).getStripeCount());
+        assertEquals(8, new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 64).getStripeCount());
+        assertEquals(2, new StripedStrictMaxPool<>(factory, 2, 1, TimeUnit.SECONDS, 64).getStripeCount());
+        assertEquals(10, new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 64).getAvailableCount());
+    }
+
+    @Test
+    public void reuse() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(10, pool.getAvailableCount());
+
+        // Idle instances should be reused, either from the local stripe or from another stripe
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+        }
+
+        pool.stop();
+
+        long hits = 0;
+        long steals = 0;
+        long misses = 0;
+        for (int i = 0; i < pool.getStripeCount(); ++i) {
+            StripedStrictMaxPool.StripeStatistics statistics = pool.getStripeStatistics(i);
+            hits += statistics.getHitCount();
+            steals += statistics.getStealCount();
+            misses += statistics.getMissCount();
+        }
+        assertEquals(10, hits + steals);
+        assertEquals(10, misses);
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        AtomicInteger used = new AtomicInteger(0);
+        AtomicInteger active = new AtomicInteger(0);
+        AtomicInteger maxActive = new AtomicInteger(0);
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 60, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        CountDownLatch in = new CountDownLatch(1);
+        CountDownLatch ready = new CountDownLatch(10);
+
+        Callable<Void> task = new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                MockBean bean = pool.get();
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                ready.countDown();
+                in.await();
+                active.decrementAndGet();
+                pool.release(bean);
+
+                used.incrementAndGet();
+
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        Future<?>[] results = new Future<?>[20];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = service.submit(task);
+        }
+
+        ready.await(120, TimeUnit.SECONDS);
+        in.countDown();
+
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        service.shutdown();
+
+        pool.stop();
+
+        long waits = 0;
+        for (int i = 0; i < pool.getStripeCount(); ++i) {
+            waits += pool.getStripeStatistics(i).getWaitCount();
+        }
+        assertEquals(20, used.intValue());
+        assertEquals(10, maxActive.intValue());
+        assertTrue(waits >= 10);
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        StripedStrictMaxPool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+}
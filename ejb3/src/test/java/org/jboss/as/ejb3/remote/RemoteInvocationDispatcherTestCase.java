@@ -0,0 +1,141 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RemoteInvocationDispatcher}.
+ */
+public class RemoteInvocationDispatcherTestCase {
+
+    @Test
+    public void limit() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(executor, 2);
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(5);
+            AtomicInteger concurrency = new AtomicInteger();
+            AtomicInteger maxConcurrency = new AtomicInteger();
+            for (int i = 0; i < 5; ++i) {
+                dispatcher.execute(() -> {
+                    maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        concurrency.decrementAndGet();
+                        completed.countDown();
+                    }
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(2, dispatcher.getInFlightCount());
+            assertEquals(3, dispatcher.getQueuedCount());
+
+            release.countDown();
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertEquals(2, maxConcurrency.get());
+            assertEquals(0, dispatcher.getQueuedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void unlimited() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(executor, 0);
+            CountDownLatch started = new CountDownLatch(5);
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < 5; ++i) {
+                dispatcher.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(5, dispatcher.getInFlightCount());
+            assertEquals(0, dispatcher.getQueuedCount());
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejected() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            AtomicBoolean reject = new AtomicBoolean(false);
+            RemoteInvocationDispatcher dispatcher = new RemoteInvocationDispatcher(task -> {
+                if (reject.get()) {
+                    throw new RejectedExecutionException();
+                }
+                executor.execute(task);
+            }, 1);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch rejected = new CountDownLatch(1);
+            AtomicReference<RejectedExecutionException> rejection = new AtomicReference<>();
+            AtomicBoolean executed = new AtomicBoolean(false);
+
+            dispatcher.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, e -> { throw new AssertionError(e); });
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // Queued task is rejected once dispatched by the completing task
+            dispatcher.execute(() -> executed.set(true), e -> {
+                rejection.set(e);
+                rejected.countDown();
+            });
+            assertEquals(1, dispatcher.getQueuedCount());
+            reject.set(true);
+            release.countDown();
+
+            assertTrue(rejected.await(10, TimeUnit.SECONDS));
+            assertNotNull(rejection.get());
+            assertFalse(executed.get());
+            assertEquals(0, dispatcher.getQueuedCount());
+
+            // Rejection must release the concurrency permit
+            reject.set(false);
+            CountDownLatch completed = new CountDownLatch(1);
+            dispatcher.execute(completed::countDown, e -> { throw new AssertionError(e); });
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
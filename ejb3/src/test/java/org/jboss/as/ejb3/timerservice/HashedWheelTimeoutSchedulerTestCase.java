@@ -0,0 +1,132 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link HashedWheelTimeoutScheduler}.
+ */
+public class HashedWheelTimeoutSchedulerTestCase {
+
+    private HashedWheelTimeoutScheduler scheduler;
+    private volatile Thread thread;
+
+    @Before
+    public void init() {
+        this.scheduler = new HashedWheelTimeoutScheduler(1, TimeUnit.MILLISECONDS, Runnable::run, task -> {
+            Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            this.thread = thread;
+            return thread;
+        });
+    }
+
+    @After
+    public void destroy() {
+        this.scheduler.close();
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.scheduler.schedule(latch::countDown, 50);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // Timeouts must never expire early
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+    }
+
+    @Test
+    public void scheduleBeyondFirstLevel() throws InterruptedException {
+        // Requires cascading from a higher level wheel
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.scheduler.schedule(latch::countDown, 300);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 300);
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.schedule(count::incrementAndGet, 50);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 100);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.scheduleAtFixedRate(latch::countDown, 0, 10);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(timeout.cancel());
+    }
+
+    @Test
+    public void scheduleMany() throws InterruptedException {
+        int count = 10000;
+        TimeoutScheduler.ScheduledTimeout[] timeouts = new TimeoutScheduler.ScheduledTimeout[count];
+        AtomicInteger expired = new AtomicInteger();
+        for (int i = 0; i < count; ++i) {
+            timeouts[i] = this.scheduler.schedule(expired::incrementAndGet, 100 + (i % 200));
+        }
+        // Cancel every other timeout
+        int cancelled = 0;
+        for (int i = 0; i < count; i += 2) {
+            if (timeouts[i].cancel()) {
+                cancelled += 1;
+            }
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 400);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(count - cancelled, expired.get());
+    }
+
+    @Test
+    public void idle() throws InterruptedException {
+        // Tick thread parks indefinitely while no timeouts are scheduled
+        this.awaitParked();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        this.scheduler.schedule(latch::countDown, 50);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+
+        this.awaitParked();
+        // Ticks elapsed while parked must not expire a subsequent timeout early
+        latch = new CountDownLatch(1);
+        start = System.nanoTime();
+        this.scheduler.schedule(latch::countDown, 20);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 20);
+    }
+
+    private void awaitParked() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
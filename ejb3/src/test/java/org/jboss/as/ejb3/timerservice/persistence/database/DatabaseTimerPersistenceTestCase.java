@@ -5,11 +5,29 @@
 
 package org.jboss.as.ejb3.timerservice.persistence.database;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import javax.sql.DataSource;
 
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -168,4 +186,65 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void refreshTimersTest() throws Exception {
+        final Properties sql = new Properties();
+        sql.setProperty("load-timer-states", "load-timer-states");
+        sql.setProperty("load-timer", "load-timer");
+        final Field sqlField = object.getClass().getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        sqlField.set(object, sql);
+
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("load-timer-states")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        // t1 of obj1 is known, t3 belongs to a timed object not deployed on this node
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("t1", "t3");
+        when(resultSet.getString(2)).thenReturn("obj1", "obj2");
+        when(resultSet.getString(3)).thenReturn(TimerState.ACTIVE.name(), TimerState.ACTIVE.name());
+        final Field dataSourceField = object.getClass().getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(object, dataSource);
+
+        final Constructor<?> constructor = Class.forName(DatabaseTimerPersistence.class.getName() + "$RefreshTask").getDeclaredConstructor(DatabaseTimerPersistence.class);
+        constructor.setAccessible(true);
+        final Field refreshTaskField = object.getClass().getDeclaredField("refreshTask");
+        refreshTaskField.setAccessible(true);
+        refreshTaskField.set(object, constructor.newInstance(object));
+
+        object.timerDeployed("obj1");
+        final Field knownTimerIdsField = object.getClass().getDeclaredField("knownTimerIds");
+        knownTimerIdsField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        final Set<String> ids = ((Map<String, Set<String>>) knownTimerIdsField.get(object)).get("obj1");
+        ids.add("t1");
+        ids.add("t2");
+
+        final TimerPersistence.TimerChangeListener listener = mock(TimerPersistence.TimerChangeListener.class);
+        final TimerServiceImpl timerService = mock(TimerServiceImpl.class);
+        final TimerImpl timer1 = mock(TimerImpl.class);
+        final TimerImpl timer2 = mock(TimerImpl.class);
+        when(listener.getTimerService()).thenReturn(timerService);
+        when(timerService.getTimer("t1")).thenReturn(timer1);
+        when(timerService.getTimer("t2")).thenReturn(timer2);
+        when(timer1.getState()).thenReturn(TimerState.ACTIVE);
+        when(timer2.getState()).thenReturn(TimerState.ACTIVE);
+        object.registerChangeListener("obj1", listener);
+
+        object.refreshTimers();
+
+        // A single query for all timed objects, and no timers needed to be fully loaded
+        verify(connection, times(1)).prepareStatement("load-timer-states");
+        verify(connection, never()).prepareStatement("load-timer");
+        verify(listener, never()).timerAdded(any());
+        verify(listener, never()).timerSync(any(), any());
+        verify(listener).timerRemoved("t2");
+        Assert.assertTrue(ids.contains("t1"));
+        Assert.assertFalse(ids.contains("t2"));
+    }
+}
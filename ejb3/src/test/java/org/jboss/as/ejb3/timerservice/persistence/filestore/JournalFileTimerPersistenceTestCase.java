@@ -0,0 +1,257 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import jakarta.ejb.ScheduleExpression;
+import jakarta.ejb.Timer;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.spi.TimedObjectInvoker;
+import org.jboss.modules.ModuleLoader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JournalFileTimerPersistence}.
+ */
+public class JournalFileTimerPersistenceTestCase {
+
+    private static final String TIMED_OBJECT_ID = "app.module.Bean";
+    private static final String PATH = "timers";
+
+    private Path directory;
+    private TimerServiceImpl timerService;
+    private FileTimerPersistence persistence;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("timer-store");
+        TimedObjectInvoker invoker = mock(TimedObjectInvoker.class);
+        when(invoker.getTimedObjectId()).thenReturn(TIMED_OBJECT_ID);
+        when(invoker.getClassLoader()).thenReturn(JournalFileTimerPersistenceTestCase.class.getClassLoader());
+        this.timerService = mock(TimerServiceImpl.class);
+        when(this.timerService.getInvoker()).thenReturn(invoker);
+    }
+
+    @After
+    public void destroy() throws IOException {
+        if (this.persistence != null) {
+            this.persistence.stop(null);
+        }
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void roundTrip() {
+        this.persistence = this.start(true);
+        TimerImpl timer = this.createTimer("1", "info");
+        CalendarTimer calendarTimer = this.createCalendarTimer("2", false);
+        CalendarTimer autoTimer = this.createCalendarTimer("3", true);
+        this.persistence.addTimer(timer);
+        this.persistence.addTimer(calendarTimer);
+        this.persistence.addTimer(autoTimer);
+
+        Map<String, TimerImpl> timers = this.restart(true);
+
+        assertEquals(3, timers.size());
+        assertTimerEquals(timer, timers.get("1"));
+        assertCalendarTimerEquals(calendarTimer, timers.get("2"));
+        assertCalendarTimerEquals(autoTimer, timers.get("3"));
+        assertEquals(autoTimer.getTimeoutMethod(), ((CalendarTimer) timers.get("3")).getTimeoutMethod());
+    }
+
+    @Test
+    public void replay() {
+        this.persistence = this.start(true);
+        this.persistence.addTimer(this.createTimer("1", null));
+        this.persistence.addTimer(this.createTimer("2", null));
+        this.persistence.addTimer(this.createTimer("3", null));
+
+        // Update, cancel and expire
+        TimerImpl updated = this.createTimerBuilder("1", 2).setPreviousRun(new Date(2000L)).setTimerState(TimerState.ACTIVE).build(this.timerService);
+        this.persistence.persistTimer(updated);
+        this.persistence.persistTimer(this.createTimerBuilder("2", 1).setTimerState(TimerState.CANCELED).build(this.timerService));
+        this.persistence.persistTimer(this.createTimerBuilder("3", 1).setTimerState(TimerState.EXPIRED).build(this.timerService));
+        // Timers no longer in the store are not resurrected by an update
+        this.persistence.persistTimer(this.createTimerBuilder("3", 2).build(this.timerService));
+
+        Map<String, TimerImpl> timers = this.restart(true);
+
+        assertEquals(1, timers.size());
+        assertTimerEquals(updated, timers.get("1"));
+
+        // Journal replay is stable across subsequent restarts
+        this.persistence.addTimer(this.createTimer("4", null));
+        timers = this.restart(true);
+        assertEquals(2, timers.size());
+        assertNotNull(timers.get("4"));
+    }
+
+    @Test
+    public void migrate() throws IOException {
+        // Persist timers in a file per timer
+        this.persistence = this.start(false);
+        TimerImpl timer = this.createTimer("1", "info");
+        CalendarTimer calendarTimer = this.createCalendarTimer("2", true);
+        this.persistence.addTimer(timer);
+        this.persistence.addTimer(calendarTimer);
+        File timerDirectory = new File(this.persistence.getDirectory(TIMED_OBJECT_ID));
+        assertTrue(this.persistence.fileName(TIMED_OBJECT_ID, "1").exists());
+        assertTrue(this.persistence.fileName(TIMED_OBJECT_ID, "2").exists());
+        // An unreadable timer file
+        File corruptFile = new File(timerDirectory, "3.xml");
+        Files.write(corruptFile.toPath(), "<timers".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, TimerImpl> timers = this.restart(true);
+
+        assertEquals(2, timers.size());
+        assertTimerEquals(timer, timers.get("1"));
+        assertCalendarTimerEquals(calendarTimer, timers.get("2"));
+        assertTrue(new File(timerDirectory, JournalFileTimerPersistence.JOURNAL_FILE_NAME).exists());
+        // Migrated timer files are removed, but unreadable timer files are retained
+        assertFalse(this.persistence.fileName(TIMED_OBJECT_ID, "1").exists());
+        assertFalse(this.persistence.fileName(TIMED_OBJECT_ID, "2").exists());
+        assertTrue(corruptFile.exists());
+
+        // Migrated timers are loaded from the journal
+        assertTrue(corruptFile.delete());
+        timers = this.restart(true);
+        assertEquals(2, timers.size());
+        assertTimerEquals(timer, timers.get("1"));
+        assertCalendarTimerEquals(calendarTimer, timers.get("2"));
+    }
+
+    @Test
+    public void resumeMigration() {
+        this.persistence = this.start(true);
+        this.persistence.addTimer(this.createTimer("1", null));
+        this.persistence.stop(null);
+
+        // Timer file remaining from an interrupted migration, or written by a file per timer store after the journal was created
+        this.persistence = this.start(false);
+        TimerImpl timer = this.createTimer("2", "info");
+        this.persistence.addTimer(timer);
+
+        Map<String, TimerImpl> timers = this.restart(true);
+
+        assertEquals(2, timers.size());
+        assertTimerEquals(timer, timers.get("2"));
+        assertFalse(this.persistence.fileName(TIMED_OBJECT_ID, "2").exists());
+    }
+
+    private FileTimerPersistence start(boolean journal) {
+        PathManager pathManager = mock(PathManager.class);
+        when(pathManager.resolveRelativePathEntry(PATH, null)).thenReturn(this.directory.resolve(PATH).toString());
+        ModuleLoader moduleLoader = mock(ModuleLoader.class);
+        FileTimerPersistence persistence = journal ? new JournalFileTimerPersistence(value -> {}, () -> null, () -> moduleLoader, () -> pathManager, true, PATH, null)
+                : new FileTimerPersistence(value -> {}, () -> null, () -> moduleLoader, () -> pathManager, true, PATH, null);
+        persistence.start(null);
+        return persistence;
+    }
+
+    private Map<String, TimerImpl> restart(boolean journal) {
+        this.persistence.stop(null);
+        this.persistence = this.start(journal);
+        List<TimerImpl> timers = this.persistence.loadActiveTimers(TIMED_OBJECT_ID, this.timerService);
+        Map<String, TimerImpl> result = new HashMap<>();
+        for (TimerImpl timer : timers) {
+            result.put(timer.getId(), timer);
+        }
+        return result;
+    }
+
+    private TimerImpl.Builder createTimerBuilder(String id, long next) {
+        return TimerImpl.builder()
+                .setId(id)
+                .setTimedObjectId(TIMED_OBJECT_ID)
+                .setInitialDate(new Date(1000L))
+                .setRepeatInterval(1000L)
+                .setNextDate(new Date(1000L * next))
+                .setPersistent(true)
+                .setTimerState(TimerState.ACTIVE);
+    }
+
+    private TimerImpl createTimer(String id, String info) {
+        return this.createTimerBuilder(id, 1).setInfo(info).setTimerState(TimerState.CREATED).setNewTimer(true).build(this.timerService);
+    }
+
+    private CalendarTimer createCalendarTimer(String id, boolean auto) {
+        ScheduleExpression expression = new ScheduleExpression().second("*/10").minute("*").hour("*").start(new Date(1000L)).timezone("UTC");
+        CalendarTimer.Builder builder = CalendarTimer.builder().setScheduleExpression(expression).setAutoTimer(auto);
+        if (auto) {
+            try {
+                builder.setTimeoutMethod(JournalFileTimerPersistenceTestCase.class.getDeclaredMethod("timeout", Timer.class));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        builder.setId(id).setTimedObjectId(TIMED_OBJECT_ID).setInitialDate(new Date(1000L)).setPersistent(true).setTimerState(TimerState.ACTIVE).setNewTimer(true);
+        return builder.build(this.timerService);
+    }
+
+    private static void assertTimerEquals(TimerImpl expected, TimerImpl actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTimedObjectId(), actual.getTimedObjectId());
+        assertEquals(expected.getInitialExpiration(), actual.getInitialExpiration());
+        assertEquals(expected.getInterval(), actual.getInterval());
+        assertEquals(expected.getNextExpiration(), actual.getNextExpiration());
+        assertEquals(expected.getPreviousRun(), actual.getPreviousRun());
+        assertEquals(expected.getState(), actual.getState());
+        assertEquals(expected.getTimerInfo(), actual.getTimerInfo());
+    }
+
+    private static void assertCalendarTimerEquals(CalendarTimer expected, TimerImpl actual) {
+        assertTimerEquals(expected, actual);
+        assertTrue(actual instanceof CalendarTimer);
+        CalendarTimer calendarTimer = (CalendarTimer) actual;
+        ScheduleExpression expectedExpression = expected.getScheduleExpression();
+        ScheduleExpression expression = calendarTimer.getScheduleExpression();
+        assertEquals(expectedExpression.getSecond(), expression.getSecond());
+        assertEquals(expectedExpression.getMinute(), expression.getMinute());
+        assertEquals(expectedExpression.getHour(), expression.getHour());
+        assertEquals(expectedExpression.getDayOfWeek(), expression.getDayOfWeek());
+        assertEquals(expectedExpression.getDayOfMonth(), expression.getDayOfMonth());
+        assertEquals(expectedExpression.getMonth(), expression.getMonth());
+        assertEquals(expectedExpression.getYear(), expression.getYear());
+        assertEquals(expectedExpression.getStart(), expression.getStart());
+        assertNull(expression.getEnd());
+        assertEquals(expectedExpression.getTimezone(), expression.getTimezone());
+        assertEquals(expected.isAutoTimer(), calendarTimer.isAutoTimer());
+    }
+
+    @SuppressWarnings("unused")
+    private void timeout(Timer timer) {
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replay() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("timers.journal");
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            assertTrue(journal.getTimers().isEmpty());
+            journal.put("a", bytes("a1"));
+            journal.put("b", bytes("b1"));
+            journal.put("a", bytes("a2"));
+            journal.put("c", bytes("c1"));
+            journal.remove("b");
+            // Removing a non-existent timer is a no-op
+            journal.remove("d");
+        }
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            Map<String, byte[]> timers = journal.getTimers();
+            assertEquals(2, timers.size());
+            assertArrayEquals(bytes("a2"), timers.get("a"));
+            assertArrayEquals(bytes("c1"), timers.get("c"));
+            assertTrue(journal.contains("a"));
+            assertFalse(journal.contains("b"));
+        }
+    }
+
+    @Test
+    public void partialRecord() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("timers.journal");
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            journal.put("a", bytes("a1"));
+            journal.put("b", bytes("b1"));
+        }
+        long size = Files.size(file);
+        // Simulate a crash while appending a record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 1);
+        }
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            Map<String, byte[]> timers = journal.getTimers();
+            assertEquals(1, timers.size());
+            assertArrayEquals(bytes("a1"), timers.get("a"));
+            // Journal should remain appendable following truncation of the partial record
+            journal.put("c", bytes("c1"));
+        }
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            Map<String, byte[]> timers = journal.getTimers();
+            assertEquals(2, timers.size());
+            assertArrayEquals(bytes("c1"), timers.get("c"));
+        }
+    }
+
+    @Test
+    public void compaction() throws IOException {
+        Path file = this.folder.getRoot().toPath().resolve("timers.journal");
+        long maxSize = 0;
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            for (int i = 0; i < 10000; ++i) {
+                journal.put("a", bytes("a" + i));
+                maxSize = Math.max(maxSize, Files.size(file));
+            }
+            journal.put("b", bytes("b"));
+        }
+        // Journal of repeatedly updated timer should not grow unbounded
+        assertTrue(maxSize < 1024 * 64);
+        try (TimerJournal journal = new TimerJournal(file, false)) {
+            Map<String, byte[]> timers = journal.getTimers();
+            assertEquals(2, timers.size());
+            assertArrayEquals(bytes("a9999"), timers.get("a"));
+            assertArrayEquals(bytes("b"), timers.get("b"));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
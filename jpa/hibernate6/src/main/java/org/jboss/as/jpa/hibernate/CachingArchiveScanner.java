@@ -0,0 +1,377 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Archive scanner that persists the results of a delegate scanner for a given persistence unit, such that a subsequent
+ * deployment of the same persistence unit, e.g. following a server restart or redeployment, can skip scanning its archives.
+ * <p>
+ * Results are keyed by a digest of the scan options, the explicitly listed classes and mapping files,
+ * the path, size and last modified time of the persistence unit archives,
+ * and the path, size and last modified time of every class and XML file (including persistence.xml) within these archives.
+ * File contents are never read, since the metadata of an exploded archive does not reflect changes to the files it contains.
+ * Consequently, any change to the entities of a persistence unit invalidates its cached results.
+ * <p>
+ * Cached results that were not used for {@value #MAX_IDLE_DAYS} days, e.g. of persistence units that are no longer deployed, are deleted.
+ */
+public class CachingArchiveScanner implements Scanner {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long MAX_IDLE_DAYS = 30;
+    // Temporary files older than this were abandoned by an interrupted write
+    private static final Duration MAX_TEMP_AGE = Duration.ofHours(1);
+
+    private final Scanner scanner;
+    private final Path file;
+
+    /**
+     * Creates a caching scanner for a persistence unit.
+     * @param scanner the scanner whose results are cached
+     * @param directory the directory containing cached scan results
+     * @param persistenceUnitName the scoped name of a persistence unit
+     */
+    public CachingArchiveScanner(Scanner scanner, Path directory, String persistenceUnitName) {
+        this.scanner = scanner;
+        this.file = directory.resolve(toHexString(digest().digest(persistenceUnitName.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Override
+    public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+        List<VirtualFile> archives;
+        String key;
+        try {
+            archives = archives(environment);
+            key = key(archives, environment, options);
+        } catch (IOException | URISyntaxException e) {
+            JpaLogger.JPA_LOGGER.debugf(e, "Failed to compute scan cache key for %s", this.file);
+            return this.scanner.scan(environment, options, parameters);
+        }
+        if (Files.exists(this.file)) {
+            try {
+                ScanResult result = this.read(key, archives);
+                if (result != null) {
+                    JpaLogger.JPA_LOGGER.tracef("Using cached scan results from %s", this.file);
+                    // Record use, to prevent deletion of cached results
+                    Files.setLastModifiedTime(this.file, FileTime.from(Instant.now()));
+                    return result;
+                }
+            } catch (IOException e) {
+                JpaLogger.JPA_LOGGER.debugf(e, "Failed to read cached scan results from %s", this.file);
+            }
+        }
+        ScanResult result = this.scanner.scan(environment, options, parameters);
+        try {
+            this.write(key, archives, result);
+        } catch (IOException e) {
+            JpaLogger.JPA_LOGGER.debugf(e, "Failed to write cached scan results to %s", this.file);
+        }
+        this.purge();
+        return result;
+    }
+
+    /**
+     * Deletes cached results of other persistence units that were not used recently, along with abandoned temporary files.
+     */
+    private void purge() {
+        Instant now = Instant.now();
+        Instant idleThreshold = now.minus(Duration.ofDays(MAX_IDLE_DAYS));
+        Instant tempThreshold = now.minus(MAX_TEMP_AGE);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.file.getParent())) {
+            for (Path file : files) {
+                Instant threshold = file.getFileName().toString().endsWith(TEMP_SUFFIX) ? tempThreshold : idleThreshold;
+                if (!file.equals(this.file) && Files.isRegularFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            JpaLogger.JPA_LOGGER.debugf(e, "Failed to delete stale scan results from %s", this.file.getParent());
+        }
+    }
+
+    /**
+     * Returns the archives of the persistence unit, where the root archive is first.
+     */
+    private static List<VirtualFile> archives(ScanEnvironment environment) throws URISyntaxException {
+        List<URL> urls = environment.getNonRootUrls();
+        List<VirtualFile> archives = new ArrayList<>(urls.size() + 1);
+        if (environment.getRootUrl() != null) {
+            archives.add(VFS.getChild(environment.getRootUrl().toURI()));
+        }
+        for (URL url : urls) {
+            archives.add(VFS.getChild(url.toURI()));
+        }
+        return archives;
+    }
+
+    private static String key(List<VirtualFile> archives, ScanEnvironment environment, ScanOptions options) throws IOException {
+        MessageDigest digest = digest();
+        update(digest, Integer.toString(FORMAT_VERSION));
+        update(digest, Boolean.toString(options.canDetectUnlistedClassesInRoot()));
+        update(digest, Boolean.toString(options.canDetectUnlistedClassesInNonRoot()));
+        update(digest, Boolean.toString(options.canDetectHibernateMappingFiles()));
+        update(digest, environment.getExplicitlyListedClassNames());
+        update(digest, environment.getExplicitlyListedMappingFiles());
+        for (VirtualFile archive : archives) {
+            update(digest, archive.getPathName());
+            update(digest, archive);
+            List<VirtualFile> files = archive.getChildrenRecursively(file -> file.isFile() && (file.getName().endsWith(".class") || file.getName().endsWith(".xml")));
+            // Ensure a stable order
+            files.sort(Comparator.comparing(file -> file.getPathNameRelativeTo(archive)));
+            for (VirtualFile file : files) {
+                update(digest, file.getPathNameRelativeTo(archive));
+                update(digest, file);
+            }
+        }
+        return toHexString(digest.digest());
+    }
+
+    private ScanResult read(String key, List<VirtualFile> archives) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (input.readInt() != FORMAT_VERSION || !key.equals(input.readUTF())) {
+                // Persistence unit archives have changed
+                return null;
+            }
+            Set<ClassDescriptor> classes = new HashSet<>();
+            for (int i = input.readInt(); i > 0; --i) {
+                String name = input.readUTF();
+                ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.valueOf(input.readUTF());
+                InputStreamAccess access = readStreamAccess(input, archives);
+                if (access == null) return null;
+                classes.add(new CachedClassDescriptor(name, categorization, access));
+            }
+            Set<PackageDescriptor> packages = new HashSet<>();
+            for (int i = input.readInt(); i > 0; --i) {
+                String name = input.readUTF();
+                InputStreamAccess access = readStreamAccess(input, archives);
+                if (access == null) return null;
+                packages.add(new CachedPackageDescriptor(name, access));
+            }
+            Set<MappingFileDescriptor> mappingFiles = new HashSet<>();
+            for (int i = input.readInt(); i > 0; --i) {
+                String name = input.readUTF();
+                InputStreamAccess access = readStreamAccess(input, archives);
+                if (access == null) return null;
+                mappingFiles.add(new CachedMappingFileDescriptor(name, access));
+            }
+            return new CachedScanResult(packages, classes, mappingFiles);
+        }
+    }
+
+    private static InputStreamAccess readStreamAccess(DataInputStream input, List<VirtualFile> archives) throws IOException {
+        int index = input.readInt();
+        String path = input.readUTF();
+        if (index >= archives.size()) return null;
+        VirtualFile file = archives.get(index).getChild(path);
+        return file.exists() ? new VirtualFileInputStreamAccess(file.getPathName(), file) : null;
+    }
+
+    private void write(String key, List<VirtualFile> archives, ScanResult result) throws IOException {
+        Files.createDirectories(this.file.getParent());
+        Path tempFile = Files.createTempFile(this.file.getParent(), this.file.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(key);
+                output.writeInt(result.getLocatedClasses().size());
+                for (ClassDescriptor descriptor : result.getLocatedClasses()) {
+                    output.writeUTF(descriptor.getName());
+                    output.writeUTF(descriptor.getCategorization().name());
+                    if (!writeStreamAccess(output, archives, descriptor.getStreamAccess())) return;
+                }
+                output.writeInt(result.getLocatedPackages().size());
+                for (PackageDescriptor descriptor : result.getLocatedPackages()) {
+                    output.writeUTF(descriptor.getName());
+                    if (!writeStreamAccess(output, archives, descriptor.getStreamAccess())) return;
+                }
+                output.writeInt(result.getLocatedMappingFiles().size());
+                for (MappingFileDescriptor descriptor : result.getLocatedMappingFiles()) {
+                    output.writeUTF(descriptor.getName());
+                    if (!writeStreamAccess(output, archives, descriptor.getStreamAccess())) return;
+                }
+            }
+            Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the location of the specified stream as the index of its archive and its path relative to that archive.
+     * @return false, if the stream is not located within an archive of the persistence unit, in which case the scan results are not cacheable
+     */
+    private static boolean writeStreamAccess(DataOutputStream output, List<VirtualFile> archives, InputStreamAccess access) throws IOException {
+        String name = access.getStreamName();
+        for (int i = 0; i < archives.size(); ++i) {
+            String root = archives.get(i).getPathName() + "/";
+            if (name.startsWith(root)) {
+                output.writeInt(i);
+                output.writeUTF(name.substring(root.length()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Delimit values
+        digest.update((byte) 0);
+    }
+
+    private static void update(MessageDigest digest, VirtualFile file) {
+        update(digest, Long.toString(file.getSize()));
+        update(digest, Long.toString(file.getLastModified()));
+    }
+
+    private static void update(MessageDigest digest, Collection<String> values) {
+        List<String> sorted = (values != null) ? new ArrayList<>(values) : Collections.emptyList();
+        Collections.sort(sorted);
+        update(digest, Integer.toString(sorted.size()));
+        for (String value : sorted) {
+            update(digest, value);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static class CachedScanResult implements ScanResult {
+        private final Set<PackageDescriptor> packages;
+        private final Set<ClassDescriptor> classes;
+        private final Set<MappingFileDescriptor> mappingFiles;
+
+        CachedScanResult(Set<PackageDescriptor> packages, Set<ClassDescriptor> classes, Set<MappingFileDescriptor> mappingFiles) {
+            this.packages = Collections.unmodifiableSet(packages);
+            this.classes = Collections.unmodifiableSet(classes);
+            this.mappingFiles = Collections.unmodifiableSet(mappingFiles);
+        }
+
+        @Override
+        public Set<PackageDescriptor> getLocatedPackages() {
+            return this.packages;
+        }
+
+        @Override
+        public Set<ClassDescriptor> getLocatedClasses() {
+            return this.classes;
+        }
+
+        @Override
+        public Set<MappingFileDescriptor> getLocatedMappingFiles() {
+            return this.mappingFiles;
+        }
+    }
+
+    private abstract static class CachedDescriptor {
+        private final String name;
+        private final InputStreamAccess access;
+
+        CachedDescriptor(String name, InputStreamAccess access) {
+            this.name = name;
+            this.access = access;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public InputStreamAccess getStreamAccess() {
+            return this.access;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.name.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object != null) && (object.getClass() == this.getClass()) && this.name.equals(((CachedDescriptor) object).name);
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    private static class CachedClassDescriptor extends CachedDescriptor implements ClassDescriptor {
+        private final Categorization categorization;
+
+        CachedClassDescriptor(String name, Categorization categorization, InputStreamAccess access) {
+            super(name, access);
+            this.categorization = categorization;
+        }
+
+        @Override
+        public Categorization getCategorization() {
+            return this.categorization;
+        }
+    }
+
+    private static class CachedPackageDescriptor extends CachedDescriptor implements PackageDescriptor {
+        CachedPackageDescriptor(String name, InputStreamAccess access) {
+            super(name, access);
+        }
+    }
+
+    private static class CachedMappingFileDescriptor extends CachedDescriptor implements MappingFileDescriptor {
+        CachedMappingFileDescriptor(String name, InputStreamAccess access) {
+            super(name, access);
+        }
+    }
+}
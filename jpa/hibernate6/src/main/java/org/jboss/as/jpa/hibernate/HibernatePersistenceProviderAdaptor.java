@@ -5,6 +5,8 @@
 
 package org.jboss.as.jpa.hibernate;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Properties;
 
@@ -24,6 +26,7 @@ import org.jipijapa.plugin.spi.PersistenceProviderAdaptor;
 import org.jipijapa.plugin.spi.PersistenceUnitMetadata;
 import org.jipijapa.plugin.spi.Platform;
 import org.jipijapa.plugin.spi.TwoPhaseBootstrapCapable;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Implements the PersistenceProviderAdaptor for Hibernate
@@ -42,6 +45,10 @@ public class HibernatePersistenceProviderAdaptor implements PersistenceProviderA
     // Hibernate ORM 6.0 does not support AvailableSettings.USE_NEW_ID_GENERATOR_MAPPINGS
     private static final String USE_NEW_ID_GENERATOR_MAPPINGS = "hibernate.id.new_generator_mappings";
 
+    // Persistence unit property which, if true, persists the results of archive scanning across deployments of the persistence unit
+    private static final String SCAN_CACHE = "wildfly.jpa.scancache";
+    private static final String SERVER_DATA_DIR = "jboss.server.data.dir";
+
     @Override
     public void injectJtaManager(JtaManager jtaManager) {
         WildFlyCustomJtaPlatform.setTransactionSynchronizationRegistry(jtaManager.getSynchronizationRegistry());
@@ -68,6 +75,12 @@ public class HibernatePersistenceProviderAdaptor implements PersistenceProviderA
         putPropertyIfAbsent(pu, properties, AvailableSettings.KEYWORD_AUTO_QUOTING_ENABLED,"false");
         putPropertyIfAbsent(pu, properties, AvailableSettings.IMPLICIT_NAMING_STRATEGY, NAMING_STRATEGY_JPA_COMPLIANT_IMPL);
         putPropertyIfAbsent(pu, properties, AvailableSettings.SCANNER, HibernateArchiveScanner.class);
+        if (Boolean.parseBoolean(pu.getProperties().getProperty(SCAN_CACHE)) && !pu.getProperties().containsKey(AvailableSettings.SCANNER)) {
+            Path directory = scanCacheDirectory();
+            if (directory != null) {
+                properties.put(AvailableSettings.SCANNER, new CachingArchiveScanner(new HibernateArchiveScanner(), directory, pu.getScopedPersistenceUnitName()));
+            }
+        }
         properties.put(AvailableSettings.CLASSLOADERS, pu.getClassLoader());
         // Only set SESSION_FACTORY_NAME_IS_JNDI to false if application didn't override Hibernate ORM session factory name.
         if (!pu.getProperties().containsKey(AvailableSettings.SESSION_FACTORY_NAME)) {
@@ -81,6 +94,11 @@ public class HibernatePersistenceProviderAdaptor implements PersistenceProviderA
         putPropertyIfAbsent( pu, properties, AvailableSettings.JPA_COMPLIANCE, true);
     }
 
+    private static Path scanCacheDirectory() {
+        String dataDir = WildFlySecurityManager.getPropertyPrivileged(SERVER_DATA_DIR, null);
+        return (dataDir != null) ? Paths.get(dataDir, "jpa", "scan-cache") : null;
+    }
+
     private void failOnIncompatibleSetting(PersistenceUnitMetadata pu, Map properties) {
         if ("false".equals(pu.getProperties().getProperty(USE_NEW_ID_GENERATOR_MAPPINGS))) {
             throw JpaLogger.JPA_LOGGER.failOnIncompatibleSetting();
@@ -0,0 +1,180 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.hibernate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CachingArchiveScanner}.
+ */
+public class CachingArchiveScannerTestCase {
+
+    private static final String PERSISTENCE_UNIT = "test.war#pu";
+    private static final String ENTITY = "org/example/Entity.class";
+
+    private final AtomicInteger scans = new AtomicInteger();
+    private Path archive;
+    private Path cache;
+    private Scanner scanner;
+
+    @Before
+    public void init() throws IOException {
+        this.archive = Files.createTempDirectory("archive");
+        this.cache = Files.createTempDirectory("scan-cache");
+        Files.createDirectories(this.archive.resolve(ENTITY).getParent());
+        Files.write(this.archive.resolve(ENTITY), new byte[] { 0 });
+        Files.createDirectories(this.archive.resolve("META-INF"));
+        Files.write(this.archive.resolve("META-INF/persistence.xml"), "<persistence/>".getBytes(StandardCharsets.UTF_8));
+        // Scanner that locates the entity of the archive
+        this.scanner = (environment, options, parameters) -> {
+            this.scans.incrementAndGet();
+            VirtualFile file = VFS.getChild(this.archive.resolve(ENTITY).toUri());
+            ClassDescriptor descriptor = new ClassDescriptorImpl("org.example.Entity", ClassDescriptor.Categorization.MODEL, new VirtualFileInputStreamAccess(file.getPathName(), file));
+            return new ScanResultImpl(Collections.emptySet(), Set.of(descriptor), Collections.emptySet());
+        };
+    }
+
+    @After
+    public void destroy() throws IOException {
+        delete(this.archive);
+        delete(this.cache);
+    }
+
+    @Test
+    public void testCachedResults() throws IOException {
+        assertEntity(this.scan());
+        assertEquals(1, this.scans.get());
+
+        // A subsequent deployment must reuse the cached results
+        ScanResult result = this.scan();
+        assertEquals(1, this.scans.get());
+        assertEntity(result);
+        try (InputStream input = result.getLocatedClasses().iterator().next().getStreamAccess().accessInputStream()) {
+            assertEquals(0, input.read());
+        }
+    }
+
+    @Test
+    public void testModifiedArchive() throws IOException {
+        this.scan();
+        assertEquals(1, this.scans.get());
+
+        Files.write(this.archive.resolve(ENTITY), new byte[] { 0, 1 });
+
+        assertEntity(this.scan());
+        assertEquals(2, this.scans.get());
+
+        // Only the modification time of a file changed
+        Files.setLastModifiedTime(this.archive.resolve("META-INF/persistence.xml"), FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+        assertEntity(this.scan());
+        assertEquals(3, this.scans.get());
+    }
+
+    @Test
+    public void testPurge() throws IOException {
+        FileTime stale = FileTime.from(Instant.now().minus(Duration.ofDays(31)));
+        Path unused = Files.write(this.cache.resolve("unused"), new byte[0]);
+        Files.setLastModifiedTime(unused, stale);
+        Path abandoned = Files.write(this.cache.resolve("abandoned.tmp"), new byte[0]);
+        Files.setLastModifiedTime(abandoned, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Path recent = Files.write(this.cache.resolve("recent"), new byte[0]);
+
+        this.scan();
+
+        assertFalse(Files.exists(unused));
+        assertFalse(Files.exists(abandoned));
+        assertTrue(Files.exists(recent));
+        // Only cached results of the scanned persistence unit remain
+        try (Stream<Path> files = Files.list(this.cache)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    private ScanResult scan() throws IOException {
+        Scanner scanner = new CachingArchiveScanner(this.scanner, this.cache, PERSISTENCE_UNIT);
+        return scanner.scan(new TestScanEnvironment(this.archive), new StandardScanOptions(), new ScanParameters() { });
+    }
+
+    private static void assertEntity(ScanResult result) {
+        assertEquals(Set.of("org.example.Entity"), result.getLocatedClasses().stream().map(ClassDescriptor::getName).collect(Collectors.toSet()));
+        assertEquals(ClassDescriptor.Categorization.MODEL, result.getLocatedClasses().iterator().next().getCategorization());
+        assertTrue(result.getLocatedPackages().isEmpty());
+        assertTrue(result.getLocatedMappingFiles().isEmpty());
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> children = Files.list(path)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    delete(child);
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+
+    private static class TestScanEnvironment implements ScanEnvironment {
+        private final URL root;
+
+        TestScanEnvironment(Path root) throws MalformedURLException {
+            this.root = root.toUri().toURL();
+        }
+
+        @Override
+        public URL getRootUrl() {
+            return this.root;
+        }
+
+        @Override
+        public List<URL> getNonRootUrls() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getExplicitlyListedClassNames() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getExplicitlyListedMappingFiles() {
+            return Collections.emptyList();
+        }
+    }
+}
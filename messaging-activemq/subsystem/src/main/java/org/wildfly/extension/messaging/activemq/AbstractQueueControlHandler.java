@@ -6,6 +6,7 @@
 package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.UUID;
 import static org.jboss.dmr.ModelType.BOOLEAN;
 import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LIST;
@@ -20,7 +21,18 @@ import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.runtimeReadOnlyOperation;
 import static org.wildfly.extension.messaging.activemq.logging.MessagingLogger.ROOT_LOGGER;
 
+import java.util.Map;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.activemq.artemis.api.core.Message;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.core.filter.Filter;
+import org.apache.activemq.artemis.core.filter.impl.FilterImpl;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.apache.activemq.artemis.core.server.MessageReference;
+import org.apache.activemq.artemis.core.server.Queue;
+import org.apache.activemq.artemis.utils.collections.LinkedListIterator;
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -54,6 +66,9 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
     public static final String LIST_MESSAGES = "list-messages";
     public static final String LIST_MESSAGES_AS_JSON = "list-messages-as-json";
+    public static final String LIST_MESSAGES_PAGE = "list-messages-page";
+    public static final String LIST_MESSAGES_PAGE_AS_JSON = LIST_MESSAGES_PAGE + "-as-json";
+    public static final String LIST_MESSAGES_AS_STREAM = "list-messages-as-stream";
     public static final String COUNT_MESSAGES = "count-messages";
     public static final String REMOVE_MESSAGE = "remove-message";
     public static final String REMOVE_MESSAGES = "remove-messages";
@@ -90,6 +105,18 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     private static final AttributeDefinition NEW_PRIORITY = SimpleAttributeDefinitionBuilder.create("new-priority", INT)
             .setValidator(PRIORITY_VALIDATOR)
             .build();
+    private static final AttributeDefinition PAGE = SimpleAttributeDefinitionBuilder.create("page", INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(1))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+    private static final AttributeDefinition PAGE_SIZE = SimpleAttributeDefinitionBuilder.create("page-size", INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, 10000, true, true))
+            .build();
+    private static final AttributeDefinition REPLY_UUID = SimpleAttributeDefinitionBuilder.create(UUID, STRING)
+            .build();
 
     protected abstract AttributeDefinition getMessageIDAttributeDefinition();
 
@@ -108,6 +135,22 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 .setReplyType(STRING)
                 .build(),
                 this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_PAGE, resolver)
+                .setParameters(FILTER, PAGE, PAGE_SIZE)
+                .setReplyType(LIST)
+                .setReplyParameters(getReplyMessageParameterDefinitions())
+                .build(),
+                this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_PAGE_AS_JSON, RESOLVER)
+                .setParameters(FILTER, PAGE, PAGE_SIZE)
+                .setReplyType(STRING)
+                .build(),
+                this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_AS_STREAM, RESOLVER)
+                .setParameters(FILTER, PAGE_SIZE)
+                .setReplyParameters(REPLY_UUID)
+                .build(),
+                this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(COUNT_MESSAGES, RESOLVER)
                 .setParameters(FILTER)
                 .setReplyType(LONG)
@@ -252,6 +295,23 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
             } else if (LIST_MESSAGES_AS_JSON.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
                 context.getResult().set(control.listMessagesAsJSON(filter));
+            } else if (LIST_MESSAGES_PAGE.equals(operationName)) {
+                String filter = resolveFilter(context, operation);
+                int page = PAGE.resolveModelAttribute(context, operation).asInt();
+                int pageSize = PAGE_SIZE.resolveModelAttribute(context, operation).asInt();
+                String json = control.listMessagesAsJSON(filter, page, pageSize);
+                context.getResult().set(ModelNode.fromJSONString(json));
+            } else if (LIST_MESSAGES_PAGE_AS_JSON.equals(operationName)) {
+                String filter = resolveFilter(context, operation);
+                int page = PAGE.resolveModelAttribute(context, operation).asInt();
+                int pageSize = PAGE_SIZE.resolveModelAttribute(context, operation).asInt();
+                context.getResult().set(control.listMessagesAsJSON(filter, page, pageSize));
+            } else if (LIST_MESSAGES_AS_STREAM.equals(operationName)) {
+                String filter = resolveFilter(context, operation);
+                int pageSize = PAGE_SIZE.resolveModelAttribute(context, operation).asInt();
+                // Messages are browsed lazily, as the response stream is read
+                String uuid = context.attachResultStream("application/json", new MessagePageInputStream(control.browse(filter, pageSize)));
+                context.getResult().get(UUID).set(uuid);
             } else if (LIST_DELIVERING_MESSAGES.equals(operationName)) {
                 String json = control.listDeliveringMessagesAsJSON();
                 context.getResult().set(ModelNode.fromJSONString(json));
@@ -380,6 +440,95 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
     protected abstract DelegatingQueueControl<T> getQueueControl(ActiveMQServer server, String queueName);
 
+    /**
+     * Converts a page of messages, as returned by {@link org.apache.activemq.artemis.api.core.management.QueueControl#browse(int, int, String)},
+     * to a JSON array, where the properties of each message are flattened into the message, consistent with {@link DelegatingQueueControl#listMessagesAsJSON(String)}.
+     * @param messages a page of messages
+     * @return a JSON array of messages
+     */
+    protected static String toJSON(CompositeData[] messages) {
+        ModelNode result = new ModelNode().setEmptyList();
+        for (CompositeData message : messages) {
+            ModelNode node = result.add().setEmptyObject();
+            for (String key : message.getCompositeType().keySet()) {
+                Object value = message.get(key);
+                if (value instanceof TabularData) {
+                    // Message properties, keyed by property name
+                    for (Object row : ((TabularData) value).values()) {
+                        CompositeData property = (CompositeData) row;
+                        setValue(node.get(String.valueOf(property.get("key"))), property.get("value"));
+                    }
+                } else if (value != null) {
+                    setValue(node.get(key), value);
+                }
+            }
+        }
+        return result.toJSONString(true);
+    }
+
+    /**
+     * Browses the specified queue using a single queue iterator, so that each page resumes where the previous page ended.
+     * Unlike {@link org.apache.activemq.artemis.api.core.management.QueueControl#browse(int, int, String)}, which skips all preceding messages for every page,
+     * browsing all messages of the queue is linear in the queue depth.
+     * Messages are converted to JSON consistent with {@link DelegatingQueueControl#listMessagesAsJSON(String)}.
+     * @param server the server of the queue
+     * @param queueName the name of the queue
+     * @param filter a message filter
+     * @param pageSize the maximum number of messages per page
+     * @return a reader of successive pages of messages
+     * @throws Exception if the filter is invalid
+     */
+    protected static MessagePageInputStream.PageReader browse(ActiveMQServer server, String queueName, String filter, int pageSize) throws Exception {
+        Queue queue = server.locateQueue(SimpleString.toSimpleString(queueName));
+        if (queue == null) {
+            // Queue was removed concurrently
+            return () -> "[]";
+        }
+        Filter messageFilter = FilterImpl.createFilter(filter);
+        LinkedListIterator<MessageReference> iterator = queue.browserIterator();
+        return new MessagePageInputStream.PageReader() {
+            @Override
+            public String readPage() {
+                ModelNode result = new ModelNode().setEmptyList();
+                int count = 0;
+                while ((count < pageSize) && iterator.hasNext()) {
+                    Message message = iterator.next().getMessage();
+                    if ((messageFilter == null) || messageFilter.match(message)) {
+                        ModelNode node = result.add().setEmptyObject();
+                        for (Map.Entry<String, Object> entry : message.toMap().entrySet()) {
+                            if (entry.getValue() != null) {
+                                setValue(node.get(entry.getKey()), entry.getValue());
+                            }
+                        }
+                        count += 1;
+                    }
+                }
+                return result.toJSONString(true);
+            }
+
+            @Override
+            public void close() {
+                iterator.close();
+            }
+        };
+    }
+
+    private static void setValue(ModelNode node, Object value) {
+        if (value instanceof Boolean) {
+            node.set((Boolean) value);
+        } else if (value instanceof Long) {
+            node.set((Long) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            node.set(((Number) value).intValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            node.set(((Number) value).doubleValue());
+        } else if (value instanceof byte[]) {
+            node.set((byte[]) value);
+        } else {
+            node.set(String.valueOf(value));
+        }
+    }
+
     protected abstract Object handleAdditionalOperation(final String operationName, final ModelNode operation,
                                                         final OperationContext context, T queueControl) throws OperationFailedException;
 
@@ -401,6 +550,25 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
         String listMessagesAsJSON(String filter) throws Exception;
 
+        /**
+         * Lists a page of the messages that match the specified filter.
+         * @param filter a message filter
+         * @param page a page number, starting from 1
+         * @param pageSize the maximum number of messages per page
+         * @return a JSON array of messages, which is empty if the page exceeds the number of matching messages
+         * @throws Exception if the messages could not be browsed
+         */
+        String listMessagesAsJSON(String filter, int page, int pageSize) throws Exception;
+
+        /**
+         * Browses the messages that match the specified filter, one page at a time.
+         * @param filter a message filter
+         * @param pageSize the maximum number of messages per page
+         * @return a reader of successive pages of messages, each a JSON array
+         * @throws Exception if the queue could not be browsed
+         */
+        MessagePageInputStream.PageReader browse(String filter, int pageSize) throws Exception;
+
         long countMessages(String filter) throws Exception;
 
         boolean removeMessage(ModelNode id) throws Exception;
@@ -0,0 +1,110 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An input stream of a JSON array of messages, which is read lazily, one page of messages at a time.
+ * Consequently, the memory required to stream the messages of a queue is bounded by the page size, rather than by the queue depth.
+ * Pages are read from a single browse of the queue, so reading the entire stream is linear in the queue depth.
+ * N.B. As the queue is browsed while it is being read, messages consumed or added concurrently may be omitted from, or included in, the stream.
+ */
+public class MessagePageInputStream extends InputStream {
+
+    /**
+     * Reads successive pages of messages from a browse of a queue.
+     */
+    public interface PageReader extends AutoCloseable {
+        /**
+         * Returns the next page of messages.
+         * @return a JSON array of messages, which is empty if there are no more messages
+         * @throws Exception if the page could not be read
+         */
+        String readPage() throws Exception;
+
+        /**
+         * Releases the resources of the browse, e.g. its queue iterator.
+         */
+        @Override
+        default void close() {
+        }
+    }
+
+    private final PageReader reader;
+    private boolean first = true;
+    private boolean last = false;
+    private byte[] buffer = new byte[] { '[' };
+    private int position = 0;
+
+    MessagePageInputStream(PageReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.fill()) return -1;
+        return this.buffer[this.position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) return 0;
+        if (!this.fill()) return -1;
+        int count = Math.min(length, this.buffer.length - this.position);
+        System.arraycopy(this.buffer, this.position, bytes, offset, count);
+        this.position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.length - this.position;
+    }
+
+    @Override
+    public void close() {
+        this.last = true;
+        this.reader.close();
+    }
+
+    /**
+     * Ensures that the buffer contains unread bytes, reading the next page of messages if necessary.
+     * @return true, if the buffer contains unread bytes, false if the stream is exhausted
+     */
+    private boolean fill() throws IOException {
+        while (this.position == this.buffer.length) {
+            if (this.last) return false;
+            String json;
+            try {
+                json = this.reader.readPage().trim();
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+            // Strip the enclosing brackets of the JSON array of this page
+            String messages = json.substring(1, json.length() - 1).trim();
+            StringBuilder builder = new StringBuilder(messages.length() + 1);
+            if (messages.isEmpty()) {
+                this.last = true;
+                this.reader.close();
+                builder.append(']');
+            } else {
+                if (!this.first) {
+                    builder.append(',');
+                }
+                builder.append(messages);
+                this.first = false;
+            }
+            this.buffer = builder.toString().getBytes(StandardCharsets.UTF_8);
+            this.position = 0;
+        }
+        return true;
+    }
+}
@@ -132,6 +132,16 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
                 return control.listMessagesAsJSON(filter);
             }
 
+            @Override
+            public String listMessagesAsJSON(String filter, int page, int pageSize) throws Exception {
+                return toJSON(control.browse(page, pageSize, filter));
+            }
+
+            @Override
+            public MessagePageInputStream.PageReader browse(String filter, int pageSize) throws Exception {
+                return AbstractQueueControlHandler.browse(server, control.getName(), filter, pageSize);
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(filter);
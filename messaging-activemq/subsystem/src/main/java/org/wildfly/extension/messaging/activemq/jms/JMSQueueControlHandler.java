@@ -17,6 +17,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.dmr.ModelNode;
 import org.wildfly.extension.messaging.activemq.AbstractQueueControlHandler;
+import org.wildfly.extension.messaging.activemq.MessagePageInputStream;
 
 /**
  * Handler for runtime operations that invoke on a ActiveMQ {@link QueueControl}.
@@ -70,6 +71,28 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
                 return convertToJMSProperties(result);
             }
 
+            @Override
+            public String listMessagesAsJSON(String filter, int page, int pageSize) throws Exception {
+                String result = toJSON(control.browse(page, pageSize, convertToActiveMQFilterString(filter)));
+                return convertToJMSProperties(result);
+            }
+
+            @Override
+            public MessagePageInputStream.PageReader browse(String filter, int pageSize) throws Exception {
+                MessagePageInputStream.PageReader reader = AbstractQueueControlHandler.browse(server, control.getName(), convertToActiveMQFilterString(filter), pageSize);
+                return new MessagePageInputStream.PageReader() {
+                    @Override
+                    public String readPage() throws Exception {
+                        return convertToJMSProperties(reader.readPage());
+                    }
+
+                    @Override
+                    public void close() {
+                        reader.close();
+                    }
+                };
+            }
+
             @Override
             public long countMessages(String filter) throws Exception {
                 return control.countMessages(convertToActiveMQFilterString(filter));
@@ -0,0 +1,96 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MessagePageInputStream}.
+ */
+public class MessagePageInputStreamTestCase {
+
+    @Test
+    public void testEmpty() throws IOException {
+        assertEquals("[]", read(List.of("[]")));
+        assertEquals("[]", read(List.of(" [ ] ")));
+    }
+
+    @Test
+    public void testSinglePage() throws IOException {
+        assertEquals("[{\"a\" : 1},{\"b\" : 2}]", read(List.of("[{\"a\" : 1},{\"b\" : 2}]", "[]")));
+    }
+
+    @Test
+    public void testMultiplePages() throws IOException {
+        assertEquals("[{\"a\" : 1},{\"b\" : 2},{\"c\" : 3}]", read(List.of("[{\"a\" : 1},{\"b\" : 2}]", "[\n{\"c\" : 3}\n]", "[]")));
+    }
+
+    @Test(expected = IOException.class)
+    public void testFailure() throws IOException {
+        read(() -> {
+            throw new IllegalStateException();
+        });
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        AtomicInteger closed = new AtomicInteger();
+        Iterator<String> pages = List.of("[{\"a\" : 1}]", "[{\"b\" : 2}]").iterator();
+        MessagePageInputStream.PageReader reader = new MessagePageInputStream.PageReader() {
+            @Override
+            public String readPage() {
+                return pages.next();
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+        // Browse must be released if the stream is closed before it is exhausted
+        try (InputStream input = new MessagePageInputStream(reader)) {
+            assertEquals('[', input.read());
+            assertEquals('{', input.read());
+        }
+        assertEquals(1, closed.get());
+        // Remaining pages must not be read
+        assertTrue(pages.hasNext());
+    }
+
+    private static String read(List<String> pages) throws IOException {
+        Iterator<String> iterator = pages.iterator();
+        return read(iterator::next);
+    }
+
+    private static String read(MessagePageInputStream.PageReader reader) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream input = new MessagePageInputStream(reader)) {
+            // Read via both single byte and bulk reads
+            int first = input.read();
+            if (first >= 0) {
+                output.write(first);
+            }
+            byte[] buffer = new byte[4];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                output.write(buffer, 0, read);
+                read = input.read(buffer);
+            }
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -16,6 +16,7 @@ import java.beans.PropertyChangeListener;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.jboss.as.controller.ControlledProcessState;
@@ -34,10 +35,16 @@ import org.jboss.dmr.ModelType;
 public class MetricCollector {
     private final LocalModelControllerClient modelControllerClient;
     private final ProcessStateNotifier processStateNotifier;
+    private final MetricSnapshotCache snapshots;
 
     public MetricCollector(LocalModelControllerClient modelControllerClient, ProcessStateNotifier processStateNotifier) {
+        this(modelControllerClient, processStateNotifier, 0L);
+    }
+
+    public MetricCollector(LocalModelControllerClient modelControllerClient, ProcessStateNotifier processStateNotifier, long snapshotTimeToLive) {
         this.modelControllerClient = modelControllerClient;
         this.processStateNotifier = processStateNotifier;
+        this.snapshots = new MetricSnapshotCache(modelControllerClient, snapshotTimeToLive, TimeUnit.MILLISECONDS);
     }
 
     // collect metrics from the resources
@@ -111,7 +118,7 @@ public class MetricCollector {
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
+            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName, snapshots);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
             registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
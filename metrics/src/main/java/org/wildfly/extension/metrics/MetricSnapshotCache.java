@@ -0,0 +1,108 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Caches the runtime attributes of management resources, such that the metrics of a given resource are read using a single
+ * {@code read-resource} operation per time-to-live interval, rather than a {@code read-attribute} operation per metric.
+ * Snapshot caching is disabled if the configured time-to-live is not positive.
+ */
+class MetricSnapshotCache {
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final long timeToLive;
+    private final Map<PathAddress, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile long nextPurge;
+
+    MetricSnapshotCache(LocalModelControllerClient modelControllerClient, long timeToLive, TimeUnit unit) {
+        this.modelControllerClient = modelControllerClient;
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.nextPurge = System.nanoTime() + this.timeToLive;
+    }
+
+    boolean isEnabled() {
+        return this.timeToLive > 0;
+    }
+
+    /**
+     * Returns the runtime attributes of the resource with the specified address, reading them if no unexpired snapshot exists.
+     * @param address a resource address
+     * @return the attributes of the resource, or null, if the resource could not be read
+     */
+    ModelNode getAttributes(PathAddress address) {
+        long now = System.nanoTime();
+        Snapshot snapshot = this.snapshots.get(address);
+        if (snapshot == null || snapshot.isExpired(now)) {
+            // Only a single thread reads a given resource, concurrent readers of the same resource wait for its result
+            Snapshot created = new Snapshot(now + this.timeToLive);
+            snapshot = this.snapshots.compute(address, (key, current) -> (current != null && !current.isExpired(now)) ? current : created);
+            if (snapshot == created) {
+                // Read the resource outside of compute(...), which would otherwise block updates to other entries of the same bin
+                ModelNode attributes = null;
+                try {
+                    attributes = this.read(address);
+                } finally {
+                    created.attributes.complete(attributes);
+                }
+            }
+            if (now - this.nextPurge >= 0) {
+                // Discard snapshots of resources that are no longer read, e.g. those of undeployed deployments
+                this.nextPurge = now + this.timeToLive;
+                this.snapshots.values().removeIf(value -> value.isExpired(now));
+            }
+        }
+        return snapshot.attributes.join();
+    }
+
+    private ModelNode read(PathAddress address) {
+        final ModelNode readResourceOp = new ModelNode();
+        readResourceOp.get(OP).set(READ_RESOURCE_OPERATION);
+        readResourceOp.get(OP_ADDR).set(address.toModelNode());
+        readResourceOp.get(INCLUDE_RUNTIME).set(true);
+        readResourceOp.get(ATTRIBUTES_ONLY).set(true);
+        readResourceOp.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        ModelNode response = this.modelControllerClient.execute(readResourceOp);
+        if (response.hasDefined(FAILURE_DESCRIPTION)) {
+            // Metrics of this resource will fall back to reading individual attributes, which reports the failure
+            LOGGER.debugf("Unable to read resource %s: %s.", address, response.get(FAILURE_DESCRIPTION));
+            return null;
+        }
+        ModelNode result = response.get(RESULT);
+        result.protect();
+        return result;
+    }
+
+    private static class Snapshot {
+        final CompletableFuture<ModelNode> attributes = new CompletableFuture<>();
+        final long expiration;
+
+        Snapshot(long expiration) {
+            this.expiration = expiration;
+        }
+
+        boolean isExpired(long now) {
+            return now - this.expiration >= 0;
+        }
+    }
+}
@@ -10,6 +10,11 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -76,14 +81,26 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
+                // Collecting metrics executes management operations, and the exposition is streamed using blocking I/O
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                exchange.startBlocking();
+
                 WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
+                // Collect the metric values under the registry lock, but write the response outside of it,
+                // so that slow clients cannot block the registration of metrics
+                List<PrometheusExporter.Sample> samples;
                 metricRegistry.readLock();
                 try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
+                    samples = prometheusExporter.collect(metricRegistry);
                 } finally {
                     metricRegistry.unlock();
                 }
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8))) {
+                    prometheusExporter.export(samples, writer);
+                }
             }
         });
         consumer.accept(this);
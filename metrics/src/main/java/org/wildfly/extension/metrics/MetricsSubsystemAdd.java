@@ -50,9 +50,10 @@ class MetricsSubsystemAdd extends AbstractBoottimeAddStepHandler {
         boolean exposeAnySubsystem = exposedSubsystems.remove("*");
         String prefix = MetricsSubsystemDefinition.PREFIX.resolveModelAttribute(context, model).asStringOrNull();
         boolean securityEnabled = MetricsSubsystemDefinition.SECURITY_ENABLED.resolveModelAttribute(context, model).asBoolean();
+        long snapshotTimeToLive = MetricsSubsystemDefinition.SNAPSHOT_TTL.resolveModelAttribute(context, model).asLong();
 
         WildFlyMetricRegistryService.install(context);
-        MetricsCollectorService.install(context);
+        MetricsCollectorService.install(context, snapshotTimeToLive);
         MetricsContextService.install(context, securityEnabled);
 
         // If the MP Metrics module is not installed, we need to install the WF Metrics DPU and initiate a metrics
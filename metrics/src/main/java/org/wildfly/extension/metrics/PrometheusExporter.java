@@ -4,7 +4,11 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
@@ -17,37 +21,76 @@ public class PrometheusExporter {
     private static final String LF = "\n";
 
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
-
         StringBuilder out = new StringBuilder();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+    /**
+     * Writes the metrics of the specified registry in the Prometheus text format directly to the specified output,
+     * without first building the complete exposition in memory.
+     * @param registry a metric registry
+     * @param out the target of the exposition
+     * @throws IOException if the exposition could not be written
+     */
+    public void export(WildFlyMetricRegistry registry, Appendable out) throws IOException {
+        export(collect(registry), out);
+    }
+
+    /**
+     * Collects the current values of the metrics of the specified registry.
+     * The caller is expected to hold the read lock of the registry.
+     * @param registry a metric registry
+     * @return a list of metric samples
+     */
+    public List<Sample> collect(WildFlyMetricRegistry registry) {
+        Map<String, MetricMetadata> metadataMap = registry.getMetricMetadata();
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        List<Sample> samples = new ArrayList<>(metrics.size());
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
             OptionalDouble metricValue = entry.getValue().getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
-            if (!metricValue.isPresent()) {
-                continue;
+            if (metricValue.isPresent()) {
+                MetricID metricID = entry.getKey();
+                samples.add(new Sample(metricID, metadataMap.get(metricID.getMetricName()), metricValue.getAsDouble()));
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+        }
+        return samples;
+    }
+
+    /**
+     * Writes the specified metric samples in the Prometheus text format to the specified output.
+     * This does not require the read lock of the registry from which the samples were collected.
+     * @param samples a list of metric samples
+     * @param out the target of the exposition
+     * @throws IOException if the exposition could not be written
+     */
+    public void export(List<Sample> samples, Appendable out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
+
+        for (Sample sample : samples) {
+            MetricID metricID = sample.metricID;
+            String metricName = metricID.getMetricName();
+            MetricMetadata metadata = sample.metadata;
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            if (alreadyExportedMetrics.add(metricName)) {
+                out.append("# HELP ").append(prometheusMetricName).append(' ').append(metadata.getDescription()).append(LF);
+                out.append("# TYPE ").append(prometheusMetricName).append(' ').append(String.valueOf(metadata.getType())).append(LF);
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            double scaledValue = scaleToBaseUnit(sample.value, metadata.getMeasurementUnit());
+            out.append(prometheusMetricName);
             // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
             if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+                out.append('_').append(metadata.getBaseMetricUnit());
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            appendTags(metricID, out);
+            out.append(' ').append(String.valueOf(scaledValue)).append(LF);
         }
-
-        return out.toString();
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -70,18 +113,44 @@ public class PrometheusExporter {
     }
 
     public static String getTagsAsAString(MetricID metricID) {
+        StringBuilder out = new StringBuilder();
+        try {
+            appendTags(metricID, out);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void appendTags(MetricID metricID, Appendable out) throws IOException {
         MetricTag[] tags = metricID.getTags();
         if (tags.length == 0) {
-            return "";
+            return;
         }
-        StringBuilder out = new StringBuilder("{");
+        out.append('{');
         for (int i = 0; i < tags.length; i++) {
             if (i > 0) {
-                out.append(",");
+                out.append(',');
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(tag.getValue()).append('"');
+        }
+        out.append('}');
+    }
+
+    /**
+     * The value of a metric collected from a registry.
+     */
+    public static class Sample {
+        final MetricID metricID;
+        final MetricMetadata metadata;
+        final double value;
+
+        Sample(MetricID metricID, MetricMetadata metadata, double value) {
+            this.metricID = metricID;
+            this.metadata = metadata;
+            this.value = value;
         }
-        return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
@@ -27,20 +27,26 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private final PathAddress address;
     private final String attributeName;
+    private final MetricSnapshotCache snapshots;
 
     static {
         UNDEFINED.protect();
     }
 
     public WildFlyMetric(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName) {
+        this(modelControllerClient, address, attributeName, null);
+    }
+
+    WildFlyMetric(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName, MetricSnapshotCache snapshots) {
         this.modelControllerClient = modelControllerClient;
         this.address = address;
         this.attributeName = attributeName;
+        this.snapshots = (snapshots != null && snapshots.isEnabled()) ? snapshots : null;
     }
 
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        ModelNode result = readValue();
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -51,6 +57,16 @@ public class WildFlyMetric implements Metric {
         return OptionalDouble.empty();
     }
 
+    private ModelNode readValue() {
+        if (snapshots != null) {
+            ModelNode attributes = snapshots.getAttributes(address);
+            if (attributes != null) {
+                return attributes.has(attributeName) ? attributes.get(attributeName) : UNDEFINED;
+            }
+        }
+        return readAttributeValue(address, attributeName);
+    }
+
     private ModelNode readAttributeValue(PathAddress address, String attributeName) {
         final ModelNode readAttributeOp = new ModelNode();
         readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
@@ -0,0 +1,130 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MetricSnapshotCache}.
+ */
+public class MetricSnapshotCacheTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", "test"));
+
+    @Test
+    public void readsResourceOncePerTimeToLive() {
+        TestModelControllerClient client = new TestModelControllerClient(false);
+        MetricSnapshotCache snapshots = new MetricSnapshotCache(client, 1, TimeUnit.HOURS);
+
+        WildFlyMetric foo = new WildFlyMetric(client, ADDRESS, "foo", snapshots);
+        WildFlyMetric bar = new WildFlyMetric(client, ADDRESS, "bar", snapshots);
+        WildFlyMetric missing = new WildFlyMetric(client, ADDRESS, "missing", snapshots);
+
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(1d, foo.getValue().getAsDouble(), 0d);
+            assertEquals(2d, bar.getValue().getAsDouble(), 0d);
+            assertFalse(missing.getValue().isPresent());
+        }
+        assertEquals(List.of(READ_RESOURCE_OPERATION), client.operations);
+    }
+
+    @Test
+    public void disabled() {
+        TestModelControllerClient client = new TestModelControllerClient(false);
+        MetricSnapshotCache snapshots = new MetricSnapshotCache(client, 0, TimeUnit.MILLISECONDS);
+
+        WildFlyMetric foo = new WildFlyMetric(client, ADDRESS, "foo", snapshots);
+        assertEquals(1d, foo.getValue().getAsDouble(), 0d);
+        assertEquals(1d, foo.getValue().getAsDouble(), 0d);
+        assertEquals(List.of(READ_ATTRIBUTE_OPERATION, READ_ATTRIBUTE_OPERATION), client.operations);
+    }
+
+    @Test
+    public void fallbackToReadAttribute() {
+        TestModelControllerClient client = new TestModelControllerClient(true);
+        MetricSnapshotCache snapshots = new MetricSnapshotCache(client, 1, TimeUnit.HOURS);
+
+        WildFlyMetric foo = new WildFlyMetric(client, ADDRESS, "foo", snapshots);
+        assertEquals(1d, foo.getValue().getAsDouble(), 0d);
+        assertEquals(1d, foo.getValue().getAsDouble(), 0d);
+        // Failed read-resource is not retried until its snapshot expires
+        assertEquals(List.of(READ_RESOURCE_OPERATION, READ_ATTRIBUTE_OPERATION, READ_ATTRIBUTE_OPERATION), client.operations);
+    }
+
+    private static class TestModelControllerClient implements LocalModelControllerClient {
+        final List<String> operations = new ArrayList<>();
+        private final boolean failReadResource;
+
+        TestModelControllerClient(boolean failReadResource) {
+            this.failReadResource = failReadResource;
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation) {
+            String name = operation.get(OP).asString();
+            this.operations.add(name);
+            ModelNode attributes = new ModelNode();
+            attributes.get("foo").set(1);
+            attributes.get("bar").set(2L);
+            ModelNode response = new ModelNode();
+            if (name.equals(READ_RESOURCE_OPERATION)) {
+                if (this.failReadResource) {
+                    response.get(OUTCOME).set(FAILED);
+                    response.get(FAILURE_DESCRIPTION).set("failed");
+                } else {
+                    response.get(OUTCOME).set(SUCCESS);
+                    response.get(RESULT).set(attributes);
+                }
+            } else {
+                response.get(OUTCOME).set(SUCCESS);
+                response.get(RESULT).set(attributes.get(operation.get(NAME).asString()));
+            }
+            return response;
+        }
+
+        @Override
+        public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import java.io.IOException;
+
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+
+public class Subsystem_2_0_ParsingTestCase extends AbstractSubsystemBaseTest {
+
+    public Subsystem_2_0_ParsingTestCase() {
+        super(MetricsExtension.SUBSYSTEM_NAME, new MetricsExtension());
+    }
+
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem_2_0.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws IOException {
+        return "schema/wildfly-metrics_2_0.xsd";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * A bounded cache of the resolution of names against the bindings of a {@link ServiceBasedNamingStore}.
+ * <p>
+ * An entry records either the binding that resolves a name, i.e. the binding of the name itself or of a parent reference or link,
+ * or that the name could not be resolved.
+ * Since the value of a binding is read from its service on every lookup, entries only need to be invalidated when bindings are added or removed,
+ * in which case only the entries for names related to the modified binding are dropped.
+ * When the cache is full, the least recently used entries are evicted.
+ *
+ * @see ServiceBasedNamingStore
+ */
+public class NamingLookupCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static volatile int defaultMaxSize = DEFAULT_MAX_SIZE;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    /**
+     * Sets the maximum number of entries of the lookup caches of subsequently created naming stores.
+     * @param maxSize a maximum number of entries, where 0 disables caching
+     */
+    public static void setDefaultMaxSize(int maxSize) {
+        defaultMaxSize = maxSize;
+    }
+
+    /**
+     * Returns the number of lookups, across all naming stores, resolved via a cache entry, i.e. without searching the bindings of the store.
+     * @return a number of lookups
+     */
+    public static long getHitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * Returns the number of lookups, across all naming stores, that required a search of the bindings of the store.
+     * @return a number of lookups
+     */
+    public static long getMissCount() {
+        return MISSES.sum();
+    }
+
+    private final Map<ServiceName, Entry> entries = new ConcurrentHashMap<>();
+    // Incremented whenever a binding is added or removed
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxSize;
+
+    NamingLookupCache() {
+        this(defaultMaxSize);
+    }
+
+    NamingLookupCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the current version of the bindings of the naming store, to be captured before resolving a name.
+     * @return a version
+     */
+    long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Returns the cached resolution of the specified name.
+     * @param name the service name of a looked up name
+     * @return a cache entry, or null, if no entry exists for this name
+     */
+    Entry get(ServiceName name) {
+        if (this.maxSize <= 0) return null;
+        Entry entry = this.entries.get(name);
+        if (entry != null) {
+            entry.accessed();
+            HITS.increment();
+        } else {
+            MISSES.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Records that the specified name resolves to the specified binding.
+     * @param name the service name of a looked up name
+     * @param binding the service name of the binding of this name, or of a parent reference or link
+     * @param controller the controller of the binding service
+     * @param version the version of the bindings against which the name was resolved
+     */
+    void putBound(ServiceName name, ServiceName binding, ServiceController<?> controller, long version) {
+        this.put(name, new Entry(binding, controller), version);
+    }
+
+    /**
+     * Records that the specified name could not be resolved.
+     * @param name the service name of a looked up name
+     * @param version the version of the bindings against which the name was resolved
+     */
+    void putUnbound(ServiceName name, long version) {
+        this.put(name, new Entry(null, null), version);
+    }
+
+    private void put(ServiceName name, Entry entry, long version) {
+        // Skip if disabled, or if bindings changed during resolution
+        if ((this.maxSize > 0) && (version == this.version.get())) {
+            if ((this.entries.size() >= this.maxSize) && this.evicting.compareAndSet(false, true)) {
+                try {
+                    this.evict();
+                } finally {
+                    this.evicting.set(false);
+                }
+            }
+            this.entries.put(name, entry);
+            // Bindings may have changed after the above check, but before their invalidation could see this entry
+            if (version != this.version.get()) {
+                this.entries.remove(name, entry);
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used eighth of the entries, so that eviction is amortized over subsequent insertions.
+     */
+    private void evict() {
+        int count = Math.max(1, this.maxSize / 8);
+        List<ServiceName> names = this.entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().getLastAccessed()))
+                .limit(count)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        for (ServiceName name : names) {
+            this.entries.remove(name);
+        }
+    }
+
+    /**
+     * Invalidates the entries for the specified name, its parents, and its children, since a binding within this name changed.
+     * @param name the service name of a modified binding, or of a binding containing it
+     */
+    void invalidate(ServiceName name) {
+        this.version.incrementAndGet();
+        this.entries.keySet().removeIf(key -> key.isParentOf(name) || name.isParentOf(key));
+    }
+
+    /**
+     * Invalidates all entries, since all bindings of the naming store were removed.
+     */
+    void invalidate() {
+        this.version.incrementAndGet();
+        this.entries.clear();
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    static class Entry {
+        private final ServiceName binding;
+        private final ServiceController<?> controller;
+        private volatile long lastAccessed = System.nanoTime();
+
+        Entry(ServiceName binding, ServiceController<?> controller) {
+            this.binding = binding;
+            this.controller = controller;
+        }
+
+        /**
+         * Returns the service name of the binding resolving the looked up name.
+         * @return a service name, or null, if the looked up name could not be resolved
+         */
+        ServiceName getBinding() {
+            return this.binding;
+        }
+
+        ServiceController<?> getController() {
+            return this.controller;
+        }
+
+        long getLastAccessed() {
+            return this.lastAccessed;
+        }
+
+        void accessed() {
+            this.lastAccessed = System.nanoTime();
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class ServiceBasedNamingStore implements NamingStore {
     private final ServiceName serviceNameBase;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
+    private final NamingLookupCache lookupCache = new NamingLookupCache();
 
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
@@ -63,17 +64,40 @@ public class ServiceBasedNamingStore implements NamingStore {
             return new NamingContext(EMPTY_NAME, this, null);
         }
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        final NamingLookupCache.Entry entry = lookupCache.get(lookupName);
+        if (entry != null) {
+            final ServiceName binding = entry.getBinding();
+            if (binding == null) {
+                throw new NameNotFoundException(name.toString() + " -- " + lookupName);
+            }
+            final Object obj = lookup(name.toString(), entry.getController(), dereference);
+            if (binding.equals(lookupName)) {
+                if (obj != null) {
+                    return obj;
+                }
+            } else if (!(obj instanceof NamingContext)) {
+                checkReferenceForContinuation(name, obj);
+                return new ResolveResult(obj, suffix(binding, lookupName));
+            }
+            // The value of the binding changed since the name was resolved, so resolve it again
+        }
+        final long version = lookupCache.getVersion();
+        final ServiceController<?> controller = serviceRegistry.getService(lookupName);
+        Object obj = lookup(name.toString(), controller, dereference);
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
                 // Parent might be a reference or a link
-                obj = lookup(name.toString(), lower, dereference);
+                final ServiceController<?> lowerController = serviceRegistry.getService(lower);
+                obj = lookup(name.toString(), lowerController, dereference);
                 //if the lower is a context that has been explicitly bound then
                 //we do not return a resolve result, as this will result in an
                 //infinite loop
                 if (!(obj instanceof NamingContext)) {
                     checkReferenceForContinuation(name, obj);
+                    if (lowerController != null) {
+                        lookupCache.putBound(lookupName, lower, lowerController, version);
+                    }
                     return new ResolveResult(obj, suffix(lower, lookupName));
                 }
             }
@@ -86,9 +110,13 @@ public class ServiceBasedNamingStore implements NamingStore {
                 }
                 return new NamingContext((Name) name.clone(), this, null);
             }
+            lookupCache.putUnbound(lookupName, version);
             throw new NameNotFoundException(name.toString() + " -- " + lookupName);
         }
-
+        // Only bindings of this store are invalidated on removal
+        if (boundServices.contains(lookupName)) {
+            lookupCache.putBound(lookupName, lookupName, controller, version);
+        }
         return obj;
     }
 
@@ -107,8 +135,11 @@ public class ServiceBasedNamingStore implements NamingStore {
     }
 
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
+        return lookup(name, serviceRegistry.getService(lookupName), dereference);
+    }
+
+    private Object lookup(final String name, final ServiceController<?> controller, boolean dereference) throws NamingException {
         try {
-            final ServiceController<?> controller = serviceRegistry.getService(lookupName);
             if (controller != null) {
                 final Object object = controller.getValue();
                 if (dereference && object instanceof ManagedReferenceFactory) {
@@ -240,6 +271,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        lookupCache.invalidate();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -254,10 +286,27 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        invalidate(serviceName);
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        invalidate(serviceName);
+    }
+
+    /**
+     * Invalidates the cached resolution of the names affected by a change to the specified binding.
+     * @param serviceName the service name of a binding
+     */
+    void invalidate(final ServiceName serviceName) {
+        // The resolution of a name via a parent binding depends on all other bindings within that parent
+        ServiceName scope = serviceName;
+        for (ServiceName parent = serviceName.getParent(); parent != null; parent = parent.getParent()) {
+            if (boundServices.contains(parent)) {
+                scope = parent;
+            }
+        }
+        lookupCache.invalidate(scope);
     }
 
     protected ServiceName buildServiceName(final Name name) {
@@ -102,6 +102,8 @@ public class WritableServiceBasedNamingStore extends ServiceBasedNamingStore imp
                 duBindingReferences.add(binderService);
             }
             binderService.getManagedObjectInjector().setValue(() -> new ImmediateManagedReferenceFactory(object));
+            // Resolution of names within this binding depends on its value
+            invalidate(bindName);
         }
     }
 
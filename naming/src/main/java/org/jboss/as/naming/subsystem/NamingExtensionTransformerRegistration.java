@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming.subsystem;
+
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.as.naming.NamingLookupCache;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Registers transformers for the naming subsystem.
+ */
+public class NamingExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return NamingExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        builder.getAttributeBuilder()
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, true, new ModelNode(NamingLookupCache.DEFAULT_MAX_SIZE)), NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_SIZE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_SIZE)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), registration, NamingExtension.VERSION_2_1_0);
+    }
+}
@@ -56,6 +56,7 @@ public class NamingSubsystem14Parser implements XMLElementReader<List<ModelNode>
         PathAddress address = PathAddress.pathAddress(SUBSYSTEM_PATH);
         final ModelNode ejb3SubsystemAddOperation = Util.createAddOperation(address);
         operations.add(ejb3SubsystemAddOperation);
+        parseSubsystemAttributes(reader, ejb3SubsystemAddOperation);
 
         // elements
         final EnumSet<NamingSubsystemXMLElement> encountered = EnumSet.noneOf(NamingSubsystemXMLElement.class);
@@ -85,6 +86,10 @@ public class NamingSubsystem14Parser implements XMLElementReader<List<ModelNode>
         }
     }
 
+    protected void parseSubsystemAttributes(final XMLExtendedStreamReader reader, final ModelNode subsystemAddOperation) throws XMLStreamException {
+        requireNoAttributes(reader);
+    }
+
     private void parseRemoteNaming(final XMLExtendedStreamReader reader, final List<ModelNode> operations, PathAddress parent) throws XMLStreamException {
         requireNoAttributes(reader);
         requireNoContent(reader);
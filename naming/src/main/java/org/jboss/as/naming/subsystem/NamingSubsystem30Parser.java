@@ -0,0 +1,39 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming.subsystem;
+
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+/**
+ * Parser for the naming subsystem 3.0 schema, which adds the lookup-cache-size attribute of the subsystem.
+ */
+class NamingSubsystem30Parser extends NamingSubsystem14Parser {
+
+    NamingSubsystem30Parser() {
+        super(NamingSubsystemNamespace.NAMING_3_0);
+    }
+
+    @Override
+    protected void parseSubsystemAttributes(final XMLExtendedStreamReader reader, final ModelNode subsystemAddOperation) throws XMLStreamException {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            switch (NamingSubsystemXMLAttribute.forName(reader.getAttributeLocalName(i))) {
+                case LOOKUP_CACHE_SIZE:
+                    NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_SIZE.parseAndSetParameter(value, subsystemAddOperation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+    }
+}
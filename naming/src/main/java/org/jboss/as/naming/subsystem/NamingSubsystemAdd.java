@@ -7,7 +7,9 @@ package org.jboss.as.naming.subsystem;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.naming.NamingContext;
+import org.jboss.as.naming.NamingLookupCache;
 import org.jboss.as.naming.NamingStore;
 import org.jboss.as.naming.context.external.ExternalContexts;
 import org.jboss.as.naming.context.external.ExternalContextsNavigableSet;
@@ -42,17 +44,25 @@ public class NamingSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
     private static final String UNDERTOW_HTTP_INVOKER_CAPABILITY_NAME = "org.wildfly.undertow.http-invoker";
 
+    NamingSubsystemAdd() {
+        super(NamingSubsystemRootResourceDefinition.ATTRIBUTES);
+    }
+
     @Override
-    protected void populateModel(ModelNode operation, ModelNode model) {
+    protected void populateModel(ModelNode operation, ModelNode model) throws OperationFailedException {
         model.setEmptyObject();
+        super.populateModel(operation, model);
     }
 
     @SuppressWarnings("deprecation")
     @Override
-    protected void performBoottime(OperationContext context, ModelNode operation, ModelNode model) {
+    protected void performBoottime(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
 
         ROOT_LOGGER.activatingSubsystem();
 
+        // Applies to the naming stores created below, as well as those of deployments
+        NamingLookupCache.setDefaultMaxSize(NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_SIZE.resolveModelAttribute(context, model).asInt());
+
         NamingContext.initializeNamingManager();
         final ServiceTarget target = context.getServiceTarget();
 
@@ -21,6 +21,9 @@ public interface NamingSubsystemModel {
     String EXTERNAL_CONTEXT = "external-context";
 
     String LOOKUP = "lookup";
+    String LOOKUP_CACHE_HITS = "lookup-cache-hits";
+    String LOOKUP_CACHE_MISSES = "lookup-cache-misses";
+    String LOOKUP_CACHE_SIZE = "lookup-cache-size";
 
     String OBJECT_FACTORY = "object-factory";
     String ENVIRONMENT = "environment";
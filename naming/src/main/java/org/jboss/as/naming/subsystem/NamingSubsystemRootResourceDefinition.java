@@ -6,17 +6,28 @@
 package org.jboss.as.naming.subsystem;
 
 import java.util.EnumSet;
+import java.util.function.LongSupplier;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.naming.NamingLookupCache;
 import org.jboss.as.naming.NamingStore;
 import org.jboss.as.naming.management.JndiViewOperation;
 import org.jboss.as.naming.service.NamingService;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -48,12 +59,41 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .setReplyValueType(ModelType.STRING)
             .build();
 
+    static final SimpleAttributeDefinition LOOKUP_CACHE_SIZE = new SimpleAttributeDefinitionBuilder(NamingSubsystemModel.LOOKUP_CACHE_SIZE, ModelType.INT)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(NamingLookupCache.DEFAULT_MAX_SIZE))
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { LOOKUP_CACHE_SIZE };
+
+    static final AttributeDefinition LOOKUP_CACHE_HITS = new SimpleAttributeDefinitionBuilder(NamingSubsystemModel.LOOKUP_CACHE_HITS, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition LOOKUP_CACHE_MISSES = new SimpleAttributeDefinitionBuilder(NamingSubsystemModel.LOOKUP_CACHE_MISSES, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO_LONG)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
                 new NamingSubsystemAdd(), new NamingSubsystemRemove());
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration registration) {
+        super.registerAttributes(registration);
+
+        registration.registerReadWriteAttribute(LOOKUP_CACHE_SIZE, null, new ReloadRequiredWriteAttributeHandler(ATTRIBUTES));
+        registration.registerMetric(LOOKUP_CACHE_HITS, new LookupCacheMetricHandler(NamingLookupCache::getHitCount));
+        registration.registerMetric(LOOKUP_CACHE_MISSES, new LookupCacheMetricHandler(NamingLookupCache::getMissCount));
+    }
+
     @Override
     public void registerCapabilities(ManagementResourceRegistration registration) {
         super.registerCapabilities(registration);
@@ -63,4 +103,20 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             registration.registerCapability(definition);
         }
     }
+
+    /**
+     * Reads a metric of the lookup caches of the naming stores.
+     */
+    private static class LookupCacheMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final LongSupplier metric;
+
+        LookupCacheMetricHandler(LongSupplier metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            context.getResult().set(this.metric.getAsLong());
+        }
+    }
 }
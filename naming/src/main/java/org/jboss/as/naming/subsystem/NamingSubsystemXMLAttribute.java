@@ -16,6 +16,7 @@ public enum NamingSubsystemXMLAttribute {
     CACHE("cache"),
     CLASS("class"),
     LOOKUP("lookup"),
+    LOOKUP_CACHE_SIZE("lookup-cache-size"),
     MODULE("module"),
     NAME("name"),
     TYPE("type"),
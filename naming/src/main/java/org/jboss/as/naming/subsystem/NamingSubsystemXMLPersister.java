@@ -38,9 +38,10 @@ public class NamingSubsystemXMLPersister implements XMLElementWriter<SubsystemMa
     @Override
     public void writeContent(final XMLExtendedStreamWriter writer, final SubsystemMarshallingContext context) throws XMLStreamException {
 
-        context.startSubsystemElement(NamingExtension.NAMESPACE_2_0, false);
+        context.startSubsystemElement(NamingExtension.NAMESPACE_3_0, false);
 
         ModelNode model = context.getModelNode();
+        NamingSubsystemRootResourceDefinition.LOOKUP_CACHE_SIZE.marshallAsAttribute(model, writer);
 
         // bindings
         if (model.hasDefined(BINDING)) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.naming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.jboss.msc.service.ServiceName;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link NamingLookupCache}.
+ */
+public class NamingLookupCacheTestCase {
+
+    private static final ServiceName A = ServiceName.JBOSS.append("a");
+    private static final ServiceName B = ServiceName.JBOSS.append("b");
+    private static final ServiceName C = ServiceName.JBOSS.append("c");
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws InterruptedException {
+        final NamingLookupCache cache = new NamingLookupCache(2);
+        cache.putUnbound(A, cache.getVersion());
+        cache.putUnbound(B, cache.getVersion());
+        Thread.sleep(1);
+        assertNotNull(cache.get(A));
+
+        // Must evict the least recently used entry, rather than reject new entries
+        cache.putUnbound(C, cache.getVersion());
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(A));
+        assertNull(cache.get(B));
+        assertNotNull(cache.get(C));
+    }
+
+    @Test
+    public void testBound() {
+        final NamingLookupCache cache = new NamingLookupCache(2);
+        cache.putBound(A.append("x"), A, null, cache.getVersion());
+
+        NamingLookupCache.Entry entry = cache.get(A.append("x"));
+        assertNotNull(entry);
+        assertEquals(A, entry.getBinding());
+
+        cache.putUnbound(B, cache.getVersion());
+        entry = cache.get(B);
+        assertNotNull(entry);
+        assertNull(entry.getBinding());
+    }
+
+    @Test
+    public void testInvalidate() {
+        final NamingLookupCache cache = new NamingLookupCache(8);
+        final long version = cache.getVersion();
+        cache.putUnbound(A, version);
+        cache.putUnbound(A.append("x"), version);
+        cache.putUnbound(A.append("x", "y"), version);
+        cache.putUnbound(B, version);
+
+        cache.invalidate(A.append("x"));
+
+        // Only entries for parents or children of the modified binding are dropped
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(B));
+
+        // Names resolved against previous bindings must not be cached
+        cache.putUnbound(A, version);
+        assertEquals(1, cache.size());
+
+        cache.invalidate();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        final NamingLookupCache cache = new NamingLookupCache(0);
+        cache.putUnbound(A, cache.getVersion());
+        assertEquals(0, cache.size());
+        assertNull(cache.get(A));
+    }
+}
@@ -14,9 +14,11 @@ import javax.naming.CompositeName;
 import javax.naming.Context;
 import javax.naming.Name;
 import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
 import javax.naming.NameParser;
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
+import javax.naming.spi.ResolveResult;
 
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceContainer;
@@ -80,6 +82,103 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCachedNameNotFoundMutatedName() throws Exception {
+        final Name name = new CompositeName("foo/bar");
+        try {
+            store.lookup(name);
+            fail("Should have thrown name not found");
+        } catch (NameNotFoundException expected) {
+        }
+        final long hits = NamingLookupCache.getHitCount();
+        try {
+            store.lookup(new CompositeName("foo/bar"));
+            fail("Should have thrown name not found");
+        } catch (NameNotFoundException expected) {
+        }
+        assertEquals(hits + 1, NamingLookupCache.getHitCount());
+
+        // Mutation of a looked up name must not affect cached entries
+        name.add("baz");
+        try {
+            store.lookup(new CompositeName("foo/bar"));
+            fail("Should have thrown name not found");
+        } catch (NameNotFoundException expected) {
+        }
+        assertEquals(hits + 2, NamingLookupCache.getHitCount());
+    }
+
+    @Test
+    public void testLookupCachedNameNotFound() throws Exception {
+        final Name name = new CompositeName("foo/bar");
+        for (int i = 0; i < 2; ++i) {
+            try {
+                store.lookup(name);
+                fail("Should have thrown name not found");
+            } catch (NameNotFoundException expected) {
+            }
+        }
+
+        // Binding must invalidate the cached result
+        final Object value = new Object();
+        bindObject(ServiceName.JBOSS.append("foo", "bar"), value);
+        assertEquals(value, store.lookup(name));
+    }
+
+    @Test
+    public void testLookupCachedNameNotFoundParentBinding() throws Exception {
+        final Name name = new CompositeName("foo/bar");
+        try {
+            store.lookup(name);
+            fail("Should have thrown name not found");
+        } catch (NameNotFoundException expected) {
+        }
+
+        // A subsequent binding of a parent context must invalidate the cached result
+        final Object value = new Object();
+        bindObject(ServiceName.JBOSS.append("foo", "bar", "baz"), value);
+        assertTrue(store.lookup(name) instanceof NamingContext);
+    }
+
+    @Test
+    public void testLookupCachedBinding() throws Exception {
+        final Object value = new Object();
+        bindObject(ServiceName.JBOSS.append("foo", "bar"), value);
+        final Name name = new CompositeName("foo/bar");
+        assertEquals(value, store.lookup(name));
+
+        final long hits = NamingLookupCache.getHitCount();
+        assertEquals(value, store.lookup(name));
+        assertEquals(hits + 1, NamingLookupCache.getHitCount());
+
+        // Bindings of unrelated names must not invalidate the cached result
+        bindObject(ServiceName.JBOSS.append("baz"), new Object());
+        assertEquals(value, store.lookup(name));
+        assertEquals(hits + 2, NamingLookupCache.getHitCount());
+
+        // Bindings of child names must invalidate the cached result
+        bindObject(ServiceName.JBOSS.append("foo", "bar", "qux"), new Object());
+        assertEquals(value, store.lookup(name));
+        assertEquals(hits + 2, NamingLookupCache.getHitCount());
+    }
+
+    @Test
+    public void testLookupCachedParentBinding() throws Exception {
+        final Object value = new Object();
+        bindObject(ServiceName.JBOSS.append("foo"), value);
+        final Name name = new CompositeName("foo/bar");
+        for (int i = 0; i < 2; ++i) {
+            final Object result = store.lookup(name);
+            assertTrue(result instanceof ResolveResult);
+            assertEquals(value, ((ResolveResult) result).getResolvedObj());
+            assertEquals(new CompositeName("bar"), ((ResolveResult) result).getRemainingName());
+        }
+
+        // A subsequent binding within the parent must invalidate the cached result
+        bindObject(ServiceName.JBOSS.append("foo", "bar"), value);
+        assertEquals(value, store.lookup(name));
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
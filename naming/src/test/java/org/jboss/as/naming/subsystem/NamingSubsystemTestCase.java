@@ -36,7 +36,7 @@ public class NamingSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws IOException {
-        return "schema/jboss-as-naming_2_0.xsd";
+        return "schema/jboss-as-naming_3_0.xsd";
     }
 
     @Test
@@ -17,6 +17,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
@@ -45,6 +46,15 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
                                 .setReadOnly()
                                 .build();
         resourceRegistration.registerOperationHandler(probe, LogStoreProbeHandler.INSTANCE);
+        final OperationDefinition readRecords = new SimpleOperationDefinitionBuilder(LogStoreReadRecordsHandler.READ_RECORDS, getResourceDescriptionResolver())
+                                .setParameters(LogStoreReadRecordsHandler.TYPE, LogStoreReadRecordsHandler.OFFSET, LogStoreReadRecordsHandler.COUNT)
+                                .setReplyType(ModelType.LIST)
+                                .setReplyValueType(ModelType.OBJECT)
+                                .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY)
+                                .setRuntimeOnly()
+                                .setReadOnly()
+                                .build();
+        resourceRegistration.registerOperationHandler(readRecords, LogStoreReadRecordsHandler.INSTANCE);
     }
 
 
@@ -27,7 +27,12 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -41,6 +46,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
 
     static final LogStoreProbeHandler INSTANCE = new LogStoreProbeHandler();
     static final String osMBeanName = "jboss.jta:type=ObjectStore";
+    private static final String PARTICIPANT_KEY = "puid";
     static final String JNDI_PROPNAME =
             LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES.get(LogStoreConstants.JNDI_ATTRIBUTE);
 
@@ -78,23 +84,54 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addParticipants(final Resource parent, Set<ObjectInstance> participants, MBeanServer mbs)
+    /**
+     * Reads the model of a transaction or participant from its MBean.
+     * @param defaultJndiName the JNDI name of a participant whose MBean does not define one, or null for a transaction
+     */
+    private ModelNode readModel(MBeanServerConnection cnx, ObjectName on, Map<String, String> model2JmxNames, String[] jmxNames, String defaultJndiName)
+            throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
+        Map<String, String> attributes = getMBeanValues(cnx, on, jmxNames);
+
+        if (defaultJndiName != null) {
+            String jndiName = attributes.get(JNDI_PROPNAME);
+
+            if (jndiName == null || jndiName.length() == 0)
+                attributes.put(JNDI_PROPNAME, defaultJndiName);
+        }
+
+        ModelNode model = new ModelNode();
+        addAttributes(model, model2JmxNames, attributes);
+        return model;
+    }
+
+    private void invalidate(Resource resource, MBeanServerConnection cnx, Map<String, String> model2JmxNames, String[] jmxNames, String defaultJndiName) {
+        final LogStoreResource.LogStoreRuntimeResource runtimeResource = (LogStoreResource.LogStoreRuntimeResource) resource;
+
+        runtimeResource.invalidate(model -> {
+            try {
+                return readModel(cnx, runtimeResource.getObjectName(), model2JmxNames, jmxNames, defaultJndiName);
+            } catch (JMException | IOException e) {
+                // The record was removed since it was probed, so retain its last known model
+                return model;
+            }
+        });
+    }
+
+    private void addParticipants(final Resource parent, Collection<ObjectInstance> participants, MBeanServer mbs)
             throws IntrospectionException, InstanceNotFoundException, IOException, ReflectionException {
         int i = 1;
 
         for (ObjectInstance participant : participants) {
             final Resource resource = new LogStoreResource.LogStoreRuntimeResource(participant.getObjectName());
-            final ModelNode model = resource.getModel();
-            Map<String, String> pAttributes = getMBeanValues(mbs,  participant.getObjectName(),
-                    LogStoreConstants.PARTICIPANT_JMX_NAMES);
-            String pAddress = pAttributes.get(JNDI_PROPNAME);
-
-            if (pAddress == null || pAddress.length() == 0) {
-                pAttributes.put(JNDI_PROPNAME, String.valueOf(i++));
-                pAddress = pAttributes.get(JNDI_PROPNAME);
-            }
+            final String defaultJndiName = String.valueOf(i);
+            final ModelNode model = readModel(mbs, participant.getObjectName(),
+                    LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES, LogStoreConstants.PARTICIPANT_JMX_NAMES, defaultJndiName);
+            final String pAddress = model.get(LogStoreConstants.JNDI_ATTRIBUTE).asString();
 
-            addAttributes(model, LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES, pAttributes);
+            if (pAddress.equals(defaultJndiName))
+                i++;
+
+            resource.writeModel(model);
             // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(participant.getObjectName().getCanonicalName());
 
             final PathElement element = PathElement.pathElement(LogStoreConstants.PARTICIPANTS, pAddress);
@@ -102,28 +139,106 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
+    /**
+     * Groups the participant MBeans by the object name of their transaction MBean, in a single pass.
+     * @param instances the MBeans of the object store
+     * @return the participant MBeans, by the object name of their transaction MBean
+     */
+    static Map<ObjectName, List<ObjectInstance>> groupParticipants(Collection<ObjectInstance> instances) throws MalformedObjectNameException {
+        Map<ObjectName, List<ObjectInstance>> participants = new HashMap<>();
+
+        for (ObjectInstance oi : instances) {
+            ObjectName name = oi.getObjectName();
+
+            if (name.getKeyProperty(PARTICIPANT_KEY) != null) {
+                Hashtable<String, String> properties = new Hashtable<>(name.getKeyPropertyList());
+                properties.remove(PARTICIPANT_KEY);
+                participants.computeIfAbsent(new ObjectName(name.getDomain(), properties), key -> new ArrayList<>()).add(oi);
+            }
+        }
+        return participants;
+    }
+
+    /**
+     * Indexes the names of the child resources of the specified type by the object name of their MBean.
+     */
+    private static Map<ObjectName, String> indexByObjectName(Resource parent, String childType) {
+        Map<ObjectName, String> names = new HashMap<>();
+
+        for (String name : parent.getChildrenNames(childType)) {
+            names.put(LogStoreResource.getObjectName(parent.getChild(PathElement.pathElement(childType, name))), name);
+        }
+        return names;
+    }
+
+    /**
+     * Reuses the resource of a transaction loaded by a previous probe, if its participants are unchanged.
+     * The models of the transaction and its participants are then reloaded lazily, on next access.
+     * @return true, if the transaction resource was reused, false otherwise
+     */
+    private boolean reuseTransaction(Resource transaction, Collection<ObjectInstance> participants, MBeanServer mbs) {
+        Map<ObjectName, String> previousParticipants = indexByObjectName(transaction, LogStoreConstants.PARTICIPANTS);
+
+        if (previousParticipants.size() != participants.size())
+            return false;
+
+        for (ObjectInstance participant : participants) {
+            if (!previousParticipants.containsKey(participant.getObjectName()))
+                return false;
+        }
+
+        invalidate(transaction, mbs, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, LogStoreConstants.TXN_JMX_NAMES, null);
+
+        for (String name : previousParticipants.values()) {
+            invalidate(transaction.getChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, name)), mbs,
+                    LogStoreConstants.MODEL_TO_JMX_PARTICIPANT_NAMES, LogStoreConstants.PARTICIPANT_JMX_NAMES, name);
+        }
+        return true;
+    }
+
+    /**
+     * Registers a resource for each transaction MBean, with a child resource for each of its participants.
+     * The resources of transactions loaded by a previous probe are reused, if their MBeans are still registered,
+     * such that only the MBeans of new transactions are read eagerly.
+     * @param parent the resource with which transactions are registered
+     * @param transactions the MBeans of the object store
+     * @param mbs the MBean server
+     * @param previous the resource with which the transactions of a previous probe were registered
+     */
+    void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs, Resource previous)
             throws IntrospectionException, InstanceNotFoundException, IOException,
             ReflectionException, MalformedObjectNameException {
 
+        // Group participants by transaction in a single pass, rather than querying the participants of each transaction
+        Map<ObjectName, List<ObjectInstance>> participants = groupParticipants(transactions);
+        Map<ObjectName, String> previousTransactions = indexByObjectName(previous, LogStoreConstants.TRANSACTIONS);
+
         for (ObjectInstance oi : transactions) {
             String transactionId = oi.getObjectName().getCanonicalName();
 
             if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+                Collection<ObjectInstance> transactionParticipants = participants.getOrDefault(oi.getObjectName(), Collections.emptyList());
+                String previousTxnId = previousTransactions.get(oi.getObjectName());
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+                if (previousTxnId != null) {
+                    final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, previousTxnId);
+                    final Resource transaction = previous.getChild(element);
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+                    if (transaction != null && reuseTransaction(transaction, transactionParticipants, mbs)) {
+                        parent.registerChild(element, transaction);
+                        continue;
+                    }
+                }
+
+                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
+                final ModelNode model = readModel(mbs, oi.getObjectName(),
+                        LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, LogStoreConstants.TXN_JMX_NAMES, null);
+                String txnId = model.get(LogStoreConstants.TRANSACTION_ID.getName()).asString();
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
+                transaction.writeModel(model);
+                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
 
-                addParticipants(transaction, participants, mbs);
+                addParticipants(transaction, transactionParticipants, mbs);
 
                 final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
                 parent.registerChild(element, transaction);
@@ -131,7 +246,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs, Resource previous)
             throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
@@ -142,7 +257,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
 
             final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
+            addTransactions(resource, transactions, mbs, previous);
             return resource;
 
         } catch (JMException e) {
@@ -166,7 +281,7 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
+            final Resource storeModel = probeTransactions(mbs, exposeAllLogs, logStore);
             // Replace the current model with an updated one
             context.acquireControllerLock();
             // WFLY-3020 -- don't drop the root model
@@ -0,0 +1,146 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import java.io.IOException;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.exceptions.ObjectStoreException;
+import com.arjuna.ats.arjuna.objectstore.RecoveryStore;
+import com.arjuna.ats.arjuna.objectstore.StateStatus;
+import com.arjuna.ats.arjuna.objectstore.StoreManager;
+import com.arjuna.ats.arjuna.state.InputObjectState;
+import com.arjuna.ats.internal.arjuna.common.UidHelper;
+
+/**
+ * Handler for reading a page of transaction log records directly from the recovery store.
+ * Unlike the probe operation, no MBeans are registered, no record is unpacked, and the log-store model is left unchanged.
+ * The recovery store lists all uids of a record type at once, so the cost of the operation remains linear in the number of
+ * records of the matching types, however the state of a record is only read for the records of the requested page.
+ * <p>
+ * A record type matches the type parameter if it is equal to the parameter, or ends with the parameter following a '/',
+ * e.g. both {@code AtomicAction} and {@code TwoPhaseCoordinator/AtomicAction} match {@code /StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction}.
+ * Unless the expose-all-logs attribute of the log-store is true, only the records of transactions, i.e. of the subtypes of
+ * {@value #TRANSACTION_TYPE}, are read, corresponding to the subset of records exposed by the probe operation.
+ */
+public class LogStoreReadRecordsHandler implements OperationStepHandler {
+
+    static final LogStoreReadRecordsHandler INSTANCE = new LogStoreReadRecordsHandler();
+
+    static final String READ_RECORDS = "read-records";
+    static final String STATE = "state";
+    static final String TRANSACTION_TYPE = "StateManager/BasicAction/TwoPhaseCoordinator";
+
+    static final SimpleAttributeDefinition TYPE = new SimpleAttributeDefinitionBuilder(LogStoreConstants.RECORD_TYPE.getName(), ModelType.STRING)
+            .setRequired(false)
+            .build();
+
+    static final SimpleAttributeDefinition OFFSET = new SimpleAttributeDefinitionBuilder("offset", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    static final SimpleAttributeDefinition COUNT = new SimpleAttributeDefinitionBuilder("count", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (!context.isNormalServer()) {
+            context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+            return;
+        }
+        final String type = TYPE.resolveModelAttribute(context, operation).asStringOrNull();
+        final int offset = OFFSET.resolveModelAttribute(context, operation).asInt();
+        final int count = COUNT.resolveModelAttribute(context, operation).asInt();
+        final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
+        final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
+
+        try {
+            context.getResult().set(readRecords(StoreManager.getRecoveryStore(), type, exposeAllLogs, offset, count));
+        } catch (ObjectStoreException | IOException e) {
+            throw new OperationFailedException("Transaction discovery error: ", e);
+        }
+        context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
+    }
+
+    /**
+     * Reads a page of the records of the specified recovery store, ordered by record type.
+     * @param store a recovery store
+     * @param typeFilter the name, or trailing part of the name, of the type of the records to read, or null to read records of any type
+     * @param exposeAllLogs indicates whether records other than transaction records are read
+     * @param offset the number of matching records to skip
+     * @param count the maximum number of records to read
+     * @return a list of records, each described by its type, id and state
+     */
+    static ModelNode readRecords(RecoveryStore store, String typeFilter, boolean exposeAllLogs, int offset, int count) throws ObjectStoreException, IOException {
+        final ModelNode result = new ModelNode().setEmptyList();
+        final String typeSuffix = (typeFilter != null) ? "/" + canonicalType(typeFilter) : null;
+        final InputObjectState types = new InputObjectState();
+        int skipped = 0;
+        int read = 0;
+
+        if (store.allTypes(types)) {
+            for (String type = types.unpackString(); !type.isEmpty() && read < count; type = types.unpackString()) {
+                final String canonicalType = "/" + canonicalType(type);
+
+                if (!exposeAllLogs && !canonicalType.startsWith("/" + TRANSACTION_TYPE + "/")) {
+                    continue;
+                }
+                if (typeSuffix != null && !canonicalType.endsWith(typeSuffix)) {
+                    continue;
+                }
+                final InputObjectState uids = new InputObjectState();
+
+                if (store.allObjUids(type, uids)) {
+                    for (Uid uid = UidHelper.unpackFrom(uids); uid.notEquals(Uid.nullUid()) && read < count; uid = UidHelper.unpackFrom(uids)) {
+                        if (skipped < offset) {
+                            skipped++;
+                            continue;
+                        }
+                        final ModelNode record = new ModelNode();
+                        record.get(LogStoreConstants.RECORD_TYPE.getName()).set(type);
+                        record.get(LogStoreConstants.TRANSACTION_ID.getName()).set(uid.stringForm());
+                        record.get(STATE).set(StateStatus.stateStatusString(store.currentState(uid, type)));
+                        result.add(record);
+                        read++;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the canonical form of the specified record type, i.e. without leading or trailing '/' characters.
+     * @param type a record type
+     * @return the canonical record type
+     */
+    static String canonicalType(String type) {
+        int begin = 0;
+        int end = type.length();
+        while (begin < end && type.charAt(begin) == '/') {
+            begin++;
+        }
+        while (end > begin && type.charAt(end - 1) == '/') {
+            end--;
+        }
+        return type.substring(begin, end);
+    }
+}
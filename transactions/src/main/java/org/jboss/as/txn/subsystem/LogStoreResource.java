@@ -7,6 +7,7 @@ package org.jboss.as.txn.subsystem;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javax.management.ObjectName;
 
@@ -131,6 +132,8 @@ class LogStoreResource implements Resource {
         private final ObjectName objectName;
  //       private volatile ModelNode model;
         private volatile ModelNode model = new ModelNode();
+        // Reloads an out of date model on next access
+        private volatile UnaryOperator<ModelNode> loader;
 
         LogStoreRuntimeResource(ObjectName objectName) {
             this.objectName = objectName;
@@ -140,19 +143,37 @@ class LogStoreResource implements Resource {
             return objectName;
         }
 
+        /**
+         * Marks the model of this resource as out of date, such that it is reloaded via the specified function on next access.
+         * @param loader a function returning the reloaded model, given the current model
+         */
+        void invalidate(UnaryOperator<ModelNode> loader) {
+            this.loader = loader;
+        }
+
         @Override
         public ModelNode getModel() {
+            UnaryOperator<ModelNode> loader = this.loader;
+            if (loader != null) {
+                synchronized (this) {
+                    if (this.loader == loader) {
+                        model = loader.apply(model);
+                        this.loader = null;
+                    }
+                }
+            }
             return model;
         }
 
         @Override
         public void writeModel(final ModelNode newModel) {
+            loader = null;
             model = newModel;
         }
 
         @Override
         public boolean isModelDefined() {
-            return model.isDefined();
+            return getModel().isDefined();
         }
 
         @Override
@@ -0,0 +1,216 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectInstance;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for the transaction tree built by {@link LogStoreProbeHandler}.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String TYPE = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+
+    private MBeanServer server;
+
+    @Before
+    public void init() {
+        this.server = MBeanServerFactory.newMBeanServer();
+    }
+
+    @Test
+    public void groupParticipants() throws Exception {
+        ObjectInstance tx1 = this.registerTransaction("0_1");
+        ObjectInstance tx2 = this.registerTransaction("0_2");
+        ObjectInstance p1 = this.registerParticipant("0_1", "1", "java:/ds1", "PREPARED");
+        ObjectInstance p2 = this.registerParticipant("0_1", "2", "java:/ds2", "PREPARED");
+        ObjectInstance p3 = this.registerParticipant("0_2", "1", "java:/ds1", "HEURISTIC");
+
+        Map<ObjectName, List<ObjectInstance>> participants = LogStoreProbeHandler.groupParticipants(Set.of(tx1, tx2, p1, p2, p3));
+
+        assertEquals(2, participants.size());
+        assertEquals(Set.of(p1, p2), Set.copyOf(participants.get(tx1.getObjectName())));
+        assertEquals(List.of(p3), participants.get(tx2.getObjectName()));
+    }
+
+    @Test
+    public void addTransactions() throws Exception {
+        this.registerTransaction("0_1");
+        this.registerTransaction("0_2");
+        this.registerParticipant("0_1", "1", "java:/ds1", "PREPARED");
+        this.registerParticipant("0_1", "2", "", "PREPARED");
+        this.registerParticipant("0_2", "1", "java:/ds2", "HEURISTIC");
+
+        Resource resource = this.probe(Resource.Factory.create());
+
+        assertEquals(Set.of("0:1", "0:2"), resource.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        Resource tx1 = resource.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:1"));
+        assertEquals(TYPE, tx1.getModel().get(LogStoreConstants.RECORD_TYPE.getName()).asString());
+        // Participants without a JNDI name are named by their index
+        assertEquals(Set.of("java:/ds1", "1"), tx1.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+        Resource tx2 = resource.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:2"));
+        assertEquals(Set.of("java:/ds2"), tx2.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+        assertEquals("HEURISTIC", tx2.requireChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, "java:/ds2"))
+                .getModel().get(LogStoreConstants.PARTICIPANT_STATUS.getName()).asString());
+    }
+
+    @Test
+    public void reuseTransactions() throws Exception {
+        this.registerTransaction("0_1");
+        this.registerTransaction("0_2");
+        this.registerParticipant("0_1", "1", "java:/ds1", "HEURISTIC");
+        this.registerParticipant("0_2", "1", "java:/ds1", "PREPARED");
+
+        Resource previous = this.probe(Resource.Factory.create());
+        Resource tx1 = previous.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:1"));
+        Resource tx2 = previous.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:2"));
+
+        // Update the participant of the first transaction, add a participant to the second transaction, and add a third transaction
+        this.server.unregisterMBean(participantName("0_1", "1"));
+        this.registerParticipant("0_1", "1", "java:/ds1", "PREPARED");
+        this.registerParticipant("0_2", "2", "java:/ds2", "PREPARED");
+        this.registerTransaction("0_3");
+
+        Resource resource = this.probe(previous);
+
+        assertEquals(Set.of("0:1", "0:2", "0:3"), resource.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        // Unchanged transactions are reused, and their models are reloaded on access
+        assertSame(tx1, resource.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:1")));
+        assertEquals("PREPARED", tx1.requireChild(PathElement.pathElement(LogStoreConstants.PARTICIPANTS, "java:/ds1"))
+                .getModel().get(LogStoreConstants.PARTICIPANT_STATUS.getName()).asString());
+        // Transactions whose participants changed are reloaded
+        Resource reloaded = resource.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:2"));
+        assertNotSame(tx2, reloaded);
+        assertEquals(Set.of("java:/ds1", "java:/ds2"), reloaded.getChildrenNames(LogStoreConstants.PARTICIPANTS));
+
+        // Removed transactions are dropped, and reused transactions retain their last known model if removed before access
+        this.server.unregisterMBean(transactionName("0_3"));
+        resource = this.probe(resource);
+        this.server.unregisterMBean(transactionName("0_2"));
+        assertEquals(Set.of("0:1", "0:2"), resource.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        assertTrue(resource.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:2")).isModelDefined());
+        assertEquals("0:2", resource.requireChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, "0:2"))
+                .getModel().get(LogStoreConstants.TRANSACTION_ID.getName()).asString());
+    }
+
+    private Resource probe(Resource previous) throws Exception {
+        Resource resource = Resource.Factory.create();
+        LogStoreProbeHandler.INSTANCE.addTransactions(resource, this.server.queryMBeans(new ObjectName(LogStoreProbeHandler.osMBeanName + ",*"), null), this.server, previous);
+        return resource;
+    }
+
+    private ObjectInstance registerTransaction(String uid) throws Exception {
+        return this.server.registerMBean(new StandardMBean(new Transaction(uid.replace('_', ':')), TransactionMBean.class), transactionName(uid));
+    }
+
+    private ObjectInstance registerParticipant(String uid, String puid, String jndiName, String status) throws Exception {
+        return this.server.registerMBean(new StandardMBean(new Participant(jndiName, status), ParticipantMBean.class), participantName(uid, puid));
+    }
+
+    private static ObjectName transactionName(String uid) throws Exception {
+        return new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + TYPE + ",uid=" + uid);
+    }
+
+    private static ObjectName participantName(String uid, String puid) throws Exception {
+        return new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + TYPE + ",uid=" + uid + ",puid=" + puid);
+    }
+
+    public interface TransactionMBean {
+        String getId();
+
+        long getAgeInSeconds();
+
+        String getType();
+    }
+
+    public interface ParticipantMBean {
+        String getType();
+
+        String getStatus();
+
+        String getJndiName();
+
+        String getEisProductName();
+
+        String getEisProductVersion();
+    }
+
+    private static class Transaction implements TransactionMBean {
+        private final String id;
+
+        Transaction(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            return 0;
+        }
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+    }
+
+    private static class Participant implements ParticipantMBean {
+        private final String jndiName;
+        private final String status;
+
+        Participant(String jndiName, String status) {
+            this.jndiName = jndiName;
+            this.status = status;
+        }
+
+        @Override
+        public String getType() {
+            return "XAResourceRecord";
+        }
+
+        @Override
+        public String getStatus() {
+            return this.status;
+        }
+
+        @Override
+        public String getJndiName() {
+            return this.jndiName;
+        }
+
+        @Override
+        public String getEisProductName() {
+            return "eis";
+        }
+
+        @Override
+        public String getEisProductVersion() {
+            return "1.0";
+        }
+    }
+}
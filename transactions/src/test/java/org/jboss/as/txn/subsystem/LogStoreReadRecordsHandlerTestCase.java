@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.arjuna.ats.arjuna.common.ObjectStoreEnvironmentBean;
+import com.arjuna.ats.arjuna.common.Uid;
+import com.arjuna.ats.arjuna.objectstore.RecoveryStore;
+import com.arjuna.ats.arjuna.objectstore.StateStatus;
+import com.arjuna.ats.arjuna.state.OutputObjectState;
+import com.arjuna.ats.internal.arjuna.objectstore.ShadowNoFileLockStore;
+
+/**
+ * Unit test for {@link LogStoreReadRecordsHandler}.
+ */
+public class LogStoreReadRecordsHandlerTestCase {
+
+    private static final String ATOMIC_ACTION = "/StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE_ATOMIC_ACTION = ATOMIC_ACTION + "/SubordinateAtomicAction/JCA";
+    private static final String RECOVERY_COORDINATOR = "/Recovery/RecoveryCoordinator";
+
+    private Path directory;
+    private RecoveryStore store;
+    private final List<String> atomicActions = new ArrayList<>();
+
+    @Before
+    public void init() throws Exception {
+        this.directory = Files.createTempDirectory("object-store");
+        ObjectStoreEnvironmentBean environment = new ObjectStoreEnvironmentBean();
+        environment.setObjectStoreDir(this.directory.toString());
+        this.store = new ShadowNoFileLockStore(environment);
+
+        for (int i = 0; i < 5; ++i) {
+            this.atomicActions.add(this.write(ATOMIC_ACTION));
+        }
+        this.write(SUBORDINATE_ATOMIC_ACTION);
+        this.write(RECOVERY_COORDINATOR);
+    }
+
+    @After
+    public void destroy() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void exposeAllLogs() throws Exception {
+        assertEquals(7, LogStoreReadRecordsHandler.readRecords(this.store, null, true, 0, 100).asList().size());
+        // Only transaction records are read by default
+        assertEquals(6, LogStoreReadRecordsHandler.readRecords(this.store, null, false, 0, 100).asList().size());
+        assertEquals(0, LogStoreReadRecordsHandler.readRecords(this.store, "RecoveryCoordinator", false, 0, 100).asList().size());
+        assertEquals(1, LogStoreReadRecordsHandler.readRecords(this.store, "RecoveryCoordinator", true, 0, 100).asList().size());
+    }
+
+    @Test
+    public void type() throws Exception {
+        // Types match by name, or by trailing part of a hierarchical name
+        assertEquals(5, LogStoreReadRecordsHandler.readRecords(this.store, "AtomicAction", false, 0, 100).asList().size());
+        assertEquals(5, LogStoreReadRecordsHandler.readRecords(this.store, "TwoPhaseCoordinator/AtomicAction", false, 0, 100).asList().size());
+        assertEquals(5, LogStoreReadRecordsHandler.readRecords(this.store, ATOMIC_ACTION, false, 0, 100).asList().size());
+        assertEquals(1, LogStoreReadRecordsHandler.readRecords(this.store, "JCA", false, 0, 100).asList().size());
+        assertEquals(0, LogStoreReadRecordsHandler.readRecords(this.store, "Action", false, 0, 100).asList().size());
+        assertEquals(0, LogStoreReadRecordsHandler.readRecords(this.store, "/StateManager", false, 0, 100).asList().size());
+
+        ModelNode record = LogStoreReadRecordsHandler.readRecords(this.store, "AtomicAction", false, 0, 1).get(0);
+        assertEquals(LogStoreReadRecordsHandler.canonicalType(ATOMIC_ACTION), LogStoreReadRecordsHandler.canonicalType(record.get(LogStoreConstants.RECORD_TYPE.getName()).asString()));
+        assertEquals(StateStatus.stateStatusString(StateStatus.OS_COMMITTED), record.get(LogStoreReadRecordsHandler.STATE).asString());
+    }
+
+    @Test
+    public void canonicalType() {
+        assertEquals("StateManager/BasicAction", LogStoreReadRecordsHandler.canonicalType("/StateManager/BasicAction/"));
+        assertEquals("StateManager/BasicAction", LogStoreReadRecordsHandler.canonicalType("StateManager/BasicAction"));
+        assertEquals("", LogStoreReadRecordsHandler.canonicalType("//"));
+    }
+
+    @Test
+    public void page() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int offset = 0; offset < 5; offset += 2) {
+            List<ModelNode> records = LogStoreReadRecordsHandler.readRecords(this.store, "AtomicAction", false, offset, 2).asList();
+            assertEquals(Math.min(2, 5 - offset), records.size());
+            for (ModelNode record : records) {
+                ids.add(record.get(LogStoreConstants.TRANSACTION_ID.getName()).asString());
+            }
+        }
+        assertEquals(5, ids.size());
+        assertEquals(new TreeSet<>(this.atomicActions), new TreeSet<>(ids));
+    }
+
+    private String write(String type) throws Exception {
+        Uid uid = new Uid();
+        this.store.write_committed(uid, type, new OutputObjectState(uid, type));
+        return uid.stringForm();
+    }
+}
@@ -7,7 +7,13 @@ package org.wildfly.extension.undertow;
 import java.util.Collection;
 import java.util.List;
 
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
+
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -18,10 +24,13 @@ import org.jboss.as.controller.access.management.AccessConstraintDefinition;
 import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraintDefinition;
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.ValueExpression;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * @author Tomaz Cerar (c) 2013 Red Hat Inc.
@@ -95,6 +104,25 @@ class AccessLogDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    protected static final SimpleAttributeDefinition BATCHED = new SimpleAttributeDefinitionBuilder(Constants.BATCHED, ModelType.BOOLEAN, true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    protected static final SimpleAttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder(Constants.QUEUE_SIZE, ModelType.INT, true)
+            .setDefaultValue(new ModelNode(8192))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition DROPPED_MESSAGE_COUNT = new SimpleAttributeDefinitionBuilder(Constants.DROPPED_MESSAGE_COUNT, ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(
             // IMPORTANT -- keep these in xsd order as this order controls marshalling
             WORKER,
@@ -106,7 +134,9 @@ class AccessLogDefinition extends PersistentResourceDefinition {
             USE_SERVER_LOG,
             RELATIVE_TO,
             EXTENDED,
-            PREDICATE
+            PREDICATE,
+            BATCHED,
+            QUEUE_SIZE
     );
     private final List<AccessConstraintDefinition> accessConstraints;
 
@@ -130,4 +160,25 @@ class AccessLogDefinition extends PersistentResourceDefinition {
         //noinspection unchecked
         return (Collection) ATTRIBUTES;
     }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(DROPPED_MESSAGE_COUNT, DroppedMessageCountHandler.INSTANCE);
+    }
+
+    private static class DroppedMessageCountHandler implements OperationStepHandler {
+        static final DroppedMessageCountHandler INSTANCE = new DroppedMessageCountHandler();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            PathAddress hostAddress = context.getCurrentAddress().getParent();
+            String serverName = hostAddress.getParent().getLastElement().getValue();
+            String hostName = hostAddress.getLastElement().getValue();
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.accessLogServiceName(serverName, hostName));
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                context.getResult().set(((AccessLogService) controller.getValue()).getDroppedMessageCount());
+            }
+        }
+    }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import io.undertow.server.handlers.accesslog.AccessLogReceiver;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An access log receiver that never blocks request threads.
+ * Messages are offered to a pre-allocated, bounded, lock-free ring buffer, which is drained in batches by a write task
+ * that writes to a {@link FileChannel} via a reusable buffer.
+ * The write task is submitted to the given executor by the first producer to publish a message while no write task is scheduled,
+ * and runs until the ring buffer is empty, such that no thread is occupied while the ring buffer is empty.
+ * Messages offered while the ring buffer is full, or once the receiver is closed, are dropped, and the number of dropped messages is logged periodically.
+ * Closing the receiver writes all messages offered beforehand.
+ * <p>
+ * Log files are named and rotated consistently with {@link io.undertow.server.handlers.accesslog.DefaultAccessLogReceiver}.
+ */
+final class BatchingAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Marks the tail of the ring buffer once closed, such that no further slots can be claimed
+    private static final long CLOSED = Long.MIN_VALUE;
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final Executor executor;
+    private final Path directory;
+    private final String baseName;
+    private final String suffix;
+    private final boolean rotate;
+    private final String header;
+
+    // Ring buffer, where each slot records the sequence at which it may next be written (by producers) or read (by the write task)
+    private final AtomicReferenceArray<String> messages;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only accessed while holding the monitor of this receiver
+    private long head = 0;
+
+    private final LongAdder dropped = new LongAdder();
+    // Indicates whether a write task is scheduled or running
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    // Only accessed while holding the monitor of this receiver
+    private boolean closed = false;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private FileChannel channel;
+    private LocalDate currentDate;
+    private long reportedDropped = 0;
+    private long lastDropReport = System.nanoTime();
+
+    /**
+     * Creates a new access log receiver.
+     * @param executor the executor of write tasks
+     * @param directory the directory of the access log files
+     * @param baseName the prefix of an access log file name
+     * @param suffix the suffix of an access log file name
+     * @param rotate indicates whether the access log is rotated daily
+     * @param header a header written to the start of each access log file, or null, if log files have no header
+     * @param capacity the minimum number of messages buffered before messages are dropped
+     */
+    BatchingAccessLogReceiver(Executor executor, Path directory, String baseName, String suffix, boolean rotate, String header, int capacity) {
+        this.executor = executor;
+        this.directory = directory;
+        this.baseName = baseName;
+        this.suffix = (suffix != null) ? suffix : "log";
+        this.rotate = rotate;
+        this.header = header;
+        int size = (capacity > 1) ? Integer.highestOneBit(capacity - 1) << 1 : 1;
+        this.messages = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; ++i) {
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (this.offer(message)) {
+            if (this.scheduled.compareAndSet(false, true)) {
+                try {
+                    this.executor.execute(this::run);
+                } catch (RejectedExecutionException e) {
+                    // Executor is shutting down, so leave the message to be written on close
+                    this.scheduled.set(false);
+                }
+            }
+        } else {
+            this.dropped.increment();
+        }
+    }
+
+    /**
+     * Returns the number of messages dropped since this receiver was created.
+     * @return a number of messages
+     */
+    long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        long position = this.tail.get();
+        while ((position & CLOSED) == 0) {
+            if (this.tail.compareAndSet(position, position | CLOSED)) break;
+            position = this.tail.get();
+        }
+        synchronized (this) {
+            if (!this.closed) {
+                this.closed = true;
+                try {
+                    // No further slots can be claimed, so write all claimed slots
+                    this.drain(this.tail.get() & ~CLOSED);
+                    this.reportDropped(true);
+                } finally {
+                    this.closeChannel();
+                }
+            }
+        }
+    }
+
+    private boolean offer(String message) {
+        long position = this.tail.get();
+        while (true) {
+            if ((position & CLOSED) != 0) {
+                return false;
+            }
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.messages.lazySet(index, message);
+                    // Publish message to write task
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                // Ring buffer is full
+                return false;
+            } else {
+                // Slot was claimed by a concurrent producer
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Returns the next published message.
+     * @return a message, or null, if the next slot was not yet published
+     */
+    private String poll() {
+        int index = (int) (this.head & this.mask);
+        if (this.sequences.get(index) != this.head + 1) {
+            return null;
+        }
+        String message = this.messages.get(index);
+        this.messages.lazySet(index, null);
+        // Release slot to producers
+        this.sequences.set(index, this.head + this.messages.length());
+        this.head += 1;
+        return message;
+    }
+
+    private void run() {
+        do {
+            synchronized (this) {
+                if (!this.closed) {
+                    this.drain(-1);
+                    this.reportDropped(false);
+                }
+            }
+            this.scheduled.set(false);
+            // Recheck, since a producer may have published a message before observing that this task was no longer scheduled
+        } while (this.hasPending() && this.scheduled.compareAndSet(false, true));
+    }
+
+    private synchronized boolean hasPending() {
+        return !this.closed && !this.isEmpty();
+    }
+
+    private boolean isEmpty() {
+        return this.sequences.get((int) (this.head & this.mask)) != this.head + 1;
+    }
+
+    /**
+     * Writes buffered messages.
+     * @param end the position up to which messages are written, waiting for claimed slots to be published, or -1 to write published messages only
+     * @return the number of messages written
+     */
+    private int drain(long end) {
+        int count = 0;
+        try {
+            // Limit batches of published messages to the size of the ring buffer, so that dropped messages are reported under sustained load
+            while ((end < 0) ? (count < this.messages.length()) && !this.isEmpty() : (this.head < end)) {
+                String message = this.poll();
+                if (message == null) {
+                    // Slot was claimed by a producer, but not yet published
+                    Thread.onSpinWait();
+                    continue;
+                }
+                if (count == 0) {
+                    this.prepareChannel();
+                }
+                this.write(message);
+                count += 1;
+            }
+            if (count > 0) {
+                this.flush();
+            }
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(e);
+            this.buffer.clear();
+            this.closeChannel();
+            // Discard remaining messages
+            while ((end < 0) ? !this.isEmpty() : (this.head < end)) {
+                if (this.poll() != null) {
+                    this.dropped.increment();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+        return count;
+    }
+
+    private void write(String message) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(message);
+        this.encoder.reset();
+        CoderResult result = this.encoder.encode(chars, this.buffer, true);
+        while (result.isOverflow()) {
+            this.flush();
+            result = this.encoder.encode(chars, this.buffer, true);
+        }
+        this.encoder.flush(this.buffer);
+        if (this.buffer.remaining() < LINE_SEPARATOR.length) {
+            this.flush();
+        }
+        this.buffer.put(LINE_SEPARATOR);
+    }
+
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Opens the current log file, rotating the previous log file if the date has changed since it was written.
+     */
+    private void prepareChannel() throws IOException {
+        LocalDate today = LocalDate.now(ZoneId.systemDefault());
+        if (this.channel != null && (!this.rotate || today.equals(this.currentDate))) {
+            return;
+        }
+        Path file = this.directory.resolve(this.baseName + this.suffix);
+        if (this.channel != null) {
+            this.closeChannel();
+            this.rotate(file, this.currentDate);
+        } else if (this.rotate && Files.exists(file)) {
+            LocalDate modified = Files.getLastModifiedTime(file).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            if (!modified.equals(today)) {
+                // Log file was last written on a previous day
+                this.rotate(file, modified);
+            }
+        }
+        boolean created = !Files.exists(file);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.currentDate = today;
+        if (created && this.header != null) {
+            this.write(this.header);
+        }
+    }
+
+    private void rotate(Path file, LocalDate date) throws IOException {
+        String formattedDate = date.format(DATE_FORMAT);
+        Path target = this.directory.resolve(this.baseName + formattedDate + "." + this.suffix);
+        for (int i = 1; Files.exists(target); ++i) {
+            target = this.directory.resolve(this.baseName + formattedDate + "-" + i + "." + this.suffix);
+        }
+        Files.move(file, target);
+    }
+
+    private void closeChannel() {
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                UndertowLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+            }
+            this.channel = null;
+        }
+    }
+
+    private void reportDropped(boolean force) {
+        long now = System.nanoTime();
+        if (force || (now - this.lastDropReport >= DROP_REPORT_INTERVAL_NANOS)) {
+            long total = this.dropped.sum();
+            if (total > this.reportedDropped) {
+                UndertowLogger.ROOT_LOGGER.accessLogMessagesDropped(total - this.reportedDropped, this.directory.resolve(this.baseName + this.suffix));
+                this.reportedDropped = total;
+            }
+            this.lastDropReport = now;
+        }
+    }
+}
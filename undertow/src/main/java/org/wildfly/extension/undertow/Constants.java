@@ -260,4 +260,8 @@ public interface Constants {
     String DIRECT = "direct";
     String LEAK_DETECTION_PERCENT = "leak-detection-percent";
     String BYTE_BUFFER_POOL = "byte-buffer-pool";
+    String BATCHED = "batched";
+    String QUEUE_SIZE = "queue-size";
+    String DROPPED_MESSAGE_COUNT = "dropped-message-count";
+    String SEGMENTS = "segments";
 }
@@ -5,6 +5,7 @@
 
 package org.wildfly.extension.undertow;
 
+import static org.jboss.as.controller.client.helpers.MeasurementUnit.MICROSECONDS;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.SECONDS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
@@ -40,6 +41,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.web.container.DistributableSessionStatistics;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
@@ -346,6 +348,76 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
                             result.set((int) sms.getHighestSessionCount());
                         }
                         break;
+                    case REPLICATED_SESSION_ATTRIBUTE_WRITES:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getReplicatedAttributeWriteCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case SUPPRESSED_SESSION_ATTRIBUTE_WRITES:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getSuppressedAttributeWriteCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case SESSION_READS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getSessionReadCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case SESSION_AVG_READ_TIME:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getAverageSessionReadTime());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case SESSION_ATTRIBUTES_AVG_READ_TIME:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getAverageSessionAttributesReadTime());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_HITS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheHits());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_MISSES:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheMisses());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_HIT_RATIO:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheHitRatio());
+                        } else {
+                            result.set(0d);
+                        }
+                        break;
+                    case NEAR_CACHE_EVICTIONS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheEvictions());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_INVALIDATIONS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheInvalidations());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
                     default:
                         throw new IllegalStateException(UndertowLogger.ROOT_LOGGER.unknownMetric(stat));
                 }
@@ -408,7 +480,56 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         MAX_ACTIVE_SESSIONS(new SimpleAttributeDefinitionBuilder("max-active-sessions", ModelType.INT)
                 .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
         HIGHEST_SESSION_COUNT(new SimpleAttributeDefinitionBuilder("highest-session-count", ModelType.INT)
-                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build());
+                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
+        REPLICATED_SESSION_ATTRIBUTE_WRITES(new SimpleAttributeDefinitionBuilder("replicated-session-attribute-writes", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        SUPPRESSED_SESSION_ATTRIBUTE_WRITES(new SimpleAttributeDefinitionBuilder("suppressed-session-attribute-writes", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        SESSION_READS(new SimpleAttributeDefinitionBuilder("session-reads", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        SESSION_AVG_READ_TIME(new SimpleAttributeDefinitionBuilder("session-avg-read-time", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(MICROSECONDS)
+                .setStorageRuntime()
+                .build()),
+        SESSION_ATTRIBUTES_AVG_READ_TIME(new SimpleAttributeDefinitionBuilder("session-attributes-avg-read-time", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setMeasurementUnit(MICROSECONDS)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_HITS(new SimpleAttributeDefinitionBuilder("near-cache-hits", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_MISSES(new SimpleAttributeDefinitionBuilder("near-cache-misses", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_HIT_RATIO(new SimpleAttributeDefinitionBuilder("near-cache-hit-ratio", ModelType.DOUBLE)
+                .setUndefinedMetricValue(new ModelNode(0d))
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_EVICTIONS(new SimpleAttributeDefinitionBuilder("near-cache-evictions", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_INVALIDATIONS(new SimpleAttributeDefinitionBuilder("near-cache-invalidations", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build());
 
         private static final Map<String, SessionStat> MAP = new HashMap<>();
 
@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.undertow;
 
+import io.undertow.servlet.UndertowServletLogger;
 import io.undertow.servlet.api.SessionPersistenceManager;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.marshalling.InputStreamByteInput;
@@ -17,35 +18,72 @@ import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 import org.xnio.IoUtils;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Persistent session manager that stores persistent session information to disk
+ * Persistent session manager that stores persistent session information to disk.
+ * <p>
+ * Sessions of a deployment are partitioned by session identifier into a number of segment files, which are written and read in parallel.
+ * Each segment is written incrementally, one session at a time, such that the serialized form of all sessions is never held in memory at once.
+ * Segments are written to a temporary directory, which replaces the previously persisted segments only once complete,
+ * such that an interrupted write never loses previously persisted sessions.
+ * Sessions persisted in the legacy single file format are still loaded.
  *
  * @author Stuart Douglas
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class DiskBasedModularPersistentSessionManager extends AbstractPersistentSessionManager {
+    private static final String SEGMENTS_SUFFIX = ".segments";
+    // Segments being written
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Previously persisted segments, while being replaced
+    private static final String PREVIOUS_SUFFIX = ".old";
+    private static final int FORMAT_VERSION = 1;
+
     private final String path;
     private final String pathRelativeTo;
     private final Supplier<PathManager> pathManager;
+    private final Supplier<ExecutorService> executor;
+    private final int segments;
     private File baseDir;
     private PathManager.Callback.Handle callbackHandle;
 
     DiskBasedModularPersistentSessionManager(final Consumer<SessionPersistenceManager> serviceConsumer,
                                              final Supplier<ModuleLoader> moduleLoader,
                                              final Supplier<PathManager> pathManager,
-                                             final String path, final String pathRelativeTo) {
+                                             final Supplier<ExecutorService> executor,
+                                             final String path, final String pathRelativeTo, final int segments) {
         super(serviceConsumer, moduleLoader);
         this.pathManager = pathManager;
+        this.executor = executor;
         this.path = path;
         this.pathRelativeTo = pathRelativeTo;
+        this.segments = segments;
     }
 
     @Override
@@ -73,21 +111,45 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
 
 
     @Override
-    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
-        File file = new File(baseDir, deploymentName);
-        FileOutputStream out = new FileOutputStream(file, false);
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
         try {
-            Marshaller marshaller = createMarshaller();
-            try {
-                marshaller.start(new OutputStreamByteOutput(out));
-                marshaller.writeObject(serializedData);
-                marshaller.finish();
-            } finally {
-                marshaller.close();
+            writeSegments(deploymentName, sessionData, this::serializeSession);
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+        }
+    }
+
+    @Override
+    protected void persistSerializedSessions(String deploymentName, Map<String, SessionEntry> serializedData) throws IOException {
+        writeSegments(deploymentName, serializedData, (marshaller, sessionId, entry) -> entry);
+    }
+
+    @Override
+    public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, ClassLoader classLoader) {
+        Path directory = baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX);
+        List<Path> directories;
+        if (Files.isDirectory(directory)) {
+            directories = List.of(directory);
+        } else {
+            Path previousDirectory = baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX + PREVIOUS_SUFFIX);
+            if (!Files.isDirectory(previousDirectory)) {
+                // Sessions may have been persisted using the legacy format
+                return super.loadSessionAttributes(deploymentName, classLoader);
             }
-        } finally {
-            IoUtils.safeClose(out);
+            // A previous write was interrupted while replacing the persisted segments, after its temporary directory was complete
+            // Fall back to the previously persisted segments, should the temporary directory be unreadable
+            directories = List.of(baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX + TEMP_SUFFIX), previousDirectory);
         }
+        for (Path path : directories) {
+            if (Files.isDirectory(path)) {
+                try {
+                    return readSegments(path);
+                } catch (Exception e) {
+                    UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(e);
+                }
+            }
+        }
+        return null;
     }
 
     @Override
@@ -114,6 +176,191 @@ public class DiskBasedModularPersistentSessionManager extends AbstractPersistent
         } finally {
             IoUtils.safeClose(in);
         }
+    }
+
+    private Map<String, PersistentSession> readSegments(Path directory) throws IOException {
+        long time = System.currentTimeMillis();
+        Map<String, PersistentSession> sessions = new ConcurrentHashMap<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> tasks.add(() -> {
+                readSegment(file.toFile(), time, sessions);
+                return null;
+            }));
+        }
+        execute(tasks);
+        return sessions;
+    }
+
+    /**
+     * Writes the specified sessions to segment files, replacing any previously persisted sessions of the deployment.
+     * Segments are first written to a temporary directory, so that a failure does not corrupt previously persisted sessions.
+     * The previously persisted segments are moved aside, before the temporary directory is moved into place, and deleted afterwards.
+     * Thus, whenever the previous segments exist without the current segments, the temporary directory is complete.
+     */
+    private <T> void writeSegments(String deploymentName, Map<String, T> sessions, SessionSerializer<T> serializer) throws IOException {
+        Path directory = baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX);
+        Path tempDirectory = baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX + TEMP_SUFFIX);
+        Path previousDirectory = baseDir.toPath().resolve(deploymentName + SEGMENTS_SUFFIX + PREVIOUS_SUFFIX);
+        if (!Files.exists(directory) && Files.exists(previousDirectory)) {
+            // Complete the replacement interrupted by a previous write, so that a partially written temporary directory is never mistaken for a complete one
+            Files.move(Files.exists(tempDirectory) ? tempDirectory : previousDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+        }
+        delete(previousDirectory);
+        delete(tempDirectory);
+        Files.createDirectories(tempDirectory);
+        int segments = Math.max(1, Math.min(this.segments, sessions.size()));
+        List<List<Map.Entry<String, T>>> partitions = new ArrayList<>(segments);
+        for (int i = 0; i < segments; ++i) {
+            partitions.add(new ArrayList<>(sessions.size() / segments + 1));
+        }
+        for (Map.Entry<String, T> entry : sessions.entrySet()) {
+            partitions.get(Math.floorMod(entry.getKey().hashCode(), segments)).add(entry);
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(segments);
+        for (int i = 0; i < segments; ++i) {
+            File file = tempDirectory.resolve(Integer.toString(i)).toFile();
+            List<Map.Entry<String, T>> partition = partitions.get(i);
+            tasks.add(() -> {
+                writeSegment(file, partition, serializer);
+                return null;
+            });
+        }
+        execute(tasks);
+        if (Files.exists(directory)) {
+            Files.move(directory, previousDirectory, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(tempDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+        delete(previousDirectory);
+        // Remove any sessions persisted using the legacy format
+        Files.deleteIfExists(baseDir.toPath().resolve(deploymentName));
+    }
+
+    private <T> void writeSegment(File file, List<Map.Entry<String, T>> sessions, SessionSerializer<T> serializer) throws IOException {
+        try (FileOutputStream output = new FileOutputStream(file, false); OutputStream out = new BufferedOutputStream(output)) {
+            Marshaller marshaller = createMarshaller();
+            Marshaller attributeMarshaller = createMarshaller();
+            try {
+                marshaller.start(new OutputStreamByteOutput(out));
+                marshaller.writeInt(FORMAT_VERSION);
+                for (Map.Entry<String, T> session : sessions) {
+                    SessionEntry entry = serializer.serialize(attributeMarshaller, session.getKey(), session.getValue());
+                    marshaller.writeBoolean(true);
+                    marshaller.writeUTF(session.getKey());
+                    marshaller.writeLong(entry.getExpiry().getTime());
+                    marshaller.writeInt(entry.getData().size());
+                    for (Map.Entry<String, byte[]> attribute : entry.getData().entrySet()) {
+                        marshaller.writeUTF(attribute.getKey());
+                        marshaller.writeInt(attribute.getValue().length);
+                        marshaller.write(attribute.getValue());
+                    }
+                }
+                marshaller.writeBoolean(false);
+                marshaller.finish();
+                // Ensure segment is durable before it replaces previously persisted segments
+                out.flush();
+                output.getFD().sync();
+            } finally {
+                attributeMarshaller.close();
+                marshaller.close();
+            }
+        }
+    }
+
+    private void readSegment(File file, long time, Map<String, PersistentSession> sessions) throws IOException, ClassNotFoundException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            Unmarshaller unmarshaller = createUnmarshaller();
+            Unmarshaller attributeUnmarshaller = createUnmarshaller();
+            try {
+                unmarshaller.start(new InputStreamByteInput(in));
+                int version = unmarshaller.readInt();
+                if (version != FORMAT_VERSION) {
+                    throw UndertowLogger.ROOT_LOGGER.unsupportedPersistentSessionFormat(version, file);
+                }
+                while (unmarshaller.readBoolean()) {
+                    String sessionId = unmarshaller.readUTF();
+                    long expiry = unmarshaller.readLong();
+                    int size = unmarshaller.readInt();
+                    Map<String, byte[]> data = new HashMap<>();
+                    for (int i = 0; i < size; ++i) {
+                        String name = unmarshaller.readUTF();
+                        byte[] value = new byte[unmarshaller.readInt()];
+                        unmarshaller.readFully(value);
+                        data.put(name, value);
+                    }
+                    // Skip deserialization of expired sessions
+                    if (expiry > time) {
+                        sessions.put(sessionId, deserializeSession(attributeUnmarshaller, new SessionEntry(new Date(expiry), data)));
+                    }
+                }
+                unmarshaller.finish();
+            } finally {
+                attributeUnmarshaller.close();
+                unmarshaller.close();
+            }
+        }
+    }
+
+    /**
+     * Executes the specified tasks in parallel using the server executor, waiting for all to complete.
+     * The first task is executed by the calling thread.
+     */
+    private void execute(List<Callable<Void>> tasks) throws IOException {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Future<Void>> futures = new ArrayList<>(tasks.size() - 1);
+        try {
+            ExecutorService executor = this.executor.get();
+            for (Callable<Void> task : tasks.subList(1, tasks.size())) {
+                futures.add(executor.submit(task));
+            }
+            call(tasks.get(0));
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    throw (cause instanceof IOException) ? (IOException) cause : new IOException(cause);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static void call(Callable<Void> task) throws IOException {
+        try {
+            task.call();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            List<Path> paths;
+            try (Stream<Path> stream = Files.walk(directory)) {
+                // Delete files before their parent directory
+                paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            }
+            for (Path path : paths) {
+                Files.delete(path);
+            }
+        }
+    }
 
+    /**
+     * Serializes a session to be persisted.
+     */
+    private interface SessionSerializer<T> {
+        SessionEntry serialize(Marshaller marshaller, String sessionId, T session) throws IOException;
     }
 }
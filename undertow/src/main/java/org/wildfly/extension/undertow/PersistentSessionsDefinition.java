@@ -18,6 +18,7 @@ import org.jboss.as.controller.RestartParentResourceRemoveHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.server.Services;
@@ -29,6 +30,7 @@ import org.jboss.msc.service.ServiceName;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -53,7 +55,14 @@ class PersistentSessionsDefinition extends PersistentResourceDefinition {
                     .setAllowExpression(true)
                     .build();
 
-    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(PATH, RELATIVE_TO);
+    protected static final SimpleAttributeDefinition SEGMENTS =
+            new SimpleAttributeDefinitionBuilder(Constants.SEGMENTS, ModelType.INT, true)
+                    .setValidator(new IntRangeValidator(1, true, true))
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .build();
+
+    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(PATH, RELATIVE_TO, SEGMENTS);
 
     PersistentSessionsDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, UndertowExtension.getResolver(PATH_ELEMENT.getKeyValuePair()))
@@ -107,7 +116,10 @@ class PersistentSessionsDefinition extends PersistentResourceDefinition {
                     final ModelNode relativeToValue = RELATIVE_TO.resolveModelAttribute(context, model);
                     final String relativeTo = relativeToValue.isDefined() ? relativeToValue.asString() : null;
                     final Supplier<PathManager> pmSupplier = sb.requires(PathManagerService.SERVICE_NAME);
-                    sb.setInstance(new DiskBasedModularPersistentSessionManager(sConsumer, mlSupplier, pmSupplier, path, relativeTo));
+                    final Supplier<ExecutorService> esSupplier = Services.requireServerExecutor(sb);
+                    final ModelNode segmentsValue = SEGMENTS.resolveModelAttribute(context, model);
+                    final int segments = segmentsValue.isDefined() ? segmentsValue.asInt() : Runtime.getRuntime().availableProcessors();
+                    sb.setInstance(new DiskBasedModularPersistentSessionManager(sConsumer, mlSupplier, pmSupplier, esSupplier, path, relativeTo, segments));
                 } else {
                     sb.setInstance(new InMemoryModularPersistentSessionManager(sConsumer, mlSupplier));
                 }
@@ -47,6 +47,13 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
                 }
             }
 
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                server.addChildResource(HostDefinition.PATH_ELEMENT).addChildResource(AccessLogDefinition.PATH_ELEMENT).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, AccessLogDefinition.BATCHED, AccessLogDefinition.QUEUE_SIZE)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, AccessLogDefinition.BATCHED, AccessLogDefinition.QUEUE_SIZE)
+                    .end();
+            }
+
             ResourceTransformationDescriptionBuilder servletContainer = subsystem.addChildResource(ServletContainerDefinition.PATH_ELEMENT);
             if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                 servletContainer.getAttributeBuilder()
@@ -56,6 +63,12 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
 
                 servletContainer.rejectChildResource(AffinityCookieDefinition.PATH_ELEMENT);
             }
+            if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(version)) {
+                servletContainer.addChildResource(PersistentSessionsDefinition.PATH_ELEMENT).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, PersistentSessionsDefinition.SEGMENTS)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, PersistentSessionsDefinition.SEGMENTS)
+                    .end();
+            }
 
             TransformationDescription.Tools.register(subsystem.build(), registration, version);
         }
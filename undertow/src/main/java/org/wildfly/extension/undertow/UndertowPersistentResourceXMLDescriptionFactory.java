@@ -142,7 +142,11 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         builder.addChild(builder(LocationDefinition.PATH_ELEMENT).addAttributes(LocationDefinition.ATTRIBUTES.stream())
             .addChild(filterRefBuilder())
         );
-        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(AccessLogDefinition.ATTRIBUTES.stream()));
+        Stream<AttributeDefinition> accessLogAttributes = AccessLogDefinition.ATTRIBUTES.stream();
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            accessLogAttributes = accessLogAttributes.filter(Predicate.isEqual(AccessLogDefinition.BATCHED).negate().and(Predicate.isEqual(AccessLogDefinition.QUEUE_SIZE).negate()));
+        }
+        builder.addChild(builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(accessLogAttributes));
         if (schema.since(UndertowSubsystemSchema.VERSION_9_0)) {
             builder.addChild(builder(ConsoleAccessLogDefinition.PATH_ELEMENT).addAttributes(ConsoleAccessLogDefinition.ATTRIBUTES.stream()));
         }
@@ -172,7 +176,11 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
             builder.addChild(builder(AffinityCookieDefinition.PATH_ELEMENT).addAttributes(AffinityCookieDefinition.ATTRIBUTES.stream()));
         }
         builder.addChild(builder(SessionCookieDefinition.PATH_ELEMENT).addAttributes(SessionCookieDefinition.ATTRIBUTES.stream()));
-        builder.addChild(builder(PersistentSessionsDefinition.PATH_ELEMENT).addAttributes(PersistentSessionsDefinition.ATTRIBUTES.stream()));
+        Stream<AttributeDefinition> persistentSessionsAttributes = PersistentSessionsDefinition.ATTRIBUTES.stream();
+        if (!schema.since(UndertowSubsystemSchema.VERSION_15_0)) {
+            persistentSessionsAttributes = persistentSessionsAttributes.filter(Predicate.isEqual(PersistentSessionsDefinition.SEGMENTS).negate());
+        }
+        builder.addChild(builder(PersistentSessionsDefinition.PATH_ELEMENT).addAttributes(persistentSessionsAttributes));
         builder.addChild(websocketsBuilder(schema));
         builder.addChild(builder(MimeMappingDefinition.PATH_ELEMENT).addAttributes(MimeMappingDefinition.ATTRIBUTES.stream()).setXmlWrapperElement("mime-mappings"));
         builder.addChild(builder(WelcomeFileDefinition.PATH_ELEMENT).setXmlWrapperElement("welcome-files"));
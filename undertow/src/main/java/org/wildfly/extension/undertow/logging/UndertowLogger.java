@@ -429,4 +429,15 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @Message(id = 112, value = "Unsupported persistent session format version %d in %s")
+    IOException unsupportedPersistentSessionFormat(int version, File file);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 113, value = "Failed to write access log")
+    void failedToWriteAccessLog(@Cause IOException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 114, value = "Dropped %d access log messages for %s, since the access log buffer was full")
+    void accessLogMessagesDropped(long count, Path file);
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.undertow;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BatchingAccessLogReceiver}.
+ */
+public class BatchingAccessLogReceiverTestCase {
+    private static final String PREFIX = "access.";
+    private static final String SUFFIX = "log";
+
+    private Path directory;
+    private ExecutorService writeExecutor;
+
+    @Before
+    public void init() throws IOException {
+        this.directory = Files.createTempDirectory("access-log");
+        this.writeExecutor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void destroy() throws IOException {
+        this.writeExecutor.shutdown();
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    @Test
+    public void write() throws IOException {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(this.writeExecutor, this.directory, PREFIX, SUFFIX, false, "#header", 16);
+        try {
+            receiver.logMessage("foo");
+            receiver.logMessage("bar");
+        } finally {
+            receiver.close();
+        }
+
+        Assert.assertEquals(List.of("#header", "foo", "bar"), this.readLines());
+        Assert.assertEquals(0L, receiver.getDroppedCount());
+    }
+
+    /**
+     * Verifies that messages offered after idling are written, i.e. that producers reschedule the write task.
+     */
+    @Test
+    public void writeAfterIdle() throws Exception {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(this.writeExecutor, this.directory, PREFIX, SUFFIX, false, null, 16);
+        try {
+            receiver.logMessage("foo");
+            this.awaitLines(1);
+            // Allow write task to complete
+            Thread.sleep(100);
+            receiver.logMessage("bar");
+            this.awaitLines(2);
+        } finally {
+            receiver.close();
+        }
+
+        Assert.assertEquals(List.of("foo", "bar"), this.readLines());
+    }
+
+    /**
+     * Verifies that every message offered by concurrent producers is either written or counted as dropped,
+     * including messages whose slot was claimed concurrently with closing the receiver.
+     */
+    @Test
+    public void concurrentWrite() throws Exception {
+        int producers = 4;
+        int messages = 10000;
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(this.writeExecutor, this.directory, PREFIX, SUFFIX, false, null, 64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(producers);
+            for (int i = 0; i < producers; ++i) {
+                int producer = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < messages; ++j) {
+                        receiver.logMessage(producer + ":" + j);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // Close while producers are still offering messages
+            Thread.sleep(1);
+            receiver.close();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> lines = this.readLines();
+        // No message is written more than once
+        Set<String> uniqueLines = new HashSet<>(lines);
+        Assert.assertEquals(lines.size(), uniqueLines.size());
+        Assert.assertEquals(producers * messages, lines.size() + receiver.getDroppedCount());
+    }
+
+    @Test
+    public void dropAfterClose() throws IOException {
+        BatchingAccessLogReceiver receiver = new BatchingAccessLogReceiver(this.writeExecutor, this.directory, PREFIX, SUFFIX, false, null, 16);
+        receiver.logMessage("foo");
+        receiver.close();
+        receiver.logMessage("bar");
+
+        Assert.assertEquals(List.of("foo"), this.readLines());
+        Assert.assertEquals(1L, receiver.getDroppedCount());
+    }
+
+    private void awaitLines(int count) throws IOException, InterruptedException {
+        for (int i = 0; i < 100; ++i) {
+            if (this.readLines().size() >= count) return;
+            Thread.sleep(50);
+        }
+        Assert.fail("Expected " + count + " lines, but found " + this.readLines());
+    }
+
+    private List<String> readLines() throws IOException {
+        Path file = this.directory.resolve(PREFIX + SUFFIX);
+        return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.undertow;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DiskBasedModularPersistentSessionManager}.
+ */
+public class DiskBasedModularPersistentSessionManagerTestCase {
+    private static final String DEPLOYMENT = "test.war";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private Path directory;
+    private DiskBasedModularPersistentSessionManager manager;
+
+    @Before
+    public void init() throws IOException, StartException {
+        this.directory = Files.createTempDirectory("sessions");
+        PathManager pathManager = mock(PathManager.class);
+        when(pathManager.resolveRelativePathEntry(any(), isNull())).thenReturn(this.directory.toString());
+        ModuleLoader moduleLoader = mock(ModuleLoader.class);
+        this.manager = new DiskBasedModularPersistentSessionManager(manager -> { }, () -> moduleLoader, () -> pathManager, () -> this.executor, "sessions", null, 4);
+        this.manager.start(mock(StartContext.class));
+    }
+
+    @After
+    public void destroy() throws IOException {
+        this.manager.stop(mock(StopContext.class));
+        this.executor.shutdown();
+        delete(this.directory);
+    }
+
+    @Test
+    public void persistAndLoad() {
+        Assert.assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+
+        Map<String, PersistentSession> sessions = createSessions("foo", 100);
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1000L), Map.of("name", "value")));
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+
+        assertSessions(createSessions("foo", 100), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+
+        // Persisting again replaces previously persisted sessions
+        this.manager.persistSessions(DEPLOYMENT, createSessions("bar", 10));
+
+        assertSessions(createSessions("bar", 10), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+        Assert.assertFalse(Files.exists(this.segments(".tmp")));
+        Assert.assertFalse(Files.exists(this.segments(".old")));
+    }
+
+    @Test
+    public void persistNoSessions() {
+        this.manager.persistSessions(DEPLOYMENT, Map.of());
+
+        assertSessions(Map.of(), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    /**
+     * Verifies that sessions are loaded from the complete temporary directory, if a write was interrupted after moving aside the previously persisted segments.
+     */
+    @Test
+    public void loadInterruptedReplacement() throws IOException {
+        this.interruptReplacement();
+
+        assertSessions(createSessions("new", 10), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    /**
+     * Verifies that sessions are loaded from the previously persisted segments, if the temporary directory of an interrupted write is unreadable.
+     */
+    @Test
+    public void loadUnreadableReplacement() throws IOException {
+        this.interruptReplacement();
+        try (Stream<Path> files = Files.list(this.segments(".tmp"))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, "corrupt".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        assertSessions(createSessions("old", 10), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    /**
+     * Verifies that a write following an interrupted write does not leave a partially written temporary directory behind, that could be mistaken for a complete one.
+     */
+    @Test
+    public void persistAfterInterruptedReplacement() throws IOException {
+        this.interruptReplacement();
+
+        this.manager.persistSessions(DEPLOYMENT, createSessions("next", 10));
+
+        assertSessions(createSessions("next", 10), this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+        Assert.assertFalse(Files.exists(this.segments(".tmp")));
+        Assert.assertFalse(Files.exists(this.segments(".old")));
+    }
+
+    /**
+     * Simulates a write of "new" sessions that was interrupted after moving aside the previously persisted "old" sessions.
+     */
+    private void interruptReplacement() throws IOException {
+        this.manager.persistSessions(DEPLOYMENT, createSessions("new", 10));
+        Path complete = this.directory.resolve("complete");
+        Files.move(this.segments(""), complete);
+        this.manager.persistSessions(DEPLOYMENT, createSessions("old", 10));
+        Files.move(this.segments(""), this.segments(".old"));
+        Files.move(complete, this.segments(".tmp"));
+    }
+
+    private Path segments(String suffix) {
+        return this.directory.resolve(DEPLOYMENT + ".segments" + suffix);
+    }
+
+    private static Map<String, PersistentSession> createSessions(String prefix, int count) {
+        Date expiration = new Date(System.currentTimeMillis() + 60000L);
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        for (int i = 0; i < count; ++i) {
+            sessions.put(prefix + i, new PersistentSession(expiration, Map.of("name", prefix, "index", Integer.toString(i))));
+        }
+        return sessions;
+    }
+
+    private static void assertSessions(Map<String, PersistentSession> expected, Map<String, PersistentSession> result) {
+        Assert.assertNotNull(result);
+        Assert.assertEquals(expected.keySet(), result.keySet());
+        for (Map.Entry<String, PersistentSession> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getValue().getSessionData(), result.get(entry.getKey()).getSessionData());
+        }
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> children = Files.list(path)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    delete(child);
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+    }
+}
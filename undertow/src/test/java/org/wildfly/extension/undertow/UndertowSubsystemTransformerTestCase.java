@@ -128,6 +128,13 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         PathAddress subsystemAddress = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT);
         PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "rejected-container"));
         PathAddress affinityCookiePath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "affinity-cookie-container")).append(AffinityCookieDefinition.PATH_ELEMENT);
+        PathAddress persistentSessionsAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "persistent-sessions-container")).append(PersistentSessionsDefinition.PATH_ELEMENT);
+        PathAddress accessLogAddress = subsystemAddress.append(PathElement.pathElement(ServerDefinition.PATH_ELEMENT.getKey(), "default-server"), PathElement.pathElement(HostDefinition.PATH_ELEMENT.getKey(), "batched-host"), AccessLogDefinition.PATH_ELEMENT);
+
+        if (UndertowSubsystemModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(accessLogAddress, new FailedOperationTransformationConfig.NewAttributesConfig(AccessLogDefinition.BATCHED, AccessLogDefinition.QUEUE_SIZE));
+            config.addFailedAttribute(persistentSessionsAddress, new FailedOperationTransformationConfig.NewAttributesConfig(PersistentSessionsDefinition.SEGMENTS));
+        }
 
         if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(this.modelVersion)) {
             config.addFailedAttribute(servletContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.ORPHAN_SESSION_ALLOWED));